@@ -64,10 +64,19 @@ public class RestoreApp implements ApplicationRunner {
 
   @Override
   public void run(final ApplicationArguments args) {
+    final var restoreManager =
+        new RestoreManager(
+            configuration, backupStore, restoreConfiguration.maxConcurrentPartitions());
+    if (restoreConfiguration.dryRun()) {
+      LOG.info("Starting to measure the download of backup {} without restoring it", backupId);
+      final var statistics =
+          restoreManager.dryRun(backupId, restoreConfiguration.validateConfig()).join();
+      LOG.info("Downloaded backup {} without restoring it: {}", backupId, statistics);
+      return;
+    }
+
     LOG.info("Starting to restore from backup {}", backupId);
-    new RestoreManager(configuration, backupStore)
-        .restore(backupId, restoreConfiguration.validateConfig())
-        .join();
+    restoreManager.restore(backupId, restoreConfiguration.validateConfig()).join();
     LOG.info("Successfully restored broker from backup {}", backupId);
   }
 }
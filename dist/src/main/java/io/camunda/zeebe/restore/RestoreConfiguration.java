@@ -10,5 +10,14 @@ package io.camunda.zeebe.restore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * @param validateConfig whether to verify that the backup matches the broker's configuration
+ * @param maxConcurrentPartitions how many partitions are restored at the same time
+ * @param dryRun if true, the backup is only downloaded to measure the achievable restore bandwidth,
+ *     but not restored
+ */
 @ConfigurationProperties(prefix = "zeebe.restore")
-public record RestoreConfiguration(@DefaultValue("true") boolean validateConfig) {}
+public record RestoreConfiguration(
+    @DefaultValue("true") boolean validateConfig,
+    @DefaultValue("4") int maxConcurrentPartitions,
+    @DefaultValue("false") boolean dryRun) {}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * How many append requests may be in flight to a single follower, and how large their batches may
+ * be. A fixed window always allows the configured maximum of both.
+ *
+ * <p>An adaptive window starts with a single small batch in flight and adapts to the latency of
+ * successful appends, compared to the lowest latency seen recently:
+ *
+ * <ul>
+ *   <li>if an append was about as fast as the lowest latency, the follower keeps up, so one more
+ *       append may be in flight, and if the batch was full, i.e. the follower is behind, the batch
+ *       size is doubled
+ *   <li>if an append was much slower, requests queue up somewhere, so one less append may be in
+ *       flight, or once a single one is left, the batch size is halved
+ *   <li>any failed request drops back to a single append in flight and halves the batch size
+ * </ul>
+ *
+ * The configured maximum stays the upper bound of both. The lowest latency is measured anew every
+ * {@link #BASE_LATENCY_SAMPLES} appends, such that the window adapts to a changing network.
+ */
+final class AppendWindow {
+
+  static final int MIN_BATCH_SIZE = 4 * 1024;
+  static final int BASE_LATENCY_SAMPLES = 64;
+  private static final double GROW_LATENCY_FACTOR = 1.5;
+  private static final double SHRINK_LATENCY_FACTOR = 3;
+  // latencies are measured in milliseconds, which is coarse when followers respond within a few
+  private static final long LATENCY_SLACK_MS = 2;
+
+  private final boolean adaptive;
+  private final int maxInFlight;
+  private final int maxBatchSize;
+  private final int minBatchSize;
+  private int inFlightLimit;
+  private int batchSize;
+  private long baseLatency;
+  private long nextBaseLatency;
+  private int baseLatencySamples;
+
+  AppendWindow(final boolean adaptive, final int maxInFlight, final int maxBatchSize) {
+    this.adaptive = adaptive;
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.maxBatchSize = maxBatchSize;
+    minBatchSize = Math.min(MIN_BATCH_SIZE, maxBatchSize);
+    reset();
+  }
+
+  /** Starts over, e.g. when a new replication context is opened for the follower. */
+  void reset() {
+    inFlightLimit = adaptive ? 1 : maxInFlight;
+    batchSize = adaptive ? minBatchSize : maxBatchSize;
+    baseLatency = Long.MAX_VALUE;
+    nextBaseLatency = Long.MAX_VALUE;
+    baseLatencySamples = 0;
+  }
+
+  /**
+   * @return how many append requests may be in flight at most
+   */
+  int inFlightLimit() {
+    return inFlightLimit;
+  }
+
+  /**
+   * @return how many bytes of entries should be sent at most in a single append request
+   */
+  int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Adapts the window to a successful append request.
+   *
+   * @param latencyMs the time it took from sending the request until receiving the response
+   * @param fullBatch whether the request contained a full batch of entries
+   */
+  void onAppendCompleted(final long latencyMs, final boolean fullBatch) {
+    if (!adaptive) {
+      return;
+    }
+
+    observeLatency(latencyMs);
+    if (latencyMs <= baseLatency * GROW_LATENCY_FACTOR + LATENCY_SLACK_MS) {
+      inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1);
+      if (fullBatch) {
+        batchSize = (int) Math.min(maxBatchSize, batchSize * 2L);
+      }
+    } else if (latencyMs > baseLatency * SHRINK_LATENCY_FACTOR + LATENCY_SLACK_MS) {
+      if (inFlightLimit > 1) {
+        inFlightLimit--;
+      } else {
+        batchSize = Math.max(minBatchSize, batchSize / 2);
+      }
+    }
+  }
+
+  /** Shrinks the window after a request to the follower failed, e.g. timed out. */
+  void onRequestFailed() {
+    if (!adaptive) {
+      return;
+    }
+
+    inFlightLimit = 1;
+    batchSize = Math.max(minBatchSize, batchSize / 2);
+  }
+
+  private void observeLatency(final long latencyMs) {
+    nextBaseLatency = Math.min(nextBaseLatency, latencyMs);
+    baseLatency = Math.min(baseLatency, latencyMs);
+    if (++baseLatencySamples >= BASE_LATENCY_SAMPLES) {
+      baseLatency = nextBaseLatency;
+      nextBaseLatency = Long.MAX_VALUE;
+      baseLatencySamples = 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("adaptive", adaptive)
+        .add("inFlightLimit", inFlightLimit)
+        .add("batchSize", batchSize)
+        .add("baseLatency", baseLatency)
+        .toString();
+  }
+}
@@ -354,6 +354,7 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     final var context = remoteMemberContexts.get(memberId);
     if (context != null) {
       context.close();
+      raft.getReplicationMetrics().removeAppendWindow(memberId.id());
       remoteMemberContexts.remove(memberId);
       remoteActiveMembers.remove(context);
       replicationTargets.remove(context);
@@ -375,7 +376,11 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    new AppendWindow(
+                        raft.isAdaptiveAppendWindow(),
+                        raft.getMaxAppendsPerFollower(),
+                        raft.getMaxAppendBatchSize()),
+                    raft.getSnapshotReplicationWindow()));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
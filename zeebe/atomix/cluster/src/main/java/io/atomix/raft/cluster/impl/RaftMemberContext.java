@@ -34,13 +34,15 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private int nextSnapshotChunkSequence;
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
@@ -48,7 +50,7 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +60,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final AppendWindow appendWindow,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendWindow = checkNotNull(appendWindow, "appendWindow cannot be null");
+    this.maxInstallsPerMember = Math.max(1, maxInstallsPerMember);
   }
 
   /** Resets the member state. */
@@ -68,13 +72,15 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    nextSnapshotChunkSequence = 0;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     timeStats.clear();
+    appendWindow.reset();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -149,12 +155,31 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int maxAppends = appendWindow.inFlightLimit();
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                    >= appendTime));
+                && inFlightAppendCount < maxAppends
+                && System.currentTimeMillis() - (timeStats.getMean() / maxAppends) >= appendTime));
+  }
+
+  /**
+   * Returns how many append requests may currently be in flight to the member.
+   *
+   * @return the maximum number of in flight append requests
+   */
+  public int getMaxAppendsInFlight() {
+    return appendWindow.inFlightLimit();
+  }
+
+  /**
+   * Returns how many bytes of entries should currently be sent at most in a single append request
+   * to the member.
+   *
+   * @return the maximum batch size in bytes
+   */
+  public int getAppendBatchSize() {
+    return appendWindow.batchSize();
   }
 
   /**
@@ -206,6 +231,22 @@ public final class RaftMemberContext {
     timeStats.addValue(time);
   }
 
+  /**
+   * Completes a successful append request to the member, adapting the append window to it.
+   *
+   * @param time The time in milliseconds for the append.
+   * @param fullBatch Whether the request contained a full batch of entries.
+   */
+  public void completeAppend(final long time, final boolean fullBatch) {
+    completeAppend(time);
+    appendWindow.onAppendCompleted(time, fullBatch);
+  }
+
+  /** Shrinks the append window after an append request to the member failed. */
+  public void appendRequestFailed() {
+    appendWindow.onRequestFailed();
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -231,17 +272,27 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxInstallsPerMember;
+  }
+
+  /**
+   * Returns a boolean indicating whether any install request to the member is still awaiting its
+   * response.
+   *
+   * @return Indicates whether install requests are in flight.
+   */
+  public boolean hasInFlightInstallRequests() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
   }
 
   /**
@@ -271,13 +322,15 @@ public final class RaftMemberContext {
         .add("snapshotIndex", snapshotIndex)
         .add("nextSnapshotIndex", nextSnapshotIndex)
         .add("nextSnapshotChunk", nextSnapshotChunk)
+        .add("nextSnapshotChunkSequence", nextSnapshotChunkSequence)
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
+        .add("appendWindow", appendWindow)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -418,6 +471,25 @@ public final class RaftMemberContext {
     this.nextSnapshotChunk = nextSnapshotChunk;
   }
 
+  /**
+   * Returns the position of the member's next snapshot chunk within the snapshot, counting from 0
+   * for the first chunk. Used to tell whether a failed chunk lies before the current position.
+   *
+   * @return The sequence number of the next snapshot chunk to send.
+   */
+  public int getNextSnapshotChunkSequence() {
+    return nextSnapshotChunkSequence;
+  }
+
+  /**
+   * Sets the position of the member's next snapshot chunk within the snapshot.
+   *
+   * @param nextSnapshotChunkSequence The sequence number of the next snapshot chunk to send.
+   */
+  public void setNextSnapshotChunkSequence(final int nextSnapshotChunkSequence) {
+    this.nextSnapshotChunkSequence = nextSnapshotChunkSequence;
+  }
+
   /**
    * Returns the member response time.
    *
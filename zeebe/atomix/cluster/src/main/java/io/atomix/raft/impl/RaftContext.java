@@ -212,6 +212,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
             () ->
                 createThreadContext(
                     "raft-log", partitionId, threadContextFactory, localMemberId.id()));
+    raftLog.setFlushListener(this::onLogFlushed);
 
     // Open the snapshot store.
     persistedSnapshotStore = storage.getPersistedSnapshotStore();
@@ -290,6 +291,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     threadContext.execute(this::updateCurrentSnapshot);
   }
 
+  private void onLogFlushed(final long flushedIndex) {
+    threadContext.execute(() -> role.onLogFlushed(raftLog.getFlushedIndex()));
+  }
+
   private void onUncaughtException(final Throwable error) {
     log.error("An uncaught exception occurred, transition to inactive role", error);
     try {
@@ -405,6 +410,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAdaptiveAppendWindow() {
+    return partitionConfig.isAdaptiveAppendWindow();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -530,8 +539,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
+      // leader counts itself in quorum, so in order to commit the leader must persist; when
+      // flushing asynchronously, the leader only commits what it already flushed
+      if (isLeader() && !raftLog.flushesAsynchronously()) {
         raftLog.flush();
       }
       final long configurationIndex = cluster.getConfiguration().index();
@@ -1203,6 +1213,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     partitionConfig.setPreferSnapshotReplicationThreshold(snapshotReplicationThreshold);
   }
 
+  public int getSnapshotReplicationWindow() {
+    return partitionConfig.getSnapshotReplicationWindow();
+  }
+
   public CompletableFuture<Void> reconfigurePriority(final int newPriority) {
     final CompletableFuture<Void> configureFuture = new CompletableFuture<>();
     threadContext.execute(
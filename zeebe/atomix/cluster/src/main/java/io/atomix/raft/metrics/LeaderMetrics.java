@@ -47,6 +47,17 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
 
+  private static final Counter APPEND_CPU_TIME =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("append_entries_cpu_time")
+          .help(
+              "CPU time in seconds the leader's raft thread spent reading entries into append"
+                  + " requests and sending them; divided by append_entries_data_rate, it is the"
+                  + " leader CPU time per replicated KiB")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private static final Gauge NON_REPLICATED_ENTRIES =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -88,6 +99,12 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_DATA_RATE.labels(memberId, partitionGroupName, partition).inc(appendedBytes / 1024f);
   }
 
+  public void observeAppendCpuTime(final String memberId, final long cpuTimeNanos) {
+    APPEND_CPU_TIME
+        .labels(memberId, partitionGroupName, partition)
+        .inc(cpuTimeNanos / 1_000_000_000d);
+  }
+
   public void observeCommit() {
     commitRate.inc();
   }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
+
+public final class RaftFlushMetrics extends RaftMetrics {
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("raft_log_flush_latency")
+          .help(
+              "Time from the first request to flush the log until the flush covering it completed,"
+                  + " including the time spent waiting for a previous flush")
+          .buckets(.0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Histogram FLUSH_COALESCED_REQUESTS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("raft_log_flush_coalesced_requests")
+          .help("Number of flush requests which were covered by a single flush of the log")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private final Histogram.Child flushLatency;
+  private final Histogram.Child flushCoalescedRequests;
+
+  public RaftFlushMetrics(final String partitionName) {
+    super(partitionName);
+
+    flushLatency = FLUSH_LATENCY.labels(partitionGroupName, partition);
+    flushCoalescedRequests = FLUSH_COALESCED_REQUESTS.labels(partitionGroupName, partition);
+  }
+
+  public void observeFlush(final int coalescedRequests, final long latencyNanos) {
+    flushCoalescedRequests.observe(coalescedRequests);
+    flushLatency.observe((double) latencyNanos / TimeUnit.SECONDS.toNanos(1));
+  }
+}
@@ -16,9 +16,12 @@
 package io.atomix.raft.metrics;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
+  private static final String FOLLOWER_LABEL = "follower";
+
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -35,14 +38,40 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge APPEND_WINDOW_IN_FLIGHT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL, FOLLOWER_LABEL)
+          .help("The number of append requests which may be in flight to a follower")
+          .name("partition_raft_append_window_in_flight")
+          .register();
+
+  private static final Gauge APPEND_WINDOW_BATCH_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL, FOLLOWER_LABEL)
+          .help("The maximum size in bytes of the entries sent in one append request to a follower")
+          .name("partition_raft_append_window_batch_size")
+          .register();
+
+  private static final Histogram COMMIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Time in seconds from appending an entry on the leader until it is committed")
+          .name("partition_raft_commit_latency")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
+  private final Histogram.Child commitLatency;
 
   public RaftReplicationMetrics(final String partitionName) {
     super(partitionName);
 
     commitIndex = COMMIT_INDEX.labels(partitionGroupName, partition);
     appendIndex = APPEND_INDEX.labels(partitionGroupName, partition);
+    commitLatency = COMMIT_LATENCY.labels(partitionGroupName, partition);
   }
 
   public void setCommitIndex(final long value) {
@@ -52,4 +81,18 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void setAppendWindow(final String follower, final int inFlight, final int batchSize) {
+    APPEND_WINDOW_IN_FLIGHT.labels(partitionGroupName, partition, follower).set(inFlight);
+    APPEND_WINDOW_BATCH_SIZE.labels(partitionGroupName, partition, follower).set(batchSize);
+  }
+
+  public void removeAppendWindow(final String follower) {
+    APPEND_WINDOW_IN_FLIGHT.remove(partitionGroupName, partition, follower);
+    APPEND_WINDOW_BATCH_SIZE.remove(partitionGroupName, partition, follower);
+  }
+
+  public void observeCommitLatency(final long latencyMs) {
+    commitLatency.observe(latencyMs / 1000d);
+  }
 }
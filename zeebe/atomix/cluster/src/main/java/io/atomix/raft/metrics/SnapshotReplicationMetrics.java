@@ -15,6 +15,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
@@ -32,14 +33,41 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Gauge INFLIGHT_CHUNKS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of snapshot chunks sent to followers which are awaiting a response")
+          .name("snapshot_replication_inflight_chunks")
+          .register();
+  private static final Counter SENT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Total size in bytes of snapshot chunks sent to followers")
+          .name("snapshot_replication_sent_bytes")
+          .register();
+  private static final Counter RECEIVED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Total size in bytes of snapshot chunks received from the leader")
+          .name("snapshot_replication_received_bytes")
+          .register();
 
   private final Gauge.Child count;
   private final Gauge.Child duration;
+  private final Gauge.Child inflightChunks;
+  private final Counter.Child sentBytes;
+  private final Counter.Child receivedBytes;
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
     count = COUNT.labels(partitionGroupName, partition);
     duration = DURATION.labels(partitionGroupName, partition);
+    inflightChunks = INFLIGHT_CHUNKS.labels(partitionGroupName, partition);
+    sentBytes = SENT_BYTES.labels(partitionGroupName, partition);
+    receivedBytes = RECEIVED_BYTES.labels(partitionGroupName, partition);
   }
 
   public void incrementCount() {
@@ -57,4 +85,20 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  public void incrementInflightChunks() {
+    inflightChunks.inc();
+  }
+
+  public void decrementInflightChunks() {
+    inflightChunks.dec();
+  }
+
+  public void countSentBytes(final int bytes) {
+    sentBytes.inc(bytes);
+  }
+
+  public void countReceivedBytes(final int bytes) {
+    receivedBytes.inc(bytes);
+  }
 }
@@ -141,6 +141,16 @@ public final class RaftPartition implements Partition, HealthMonitorable {
    * @return the partition name
    */
   public String name() {
+    return name(partitionId);
+  }
+
+  /**
+   * Returns the name of the partition with the given ID.
+   *
+   * @param partitionId the ID of the partition
+   * @return the partition name
+   */
+  public static String name(final PartitionId partitionId) {
     return String.format(PARTITION_NAME_FORMAT, partitionId.group(), partitionId.id());
   }
 
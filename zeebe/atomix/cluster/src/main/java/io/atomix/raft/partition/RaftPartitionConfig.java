@@ -26,21 +26,25 @@ public class RaftPartitionConfig {
   private static final Duration DEFAULT_SNAPSHOT_REQUEST_TIMEOUT = Duration.ofMillis(2500);
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
   private static final boolean DEFAULT_PRIORITY_ELECTION = true;
+  private static final boolean DEFAULT_ADAPTIVE_APPEND_WINDOW = false;
   private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_SNAPSHOT_REPLICATION_WINDOW = 4;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendWindow = DEFAULT_ADAPTIVE_APPEND_WINDOW;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int snapshotReplicationWindow = DEFAULT_SNAPSHOT_REPLICATION_WINDOW;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
@@ -102,6 +106,21 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveAppendWindow() {
+    return adaptiveAppendWindow;
+  }
+
+  /**
+   * Sets whether the number of in flight append requests and their batch size adapt to the measured
+   * append latency of each follower. The maximum appends per follower and the maximum append batch
+   * size remain the upper bounds.
+   *
+   * @param adaptiveAppendWindow true to adapt the append window, false to always use the maximum
+   */
+  public void setAdaptiveAppendWindow(final boolean adaptiveAppendWindow) {
+    this.adaptiveAppendWindow = adaptiveAppendWindow;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -193,6 +212,20 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getSnapshotReplicationWindow() {
+    return snapshotReplicationWindow;
+  }
+
+  /**
+   * Sets how many snapshot chunks the leader may send to a follower without having received a
+   * response yet. A window of 1 sends one chunk at a time.
+   *
+   * @param snapshotReplicationWindow the maximum number of in flight snapshot chunks per follower
+   */
+  public void setSnapshotReplicationWindow(final int snapshotReplicationWindow) {
+    this.snapshotReplicationWindow = snapshotReplicationWindow;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -220,6 +253,8 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendWindow="
+        + adaptiveAppendWindow
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -236,6 +271,8 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", snapshotReplicationWindow="
+        + snapshotReplicationWindow
         + '}';
   }
 }
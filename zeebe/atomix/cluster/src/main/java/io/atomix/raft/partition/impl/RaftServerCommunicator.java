@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,16 +44,32 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
-/** Raft server protocol that uses a {@link ClusterCommunicationService}. */
+/**
+ * Raft server protocol that uses a {@link ClusterCommunicationService}.
+ *
+ * <p>Append requests and their responses are encoded with SBE, while all other messages use the
+ * given {@link Serializer}. Members which do not know the SBE encoding yet, e.g. during a rolling
+ * update, reply that there is no handler for it; such members are sent the previous encoding
+ * instead, and the SBE encoding is only tried again after {@link #LEGACY_APPEND_RETRY_INTERVAL}.
+ */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  static final Duration LEGACY_APPEND_RETRY_INTERVAL = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftProtocolSBESerializer sbeSerializer = new RaftProtocolSBESerializer();
+  // members which did not accept SBE encoded append requests, and since when (in nanos)
+  private final Map<MemberId, Long> legacyAppendMembers = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -137,7 +154,28 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    if (!supportsSbeAppend(memberId)) {
+      return sendAndReceive(context.appendV2subject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .send(
+            context.appendV3subject,
+            request,
+            sbeSerializer::encodeAppendRequest,
+            sbeSerializer::decodeAppendResponse,
+            memberId,
+            requestTimeout)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (cause instanceof NoRemoteHandler) {
+                legacyAppendMembers.put(memberId, System.nanoTime());
+                return sendAndReceive(context.appendV2subject, request, memberId);
+              }
+              return CompletableFuture.failedFuture(error);
+            });
   }
 
   @Override
@@ -293,12 +331,32 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendV3subject,
+        sbeSerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        sbeSerializer::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendV3subject);
+  }
+
+  private boolean supportsSbeAppend(final MemberId memberId) {
+    final var since = legacyAppendMembers.get(memberId);
+    if (since == null) {
+      return true;
+    }
+
+    if (System.nanoTime() - since < LEGACY_APPEND_RETRY_INTERVAL.toNanos()) {
+      return false;
+    }
+
+    legacyAppendMembers.remove(memberId, since);
+    return true;
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
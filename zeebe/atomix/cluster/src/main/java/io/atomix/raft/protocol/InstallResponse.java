@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -27,26 +29,53 @@ import io.atomix.raft.RaftError;
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
  * the request was successful.
+ *
+ * <p>The response to the initial request of a snapshot may carry the checksums of the files of the
+ * member's latest snapshot, such that the leader can skip sending files the member already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected HashMap<String, Long> snapshotFileChecksums;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Map<String, Long> snapshotFileChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotFileChecksums =
+        snapshotFileChecksums == null ? null : new HashMap<>(snapshotFileChecksums);
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files of the member's latest snapshot by file name. Members of
+   * older versions never send them.
+   *
+   * @return the member's snapshot file checksums, or an empty map if none were sent
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    return snapshotFileChecksums == null ? Map.of() : snapshotFileChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add(
+            "snapshotFileChecksums",
+            snapshotFileChecksums == null ? 0 : snapshotFileChecksums.size())
         .toString();
   }
 
@@ -62,12 +91,18 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Map<String, Long> snapshotFileChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotFileChecksums);
+    }
+
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums = snapshotFileChecksums;
+      return this;
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
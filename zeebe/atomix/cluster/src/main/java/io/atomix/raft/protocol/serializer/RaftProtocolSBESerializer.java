@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the messages of the replication hot path, i.e. append requests and their responses,
+ * with SBE instead of the reflection based {@link io.atomix.utils.serializer.Namespace}. The
+ * encoded length is computed up front, such that each message is written into a single array of the
+ * exact size.
+ *
+ * <p>This serializer is stateless and can be shared between threads; the flyweights are cheap to
+ * create and are allocated per call.
+ */
+public final class RaftProtocolSBESerializer {
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var encoder = new AppendRequestEncoder();
+    final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final var entries = request.entries();
+
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    for (final ReplicatableJournalRecord entry : entries) {
+      length +=
+          EntriesEncoder.sbeBlockLength()
+              + EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    final var bytes = new byte[length];
+    encoder
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, headerEncoder)
+        .version(request.version())
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = encoder.entriesCount(entries.size());
+    for (final ReplicatableJournalRecord entry : entries) {
+      final var serializedRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+    }
+    encoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    final var decoder =
+        new AppendRequestDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final int version = decoder.version();
+    final long term = decoder.term();
+    final long prevLogIndex = decoder.prevLogIndex();
+    final long prevLogTerm = decoder.prevLogTerm();
+    final long commitIndex = decoder.commitIndex();
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final var entries = new ArrayList<ReplicatableJournalRecord>(entriesDecoder.count());
+    for (final EntriesDecoder entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final var serializedRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+
+    return new VersionedAppendRequest(
+        version, term, decoder.leader(), prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var encoder = new AppendResponseEncoder();
+    final var error = response.error();
+    final var errorMessage =
+        error == null || error.message() == null
+            ? new byte[0]
+            : error.message().getBytes(StandardCharsets.UTF_8);
+
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final var bytes = new byte[length];
+    encoder
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, headerEncoder)
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .errorType(
+            error == null || error.type() == null
+                ? ErrorType.NULL_VAL
+                : ErrorType.valueOf(error.type().name()))
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    final var decoder =
+        new AppendResponseDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final var status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final var errorType = decoder.errorType();
+    final long term = decoder.term();
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+    final long configurationIndex = decoder.configurationIndex();
+    final var errorMessage = decoder.errorMessage();
+
+    final RaftError error;
+    if (errorType == ErrorType.NULL_VAL || errorType == ErrorType.SBE_UNKNOWN) {
+      error = null;
+    } else {
+      error =
+          new RaftError(
+              RaftError.Type.valueOf(errorType.name()),
+              errorMessage.isEmpty() ? null : errorMessage);
+    }
+
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+}
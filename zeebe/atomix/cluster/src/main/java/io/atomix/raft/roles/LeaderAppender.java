@@ -26,6 +26,8 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -44,6 +46,8 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,17 +67,19 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
 
-  private final int maxBatchSizePerAppend;
   private final Logger log;
   private final RaftContext raft;
   private boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final RaftReplicationMetrics replicationMetrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private final long leaderTime;
   private final long leaderIndex;
   private final long electionTimeout;
-  private final NavigableMap<Long, CompletableFuture<Long>> appendFutures = new TreeMap<>();
+  private final NavigableMap<Long, TimestampedFuture<Long>> appendFutures = new TreeMap<>();
   private final List<TimestampedFuture<Long>> heartbeatFutures = new ArrayList<>();
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
@@ -85,7 +91,8 @@ final class LeaderAppender {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    snapshotReplicationMetrics = new SnapshotReplicationMetrics(raft.getName());
+    replicationMetrics = raft.getReplicationMetrics();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -160,6 +167,7 @@ final class LeaderAppender {
   /** Builds a populated AppendEntries request. */
   private VersionedAppendRequest buildAppendEntriesRequest(
       final RaftMemberContext member, final long lastIndex) {
+    final long cpuTimeStart = currentThreadCpuTime();
     final IndexedRaftLogEntry prevEntry = member.getCurrentEntry();
 
     final DefaultRaftMember leader = raft.getLeader();
@@ -172,13 +180,14 @@ final class LeaderAppender {
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
+    // Build a list of entries up to the member's batch size. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= batch size the logic ensures that
     // entry will be sent in a batch of size one
     int size = 0;
+    final int maxBatchSize = member.getAppendBatchSize();
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
@@ -187,13 +196,15 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
 
     // Add the entries to the request builder and build the request.
-    return builder.withEntries(entries).build();
+    final VersionedAppendRequest request = builder.withEntries(entries).build();
+    observeAppendCpuTime(member, cpuTimeStart);
+    return request;
   }
 
   /** Connects to the member and sends a commit message. */
@@ -206,10 +217,13 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    final int batchSize = getBatchSize(request);
+    final boolean fullBatch = batchSize >= member.getAppendBatchSize();
 
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
+    final long cpuTimeStart = currentThreadCpuTime();
     raft.getProtocol()
         .append(member.getMember().memberId(), request)
         .whenCompleteAsync(
@@ -218,27 +232,57 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                if (!request.entries().isEmpty()) {
+                if (request.entries().isEmpty()) {
+                  member.completeAppend();
+                } else if (error != null) {
                   member.completeAppend(appendLatency);
                 } else {
-                  member.completeAppend();
+                  member.completeAppend(appendLatency, fullBatch);
                 }
+                replicationMetrics.setAppendWindow(
+                    member.getMember().memberId().id(),
+                    member.getMaxAppendsInFlight(),
+                    member.getAppendBatchSize());
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, batchSize, response, timestamp);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
               }
             },
             raft.getThreadContext());
+    if (!request.entries().isEmpty()) {
+      observeAppendCpuTime(member, cpuTimeStart);
+    }
 
     if (!request.entries().isEmpty() && hasMoreEntries(member)) {
       appendEntries(member);
     }
   }
 
+  /**
+   * Observes the CPU time the raft thread spent since the given start on replicating entries to the
+   * member, i.e. reading them into an append request and serializing the request. The Netty event
+   * loop, which writes the serialized request to the network, is not included.
+   */
+  private void observeAppendCpuTime(final RaftMemberContext member, final long cpuTimeStart) {
+    if (cpuTimeStart >= 0) {
+      metrics.observeAppendCpuTime(
+          member.getMember().memberId().id(), currentThreadCpuTime() - cpuTimeStart);
+    }
+  }
+
+  /**
+   * @return the CPU time of the current thread in nanoseconds, or -1 if the JVM does not measure it
+   */
+  private static long currentThreadCpuTime() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+        ? THREAD_MX_BEAN.getCurrentThreadCpuTime()
+        : -1;
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -395,6 +439,7 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setNextSnapshotChunkSequence(0);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -441,8 +486,7 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      restartSnapshotReplication(member);
       return Optional.empty();
     }
   }
@@ -452,6 +496,16 @@ final class LeaderAppender {
     // Start the install to the member.
     member.startInstall();
 
+    // Advance to the next chunk right away, such that further chunks can be sent before this one
+    // is acknowledged. If this request fails, the member is rewound to this chunk again.
+    final int sequence = member.getNextSnapshotChunkSequence();
+    if (!request.complete()) {
+      member.setNextSnapshotChunkId(request.nextChunkId());
+      member.setNextSnapshotChunkSequence(sequence + 1);
+    }
+
+    snapshotReplicationMetrics.incrementInflightChunks();
+    snapshotReplicationMetrics.countSentBytes(request.data().remaining());
     final long timestamp = System.currentTimeMillis();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
@@ -459,6 +513,7 @@ final class LeaderAppender {
         .install(member.getMember().memberId(), request)
         .whenCompleteAsync(
             (response, error) -> {
+              snapshotReplicationMetrics.decrementInflightChunks();
               if (open) {
                 // Complete the install to the member.
                 member.completeInstall();
@@ -468,7 +523,7 @@ final class LeaderAppender {
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
                   // Trigger reactions to the install response failure.
-                  handleInstallResponseFailure(member, request, error);
+                  handleInstallResponseFailure(member, request, sequence, error);
                 }
               }
             },
@@ -477,16 +532,24 @@ final class LeaderAppender {
 
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
-      final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final int sequence,
+      final Throwable error) {
     final boolean isTimeout =
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
     if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
+      restartSnapshotReplication(member);
+    } else if (request.index() == member.getNextSnapshotIndex()
+        && sequence < member.getNextSnapshotChunkSequence()) {
+      // Resend the timed out chunk and everything after it. Later chunks which are still in flight
+      // may be sent twice, which the member tolerates, but never skipped.
+      member.setNextSnapshotChunkId(request.isInitial() ? null : request.chunkId());
+      member.setNextSnapshotChunkSequence(sequence);
     }
 
     // Log the failed attempt to contact the member.
@@ -505,17 +568,23 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // Files which the member already has in its latest snapshot don't have to be sent again
+    if (request.isInitial()
+        && request.index() == member.getNextSnapshotIndex()
+        && !response.snapshotFileChecksums().isEmpty()) {
+      member.getSnapshotChunkReader().setReusableFiles(response.snapshotFileChecksums());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
-    // the next snapshot index/offset.
+    // the next snapshot index/offset. The member's snapshot offset was already moved past any other
+    // chunk when it was sent.
     if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
-      member.setSnapshotIndex(request.index());
-      resetNextIndex(member, request.index() + 1);
-    }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
+      if (request.index() == member.getNextSnapshotIndex()) {
+        restartSnapshotReplication(member);
+      }
+      if (request.index() > member.getSnapshotIndex()) {
+        member.setSnapshotIndex(request.index());
+        resetNextIndex(member, request.index() + 1);
+      }
     }
 
     // Recursively append entries to the member.
@@ -534,8 +603,13 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
+    restartSnapshotReplication(member);
+  }
+
+  private void restartSnapshotReplication(final RaftMemberContext member) {
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.setNextSnapshotChunkSequence(0);
   }
 
   /**
@@ -555,11 +629,18 @@ final class LeaderAppender {
       return CompletableFuture.completedFuture(index);
     }
 
+    // The leader counts itself towards the quorum, so it has to persist the entry as well. When
+    // flushing asynchronously, entries are only committed once flushed; see #onLogFlushed
+    final var flushesAsynchronously = raft.getLog().flushesAsynchronously();
+    if (flushesAsynchronously) {
+      raft.getLog().flush();
+    }
+
     // If there are no other stateful servers in the cluster, immediately commit the index OR
     // If there are no other active members in the cluster, update the commit index and complete the
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
-    if (raft.getCluster().isSingleMemberCluster()) {
+    if (raft.getCluster().isSingleMemberCluster() && !flushesAsynchronously) {
       raft.setCommitIndex(index);
       completeCommits(index);
       return CompletableFuture.completedFuture(index);
@@ -577,7 +658,7 @@ final class LeaderAppender {
           for (final RaftMemberContext member : raft.getCluster().getReplicationTargets()) {
             appendEntries(member);
           }
-          return new CompletableFuture<>();
+          return new TimestampedFuture<>();
         });
   }
 
@@ -616,9 +697,11 @@ final class LeaderAppender {
   /** Completes append entries attempts up to the given index. */
   private void completeCommits(final long commitIndex) {
     final var completable = appendFutures.headMap(commitIndex, true);
+    final long now = System.currentTimeMillis();
     completable.forEach(
         (index, future) -> {
           metrics.observeCommit();
+          replicationMetrics.observeCommitLatency(now - future.timestamp);
           future.complete(index);
         });
     completable.clear();
@@ -629,6 +712,7 @@ final class LeaderAppender {
   private void handleAppendResponseFailure(
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
+    member.appendRequestFailed();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -672,10 +756,11 @@ final class LeaderAppender {
   private void handleAppendResponse(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
+      final int batchSize,
       final AppendResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, batchSize, response);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,6 +770,7 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
+      final int batchSize,
       final AppendResponse response) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
@@ -696,9 +782,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), batchSize);
 
       commitEntries();
 
@@ -792,6 +876,10 @@ final class LeaderAppender {
     }
   }
 
+  private static int getBatchSize(final VersionedAppendRequest request) {
+    return request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
+  }
+
   private boolean hasMoreEntries(final RaftMemberContext member) {
     // If the member's nextIndex is an entry in the local log then more entries can be sent.
     return !member.hasReplicationContext() || member.hasNextEntry();
@@ -819,6 +907,7 @@ final class LeaderAppender {
       // error
       // messages
       // when attempting to send entries to down followers.
+      member.appendRequestFailed();
       final int failures = member.incrementFailureCount();
       if (failures <= 3 || failures % 100 == 0) {
         log.warn(
@@ -859,6 +948,10 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    raft.getCluster()
+        .getReplicationTargets()
+        .forEach(
+            member -> replicationMetrics.removeAppendWindow(member.getMember().memberId().id()));
     completeCommits(raft.getCommitIndex());
     appendFutures
         .values()
@@ -908,8 +1001,22 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+
+    // Keep up to the configured number of chunks in flight. The last chunk is only sent once all
+    // others were acknowledged, as the member commits the snapshot when receiving it. After the
+    // first chunk, wait for the member to tell which files it already has before sending more.
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()
+          || (installRequest.get().complete() && member.hasInFlightInstallRequests())) {
+        return;
+      }
+
+      sendInstallRequest(member, installRequest.get());
+      if (installRequest.get().isInitial()) {
+        return;
+      }
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -1005,11 +1112,13 @@ final class LeaderAppender {
   private void commitEntries() {
     raft.checkThread();
 
-    final long commitIndex =
+    final long quorumIndex =
         raft.getCluster()
             .getQuorumFor(RaftMemberContext::getMatchIndex)
             // If there are no remote members, commit up to the last log index.
             .orElseGet(() -> raft.getLog().getLastIndex());
+    // The leader counts itself towards the quorum, so it can only commit what it persisted itself
+    final long commitIndex = Math.min(quorumIndex, raft.getLog().getFlushedIndex());
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
@@ -1025,6 +1134,13 @@ final class LeaderAppender {
     }
   }
 
+  /** Called when the leader's log was flushed asynchronously, which may allow to commit entries. */
+  void onLogFlushed() {
+    if (open) {
+      commitEntries();
+    }
+  }
+
   private long computeResponseTime() {
     return raft.getCluster()
         .getQuorumFor(RaftMemberContext::getResponseTime)
@@ -129,6 +129,12 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     return RaftServer.Role.LEADER;
   }
 
+  @Override
+  public void onLogFlushed(final long flushedIndex) {
+    super.onLogFlushed(flushedIndex);
+    appender.onLogFlushed();
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -52,11 +52,11 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
-import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -70,9 +70,10 @@ public class PassiveRole extends InactiveRole {
   private final SnapshotReplicationMetrics snapshotReplicationMetrics;
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
-  private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
   private final int snapshotChunkSize;
+  // appends which are only acknowledged once the log is flushed asynchronously
+  private final List<PendingAppend> pendingAppends = new ArrayList<>();
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -91,6 +92,7 @@ public class PassiveRole extends InactiveRole {
   @Override
   public CompletableFuture<Void> stop() {
     abortPendingSnapshots();
+    failPendingAppends();
 
     // as a safe guard, we clean up any orphaned pending snapshots
     try {
@@ -207,6 +209,7 @@ public class PassiveRole extends InactiveRole {
 
     try {
       pendingSnapshot.apply(snapshotChunk).join();
+      snapshotReplicationMetrics.countReceivedBytes(request.data().remaining());
     } catch (final Exception e) {
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
@@ -224,8 +227,25 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
-    // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
-    // snapshot offset.
+    // Chunks may be received out of order when the leader replicates them concurrently, but the
+    // leader only sends the last chunk once all others were acknowledged. If chunks are still
+    // missing, e.g. because they were lost, the leader has to send the snapshot again. Already
+    // received chunks are ignored by the pending snapshot.
+    if (request.complete() && !pendingSnapshot.isComplete()) {
+      log.debug(
+          "Received last chunk of snapshot {}, but other chunks are still missing",
+          pendingSnapshot);
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.ERROR)
+                  .withError(
+                      RaftError.Type.ILLEGAL_MEMBER_STATE,
+                      "Snapshot is not complete, some chunks were not received")
+                  .build()));
+    }
+
+    // If the snapshot is complete, store the snapshot and reset state
     if (request.complete()) {
       final long elapsed = System.currentTimeMillis() - pendingSnapshotStartTimestamp;
       final PersistedSnapshot persistedSnapshot;
@@ -251,23 +271,28 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
-      setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which files we already have, so it does not have to send them again
+      final var currentSnapshot = raft.getCurrentSnapshot();
+      if (currentSnapshot != null && currentSnapshot.getChecksums() != null) {
+        response.withSnapshotFileChecksums(currentSnapshot.getChecksums().getChecksums());
+      }
+    }
+
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
@@ -434,24 +459,6 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
-    // if null assume it is first chunk of file
-    if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
-      final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.ERROR)
-                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
-                  .build()));
-    }
-
     // If the request is for a lesser term, reject the request.
     if (request.currentTerm() < raft.getTerm()) {
       return Either.left(
@@ -537,13 +544,8 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
-  private void setNextExpected(final ByteBuffer nextChunkId) {
-    nextPendingSnapshotChunkId = nextChunkId;
-  }
-
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
-      setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
@@ -759,10 +761,49 @@ public class PassiveRole extends InactiveRole {
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
     flush(lastLogIndex, request.prevLogIndex());
 
+    if (raft.getLog().flushesAsynchronously() && raft.getLog().getFlushedIndex() < lastLogIndex) {
+      if (lastLogIndex == request.prevLogIndex()) {
+        // nothing was appended, e.g. a heartbeat after a restart, so no flush may be pending which
+        // would ever cover the entries written before
+        raft.getLog().flush();
+      }
+      // acknowledge once the entries are persisted, see #onLogFlushed
+      pendingAppends.add(new PendingAppend(lastLogIndex, raft.getTerm(), future));
+      return;
+    }
+
     // Return a successful append response.
     succeedAppend(lastLogIndex, future);
   }
 
+  @Override
+  public void onLogFlushed(final long flushedIndex) {
+    pendingAppends.removeIf(pendingAppend -> tryCompletePendingAppend(pendingAppend, flushedIndex));
+  }
+
+  private boolean tryCompletePendingAppend(
+      final PendingAppend pendingAppend, final long flushedIndex) {
+    if (pendingAppend.term() != raft.getTerm()) {
+      // the entries may have been replaced by a newer leader in the meantime, so let the leader
+      // retry with whatever is persisted now
+      failAppend(flushedIndex, pendingAppend.future());
+      return true;
+    }
+
+    if (pendingAppend.lastLogIndex() <= flushedIndex) {
+      succeedAppend(pendingAppend.lastLogIndex(), pendingAppend.future());
+      return true;
+    }
+
+    return false;
+  }
+
+  private void failPendingAppends() {
+    final long flushedIndex = raft.getLog().getFlushedIndex();
+    pendingAppends.forEach(pendingAppend -> failAppend(flushedIndex, pendingAppend.future()));
+    pendingAppends.clear();
+  }
+
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
     if (lastFlushedIndex > previousEntryIndex) {
       raft.getLog().flush();
@@ -950,4 +991,7 @@ public class PassiveRole extends InactiveRole {
         snapshotIndex + 1);
     raftLog.reset(snapshotIndex + 1);
   }
+
+  private record PendingAppend(
+      long lastLogIndex, long term, CompletableFuture<AppendResponse> future) {}
 }
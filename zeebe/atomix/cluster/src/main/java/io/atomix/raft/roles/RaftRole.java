@@ -121,5 +121,13 @@ public interface RaftRole extends Managed<RaftRole> {
    */
   CompletableFuture<VoteResponse> onVote(VoteRequest request);
 
+  /**
+   * Called on the Raft thread when the log was flushed asynchronously, which may allow to commit or
+   * acknowledge entries that were waiting to be persisted.
+   *
+   * @param flushedIndex The index up to which the log is flushed.
+   */
+  void onLogFlushed(long flushedIndex);
+
   Either<RaftError, Void> shouldAcceptRequest(RaftRequest request);
 }
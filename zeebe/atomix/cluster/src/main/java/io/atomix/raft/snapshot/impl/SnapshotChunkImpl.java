@@ -36,6 +36,7 @@ public final class SnapshotChunkImpl
   private long checksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private boolean fileReference;
 
   public SnapshotChunkImpl() {}
 
@@ -47,6 +48,7 @@ public final class SnapshotChunkImpl
     content.wrap(chunk.getContent());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    fileReference = chunk.isFileReference();
   }
 
   @Override
@@ -67,6 +69,7 @@ public final class SnapshotChunkImpl
     checksum = SnapshotChunkDecoder.checksumNullValue();
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
+    fileReference = false;
 
     snapshotId = "";
     chunkName = "";
@@ -94,6 +97,7 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .fileReference(fileReference ? BooleanType.TRUE : BooleanType.FALSE)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -108,6 +112,8 @@ public final class SnapshotChunkImpl
     totalCount = decoder.totalCount();
     fileBlockPosition = decoder.fileBlockPosition();
     totalFileSize = decoder.totalFileSize();
+    // backwards compatibility, chunks of older versions always carry their content
+    fileReference = BooleanType.TRUE.equals(decoder.fileReference());
     snapshotId = decoder.snapshotId();
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
@@ -162,6 +168,11 @@ public final class SnapshotChunkImpl
     return totalFileSize;
   }
 
+  @Override
+  public boolean isFileReference() {
+    return fileReference;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -178,6 +189,8 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", fileReference="
+        + fileReference
         + "} "
         + super.toString();
   }
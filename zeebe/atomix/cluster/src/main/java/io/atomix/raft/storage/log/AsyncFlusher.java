@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftFlushMetrics;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which flushes the journal on a dedicated thread, such
+ * that the journal write path, e.g. the Raft thread, never blocks on the disk.
+ *
+ * <p>Calls to {@link #flush(Journal)} are requests to flush everything written so far. Requests
+ * which arrive while a flush is already pending or running are coalesced into the next flush, such
+ * that a single fsync covers all of them. Optionally, the flush can be delayed by a coalescing
+ * window to group even more requests, trading latency for fewer fsyncs.
+ *
+ * <p>Unlike {@link DelayedFlusher}, this implementation keeps the guarantees of {@link
+ * DirectFlusher}: it tracks up to which index the journal was flushed, see {@link
+ * #flushedIndex(Journal)}, and notifies its {@link FlushListener} whenever that advances, such that
+ * the Raft commit logic can wait for it asynchronously.
+ *
+ * <p>NOTE: {@link #flush(Journal)} and {@link #resetFlushedIndex(long)} are expected to be called
+ * from the journal write path only; the listener is called from the flushing thread.
+ */
+public final class AsyncFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AsyncFlusher.class);
+  private static final Duration RETRY_DELAY = Duration.ofMillis(100);
+
+  private final ThreadContext flushContext;
+  private final Duration coalesceTime;
+  private final RaftFlushMetrics metrics;
+
+  private final Object flushMonitor = new Object();
+  private long requestedIndex;
+  private long firstRequestTime;
+  private int pendingRequests;
+  private long generation;
+  private boolean flushScheduled;
+  private boolean closed;
+
+  private volatile long flushedIndex;
+  private volatile FlushListener listener;
+
+  public AsyncFlusher(
+      final ThreadContext flushContext,
+      final Duration coalesceTime,
+      final RaftFlushMetrics metrics) {
+    this.flushContext = Objects.requireNonNull(flushContext, "must specify a flush context");
+    this.coalesceTime = Objects.requireNonNull(coalesceTime, "must specify a coalescing time");
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    synchronized (flushMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped flush request due to flusher being closed");
+        return;
+      }
+
+      requestedIndex = Math.max(requestedIndex, journal.getLastIndex());
+      if (pendingRequests++ == 0) {
+        firstRequestTime = System.nanoTime();
+      }
+
+      if (!flushScheduled) {
+        flushScheduled = true;
+        scheduleFlush(journal, coalesceTime);
+      }
+    }
+  }
+
+  @Override
+  public long flushedIndex(final Journal journal) {
+    return flushedIndex;
+  }
+
+  @Override
+  public boolean isAsync() {
+    return true;
+  }
+
+  @Override
+  public void setFlushListener(final FlushListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public void resetFlushedIndex(final long index) {
+    synchronized (flushMonitor) {
+      // any flush which is running right now may have started before the journal was modified,
+      // so its result must not be published
+      generation++;
+      requestedIndex = Math.min(requestedIndex, index);
+      flushedIndex = Math.min(flushedIndex, index);
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (flushMonitor) {
+      closed = true;
+    }
+
+    flushContext.close();
+  }
+
+  private void scheduleFlush(final Journal journal, final Duration delay) {
+    if (delay.isZero()) {
+      flushContext.execute(() -> asyncFlush(journal));
+    } else {
+      flushContext.schedule(delay, () -> asyncFlush(journal));
+    }
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final long targetIndex;
+    final long flushGeneration;
+    final long requestTime;
+    final int coalescedRequests;
+    synchronized (flushMonitor) {
+      if (closed) {
+        flushScheduled = false;
+        return;
+      }
+
+      targetIndex = requestedIndex;
+      flushGeneration = generation;
+      requestTime = firstRequestTime;
+      coalescedRequests = pendingRequests;
+      pendingRequests = 0;
+    }
+
+    try {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", RETRY_DELAY, e);
+      synchronized (flushMonitor) {
+        if (pendingRequests == 0) {
+          firstRequestTime = requestTime;
+        }
+        pendingRequests += coalescedRequests;
+
+        if (closed) {
+          flushScheduled = false;
+        } else {
+          scheduleFlush(journal, RETRY_DELAY);
+        }
+      }
+      return;
+    }
+
+    metrics.observeFlush(coalescedRequests, System.nanoTime() - requestTime);
+
+    final long newFlushedIndex;
+    synchronized (flushMonitor) {
+      if (flushGeneration == generation && targetIndex > flushedIndex) {
+        flushedIndex = targetIndex;
+      }
+      newFlushedIndex = flushedIndex;
+
+      if (!closed && (pendingRequests > 0 || requestedIndex > flushedIndex)) {
+        // requests which arrived in the meantime are not covered by this flush; as they waited
+        // already, there is no need to delay them again
+        scheduleFlush(journal, Duration.ZERO);
+      } else {
+        flushScheduled = false;
+      }
+    }
+
+    final var currentListener = listener;
+    if (currentListener != null) {
+      currentListener.onFlushed(newFlushedIndex);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AsyncFlusher{"
+        + "flushContext="
+        + flushContext
+        + ", coalesceTime="
+        + coalesceTime
+        + ", flushedIndex="
+        + flushedIndex
+        + '}';
+  }
+}
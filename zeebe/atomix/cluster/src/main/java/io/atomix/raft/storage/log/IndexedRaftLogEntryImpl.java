@@ -50,6 +50,8 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
 
   @Override
   public ReplicatableJournalRecord getReplicatableJournalRecord() {
+    // The record is copied out of the segment on purpose: the request it is sent with may be
+    // retried or re-encoded for an older protocol after the segment was compacted and unmapped.
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
     return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
@@ -111,6 +111,30 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * @return true if the log is flushed asynchronously, in which case it is only guaranteed to be
+   *     persisted up to {@link #getFlushedIndex()}
+   */
+  public boolean flushesAsynchronously() {
+    return flusher.isAsync();
+  }
+
+  /**
+   * Returns the index up to which the log is guaranteed to be flushed, according to the configured
+   * {@link RaftLogFlusher}.
+   */
+  public long getFlushedIndex() {
+    return Math.min(flusher.flushedIndex(journal), journal.getLastIndex());
+  }
+
+  /**
+   * Sets the listener notified whenever an asynchronous flush completes; see {@link
+   * RaftLogFlusher#setFlushListener(RaftLogFlusher.FlushListener)}.
+   */
+  public void setFlushListener(final RaftLogFlusher.FlushListener listener) {
+    flusher.setFlushListener(listener);
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -167,6 +191,7 @@ public final class RaftLog implements Closeable {
   }
 
   public void reset(final long index) {
+    flusher.resetFlushedIndex(index - 1);
     journal.reset(index);
     lastAppendedEntry = null;
   }
@@ -178,6 +203,7 @@ public final class RaftLog implements Closeable {
               "Expected to delete index after %d, but it is lower than the commit index %d. Deleting committed entries can lead to inconsistencies and is prohibited.",
               index, commitIndex));
     }
+    flusher.resetFlushedIndex(index);
     journal.deleteAfter(index);
     lastAppendedEntry = null;
 
@@ -27,6 +27,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link AsyncFlusher} offers the same guarantees as {@link DirectFlusher}, but flushes on a
+ * dedicated thread and coalesces concurrent requests. The log is then only considered persisted up
+ * to its {@link #flushedIndex(Journal)}, which the Raft commit logic waits for asynchronously.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -48,6 +52,42 @@ public interface RaftLogFlusher extends CloseableSilently {
     return false;
   }
 
+  /**
+   * If this returns true, then calls to {@link #flush(Journal)} complete asynchronously, and data
+   * is only guaranteed to be on disk up to {@link #flushedIndex(Journal)}.
+   */
+  default boolean isAsync() {
+    return false;
+  }
+
+  /**
+   * Returns the index up to which the journal is guaranteed to be flushed. Flushers which are not
+   * {@link #isAsync() asynchronous} either flush synchronously or give no guarantees, so they
+   * consider everything written so far as flushed.
+   *
+   * @param journal the flushed journal
+   * @return the last flushed index
+   */
+  default long flushedIndex(final Journal journal) {
+    return journal.getLastIndex();
+  }
+
+  /**
+   * Sets the listener which is notified whenever an {@link #isAsync() asynchronous} flush
+   * completes. The listener may be called from any thread.
+   *
+   * @param listener the listener to notify
+   */
+  default void setFlushListener(final FlushListener listener) {}
+
+  /**
+   * Signals that the journal was truncated or reset, such that anything after the given index is
+   * not guaranteed to be flushed anymore.
+   *
+   * @param index the last index which may still be considered flushed
+   */
+  default void resetFlushedIndex(final long index) {}
+
   @Override
   default void close() {}
 
@@ -79,6 +119,18 @@ public interface RaftLogFlusher extends CloseableSilently {
     }
   }
 
+  /** Listener for {@link #isAsync() asynchronous} flushes. */
+  @FunctionalInterface
+  interface FlushListener {
+
+    /**
+     * Called after a flush completed.
+     *
+     * @param flushedIndex the index up to which the journal is now flushed
+     */
+    void onFlushed(final long flushedIndex);
+  }
+
   /**
    * Factory methods to create a new {@link RaftLogFlusher}. This is unfortunately required due to
    * the blackbox instantiation of the {@link io.atomix.raft.impl.RaftContext}.
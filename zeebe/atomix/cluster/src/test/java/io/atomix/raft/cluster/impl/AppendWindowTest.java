@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  private static final int MAX_IN_FLIGHT = 4;
+  private static final int MAX_BATCH_SIZE = 64 * 1024;
+
+  @Test
+  void shouldAlwaysUseMaximumIfFixed() {
+    // given
+    final var window = new AppendWindow(false, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+
+    // when
+    window.onAppendCompleted(1, true);
+    window.onAppendCompleted(500, true);
+    window.onRequestFailed();
+
+    // then
+    assertThat(window.inFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+    assertThat(window.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldStartSmallIfAdaptive() {
+    // when
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+
+    // then
+    assertThat(window.inFlightLimit()).isOne();
+    assertThat(window.batchSize()).isEqualTo(AppendWindow.MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldGrowUpToMaximumWhileLatencyIsLow() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAppendCompleted(5, true);
+    }
+
+    // then
+    assertThat(window.inFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+    assertThat(window.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotGrowBatchIfNotFull() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAppendCompleted(5, false);
+    }
+
+    // then
+    assertThat(window.inFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+    assertThat(window.batchSize()).isEqualTo(AppendWindow.MIN_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldShrinkInFlightBeforeBatchIfLatencyIsHigh() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+    for (int i = 0; i < 10; i++) {
+      window.onAppendCompleted(5, true);
+    }
+
+    // when
+    window.onAppendCompleted(100, true);
+
+    // then
+    assertThat(window.inFlightLimit()).isEqualTo(MAX_IN_FLIGHT - 1);
+    assertThat(window.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+
+    // when
+    for (int i = 0; i < MAX_IN_FLIGHT; i++) {
+      window.onAppendCompleted(100, true);
+    }
+
+    // then
+    assertThat(window.inFlightLimit()).isOne();
+    assertThat(window.batchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldShrinkOnFailure() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+    for (int i = 0; i < 10; i++) {
+      window.onAppendCompleted(5, true);
+    }
+
+    // when
+    window.onRequestFailed();
+
+    // then
+    assertThat(window.inFlightLimit()).isOne();
+    assertThat(window.batchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  void shouldAdaptToHigherBaseLatency() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+    window.onAppendCompleted(5, false);
+
+    // when - the network got slower for good
+    for (int i = 0; i < 3 * AppendWindow.BASE_LATENCY_SAMPLES; i++) {
+      window.onAppendCompleted(100, false);
+    }
+
+    // then
+    assertThat(window.inFlightLimit()).isEqualTo(MAX_IN_FLIGHT);
+  }
+
+  @Test
+  void shouldResetToInitialWindow() {
+    // given
+    final var window = new AppendWindow(true, MAX_IN_FLIGHT, MAX_BATCH_SIZE);
+    for (int i = 0; i < 10; i++) {
+      window.onAppendCompleted(5, true);
+    }
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.inFlightLimit()).isOne();
+    assertThat(window.batchSize()).isEqualTo(AppendWindow.MIN_BATCH_SIZE);
+  }
+}
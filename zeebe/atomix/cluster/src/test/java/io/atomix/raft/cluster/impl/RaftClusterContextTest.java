@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
@@ -18,6 +19,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.raft.cluster.RaftMember;
 import io.atomix.raft.cluster.RaftMember.Type;
 import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.storage.system.Configuration;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.Scheduled;
@@ -132,6 +134,30 @@ final class RaftClusterContextTest {
         .allSatisfy(member -> assertThat(context.getMemberContext(member.memberId())).isNull());
   }
 
+  @Test
+  void shouldRemoveAppendWindowMetricsOfRemovedMembers() {
+    // given -- stored configuration that contains all members
+    final var localMember = new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now());
+    final var members =
+        List.<RaftMember>of(
+            localMember,
+            new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now()),
+            new DefaultRaftMember(new MemberId("3"), Type.ACTIVE, Instant.now()));
+
+    final var raft =
+        raftWithStoredConfiguration(new Configuration(1, 1, Instant.now().toEpochMilli(), members));
+    final var context = new RaftClusterContext(localMember.memberId(), raft);
+    context.bootstrap(List.of()).join();
+
+    // when -- reconfigure with a new configuration without member 3
+    context.configure(new Configuration(2, 1, Instant.now().toEpochMilli(), members.subList(0, 2)));
+
+    // then
+    final var metrics = raft.getReplicationMetrics();
+    verify(metrics).removeAppendWindow("3");
+    verifyNoMoreInteractions(metrics);
+  }
+
   @Test
   void shouldUpdateMemberType() {
     // given -- stored configuration that contains all members
@@ -504,6 +530,7 @@ final class RaftClusterContextTest {
     when(raft.getThreadContext()).thenReturn(threadContext);
     when(metaStore.loadConfiguration()).thenReturn(configuration);
     when(raft.getMetaStore()).thenReturn(metaStore);
+    when(raft.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
     return raft;
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class RaftProtocolSBESerializerTest {
+
+  private final RaftProtocolSBESerializer serializer = new RaftProtocolSBESerializer();
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final var request = newAppendRequest(3);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.leader()).isEqualTo(request.leader());
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequestWithoutEntries() {
+    // given
+    final var request = newAppendRequest(0);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).isEmpty();
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequestWithManyEntries() {
+    // given - more entries than the common group size encoding can hold
+    final var request = newAppendRequest(1_000);
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 5, true, 10, 7, 3);
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeErrorResponse() {
+    for (final RaftError.Type type : RaftError.Type.values()) {
+      // given
+      final var error = new RaftError(type, "failed with " + type);
+      final var response = new AppendResponse(Status.ERROR, error, 5, false, 10, 7, 3);
+
+      // when
+      final var decoded =
+          serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+      // then
+      assertThat(decoded).isEqualTo(response);
+      assertThat(decoded.error().type()).isEqualTo(type);
+      assertThat(decoded.error().message()).isEqualTo(error.message());
+    }
+  }
+
+  @Test
+  public void shouldEncodeAppendRequestSmallerThanNamespace() {
+    // given
+    final var kryoSerializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+    final var request = newAppendRequest(10);
+
+    // when
+    final var sbeBytes = serializer.encodeAppendRequest(request);
+    final byte[] kryoBytes = kryoSerializer.encode(request);
+
+    // then
+    assertThat(sbeBytes.length).isLessThanOrEqualTo(kryoBytes.length);
+  }
+
+  private VersionedAppendRequest newAppendRequest(final int entryCount) {
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      entries.add(new ReplicatableJournalRecord(2, 11 + i, 31L * i, ("record-" + i).getBytes()));
+    }
+
+    return VersionedAppendRequest.builder()
+        .withTerm(2)
+        .withLeader(MemberId.from("1"))
+        .withPrevLogIndex(10)
+        .withPrevLogTerm(1)
+        .withEntries(entries)
+        .withCommitIndex(9)
+        .build();
+  }
+}
@@ -222,6 +222,40 @@ public class PassiveRoleTest {
     verify(log, times(1)).flush();
   }
 
+  @Test
+  public void shouldAcknowledgeHeartbeatAfterReopenOnceFlushed() {
+    // given -- a reopened log whose entries were not flushed by the asynchronous flusher yet
+    final IndexedRaftLogEntry lastEntry = mock(IndexedRaftLogEntry.class);
+    when(lastEntry.index()).thenReturn(5L);
+    when(lastEntry.term()).thenReturn(1L);
+    when(log.getLastEntry()).thenReturn(lastEntry);
+    when(log.flushesDirectly()).thenReturn(false);
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.getFlushedIndex()).thenReturn(0L);
+
+    final VersionedAppendRequest heartbeat =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(1)
+            .withPrevLogIndex(5)
+            .withEntries(List.of())
+            .withCommitIndex(5)
+            .build();
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(heartbeat));
+
+    // then -- the entries are flushed before the heartbeat is acknowledged
+    verify(log, times(1)).flush();
+    assertThat(response).isNotDone();
+
+    when(log.getFlushedIndex()).thenReturn(5L);
+    role.onLogFlushed(5);
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(response.join().lastLogIndex()).isEqualTo(5);
+  }
+
   @Test
   public void shouldAppendOldVersion() {
     // given
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.atomix.raft.metrics.RaftFlushMetrics;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.CloseHelper;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class AsyncFlusherTest {
+  private final DeterministicScheduler scheduler = new DeterministicScheduler();
+  private final RaftFlushMetrics metrics = new RaftFlushMetrics("raft-partition-partition-1");
+  private final Journal journal = Mockito.mock(Journal.class);
+  private AsyncFlusher flusher = createFlusher(Duration.ZERO);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushAsynchronously() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.never()).flush();
+    assertThat(flusher.flushedIndex(journal)).isZero();
+
+    scheduler.runUntilIdle();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(flusher.flushedIndex(journal)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldCoalesceFlushRequests() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L, 6L, 7L);
+
+    // when
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(flusher.flushedIndex(journal)).isEqualTo(7);
+  }
+
+  @Test
+  void shouldFlushAgainIfRequestedWhileFlushing() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L, 10L);
+    final var flushes = new AtomicInteger();
+    Mockito.doAnswer(
+            invocation -> {
+              if (flushes.getAndIncrement() == 0) {
+                flusher.flush(journal);
+              }
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(flusher.flushedIndex(journal)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotifyListenerWhenFlushed() {
+    // given
+    final List<Long> flushedIndexes = new ArrayList<>();
+    flusher.setFlushListener(flushedIndexes::add);
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(flushedIndexes).containsExactly(5L);
+  }
+
+  @Test
+  void shouldDelayFlushByCoalesceTime() {
+    // given
+    flusher = createFlusher(Duration.ofMillis(10));
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    Mockito.verify(journal, Mockito.never()).flush();
+
+    scheduler.tick(10, TimeUnit.MILLISECONDS);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(flusher.flushedIndex(journal)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldNotPublishFlushedIndexIfResetWhileFlushing() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L, 3L);
+    final List<Long> flushedIndexes = new ArrayList<>();
+    flusher.setFlushListener(flushedIndexes::add);
+    final var flushes = new AtomicInteger();
+    Mockito.doAnswer(
+            invocation -> {
+              if (flushes.getAndIncrement() == 0) {
+                flusher.resetFlushedIndex(2);
+                flusher.flush(journal);
+              }
+              return null;
+            })
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(flushedIndexes).containsExactly(0L, 3L);
+  }
+
+  @Test
+  void shouldRetryOnFlushError() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    assertThat(flusher.flushedIndex(journal)).isZero();
+
+    scheduler.tick(100, TimeUnit.MILLISECONDS);
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(flusher.flushedIndex(journal)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldNotFlushWhenClosed() {
+    // given
+    Mockito.when(journal.getLastIndex()).thenReturn(5L);
+
+    // when
+    flusher.close();
+    flusher.flush(journal);
+    scheduler.runUntilIdle();
+
+    // then
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  private AsyncFlusher createFlusher(final Duration coalesceTime) {
+    return new AsyncFlusher(new DeterministicSingleThreadContext(scheduler), coalesceTime, metrics);
+  }
+}
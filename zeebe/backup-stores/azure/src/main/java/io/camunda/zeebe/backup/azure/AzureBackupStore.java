@@ -18,13 +18,19 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSetManager;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.ManifestManager;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -35,8 +41,9 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link BackupStore} for Azure. Stores all backups in a given bucket.
  *
- * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
- * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ * <p>All created manifest keys are prefixed by the {@link BackupIdentifier}, with the following
+ * scheme: {@code basePath/partitionId/checkpointId/nodeId}. The files of backups are stored by
+ * their content, see {@link ContentAddressedFileSetManager}.
  */
 public final class AzureBackupStore implements BackupStore {
   public static final String ERROR_MSG_BACKUP_NOT_FOUND =
@@ -48,6 +55,7 @@ public final class AzureBackupStore implements BackupStore {
   private static final Logger LOG = LoggerFactory.getLogger(AzureBackupStore.class);
   private final ExecutorService executor;
   private final FileSetManager fileSetManager;
+  private final ContentAddressedFileSetManager contentManager;
   private final ManifestManager manifestManager;
 
   public AzureBackupStore(final AzureBackupConfig config) {
@@ -60,7 +68,9 @@ public final class AzureBackupStore implements BackupStore {
         client.getBlobContainerClient(config.containerName());
 
     fileSetManager = new FileSetManager(blobContainerClient);
-    manifestManager = new ManifestManager(blobContainerClient);
+    contentManager =
+        new ContentAddressedFileSetManager(new AzureContentStorage(blobContainerClient));
+    manifestManager = new ManifestManager(new AzureManifestStorage(blobContainerClient));
   }
 
   public static BlobServiceClient buildClient(final AzureBackupConfig config) {
@@ -96,10 +106,16 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          final var snapshot = contentManager.digest(backup.snapshot());
+          final var segments = contentManager.digest(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(
+                  Manifest.createInProgress(backup, snapshot, segments));
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            contentManager.save(backup.id(), backup.snapshot(), snapshot);
+            contentManager.save(backup.id(), backup.segments(), segments);
+            contentManager.verifySaved(backup.id(), backup.snapshot(), snapshot);
+            contentManager.verifySaved(backup.id(), backup.segments(), segments);
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest().id(), e.getMessage());
@@ -133,9 +149,17 @@ public final class AzureBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          if (manifest != null) {
+            contentManager.deleteUnreferenced(
+                manifest,
+                manifestManager.listManifests(
+                    new BackupIdentifierWildcardImpl(
+                        Optional.empty(), Optional.of(id.partitionId()), Optional.empty())));
+          }
         },
         executor);
   }
@@ -155,11 +179,9 @@ public final class AzureBackupStore implements BackupStore {
             case COMPLETED -> {
               final var completed = manifest.asCompleted();
               final var snapshot =
-                  fileSetManager.restore(
-                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+                  restore(id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
               final var segments =
-                  fileSetManager.restore(
-                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+                  restore(id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
               yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
             }
           };
@@ -167,6 +189,18 @@ public final class AzureBackupStore implements BackupStore {
         executor);
   }
 
+  /** Backups taken before files were stored by their content are restored from their own files. */
+  private NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    if (fileSet.isContentAddressed()) {
+      return contentManager.restore(id, fileSet, targetFolder);
+    }
+    return fileSetManager.restore(id, fileSetName, fileSet, targetFolder);
+  }
+
   @Override
   public CompletableFuture<BackupStatusCode> markFailed(
       final BackupIdentifier id, final String failureReason) {
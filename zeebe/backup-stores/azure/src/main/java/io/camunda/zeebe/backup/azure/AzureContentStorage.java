@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.azure;
+
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobUploadFromFileOptions;
+import io.camunda.zeebe.backup.common.ContentStorage;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Stores content addressed backup files as block blobs. Files larger than {@link #BLOCK_SIZE} are
+ * uploaded as multiple blocks, up to {@link #MAX_CONCURRENT_BLOCKS} of them concurrently.
+ */
+final class AzureContentStorage implements ContentStorage {
+  static final long BLOCK_SIZE = 8L * 1024 * 1024;
+  static final int MAX_CONCURRENT_BLOCKS = 4;
+
+  private static final int PRECONDITION_FAILED = AzureManifestStorage.PRECONDITION_FAILED;
+  private final BlobContainerClient containerClient;
+
+  AzureContentStorage(final BlobContainerClient containerClient) {
+    this.containerClient = containerClient;
+  }
+
+  @Override
+  public boolean exists(final String key) {
+    return blobClient(key).exists();
+  }
+
+  @Override
+  public void upload(final String key, final Path source) {
+    final var requestConditions = new BlobRequestConditions();
+    AzureManifestStorage.disableOverwrite(requestConditions);
+    final var options =
+        new BlobUploadFromFileOptions(source.toString())
+            .setParallelTransferOptions(
+                new ParallelTransferOptions()
+                    .setBlockSizeLong(BLOCK_SIZE)
+                    .setMaxSingleUploadSizeLong(BLOCK_SIZE)
+                    .setMaxConcurrency(MAX_CONCURRENT_BLOCKS))
+            .setRequestConditions(requestConditions);
+
+    try {
+      blobClient(key).uploadFromFileWithResponse(options, null, Context.NONE);
+    } catch (final BlobStorageException e) {
+      // the same content was uploaded concurrently, e.g. by another broker
+      if (e.getErrorCode() != BlobErrorCode.BLOB_ALREADY_EXISTS
+          && e.getStatusCode() != PRECONDITION_FAILED) {
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public InputStream download(final String key) {
+    return blobClient(key).openInputStream();
+  }
+
+  @Override
+  public void delete(final String key) {
+    blobClient(key).deleteIfExists();
+  }
+
+  private BlobClient blobClient(final String key) {
+    return containerClient.getBlobClient(key);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.azure;
+
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.ListBlobsOptions;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import com.azure.storage.common.implementation.Constants;
+import io.camunda.zeebe.backup.common.ManifestStorage;
+import java.util.Collection;
+
+/** Stores manifests as block blobs. The version of a manifest is the ETag of its blob. */
+final class AzureManifestStorage implements ManifestStorage {
+  static final int PRECONDITION_FAILED = 412;
+
+  private final BlobContainerClient blobContainerClient;
+  private volatile boolean containerCreated = false;
+
+  AzureManifestStorage(final BlobContainerClient blobContainerClient) {
+    this.blobContainerClient = blobContainerClient;
+  }
+
+  @Override
+  public VersionedContent read(final String key) {
+    try {
+      final var response =
+          blobContainerClient
+              .getBlobClient(key)
+              .downloadContentWithResponse(null, null, null, Context.NONE);
+      return new VersionedContent(
+          response.getValue().toBytes(), response.getDeserializedHeaders().getETag());
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.CONTAINER_NOT_FOUND
+          || e.getErrorCode() == BlobErrorCode.BLOB_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public String create(final String key, final byte[] content) {
+    final var requestConditions = new BlobRequestConditions();
+    disableOverwrite(requestConditions);
+    try {
+      return upload(key, content, requestConditions);
+    } catch (final BlobStorageException e) {
+      if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS
+          || e.getStatusCode() == PRECONDITION_FAILED) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  /** We only replace the manifest if the ETag matches, thus assuring no other client wrote it. */
+  @Override
+  public boolean replace(final String key, final byte[] content, final String expectedVersion) {
+    try {
+      upload(key, content, new BlobRequestConditions().setIfMatch(expectedVersion));
+      return true;
+    } catch (final BlobStorageException e) {
+      // will throw precondition failed if etag does not match.
+      if (e.getStatusCode() == PRECONDITION_FAILED) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void write(final String key, final byte[] content) {
+    upload(key, content, null);
+  }
+
+  @Override
+  public Collection<String> list(final String prefix) {
+    assureContainerCreated();
+    return blobContainerClient.listBlobs(new ListBlobsOptions().setPrefix(prefix), null).stream()
+        .map(BlobItem::getName)
+        .toList();
+  }
+
+  @Override
+  public void delete(final String key) {
+    blobContainerClient.getBlobClient(key).deleteIfExists();
+  }
+
+  static void disableOverwrite(final BlobRequestConditions blobRequestConditions) {
+    // Optionally limit requests to resources that do not match the passed ETag.
+    // None will match therefore it will not overwrite.
+    blobRequestConditions.setIfNoneMatch(Constants.HeaderConstants.ETAG_WILDCARD);
+  }
+
+  private String upload(
+      final String key, final byte[] content, final BlobRequestConditions requestConditions) {
+    assureContainerCreated();
+    return blobContainerClient
+        .getBlobClient(key)
+        .uploadWithResponse(
+            new BlobParallelUploadOptions(BinaryData.fromBytes(content))
+                .setRequestConditions(requestConditions),
+            null,
+            Context.NONE)
+        .getValue()
+        .getETag();
+  }
+
+  private void assureContainerCreated() {
+    if (!containerCreated) {
+      blobContainerClient.createIfNotExists();
+      containerCreated = true;
+    }
+  }
+}
@@ -25,9 +25,10 @@ import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.azure.util.AzuriteContainer;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.ManifestManager;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
-import java.io.FileNotFoundException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.UUID;
@@ -75,7 +76,7 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
 
   @Override
   public Class<? extends Exception> getFileNotFoundExceptionClass() {
-    return FileNotFoundException.class;
+    return NoSuchFileException.class;
   }
 
   @ParameterizedTest
@@ -152,6 +153,6 @@ public class AzureBackupStoreIT implements BackupStoreTestKit {
     final BlobContainerClient blobContainerClient =
         blobServiceClient.getBlobContainerClient(azureBackupConfig.containerName());
     blobContainerClient.createIfNotExists();
-    return blobContainerClient.getBlobClient(ManifestManager.manifestPath(manifest));
+    return blobContainerClient.getBlobClient(ManifestManager.manifestKey(manifest.id()));
   }
 }
@@ -24,6 +24,12 @@ public abstract class BackupStoreException extends RuntimeException {
     }
   }
 
+  public static class CorruptedContent extends BackupStoreException {
+    public CorruptedContent(final String message) {
+      super(message);
+    }
+  }
+
   public static class UnexpectedManifestState extends BackupStoreException {
     public UnexpectedManifestState(final StatusCode expected, final StatusCode actual) {
       super("Expected manifest in state '%s', but was in '%s'".formatted(expected, actual));
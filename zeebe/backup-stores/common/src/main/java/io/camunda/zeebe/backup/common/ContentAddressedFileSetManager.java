@@ -0,0 +1,303 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupStoreException.CorruptedContent;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores the files of backups by the SHA-256 digest of their content instead of per backup, such
+ * that files which did not change between two backups, e.g. immutable snapshot files and completed
+ * segments, are uploaded and stored only once. The manifest of each backup lists the digest of each
+ * of its files, and content is deleted once no manifest of the same partition references it
+ * anymore.
+ *
+ * <p>The layout of the content consists of the following elements:
+ *
+ * <ul>
+ *   <li>{@code "objects"}
+ *   <li>{@code partitionId}
+ *   <li>{@code digest}
+ * </ul>
+ *
+ * Content is scoped by partition, as all brokers replicating a partition back up mostly the same
+ * files, but never files of other partitions. Keeping the scope small also keeps the number of
+ * manifests to consider on deletion small.
+ *
+ * <p>Concurrent saves and deletes of backups of the same partition may race: content which a save
+ * found to exist already may be deleted by a deletion which listed the manifests before the
+ * manifest of the new backup was written. Stores must therefore {@link #verifySaved verify} that
+ * all content of a backup is still stored once it was saved, and only complete the backup
+ * afterwards; content deleted in the meantime is uploaded again.
+ */
+public final class ContentAddressedFileSetManager {
+  public static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = 8;
+  public static final String ERROR_MSG_CORRUPTED_CONTENT =
+      "Expected file '%s' of backup '%s' to have digest '%s', but downloaded content has '%s'";
+
+  private static final String CONTENT_KEY_FORMAT = "objects/%d/%s";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final HexFormat HEX = HexFormat.of();
+
+  private final ContentStorage storage;
+  private final int maxConcurrentTransfers;
+
+  public ContentAddressedFileSetManager(final ContentStorage storage) {
+    this(storage, DEFAULT_MAX_CONCURRENT_TRANSFERS);
+  }
+
+  public ContentAddressedFileSetManager(
+      final ContentStorage storage, final int maxConcurrentTransfers) {
+    this.storage = Objects.requireNonNull(storage);
+    this.maxConcurrentTransfers = Math.max(1, maxConcurrentTransfers);
+  }
+
+  /**
+   * Computes the digests of all files of the given file set, which must be done before the initial
+   * manifest is written.
+   *
+   * @throws UncheckedIOException if a file cannot be read, e.g. it does not exist
+   */
+  public FileSet digest(final NamedFileSet fileSet) {
+    if (fileSet == null) {
+      return new FileSet(List.of());
+    }
+
+    final Map<String, String> digests = new ConcurrentHashMap<>();
+    runConcurrently(
+        fileSet.namedFiles().entrySet().stream()
+            .<Runnable>map(file -> () -> digests.put(file.getKey(), digest(file.getValue()))));
+
+    return new FileSet(
+        fileSet.namedFiles().keySet().stream()
+            .map(name -> new NamedFile(name, digests.get(name)))
+            .toList());
+  }
+
+  /**
+   * Uploads the content of all files of the given file set which is not stored yet. Files with the
+   * same content are uploaded only once.
+   *
+   * @param id the backup the file set belongs to
+   * @param fileSet the files to upload
+   * @param digests the digests of the files, as returned by {@link #digest(NamedFileSet)}
+   */
+  public void save(final BackupIdentifier id, final NamedFileSet fileSet, final FileSet digests) {
+    if (fileSet == null) {
+      return;
+    }
+
+    uploadMissing(id, fileSet, digests);
+  }
+
+  /**
+   * Checks that the content of all files of the given file set is still stored, and uploads any
+   * content which was deleted since it was saved, e.g. by a concurrent deletion of another backup
+   * which did not see the manifest of this backup yet. Must be called after all file sets of a
+   * backup were saved, right before its manifest is completed.
+   *
+   * @param id the backup the file set belongs to
+   * @param fileSet the files which were saved
+   * @param digests the digests of the files, as returned by {@link #digest(NamedFileSet)}
+   */
+  public void verifySaved(
+      final BackupIdentifier id, final NamedFileSet fileSet, final FileSet digests) {
+    if (fileSet == null) {
+      return;
+    }
+
+    uploadMissing(id, fileSet, digests);
+  }
+
+  /**
+   * Downloads the content of all files of the given file set into the target folder. The digest of
+   * each file is computed while it is written, without reading it again, and verified as soon as it
+   * is downloaded, so a corrupted backup is detected before it is used.
+   *
+   * @throws CorruptedContent if the content of a downloaded file does not match its digest
+   */
+  public NamedFileSet restore(
+      final BackupIdentifier id, final FileSet fileSet, final Path targetFolder) {
+    final var pathByName =
+        fileSet.files().stream()
+            .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
+
+    runConcurrently(
+        fileSet.files().stream()
+            .<Runnable>map(
+                file ->
+                    () -> {
+                      final var target = pathByName.get(file.name());
+                      final var actualDigest =
+                          download(contentKey(id.partitionId(), file.digest()), target);
+                      if (!actualDigest.equals(file.digest())) {
+                        throw new CorruptedContent(
+                            ERROR_MSG_CORRUPTED_CONTENT.formatted(
+                                file.name(), id, file.digest(), actualDigest));
+                      }
+                    }));
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /**
+   * Deletes the content of the given deleted manifest which is not referenced by any of the
+   * remaining manifests. The remaining manifests must include all manifests of the partition,
+   * regardless of their status, since in progress backups reference content which may be uploaded
+   * right now.
+   */
+  public void deleteUnreferenced(
+      final Manifest deletedManifest, final Collection<Manifest> remainingManifests) {
+    final int partitionId = deletedManifest.id().partitionId();
+    deleteUnreferenced(
+        partitionId,
+        digestsOf(deletedManifest),
+        remainingManifests.stream()
+            .filter(manifest -> manifest.id().partitionId() == partitionId)
+            .filter(manifest -> !manifest.id().equals(deletedManifest.id()))
+            .flatMap(ContentAddressedFileSetManager::digestsOf));
+  }
+
+  /**
+   * Deletes the given content of a deleted backup of the given partition which is not referenced by
+   * any remaining backup of the same partition. For stores whose manifests list the digests of
+   * their files in their own format; see {@link #deleteUnreferenced(Manifest, Collection)}.
+   */
+  public void deleteUnreferenced(
+      final int partitionId,
+      final Stream<String> deletedDigests,
+      final Stream<String> remainingDigests) {
+    final Set<String> unreferenced = deletedDigests.collect(Collectors.toCollection(HashSet::new));
+    remainingDigests.forEach(unreferenced::remove);
+
+    runConcurrently(
+        unreferenced.stream()
+            .<Runnable>map(digest -> () -> storage.delete(contentKey(partitionId, digest))));
+  }
+
+  private void uploadMissing(
+      final BackupIdentifier id, final NamedFileSet fileSet, final FileSet digests) {
+    final var paths = fileSet.namedFiles();
+    final var pathByDigest = new HashMap<String, Path>();
+    for (final var file : digests.files()) {
+      pathByDigest.putIfAbsent(file.digest(), paths.get(file.name()));
+    }
+
+    runConcurrently(
+        pathByDigest.entrySet().stream()
+            .<Runnable>map(
+                entry ->
+                    () -> {
+                      final var key = contentKey(id.partitionId(), entry.getKey());
+                      if (!storage.exists(key)) {
+                        storage.upload(key, entry.getValue());
+                      }
+                    }));
+  }
+
+  /** Downloads the given content to the target file and returns the digest of what was written. */
+  private String download(final String key, final Path target) {
+    final var digest = newDigest();
+    try (final var input = new DigestInputStream(storage.download(key), digest)) {
+      Files.createDirectories(target.getParent());
+      Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HEX.formatHex(digest.digest());
+  }
+
+  private static Stream<String> digestsOf(final Manifest manifest) {
+    return Stream.of(manifest.snapshot(), manifest.segments())
+        .filter(Objects::nonNull)
+        .flatMap(fileSet -> fileSet.files().stream())
+        .map(NamedFile::digest)
+        .filter(Objects::nonNull);
+  }
+
+  private static String contentKey(final int partitionId, final String digest) {
+    return CONTENT_KEY_FORMAT.formatted(partitionId, digest);
+  }
+
+  private static String digest(final Path file) {
+    final var digest = newDigest();
+    try (final var input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return HEX.formatHex(digest.digest());
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Runs the given tasks on virtual threads, at most {@link #maxConcurrentTransfers} at a time, and
+   * waits until all are done. If any task fails, its exception is rethrown as is.
+   */
+  private void runConcurrently(final Stream<Runnable> tasks) {
+    final var permits = new Semaphore(maxConcurrentTransfers);
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var futures =
+          tasks
+              .map(
+                  task ->
+                      CompletableFuture.runAsync(
+                          () -> {
+                            permits.acquireUninterruptibly();
+                            try {
+                              task.run();
+                            } finally {
+                              permits.release();
+                            }
+                          },
+                          executor))
+              .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(futures).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Minimal object storage abstraction used by {@link ContentAddressedFileSetManager}. Keys are
+ * relative to the base path of the backup store, and the content stored under a key is never
+ * modified once written, so implementations may treat an upload to an existing key as a no-op.
+ *
+ * <p>Implementations must be thread-safe, as content is transferred concurrently.
+ */
+public interface ContentStorage {
+
+  /**
+   * @return true if content is stored under the given key
+   */
+  boolean exists(String key);
+
+  /** Uploads the given file under the given key, unless content exists already under the key. */
+  void upload(String key, Path source);
+
+  /**
+   * Opens the content stored under the given key for reading. The caller is responsible for closing
+   * the returned stream.
+   */
+  InputStream download(String key);
+
+  /** Deletes the content stored under the given key, if any. */
+  void delete(String key);
+}
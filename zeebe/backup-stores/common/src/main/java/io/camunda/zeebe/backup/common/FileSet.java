@@ -7,12 +7,18 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-/** FileSet use in Manifest serialization, in order to list all stored files. */
+/**
+ * FileSet use in Manifest serialization, in order to list all stored files.
+ *
+ * <p>Files of backups taken by content addressing stores also have a digest of their content, by
+ * which the content is stored. Manifests of older backups only list the file names.
+ */
 public record FileSet(List<NamedFile> files) {
 
   public static final String ERROR_MSG_UNIQUE_FILES =
@@ -35,6 +41,14 @@ public record FileSet(List<NamedFile> files) {
     }
   }
 
+  /**
+   * @return true if all files have a digest, i.e. their content is stored by digest and not per
+   *     backup
+   */
+  public boolean isContentAddressed() {
+    return files.stream().allMatch(file -> file.digest() != null);
+  }
+
   public static FileSet of(final NamedFileSet fileSet) {
     if (fileSet == null) {
       return new FileSet(List.of());
@@ -43,9 +57,14 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  public record NamedFile(String name, String digest) {
+    @JsonCreator
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
   }
 }
@@ -21,13 +21,18 @@ import java.util.Optional;
 public sealed interface Manifest {
 
   static InProgressManifest createInProgress(final Backup backup) {
+    return createInProgress(backup, FileSet.of(backup.snapshot()), FileSet.of(backup.segments()));
+  }
+
+  static InProgressManifest createInProgress(
+      final Backup backup, final FileSet snapshot, final FileSet segments) {
     final var creationTime = Instant.now();
     return new ManifestImpl(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
         StatusCode.IN_PROGRESS,
-        FileSet.of(backup.snapshot()),
-        FileSet.of(backup.segments()),
+        snapshot,
+        segments,
         creationTime,
         creationTime);
   }
@@ -54,6 +59,16 @@ public sealed interface Manifest {
 
   Instant modifiedAt();
 
+  /**
+   * @return the snapshot files of the backup, or null if the manifest was created as failed
+   */
+  FileSet snapshot();
+
+  /**
+   * @return the segment files of the backup, or null if the manifest was created as failed
+   */
+  FileSet segments();
+
   InProgressManifest asInProgress();
 
   CompletedManifest asCompleted();
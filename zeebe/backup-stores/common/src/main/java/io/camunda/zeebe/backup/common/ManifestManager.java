@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads and writes the manifests of backups as JSON, on top of a {@link ManifestStorage}. Manifests
+ * are only completed if they were not modified since they were created, e.g. marked as failed,
+ * which is detected by the version of the stored manifest.
+ */
+public final class ManifestManager {
+
+  public static final String ERROR_MSG_MANIFEST_ALREADY_EXISTS =
+      "Expected to create new manifest for backup '%s', but already exists.";
+  public static final String ERROR_MSG_MANIFEST_MODIFICATION =
+      "Expected to complete manifest for backup '%s', but modification was detected unexpectedly.";
+  public static final String ERROR_MSG_DELETE_IN_PROGRESS =
+      "Cannot delete Backup with id '%s' while saving is in progress.";
+  public static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+
+  /**
+   * The key of a manifest consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code "manifests"}
+   *   <li>{@code partitionId}
+   *   <li>{@code checkpointId}
+   *   <li>{@code nodeId}
+   *   <li>{@code "manifest.json"}
+   * </ul>
+   */
+  private static final String MANIFEST_KEY_FORMAT = "manifests/%s/%s/%s/manifest.json";
+
+  private static final String MANIFESTS_ROOT = "manifests/";
+
+  private final ManifestStorage storage;
+
+  public ManifestManager(final ManifestStorage storage) {
+    this.storage = Objects.requireNonNull(storage);
+  }
+
+  public PersistedManifest createInitialManifest(final Backup backup) {
+    return createInitialManifest(Manifest.createInProgress(backup));
+  }
+
+  /**
+   * Writes the initial manifest of a backup.
+   *
+   * @throws UnexpectedManifestState if a manifest of the backup exists already
+   */
+  public PersistedManifest createInitialManifest(final InProgressManifest manifest) {
+    final var version = storage.create(manifestKey(manifest.id()), serialize(manifest));
+    if (version == null) {
+      throw new UnexpectedManifestState(ERROR_MSG_MANIFEST_ALREADY_EXISTS.formatted(manifest.id()));
+    }
+
+    return new PersistedManifest(version, manifest);
+  }
+
+  /**
+   * Completes the given manifest, unless it was modified since it was created, e.g. marked as
+   * failed.
+   *
+   * @throws UnexpectedManifestState if the manifest was modified since it was created
+   */
+  public void completeManifest(final PersistedManifest persistedManifest) {
+    final var completed = persistedManifest.manifest().complete();
+    if (!storage.replace(
+        manifestKey(completed.id()), serialize(completed), persistedManifest.version())) {
+      throw new UnexpectedManifestState(ERROR_MSG_MANIFEST_MODIFICATION.formatted(completed.id()));
+    }
+  }
+
+  /**
+   * @return the manifest of the given backup, or null if it does not exist
+   */
+  public Manifest getManifest(final BackupIdentifier id) {
+    return readManifest(manifestKey(id));
+  }
+
+  public void markAsFailed(final BackupIdentifier id, final String failureReason) {
+    final var existingManifest = getManifest(id);
+    if (existingManifest != null) {
+      markAsFailed(existingManifest, failureReason);
+    } else if (storage.create(manifestKey(id), serialize(Manifest.createFailed(id))) == null) {
+      // the manifest was created concurrently
+      markAsFailed(getManifest(id), failureReason);
+    }
+  }
+
+  public void markAsFailed(final Manifest existingManifest, final String failureReason) {
+    final var updatedManifest =
+        switch (existingManifest.statusCode()) {
+          case FAILED -> existingManifest.asFailed();
+          case COMPLETED -> existingManifest.asCompleted().fail(failureReason);
+          case IN_PROGRESS -> existingManifest.asInProgress().fail(failureReason);
+        };
+
+    if (existingManifest != updatedManifest) {
+      storage.write(manifestKey(existingManifest.id()), serialize(updatedManifest));
+    }
+  }
+
+  public Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    final var keyPattern = wildcardPattern(wildcard);
+    return storage.list(wildcardPrefix(wildcard)).stream()
+        .filter(keyPattern)
+        .parallel()
+        .map(this::readManifest)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  /**
+   * Deletes the manifest of the given backup, if it exists.
+   *
+   * @throws UnexpectedManifestState if the backup is still in progress
+   */
+  public void deleteManifest(final BackupIdentifier id) {
+    final var manifest = getManifest(id);
+    if (manifest == null) {
+      return;
+    } else if (manifest.statusCode() == StatusCode.IN_PROGRESS) {
+      throw new UnexpectedManifestState(ERROR_MSG_DELETE_IN_PROGRESS.formatted(id));
+    }
+
+    storage.delete(manifestKey(id));
+  }
+
+  public static String manifestKey(final BackupIdentifier id) {
+    return MANIFEST_KEY_FORMAT.formatted(id.partitionId(), id.checkpointId(), id.nodeId());
+  }
+
+  private Manifest readManifest(final String key) {
+    final var content = storage.read(key);
+    if (content == null) {
+      return null;
+    }
+
+    try {
+      return MAPPER.readValue(content.content(), Manifest.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] serialize(final Manifest manifest) {
+    try {
+      return MAPPER.writeValueAsBytes(manifest);
+    } catch (final JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Tries to build the longest possible prefix based on the given wildcard. If the first component
+   * of prefix is not present in the wildcard, the prefix will be empty. If the second component of
+   * the prefix is empty, the prefix will only contain the first prefix component and so forth.
+   */
+  private static String wildcardPrefix(final BackupIdentifierWildcard wildcard) {
+    //noinspection OptionalGetWithoutIsPresent -- checked by takeWhile
+    return Stream.of(wildcard.partitionId(), wildcard.checkpointId(), wildcard.nodeId())
+        .takeWhile(Optional::isPresent)
+        .map(Optional::get)
+        .map(Number::toString)
+        .collect(Collectors.joining("/", MANIFESTS_ROOT, ""));
+  }
+
+  private static Predicate<String> wildcardPattern(final BackupIdentifierWildcard wildcard) {
+    return Pattern.compile(
+            MANIFEST_KEY_FORMAT.formatted(
+                wildcard.partitionId().map(Number::toString).orElse("\\d+"),
+                wildcard.checkpointId().map(Number::toString).orElse("\\d+"),
+                wildcard.nodeId().map(Number::toString).orElse("\\d+")))
+        .asMatchPredicate();
+  }
+
+  /**
+   * A manifest as it was written, with the version of the stored manifest.
+   *
+   * @param version the version of the stored manifest, see {@link ManifestStorage}
+   * @param manifest the written manifest
+   */
+  public record PersistedManifest(String version, InProgressManifest manifest) {}
+}
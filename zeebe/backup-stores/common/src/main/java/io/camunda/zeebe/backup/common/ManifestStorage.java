@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.util.Collection;
+
+/**
+ * Minimal object storage abstraction used by {@link ManifestManager}. Keys are relative to the base
+ * path of the backup store. Every write results in a new version of the stored content, which is
+ * used to detect concurrent modifications, e.g. the generation of an object or its ETag.
+ *
+ * <p>Implementations must be thread-safe.
+ */
+public interface ManifestStorage {
+
+  /**
+   * @return the content stored under the given key and its version, or null if there is none
+   */
+  VersionedContent read(String key);
+
+  /**
+   * Stores the given content under the given key, unless content exists already under the key.
+   *
+   * @return the version of the stored content, or null if content exists already
+   */
+  String create(String key, byte[] content);
+
+  /**
+   * Replaces the content stored under the given key, if its version is still the expected one.
+   *
+   * @return true if the content was replaced, false if its version changed
+   */
+  boolean replace(String key, byte[] content, String expectedVersion);
+
+  /** Stores the given content under the given key, replacing any existing content. */
+  void write(String key, byte[] content);
+
+  /**
+   * @return the keys of all content stored under keys starting with the given prefix
+   */
+  Collection<String> list(String prefix);
+
+  /** Deletes the content stored under the given key, if any. */
+  void delete(String key);
+
+  record VersionedContent(byte[] content, String version) {}
+}
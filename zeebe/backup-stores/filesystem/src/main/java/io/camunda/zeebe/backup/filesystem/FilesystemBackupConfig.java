@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import java.util.Objects;
+
+/**
+ * @param basePath the directory all backups are stored in, e.g. a mounted network share
+ */
+public record FilesystemBackupConfig(String basePath) {
+
+  public FilesystemBackupConfig {
+    Objects.requireNonNull(basePath, "Base path of the filesystem backup store must be set.");
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSetManager;
+import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.ManifestManager;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link BackupStore} which stores backups in a directory, e.g. a mounted network share. Manifests
+ * are stored under {@code basePath/manifests/partitionId/checkpointId/nodeId}, and the files of all
+ * backups are stored by their content, see {@link ContentAddressedFileSetManager}.
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  public static final String ERROR_MSG_BACKUP_NOT_FOUND =
+      "Expected to restore from backup with id '%s', but does not exist.";
+  public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
+      "Expected to restore from completed backup with id '%s', but was in state '%s'";
+  private static final Logger LOG = LoggerFactory.getLogger(FilesystemBackupStore.class);
+  private final ExecutorService executor;
+  private final ManifestManager manifestManager;
+  private final ContentAddressedFileSetManager contentManager;
+
+  public FilesystemBackupStore(final FilesystemBackupConfig config) {
+    final var basePath = Path.of(config.basePath());
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    manifestManager = new ManifestManager(new FilesystemManifestStorage(basePath));
+    contentManager = new ContentAddressedFileSetManager(new FilesystemContentStorage(basePath));
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var snapshot = contentManager.digest(backup.snapshot());
+          final var segments = contentManager.digest(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(
+                  Manifest.createInProgress(backup, snapshot, segments));
+          try {
+            contentManager.save(backup.id(), backup.snapshot(), snapshot);
+            contentManager.save(backup.id(), backup.segments(), segments);
+            contentManager.verifySaved(backup.id(), backup.snapshot(), snapshot);
+            contentManager.verifySaved(backup.id(), backup.segments(), segments);
+            manifestManager.completeManifest(persistedManifest);
+          } catch (final Exception e) {
+            manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
+            throw e;
+          }
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return BackupStatusImpl.doesNotExist(id);
+          }
+          return Manifest.toStatus(manifest);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    return CompletableFuture.supplyAsync(
+        () -> manifestManager.listManifests(wildcard).stream().map(Manifest::toStatus).toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return;
+          }
+
+          manifestManager.deleteManifest(id);
+          contentManager.deleteUnreferenced(
+              manifest,
+              manifestManager.listManifests(
+                  new BackupIdentifierWildcardImpl(
+                      Optional.empty(), Optional.of(id.partitionId()), Optional.empty())));
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            throw new UnexpectedManifestState(ERROR_MSG_BACKUP_NOT_FOUND.formatted(id));
+          }
+          return switch (manifest.statusCode()) {
+            case FAILED, IN_PROGRESS ->
+                throw new UnexpectedManifestState(
+                    ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE.formatted(id, manifest.statusCode()));
+            case COMPLETED -> {
+              final var completed = manifest.asCompleted();
+              final var snapshot = contentManager.restore(id, completed.snapshot(), targetFolder);
+              final var segments = contentManager.restore(id, completed.segments(), targetFolder);
+              yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+            }
+          };
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          manifestManager.markAsFailed(id, failureReason);
+          return BackupStatusCode.FAILED;
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              LOG.warn("Failed to orderly shutdown filesystem store executor within one minute.");
+              executor.shutdownNow();
+            }
+          } catch (final Exception e) {
+            throw new RuntimeException(e);
+          }
+        });
+  }
+}
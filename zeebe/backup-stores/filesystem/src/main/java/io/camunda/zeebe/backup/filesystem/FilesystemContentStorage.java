@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.common.ContentStorage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores content addressed backup files as regular files. Content is copied to a temporary file
+ * first, flushed and then moved atomically into place, such that a file under a key is always
+ * complete.
+ */
+final class FilesystemContentStorage implements ContentStorage {
+  private final Path root;
+
+  FilesystemContentStorage(final Path root) {
+    this.root = root;
+  }
+
+  @Override
+  public boolean exists(final String key) {
+    return Files.exists(root.resolve(key));
+  }
+
+  @Override
+  public void upload(final String key, final Path source) {
+    final var target = root.resolve(key);
+    try {
+      Files.createDirectories(target.getParent());
+      final var temporary =
+          Files.createTempFile(target.getParent(), target.getFileName() + "-", "");
+      try {
+        Files.copy(source, temporary, StandardCopyOption.REPLACE_EXISTING);
+        try (final var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+          channel.force(true);
+        }
+        // if the same content was stored concurrently, replacing it is harmless
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public InputStream download(final String key) {
+    try {
+      return Files.newInputStream(root.resolve(key));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void delete(final String key) {
+    try {
+      Files.deleteIfExists(root.resolve(key));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import io.camunda.zeebe.backup.common.ManifestStorage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Stores manifests as regular files. Updates are written to a temporary file first and then moved
+ * into place atomically, such that readers never see a partially written manifest. The version of a
+ * manifest is the digest of its content.
+ *
+ * <p>Updates of existing manifests are synchronized, as a store is expected to be the only writer
+ * of the backups of its broker.
+ */
+final class FilesystemManifestStorage implements ManifestStorage {
+  private final Path root;
+
+  FilesystemManifestStorage(final Path root) {
+    this.root = root;
+  }
+
+  @Override
+  public VersionedContent read(final String key) {
+    try {
+      final var content = Files.readAllBytes(root.resolve(key));
+      return new VersionedContent(content, version(content));
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** The manifest is linked into place, which fails atomically if a manifest exists already. */
+  @Override
+  public String create(final String key, final byte[] content) {
+    final var path = root.resolve(key);
+    try {
+      Files.createDirectories(path.getParent());
+      final var temporary = writeTemporary(path, content);
+      try {
+        Files.createLink(path, temporary);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+      return version(content);
+    } catch (final FileAlreadyExistsException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized boolean replace(
+      final String key, final byte[] content, final String expectedVersion) {
+    final var current = read(key);
+    if (current == null || !current.version().equals(expectedVersion)) {
+      return false;
+    }
+
+    write(key, content);
+    return true;
+  }
+
+  @Override
+  public synchronized void write(final String key, final byte[] content) {
+    final var path = root.resolve(key);
+    try {
+      Files.createDirectories(path.getParent());
+      final var temporary = writeTemporary(path, content);
+      Files.move(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Only walks the deepest directory which contains all keys with the given prefix, i.e. the prefix
+   * up to its last separator.
+   */
+  @Override
+  public Collection<String> list(final String prefix) {
+    final var directory = root.resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1));
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+
+    try (final var files = Files.walk(directory)) {
+      return files
+          .filter(Files::isRegularFile)
+          .map(this::key)
+          .filter(key -> key.startsWith(prefix))
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public synchronized void delete(final String key) {
+    try {
+      Files.deleteIfExists(root.resolve(key));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String key(final Path path) {
+    return root.relativize(path).toString().replace(root.getFileSystem().getSeparator(), "/");
+  }
+
+  private Path writeTemporary(final Path path, final byte[] content) throws IOException {
+    final var temporary = Files.createTempFile(path.getParent(), path.getFileName() + "-", "");
+    Files.write(temporary, content);
+    try (final var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    }
+    return temporary;
+  }
+
+  private static String version(final byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.CorruptedContent;
+import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSetManager;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit {
+  private @TempDir Path basePath;
+  private @TempDir Path sourcePath;
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store = new FilesystemBackupStore(new FilesystemBackupConfig(basePath.toString()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public BackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return UnexpectedManifestState.class;
+  }
+
+  @Override
+  public Class<? extends Exception> getFileNotFoundExceptionClass() {
+    return NoSuchFileException.class;
+  }
+
+  @Test
+  void shouldStoreUnchangedFilesOnlyOnce() throws IOException {
+    // given
+    final var sharedSegment = writeFile("shared-segment", "shared");
+    final var firstSegment = writeFile("segment-1", "first");
+    final var secondSegment = writeFile("segment-2", "second");
+    final var first = backup(1, Map.of("shared-segment", sharedSegment, "segment-1", firstSegment));
+    final var second =
+        backup(2, Map.of("shared-segment", sharedSegment, "segment-2", secondSegment));
+    store.save(first).join();
+
+    // when
+    store.save(second).join();
+
+    // then
+    assertThat(storedObjects()).hasSize(3);
+  }
+
+  @Test
+  void shouldDeleteOnlyUnreferencedContent(@TempDir final Path targetPath) throws IOException {
+    // given
+    final var sharedSegment = writeFile("shared-segment", "shared");
+    final var firstSegment = writeFile("segment-1", "first");
+    final var secondSegment = writeFile("segment-2", "second");
+    final var first = backup(1, Map.of("shared-segment", sharedSegment, "segment-1", firstSegment));
+    final var second =
+        backup(2, Map.of("shared-segment", sharedSegment, "segment-2", secondSegment));
+    store.save(first).join();
+    store.save(second).join();
+
+    // when
+    store.delete(first.id()).join();
+
+    // then
+    assertThat(storedObjects()).hasSize(2);
+    final var restored = store.restore(second.id(), targetPath).join();
+    assertThat(restored.segments().namedFiles()).containsOnlyKeys("shared-segment", "segment-2");
+    assertThat(targetPath.resolve("segment-2")).hasContent("second");
+  }
+
+  @Test
+  void shouldDeleteAllContentOfLastBackup() throws IOException {
+    // given
+    final var backup = backup(1, Map.of("segment-1", writeFile("segment-1", "first")));
+    store.save(backup).join();
+
+    // when
+    store.delete(backup.id()).join();
+
+    // then
+    assertThat(storedObjects()).isEmpty();
+  }
+
+  @Test
+  void shouldFailToRestoreCorruptedContent(@TempDir final Path targetPath) throws IOException {
+    // given
+    final var backup = backup(1, Map.of("segment-1", writeFile("segment-1", "first")));
+    store.save(backup).join();
+    Files.writeString(storedObjects().getFirst(), "corrupted");
+
+    // when - then
+    assertThat(store.restore(backup.id(), targetPath))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(CorruptedContent.class)
+        .withMessageContaining("segment-1");
+  }
+
+  @Test
+  void shouldUploadContentAgainWhenDeletedConcurrently() throws IOException {
+    // given - the content of the backup was deleted by a deletion which did not see its manifest
+    final var contentManager =
+        new ContentAddressedFileSetManager(new FilesystemContentStorage(basePath));
+    final var backup = backup(1, Map.of("segment-1", writeFile("segment-1", "first")));
+    final var digests = contentManager.digest(backup.segments());
+    contentManager.save(backup.id(), backup.segments(), digests);
+    Files.delete(storedObjects().getFirst());
+
+    // when
+    contentManager.verifySaved(backup.id(), backup.segments(), digests);
+
+    // then
+    assertThat(storedObjects()).hasSize(1);
+    assertThat(storedObjects().getFirst()).hasContent("first");
+  }
+
+  private Backup backup(final long checkpointId, final Map<String, Path> files) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, checkpointId),
+        new BackupDescriptorImpl(Optional.empty(), checkpointId, 1, "test"),
+        new NamedFileSetImpl(Map.of()),
+        new NamedFileSetImpl(files));
+  }
+
+  private Path writeFile(final String name, final String content) throws IOException {
+    return Files.writeString(sourcePath.resolve(name), content);
+  }
+
+  private List<Path> storedObjects() throws IOException {
+    final var objects = basePath.resolve("objects");
+    if (!Files.exists(objects)) {
+      return List.of();
+    }
+
+    try (final Stream<Path> files = Files.walk(objects)) {
+      return files.filter(Files::isRegularFile).toList();
+    }
+  }
+}
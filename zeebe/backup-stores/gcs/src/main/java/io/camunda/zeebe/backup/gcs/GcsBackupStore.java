@@ -17,9 +17,14 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSetManager;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.ManifestManager;
 import io.camunda.zeebe.backup.gcs.GcsBackupStoreException.ConfigurationException;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -44,6 +49,7 @@ public final class GcsBackupStore implements BackupStore {
   private final ExecutorService executor;
   private final ManifestManager manifestManager;
   private final FileSetManager fileSetManager;
+  private final ContentAddressedFileSetManager contentManager;
   private final Storage client;
 
   public GcsBackupStore(final GcsBackupConfig config) {
@@ -55,18 +61,26 @@ public final class GcsBackupStore implements BackupStore {
     final var basePath = Optional.ofNullable(config.basePath()).map(s -> s + "/").orElse("");
     this.client = client;
     executor = Executors.newWorkStealingPool(4);
-    manifestManager = new ManifestManager(client, bucketInfo, basePath);
+    manifestManager = new ManifestManager(new GcsManifestStorage(client, bucketInfo, basePath));
     fileSetManager = new FileSetManager(client, bucketInfo, basePath);
+    contentManager =
+        new ContentAddressedFileSetManager(new GcsContentStorage(client, bucketInfo, basePath));
   }
 
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
     return CompletableFuture.runAsync(
         () -> {
-          final var persistedManifest = manifestManager.createInitialManifest(backup);
+          final var snapshot = contentManager.digest(backup.snapshot());
+          final var segments = contentManager.digest(backup.segments());
+          final var persistedManifest =
+              manifestManager.createInitialManifest(
+                  Manifest.createInProgress(backup, snapshot, segments));
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            contentManager.save(backup.id(), backup.snapshot(), snapshot);
+            contentManager.save(backup.id(), backup.segments(), segments);
+            contentManager.verifySaved(backup.id(), backup.snapshot(), snapshot);
+            contentManager.verifySaved(backup.id(), backup.segments(), segments);
             manifestManager.completeManifest(persistedManifest);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest(), e.getMessage());
@@ -100,9 +114,17 @@ public final class GcsBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
+          final var manifest = manifestManager.getManifest(id);
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          if (manifest != null) {
+            contentManager.deleteUnreferenced(
+                manifest,
+                manifestManager.listManifests(
+                    new BackupIdentifierWildcardImpl(
+                        Optional.empty(), Optional.of(id.partitionId()), Optional.empty())));
+          }
         },
         executor);
   }
@@ -122,11 +144,9 @@ public final class GcsBackupStore implements BackupStore {
             case COMPLETED -> {
               final var completed = manifest.asCompleted();
               final var snapshot =
-                  fileSetManager.restore(
-                      id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
+                  restore(id, SNAPSHOT_FILESET_NAME, completed.snapshot(), targetFolder);
               final var segments =
-                  fileSetManager.restore(
-                      id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
+                  restore(id, SEGMENTS_FILESET_NAME, completed.segments(), targetFolder);
               yield new BackupImpl(id, manifest.descriptor(), snapshot, segments);
             }
           };
@@ -134,6 +154,18 @@ public final class GcsBackupStore implements BackupStore {
         executor);
   }
 
+  /** Backups taken before files were stored by their content are restored from their own files. */
+  private NamedFileSet restore(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    if (fileSet.isContentAddressed()) {
+      return contentManager.restore(id, fileSet, targetFolder);
+    }
+    return fileSetManager.restore(id, fileSetName, fileSet, targetFolder);
+  }
+
   @Override
   public CompletableFuture<BackupStatusCode> markFailed(
       final BackupIdentifier id, final String failureReason) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.gcs;
+
+import static io.camunda.zeebe.backup.gcs.GcsManifestStorage.PRECONDITION_FAILED;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
+import io.camunda.zeebe.backup.common.ContentStorage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+
+/**
+ * Stores content addressed backup files as blobs. Larger files are uploaded by the client in chunks
+ * of {@link #UPLOAD_BUFFER_SIZE} through a resumable upload.
+ */
+final class GcsContentStorage implements ContentStorage {
+  static final int UPLOAD_BUFFER_SIZE = 16 * 1024 * 1024;
+
+  private final Storage client;
+  private final BucketInfo bucketInfo;
+  private final String basePath;
+
+  GcsContentStorage(final Storage client, final BucketInfo bucketInfo, final String basePath) {
+    this.client = client;
+    this.bucketInfo = bucketInfo;
+    this.basePath = basePath;
+  }
+
+  @Override
+  public boolean exists(final String key) {
+    return client.get(blobId(key)) != null;
+  }
+
+  @Override
+  public void upload(final String key, final Path source) {
+    final var blobInfo =
+        BlobInfo.newBuilder(blobId(key)).setContentType("application/octet-stream").build();
+    try {
+      client.createFrom(blobInfo, source, UPLOAD_BUFFER_SIZE, BlobWriteOption.doesNotExist());
+    } catch (final StorageException e) {
+      // the same content was uploaded concurrently, e.g. by another broker
+      if (e.getCode() != PRECONDITION_FAILED) {
+        throw e;
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public InputStream download(final String key) {
+    return Channels.newInputStream(client.reader(blobId(key)));
+  }
+
+  @Override
+  public void delete(final String key) {
+    client.delete(blobId(key));
+  }
+
+  private BlobId blobId(final String key) {
+    return BlobId.of(bucketInfo.getName(), basePath + key);
+  }
+}
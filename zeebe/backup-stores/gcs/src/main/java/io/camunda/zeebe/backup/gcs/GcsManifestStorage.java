@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.gcs;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BucketInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.StorageException;
+import io.camunda.zeebe.backup.common.ManifestStorage;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+/** Stores manifests as blobs. The version of a manifest is the generation of its blob. */
+final class GcsManifestStorage implements ManifestStorage {
+  static final int PRECONDITION_FAILED = 412;
+
+  private final Storage client;
+  private final BucketInfo bucketInfo;
+  private final String basePath;
+
+  GcsManifestStorage(final Storage client, final BucketInfo bucketInfo, final String basePath) {
+    this.client = client;
+    this.bucketInfo = bucketInfo;
+    this.basePath = basePath;
+  }
+
+  @Override
+  public VersionedContent read(final String key) {
+    final var blob = client.get(blobId(key));
+    if (blob == null) {
+      return null;
+    }
+
+    return new VersionedContent(blob.getContent(), String.valueOf(blob.getGeneration()));
+  }
+
+  @Override
+  public String create(final String key, final byte[] content) {
+    try {
+      final var blob = client.create(blobInfo(key), content, BlobTargetOption.doesNotExist());
+      return String.valueOf(blob.getGeneration());
+    } catch (final StorageException e) {
+      if (e.getCode() == PRECONDITION_FAILED) { // blob must already exist
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean replace(final String key, final byte[] content, final String expectedVersion) {
+    try {
+      client.create(
+          blobInfo(key),
+          content,
+          BlobTargetOption.generationMatch(Long.parseLong(expectedVersion)));
+      return true;
+    } catch (final StorageException e) {
+      if (e.getCode() == PRECONDITION_FAILED) { // blob must have changed
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void write(final String key, final byte[] content) {
+    client.create(blobInfo(key), content);
+  }
+
+  @Override
+  public Collection<String> list(final String prefix) {
+    final var spliterator =
+        Spliterators.spliteratorUnknownSize(
+            client
+                .list(bucketInfo.getName(), BlobListOption.prefix(basePath + prefix))
+                .iterateAll()
+                .iterator(),
+            Spliterator.IMMUTABLE);
+    return StreamSupport.stream(spliterator, false)
+        .map(blob -> blob.getName().substring(basePath.length()))
+        .toList();
+  }
+
+  @Override
+  public void delete(final String key) {
+    client.delete(blobId(key));
+  }
+
+  private BlobId blobId(final String key) {
+    return BlobId.of(bucketInfo.getName(), basePath + key);
+  }
+
+  private BlobInfo blobInfo(final String key) {
+    return BlobInfo.newBuilder(blobId(key)).setContentType("application/json").build();
+  }
+}
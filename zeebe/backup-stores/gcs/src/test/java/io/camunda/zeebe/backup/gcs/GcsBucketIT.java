@@ -31,6 +31,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @Testcontainers
 public class GcsBucketIT {
 
+  // all files in these tests are empty, so their content is stored once under the same digest
+  private static final String EMPTY_CONTENT_DIGEST =
+      "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
   @Container private static final GcsContainer GCS = new GcsContainer();
   private String bucketName;
   private GcsBackupStore store;
@@ -90,10 +94,7 @@ public class GcsBucketIT {
     Assertions.assertThat(blobs)
         .extracting(Blob::getName)
         .containsExactlyInAnyOrder(
-            "contents/2/3/1/segments/segmentFile1",
-            "contents/2/3/1/snapshot/snapshotFile1",
-            "contents/2/3/1/snapshot/snapshotFile2",
-            "manifests/2/3/1/manifest.json");
+            "objects/2/" + EMPTY_CONTENT_DIGEST, "manifests/2/3/1/manifest.json");
   }
 
   @Test
@@ -137,9 +138,6 @@ public class GcsBucketIT {
     Assertions.assertThat(blobs)
         .extracting(Blob::getName)
         .containsExactlyInAnyOrder(
-            "root/contents/2/3/1/segments/segmentFile1",
-            "root/contents/2/3/1/snapshot/snapshotFile1",
-            "root/contents/2/3/1/snapshot/snapshotFile2",
-            "root/manifests/2/3/1/manifest.json");
+            "root/objects/2/" + EMPTY_CONTENT_DIGEST, "root/manifests/2/3/1/manifest.json");
   }
 }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.ManifestManager;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -28,12 +29,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
-final class ManifestManagerTest {
+final class GcsManifestStorageTest {
   @Test
   void shouldCreateInitialManifest() {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
@@ -53,7 +55,7 @@ final class ManifestManagerTest {
     final var persisted = manager.createInitialManifest(backup);
 
     // then
-    Assertions.assertThat(persisted.generation()).isEqualTo(1L);
+    Assertions.assertThat(persisted.version()).isEqualTo("1");
     Assertions.assertThat(persisted.manifest())
         .usingRecursiveComparison()
         .ignoringFields("modifiedAt", "createdAt")
@@ -64,7 +66,8 @@ final class ManifestManagerTest {
   void shouldCompleteManifest() throws IOException {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
@@ -90,7 +93,7 @@ final class ManifestManagerTest {
         .create(
             Mockito.any(BlobInfo.class),
             captor.capture(),
-            Mockito.eq(BlobTargetOption.generationMatch(persisted.generation())));
+            Mockito.eq(BlobTargetOption.generationMatch(Long.parseLong(persisted.version()))));
 
     final var actualManifest = ManifestManager.MAPPER.readValue(captor.getValue(), Manifest.class);
     Assertions.assertThat(actualManifest)
@@ -104,7 +107,8 @@ final class ManifestManagerTest {
   void shouldThrowWhenManifestAlreadyExists() {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
@@ -127,7 +131,8 @@ final class ManifestManagerTest {
   void shouldThrowWhenUnexpectedStorageExceptionOccurs() {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
@@ -150,7 +155,8 @@ final class ManifestManagerTest {
   void shouldThrowWhenManifestChangedBeforeCompletion() {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
@@ -182,7 +188,8 @@ final class ManifestManagerTest {
   void shouldThrowWhenCompletingManifestThrowsUnexpectedStorageException() {
     // given
     final var client = Mockito.mock(Storage.class);
-    final var manager = new ManifestManager(client, BucketInfo.of("bucket"), "basePath");
+    final var manager =
+        new ManifestManager(new GcsManifestStorage(client, BucketInfo.of("bucket"), "basePath"));
     final var backup =
         new BackupImpl(
             new BackupIdentifierImpl(1, 2, 3),
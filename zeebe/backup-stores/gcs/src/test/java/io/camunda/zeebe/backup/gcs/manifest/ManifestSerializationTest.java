@@ -10,7 +10,7 @@ package io.camunda.zeebe.backup.gcs.manifest;
 import static io.camunda.zeebe.backup.common.Manifest.StatusCode.COMPLETED;
 import static io.camunda.zeebe.backup.common.Manifest.StatusCode.FAILED;
 import static io.camunda.zeebe.backup.common.Manifest.StatusCode.IN_PROGRESS;
-import static io.camunda.zeebe.backup.gcs.ManifestManager.MAPPER;
+import static io.camunda.zeebe.backup.common.ManifestManager.MAPPER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
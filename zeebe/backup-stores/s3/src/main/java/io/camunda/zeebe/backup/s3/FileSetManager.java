@@ -21,7 +21,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
 import org.apache.commons.compress.utils.IOUtils;
@@ -29,74 +28,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
-import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
-/** Can save and restore {@link NamedFileSet NamedFileSets}. */
+/**
+ * Can restore {@link NamedFileSet NamedFileSets} of backups which were taken before files were
+ * stored by their content, see {@link S3ContentStorage}, and thus have their own objects.
+ */
 final class FileSetManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
-  private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
   private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
-  private final Semaphore uploadLimit;
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
     this.config = config;
-
-    // We try not to exhaust the available connections by restricting the number of
-    // concurrent uploads to half of the number of available connections.
-    // This should prevent ConnectionAcquisitionTimeout for backups with many and/or large files
-    // where we would otherwise occupy all connections, preventing some uploads from starting.
-    uploadLimit = new Semaphore(Math.max(1, config.maxConcurrentConnections() / 2));
-  }
-
-  CompletableFuture<FileSet> save(final String prefix, final NamedFileSet files) {
-    LOG.debug("Saving {} files to prefix {}", files.files().size(), prefix);
-    return CompletableFutureUtils.mapAsync(
-            files.namedFiles().entrySet(),
-            Entry::getKey,
-            namedFile -> saveFile(prefix, namedFile.getKey(), namedFile.getValue()))
-        .thenApply(FileSet::new);
-  }
-
-  private CompletableFuture<FileSet.FileMetadata> saveFile(
-      final String prefix, final String fileName, final Path filePath) {
-
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
-    }
-
-    return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-        .thenCompose(
-            (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
-              return client
-                  .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                      AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
-            })
-        .whenComplete((success, error) -> uploadLimit.release());
   }
 
   private void cleanupCompressedFile(final Path compressedFile) {
@@ -108,41 +57,6 @@ final class FileSetManager {
     }
   }
 
-  private boolean shouldCompressFile(final Path filePath) {
-    try {
-      return config.compressionAlgorithm().isPresent()
-          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
-    } catch (final IOException e) {
-      LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
-      return false;
-    }
-  }
-
-  private Path compressFile(final Path file, final String algorithm) {
-    try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
-      }
-    } catch (final IOException | CompressorException e) {
-      throw new BackupCompressionFailed(
-          "Failed to compress file %s using %s".formatted(file, algorithm), e);
-    }
-  }
-
   CompletableFuture<NamedFileSet> restore(
       final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
     LOG.debug(
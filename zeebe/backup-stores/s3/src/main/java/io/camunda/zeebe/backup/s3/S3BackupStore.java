@@ -17,13 +17,18 @@ import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.ContentAddressedFileSetManager;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
+import io.camunda.zeebe.backup.s3.manifest.InProgressBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.ValidBackupManifest;
@@ -33,8 +38,12 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -58,19 +67,26 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 /**
  * {@link BackupStore} for S3. Stores all backups in a given bucket.
  *
- * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
- * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ * <p>The manifest of each backup is prefixed by the {@link BackupIdentifier}, with the following
+ * scheme: {@code basePath/partitionId/checkpointId/nodeId}, for example
  *
- * <p>Each backup contains:
+ * <pre>partitionId/checkpointId/nodeId/manifest.json</pre>
  *
- * <ol>
- *   <li>A 'manifest' object, containing {@link Manifest} serialized as JSON, for example
- *       <pre>partitionId/checkpointId/nodeId/manifest.json</pre>
- *   <li>Objects for snapshot files, additionally prefixed with 'snapshot', for example
- *       <pre>partitionId/checkpointId/nodeId/snapshots/snapshot-file-1</pre>
- *   <li>Objects for segment files, additionally prefixed with 'segments', for example
- *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
- * </ol>
+ * <p>The files of all backups are stored by their content, see {@link
+ * ContentAddressedFileSetManager}, for example
+ *
+ * <pre>objects/partitionId/digest</pre>
+ *
+ * <p>Backups taken before files were stored by their content have their own objects for snapshot
+ * files, additionally prefixed with 'snapshot', for example
+ *
+ * <pre>partitionId/checkpointId/nodeId/snapshot/snapshot-file-1</pre>
+ *
+ * and for segment files, additionally prefixed with 'segments', for example
+ *
+ * <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
+ *
+ * These are still restored and deleted with their backup.
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -84,6 +100,8 @@ public final class S3BackupStore implements BackupStore {
   private final S3BackupConfig config;
   private final S3AsyncClient client;
   private final FileSetManager fileSetManager;
+  private final ContentAddressedFileSetManager contentManager;
+  private final ExecutorService executor;
 
   public S3BackupStore(final S3BackupConfig config) {
     this(config, buildClient(config));
@@ -93,6 +111,12 @@ public final class S3BackupStore implements BackupStore {
     this.config = config;
     this.client = client;
     fileSetManager = new FileSetManager(client, config);
+    // We try not to exhaust the available connections by restricting the number of
+    // concurrent transfers to half of the number of available connections.
+    contentManager =
+        new ContentAddressedFileSetManager(
+            new S3ContentStorage(client, config), config.maxConcurrentConnections() / 2);
+    executor = Executors.newVirtualThreadPerTaskExecutor();
     final var basePath = config.basePath();
     backupIdentifierPattern =
         Pattern.compile(
@@ -168,28 +192,46 @@ public final class S3BackupStore implements BackupStore {
   @Override
   public CompletableFuture<Void> save(final Backup backup) {
     LOG.info("Saving {}", backup.id());
-    return updateManifestObject(
-            backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+    final var snapshot =
+        CompletableFuture.supplyAsync(() -> contentManager.digest(backup.snapshot()), executor);
+    final var segments =
+        CompletableFuture.supplyAsync(() -> contentManager.digest(backup.segments()), executor);
+    return CompletableFuture.allOf(snapshot, segments)
         .thenComposeAsync(
-            status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
-
-              return CompletableFuture.allOf(snapshot, segments)
-                  .thenComposeAsync(
-                      ignored ->
-                          updateManifestObject(
-                              backup.id(),
-                              Manifest::expectInProgress,
-                              inProgress ->
-                                  inProgress.asCompleted(snapshot.join(), segments.join())))
-                  .exceptionallyComposeAsync(
-                      throwable ->
-                          updateManifestObject(
-                                  backup.id(), manifest -> manifest.asFailed(throwable))
-                              // Mark the returned future as failed.
-                              .thenCompose(ignore -> CompletableFuture.failedStage(throwable)));
-            })
+            digested ->
+                updateManifestObject(
+                    backup.id(),
+                    Manifest::expectNoBackup,
+                    manifest ->
+                        manifest.asInProgress(
+                            backup,
+                            FileSet.withDigests(snapshot.join()),
+                            FileSet.withDigests(segments.join()))))
+        .thenComposeAsync(
+            status ->
+                CompletableFuture.runAsync(
+                        () -> {
+                          LOG.debug("Saving files of {}", backup.id());
+                          contentManager.save(backup.id(), backup.snapshot(), snapshot.join());
+                          contentManager.save(backup.id(), backup.segments(), segments.join());
+                          contentManager.verifySaved(
+                              backup.id(), backup.snapshot(), snapshot.join());
+                          contentManager.verifySaved(
+                              backup.id(), backup.segments(), segments.join());
+                        },
+                        executor)
+                    .thenComposeAsync(
+                        ignored ->
+                            updateManifestObject(
+                                backup.id(),
+                                Manifest::expectInProgress,
+                                InProgressBackupManifest::asCompleted))
+                    .exceptionallyComposeAsync(
+                        throwable ->
+                            updateManifestObject(
+                                    backup.id(), manifest -> manifest.asFailed(throwable))
+                                // Mark the returned future as failed.
+                                .thenCompose(ignore -> CompletableFuture.failedStage(throwable))))
         // Discard status, it's either COMPLETED or the future is completed exceptionally
         .thenApply(ignored -> null);
   }
@@ -221,11 +263,14 @@ public final class S3BackupStore implements BackupStore {
                     "Can't delete in-progress backup %s, must be marked as failed first"
                         .formatted(manifest.id()));
               } else {
-                return manifest.id();
+                return manifest;
               }
             })
-        .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(
+            manifest ->
+                listBackupObjects(manifest.id())
+                    .thenComposeAsync(this::deleteBackupObjects)
+                    .thenComposeAsync(ignored -> deleteUnreferencedContent(manifest)));
   }
 
   @Override
@@ -236,15 +281,30 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(Manifest::expectCompleted)
         .thenComposeAsync(
             manifest ->
-                fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                restore(id, backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
                     .thenCombineAsync(
-                        fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                        restore(
+                            id,
+                            backupPrefix + SNAPSHOT_PREFIX,
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
 
+  /** Backups taken before files were stored by their content are restored from their own files. */
+  private CompletableFuture<NamedFileSet> restore(
+      final BackupIdentifier id,
+      final String legacyPrefix,
+      final FileSet fileSet,
+      final Path targetFolder) {
+    if (fileSet.isContentAddressed()) {
+      return CompletableFuture.supplyAsync(
+          () -> contentManager.restore(id, fileSet.digests(), targetFolder), executor);
+    }
+    return fileSetManager.restore(legacyPrefix, fileSet, targetFolder);
+  }
+
   @Override
   public CompletableFuture<BackupStatusCode> markFailed(
       final BackupIdentifier id, final String failureReason) {
@@ -255,8 +315,55 @@ public final class S3BackupStore implements BackupStore {
 
   @Override
   public CompletableFuture<Void> closeAsync() {
-    client.close();
-    return CompletableFuture.completedFuture(null);
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              LOG.warn("Failed to orderly shutdown S3 store executor within one minute.");
+              executor.shutdownNow();
+            }
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } finally {
+            client.close();
+          }
+        });
+  }
+
+  /**
+   * Deletes the content of the given deleted backup which is not referenced by any other backup of
+   * the same partition, regardless of its status. Must be called after the manifest of the backup
+   * was deleted.
+   */
+  private CompletableFuture<Void> deleteUnreferencedContent(final Manifest deleted) {
+    if (!(deleted instanceof final ValidBackupManifest deletedManifest)) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final var partitionId = deletedManifest.id().partitionId();
+    return readManifestObjects(
+            new BackupIdentifierWildcardImpl(
+                Optional.empty(), Optional.of(partitionId), Optional.empty()))
+        .thenAcceptAsync(
+            remaining ->
+                contentManager.deleteUnreferenced(
+                    partitionId,
+                    digestsOf(deletedManifest),
+                    remaining.stream()
+                        .filter(ValidBackupManifest.class::isInstance)
+                        .map(ValidBackupManifest.class::cast)
+                        .filter(manifest -> !manifest.id().equals(deletedManifest.id()))
+                        .flatMap(S3BackupStore::digestsOf)),
+            executor);
+  }
+
+  private static Stream<String> digestsOf(final ValidBackupManifest manifest) {
+    return Stream.of(manifest.snapshotFiles(), manifest.segmentFiles())
+        .filter(Objects::nonNull)
+        .flatMap(fileSet -> fileSet.digests().files().stream())
+        .map(NamedFile::digest);
   }
 
   private CompletableFuture<List<ObjectIdentifier>> listBackupObjects(final BackupIdentifier id) {
@@ -381,18 +488,6 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
-    LOG.debug("Saving snapshot files for {}", backup.id());
-    final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
-    return fileSetManager.save(prefix, backup.snapshot());
-  }
-
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
-    LOG.debug("Saving segment files for {}", backup.id());
-    final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
-    return fileSetManager.save(prefix, backup.segments());
-  }
-
   public static S3AsyncClient buildClient(final S3BackupConfig config) {
     final var builder = S3AsyncClient.builder();
 
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import io.camunda.zeebe.backup.common.ContentStorage;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Stores content addressed backup files as objects. If compression is configured, files larger than
+ * {@link #COMPRESSION_SIZE_THRESHOLD} are compressed before they are uploaded, and the algorithm is
+ * stored in the metadata of the object, such that content is always decompressed correctly,
+ * regardless of the current configuration.
+ */
+final class S3ContentStorage implements ContentStorage {
+  static final String COMPRESSION_METADATA_KEY = "compression";
+  private static final Logger LOG = LoggerFactory.getLogger(S3ContentStorage.class);
+  private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
+  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
+  private static final int NOT_FOUND = 404;
+
+  private final S3AsyncClient client;
+  private final S3BackupConfig config;
+  private final String basePath;
+
+  S3ContentStorage(final S3AsyncClient client, final S3BackupConfig config) {
+    this.client = client;
+    this.config = config;
+    basePath = config.basePath().map(base -> base + "/").orElse("");
+  }
+
+  @Override
+  public boolean exists(final String key) {
+    try {
+      join(client.headObject(req -> req.bucket(config.bucketName()).key(basePath + key)));
+      return true;
+    } catch (final S3Exception e) {
+      if (e.statusCode() == NOT_FOUND) {
+        return false;
+      }
+      throw e;
+    }
+  }
+
+  /** If the same content was uploaded concurrently, replacing it is harmless. */
+  @Override
+  public void upload(final String key, final Path source) {
+    if (!shouldCompressFile(source)) {
+      join(
+          client.putObject(
+              put -> put.bucket(config.bucketName()).key(basePath + key),
+              AsyncRequestBody.fromFile(source)));
+      return;
+    }
+
+    final var algorithm = config.compressionAlgorithm().orElseThrow();
+    final var compressed = compressFile(source, algorithm);
+    try {
+      join(
+          client.putObject(
+              put ->
+                  put.bucket(config.bucketName())
+                      .key(basePath + key)
+                      .metadata(Map.of(COMPRESSION_METADATA_KEY, algorithm)),
+              AsyncRequestBody.fromFile(compressed)));
+    } finally {
+      cleanupCompressedFile(compressed);
+    }
+  }
+
+  @Override
+  public InputStream download(final String key) {
+    final var response =
+        join(
+            client.getObject(
+                req -> req.bucket(config.bucketName()).key(basePath + key),
+                AsyncResponseTransformer.toBlockingInputStream()));
+    final var algorithm = response.response().metadata().get(COMPRESSION_METADATA_KEY);
+    try {
+      return decompressed(response, algorithm);
+    } catch (final RuntimeException e) {
+      response.abort();
+      throw e;
+    }
+  }
+
+  @Override
+  public void delete(final String key) {
+    join(client.deleteObject(req -> req.bucket(config.bucketName()).key(basePath + key)));
+  }
+
+  private boolean shouldCompressFile(final Path filePath) {
+    try {
+      return config.compressionAlgorithm().isPresent()
+          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
+    } catch (final IOException e) {
+      LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
+      return false;
+    }
+  }
+
+  private static Path compressFile(final Path file, final String algorithm) {
+    try {
+      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
+      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
+      try (final var input = new BufferedInputStream(Files.newInputStream(file));
+          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
+          final var compressedOutput =
+              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
+        input.transferTo(compressedOutput);
+        return compressedFile;
+      }
+    } catch (final IOException | CompressorException e) {
+      throw new BackupCompressionFailed(
+          "Failed to compress file %s using %s".formatted(file, algorithm), e);
+    }
+  }
+
+  private static void cleanupCompressedFile(final Path compressedFile) {
+    try {
+      Files.delete(compressedFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to clean up temporary file used for compression: {}", compressedFile, e);
+    }
+  }
+
+  private static InputStream decompressed(final InputStream input, final String algorithm) {
+    if (algorithm == null) {
+      return input;
+    }
+
+    try {
+      return new CompressorStreamFactory()
+          .createCompressorInputStream(algorithm, new BufferedInputStream(input));
+    } catch (final CompressorException e) {
+      throw new BackupCompressionFailed(
+          "Failed to decompress content using %s".formatted(algorithm), e);
+    }
+  }
+
+  /** Waits for the given request and rethrows its failure as is, e.g. an {@link S3Exception}. */
+  private static <T> T join(final CompletableFuture<T> request) {
+    try {
+      return request.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +40,18 @@ public record FileSet(Map<String, FileMetadata> files) {
     return new FileSet(savedFiles);
   }
 
+  /**
+   * Constructs a {@link FileSet} of files which are stored by their content, based on their
+   * digests.
+   */
+  public static FileSet withDigests(final io.camunda.zeebe.backup.common.FileSet digests) {
+    final var savedFiles =
+        digests.files().stream()
+            .collect(
+                Collectors.toMap(NamedFile::name, file -> FileMetadata.withDigest(file.digest())));
+    return new FileSet(savedFiles);
+  }
+
   public static FileSet empty() {
     return new FileSet(Map.of());
   }
@@ -47,14 +60,42 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @return true if all files have a digest, i.e. their content is stored by digest and not per
+   *     backup
+   */
+  public boolean isContentAddressed() {
+    return files.values().stream().allMatch(metadata -> metadata.digest().isPresent());
+  }
+
+  /**
+   * @return the digests of all files which are stored by their content
+   */
+  public io.camunda.zeebe.backup.common.FileSet digests() {
+    return new io.camunda.zeebe.backup.common.FileSet(
+        files.entrySet().stream()
+            .filter(file -> file.getValue().digest().isPresent())
+            .map(file -> new NamedFile(file.getKey(), file.getValue().digest().get()))
+            .toList());
+  }
+
+  /**
+   * @param compressionAlgorithm the algorithm the file was compressed with before it was stored per
+   *     backup; files stored by their content record their compression with the content
+   * @param digest the digest of the content of the file, if it is stored by its content
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<String> digest) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
+    }
+
+    public static FileMetadata withDigest(final String digest) {
+      return new FileMetadata(Optional.empty(), Optional.of(digest));
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
@@ -30,6 +30,11 @@ public record InProgressBackupManifest(
     return BackupStatusCode.IN_PROGRESS;
   }
 
+  /** Completes a backup whose files were saved as listed by this manifest. */
+  public CompletedBackupManifest asCompleted() {
+    return asCompleted(snapshotFiles, segmentFiles);
+  }
+
   public CompletedBackupManifest asCompleted(final FileSet snapshot, final FileSet segments) {
     return new CompletedBackupManifest(
         id, descriptor, snapshot, segments, createdAt, Instant.now());
@@ -37,12 +37,20 @@ public record NoBackupManifest(BackupIdentifierImpl id) implements Manifest {
   }
 
   public InProgressBackupManifest asInProgress(final Backup backup) {
+    return asInProgress(
+        backup,
+        FileSet.withoutMetadata(backup.snapshot().names()),
+        FileSet.withoutMetadata(backup.segments().names()));
+  }
+
+  public InProgressBackupManifest asInProgress(
+      final Backup backup, final FileSet snapshotFiles, final FileSet segmentFiles) {
     final var now = Instant.now();
     return new InProgressBackupManifest(
         BackupIdentifierImpl.from(backup.id()),
         BackupDescriptorImpl.from(backup.descriptor()),
-        FileSet.withoutMetadata(backup.snapshot().names()),
-        FileSet.withoutMetadata(backup.segments().names()),
+        snapshotFiles,
+        segmentFiles,
         now,
         now);
   }
@@ -28,6 +28,10 @@ public sealed interface ValidBackupManifest extends Manifest
   @Override
   BackupIdentifier id();
 
+  FileSet snapshotFiles();
+
+  FileSet segmentFiles();
+
   Instant createdAt();
 
   Instant modifiedAt();
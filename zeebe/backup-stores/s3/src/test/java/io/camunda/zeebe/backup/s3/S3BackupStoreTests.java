@@ -10,18 +10,30 @@ package io.camunda.zeebe.backup.s3;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
 import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.stream.Stream;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -78,46 +90,40 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
 
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
-  default void snapshotFilesExist(final Backup backup) {
+  default void snapshotContentExists(final Backup backup) {
     // given
-    final var prefix = getStore().objectPrefix(backup.id()) + S3BackupStore.SNAPSHOT_PREFIX;
-
-    final var expectedObjects =
-        backup.snapshot().names().stream().map(name -> prefix + name).toList();
+    final var expectedObjects = contentObjects(backup, backup.snapshot()).toList();
 
     // when
     getStore().save(backup).join();
 
     // then
-    final var listed =
-        getClient()
-            .listObjectsV2(req -> req.bucket(getConfig().bucketName()).prefix(prefix))
-            .join();
-
-    Assertions.assertThat(listed.contents().stream().map(S3Object::key))
-        .allSatisfy(k -> Assertions.assertThat(k).startsWith(prefix).isIn(expectedObjects));
+    Assertions.assertThat(expectedObjects)
+        .allSatisfy(
+            key ->
+                Assertions.assertThat(
+                        getClient()
+                            .headObject(req -> req.bucket(getConfig().bucketName()).key(key)))
+                    .succeedsWithin(Duration.ofSeconds(10)));
   }
 
   @ParameterizedTest
   @ArgumentsSource(TestBackupProvider.class)
-  default void segmentFilesExist(final Backup backup) {
+  default void segmentContentExists(final Backup backup) {
     // given
-    final var prefix = getStore().objectPrefix(backup.id()) + S3BackupStore.SEGMENTS_PREFIX;
-
-    final var expectedObjects =
-        backup.segments().names().stream().map(name -> prefix + name).toList();
+    final var expectedObjects = contentObjects(backup, backup.segments()).toList();
 
     // when
     getStore().save(backup).join();
 
     // then
-    final var listed =
-        getClient()
-            .listObjectsV2(req -> req.bucket(getConfig().bucketName()).prefix(prefix))
-            .join();
-
-    Assertions.assertThat(listed.contents().stream().map(S3Object::key))
-        .allSatisfy(k -> Assertions.assertThat(k).startsWith(prefix).isIn(expectedObjects));
+    Assertions.assertThat(expectedObjects)
+        .allSatisfy(
+            key ->
+                Assertions.assertThat(
+                        getClient()
+                            .headObject(req -> req.bucket(getConfig().bucketName()).key(key)))
+                    .succeedsWithin(Duration.ofSeconds(10)));
   }
 
   @ParameterizedTest
@@ -127,14 +133,11 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
     final var prefix = getStore().objectPrefix(backup.id());
 
     final var manifest = prefix + S3BackupStore.MANIFEST_OBJECT_KEY;
-    final var snapshotObjects =
-        backup.snapshot().names().stream()
-            .map(name -> prefix + S3BackupStore.SNAPSHOT_PREFIX + name);
-    final var segmentObjects =
-        backup.segments().names().stream()
-            .map(name -> prefix + S3BackupStore.SEGMENTS_PREFIX + name);
-
-    final var contentObjects = Stream.concat(snapshotObjects, segmentObjects);
+    final var contentObjects =
+        Stream.concat(
+                contentObjects(backup, backup.snapshot()),
+                contentObjects(backup, backup.segments()))
+            .distinct();
     final var managementObjects = Stream.of(manifest);
     final var expectedObjects = Stream.concat(managementObjects, contentObjects).toList();
 
@@ -183,6 +186,69 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
                       .join();
               Assertions.assertThat(listed.contents()).isEmpty();
             });
+    Awaitility.await("Finds no content after deleting")
+        .pollInterval(Duration.ofSeconds(1))
+        .atMost(Duration.ofSeconds(30))
+        .untilAsserted(
+            () -> {
+              final var listed =
+                  getClient()
+                      .listObjectsV2(
+                          req ->
+                              req.bucket(getConfig().bucketName())
+                                  .prefix(contentPrefix(backup.id().partitionId())))
+                      .join();
+              Assertions.assertThat(listed.contents()).isEmpty();
+            });
+  }
+
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  default void restoresBackupWithFilesStoredPerBackup(
+      final Backup backup, @TempDir final Path target) {
+    // given - a backup taken before files were stored by their content
+    final var prefix = getStore().objectPrefix(backup.id());
+    backup
+        .snapshot()
+        .namedFiles()
+        .forEach(
+            (name, path) ->
+                getClient()
+                    .putObject(
+                        req ->
+                            req.bucket(getConfig().bucketName())
+                                .key(prefix + S3BackupStore.SNAPSHOT_PREFIX + name),
+                        AsyncRequestBody.fromFile(path))
+                    .join());
+    backup
+        .segments()
+        .namedFiles()
+        .forEach(
+            (name, path) ->
+                getClient()
+                    .putObject(
+                        req ->
+                            req.bucket(getConfig().bucketName())
+                                .key(prefix + S3BackupStore.SEGMENTS_PREFIX + name),
+                        AsyncRequestBody.fromFile(path))
+                    .join());
+    final var now = Instant.now();
+    getStore()
+        .writeManifestObject(
+            new CompletedBackupManifest(
+                BackupIdentifierImpl.from(backup.id()),
+                BackupDescriptorImpl.from(backup.descriptor()),
+                FileSet.withoutMetadata(backup.snapshot().names()),
+                FileSet.withoutMetadata(backup.segments().names()),
+                now,
+                now))
+        .join();
+
+    // when
+    final var restored = getStore().restore(backup.id(), target).join();
+
+    // then
+    BackupAssert.assertThatBackup(restored).hasSameContentsAs(backup);
   }
 
   @ParameterizedTest
@@ -243,4 +309,25 @@ public interface S3BackupStoreTests extends BackupStoreTestKit {
         .withThrowableOfType(Throwable.class)
         .withRootCauseInstanceOf(BackupInInvalidStateException.class);
   }
+
+  private Stream<String> contentObjects(final Backup backup, final NamedFileSet fileSet) {
+    return fileSet.files().stream()
+        .map(file -> contentPrefix(backup.id().partitionId()) + digest(file));
+  }
+
+  private String contentPrefix(final int partitionId) {
+    return getConfig().basePath().map(base -> base + "/").orElse("")
+        + "objects/%d/".formatted(partitionId);
+  }
+
+  private static String digest(final Path file) {
+    try {
+      return HexFormat.of()
+          .formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -25,6 +25,7 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.ZEEBE_VERSION;
 import io.camunda.zeebe.model.bpmn.builder.ProcessBuilder;
 import io.camunda.zeebe.model.bpmn.impl.BpmnImpl;
 import io.camunda.zeebe.model.bpmn.impl.BpmnParser;
+import io.camunda.zeebe.model.bpmn.impl.BpmnStreamParser;
 import io.camunda.zeebe.model.bpmn.impl.instance.ActivationConditionImpl;
 import io.camunda.zeebe.model.bpmn.impl.instance.ActivityImpl;
 import io.camunda.zeebe.model.bpmn.impl.instance.AdHocSubProcessImpl;
@@ -271,6 +272,9 @@ public class Bpmn {
   /** the parser used by the Bpmn implementation. */
   private final BpmnParser bpmnParser = new BpmnParser();
 
+  /** the parser used to read already validated models for execution. */
+  private final BpmnStreamParser bpmnStreamParser = new BpmnStreamParser();
+
   private final ModelBuilder bpmnModelBuilder;
 
   /** The {@link Model} */
@@ -305,6 +309,20 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance} from an {@link InputStream} for execution. Unlike
+   * {@link #readModelFromStream(InputStream)}, the model is not validated against the XML schema
+   * and its diagram interchange elements are skipped, which makes reading much cheaper. It must
+   * only be used for models which were read and validated before.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read, without diagram interchange elements
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readExecutableModelFromStream(final InputStream stream) {
+    return INSTANCE.doReadExecutableModelFromInputStream(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -410,6 +428,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadExecutableModelFromInputStream(final InputStream is) {
+    return bpmnStreamParser.parseModelFromStream(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.camunda.zeebe.model.bpmn.impl;
+
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMNDI_ELEMENT_BPMN_DIAGRAM;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMNDI_NS;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_ATTRIBUTE_ID;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_DEFINITIONS;
+
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import java.io.InputStream;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.camunda.bpm.model.xml.impl.ModelImpl;
+import org.camunda.bpm.model.xml.impl.instance.DomDocumentImpl;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * A parser which reads BPMN files with a streaming StAX reader instead of the validating DOM parser
+ * used by {@link BpmnParser}.
+ *
+ * <p>The XML schema is not validated, and the diagram interchange elements (i.e. {@code
+ * bpmndi:BPMNDiagram} and everything below it) are skipped, as they are not needed to execute a
+ * process. This makes parsing considerably cheaper for large diagrams, but it means the parser must
+ * only be used for resources which were already read and validated through {@link BpmnParser}
+ * before, e.g. when deployed.
+ *
+ * <p>The result is still a regular {@link BpmnModelInstanceImpl}, such that it can be consumed by
+ * anything which reads a model parsed by {@link BpmnParser}. This class is thread-safe.
+ */
+public final class BpmnStreamParser {
+
+  private final XMLInputFactory inputFactory;
+  private final DocumentBuilderFactory documentBuilderFactory;
+
+  public BpmnStreamParser() {
+    inputFactory = XMLInputFactory.newInstance();
+    inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+    documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+  }
+
+  public BpmnModelInstanceImpl parseModelFromStream(final InputStream inputStream) {
+    final Document document = newDocument();
+
+    XMLStreamReader reader = null;
+    try {
+      reader = inputFactory.createXMLStreamReader(inputStream);
+      readDocument(reader, document);
+    } catch (final XMLStreamException e) {
+      throw new ModelParseException("Unable to parse model: " + e.getMessage(), e);
+    } finally {
+      closeQuietly(reader);
+    }
+
+    final Element root = document.getDocumentElement();
+    if (root == null
+        || !BPMN20_NS.equals(root.getNamespaceURI())
+        || !BPMN_ELEMENT_DEFINITIONS.equals(root.getLocalName())) {
+      throw new ModelParseException(
+          "Unable to parse model: expected a root element 'definitions' in namespace " + BPMN20_NS,
+          null);
+    }
+
+    return new BpmnModelInstanceImpl(
+        (ModelImpl) Bpmn.INSTANCE.getBpmnModel(),
+        Bpmn.INSTANCE.getBpmnModelBuilder(),
+        new DomDocumentImpl(document));
+  }
+
+  private void readDocument(final XMLStreamReader reader, final Document document)
+      throws XMLStreamException {
+    Node current = document;
+    int skippedDepth = 0;
+
+    while (reader.hasNext()) {
+      final int event = reader.next();
+
+      if (skippedDepth > 0) {
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          skippedDepth++;
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          skippedDepth--;
+        }
+        continue;
+      }
+
+      switch (event) {
+        case XMLStreamConstants.START_ELEMENT:
+          if (isDiagramInterchange(reader)) {
+            skippedDepth = 1;
+          } else {
+            current = current.appendChild(createElement(reader, document));
+          }
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          current = current.getParentNode();
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.SPACE:
+          // text outside the root element is not part of the document
+          if (current != document) {
+            current.appendChild(document.createTextNode(reader.getText()));
+          }
+          break;
+        case XMLStreamConstants.CDATA:
+          if (current != document) {
+            current.appendChild(document.createCDATASection(reader.getText()));
+          }
+          break;
+        case XMLStreamConstants.COMMENT:
+          current.appendChild(document.createComment(reader.getText()));
+          break;
+        default:
+          // processing instructions, the document type, and the document boundaries carry no
+          // information for the model
+          break;
+      }
+    }
+  }
+
+  private Element createElement(final XMLStreamReader reader, final Document document) {
+    final Element element =
+        document.createElementNS(
+            emptyToNull(reader.getNamespaceURI()),
+            qualifiedName(reader.getPrefix(), reader.getLocalName()));
+
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      final String prefix = reader.getNamespacePrefix(i);
+      final String name =
+          prefix == null || prefix.isEmpty()
+              ? XMLConstants.XMLNS_ATTRIBUTE
+              : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix;
+      element.setAttributeNS(
+          XMLConstants.XMLNS_ATTRIBUTE_NS_URI, name, nullToEmpty(reader.getNamespaceURI(i)));
+    }
+
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      final String namespace = emptyToNull(reader.getAttributeNamespace(i));
+      final String localName = reader.getAttributeLocalName(i);
+      element.setAttributeNS(
+          namespace,
+          qualifiedName(reader.getAttributePrefix(i), localName),
+          reader.getAttributeValue(i));
+
+      // the validating parser learns from the schema that 'id' attributes are of type xs:ID;
+      // without
+      // it, the attribute must be marked explicitly, otherwise neither elements nor references to
+      // them (e.g. a sequence flow's 'sourceRef') can be resolved by their id
+      if (namespace == null && BPMN_ATTRIBUTE_ID.equals(localName)) {
+        element.setIdAttributeNS(null, localName, true);
+      }
+    }
+
+    return element;
+  }
+
+  private boolean isDiagramInterchange(final XMLStreamReader reader) {
+    return BPMNDI_NS.equals(reader.getNamespaceURI())
+        && BPMNDI_ELEMENT_BPMN_DIAGRAM.equals(reader.getLocalName());
+  }
+
+  private Document newDocument() {
+    try {
+      // document builders are not thread-safe, but cheap to create compared to parsing
+      return documentBuilderFactory.newDocumentBuilder().newDocument();
+    } catch (final ParserConfigurationException e) {
+      throw new ModelParseException("Unable to create a document for the model", e);
+    }
+  }
+
+  private static String qualifiedName(final String prefix, final String localName) {
+    return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+  }
+
+  private static String emptyToNull(final String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static String nullToEmpty(final String value) {
+    return value == null ? "" : value;
+  }
+
+  private static void closeQuietly(final XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (final XMLStreamException e) {
+        // nothing to do, the reader does not own the stream
+      }
+    }
+  }
+}
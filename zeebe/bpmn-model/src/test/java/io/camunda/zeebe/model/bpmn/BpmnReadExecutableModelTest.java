@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.model.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.model.bpmn.instance.BaseElement;
+import io.camunda.zeebe.model.bpmn.instance.Documentation;
+import io.camunda.zeebe.model.bpmn.instance.ServiceTask;
+import io.camunda.zeebe.model.bpmn.instance.bpmndi.BpmnDiagram;
+import io.camunda.zeebe.model.bpmn.instance.bpmndi.BpmnShape;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeTaskDefinition;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.camunda.bpm.model.xml.ModelParseException;
+import org.junit.jupiter.api.Test;
+
+final class BpmnReadExecutableModelTest {
+
+  @Test
+  void shouldReadSameElementsAsValidatingParser() {
+    // given
+    final BpmnModelInstance expected = Bpmn.readModelFromStream(diagramResource());
+
+    // when
+    final BpmnModelInstance actual = Bpmn.readExecutableModelFromStream(diagramResource());
+
+    // then
+    assertThat(elementIds(actual))
+        .isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(elementIds(expected));
+  }
+
+  @Test
+  void shouldSkipDiagramInterchange() {
+    // when
+    final BpmnModelInstance modelInstance = Bpmn.readExecutableModelFromStream(diagramResource());
+
+    // then
+    assertThat(modelInstance.getModelElementsByType(BpmnDiagram.class)).isEmpty();
+    assertThat(modelInstance.getModelElementsByType(BpmnShape.class)).isEmpty();
+    assertThat(Bpmn.readModelFromStream(diagramResource()).getModelElementsByType(BpmnShape.class))
+        .isNotEmpty();
+  }
+
+  @Test
+  void shouldReadExtensionElementsAndText() {
+    // given
+    final BpmnModelInstance original =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", b -> b.zeebeJobType("type").zeebeJobRetries("5"))
+            .endEvent()
+            .done();
+    final ServiceTask originalTask = original.getModelElementById("task");
+    final Documentation documentation = original.newInstance(Documentation.class);
+    documentation.setTextContent("a < b & c");
+    originalTask.getDocumentations().add(documentation);
+
+    // when
+    final BpmnModelInstance modelInstance =
+        Bpmn.readExecutableModelFromStream(
+            new ByteArrayInputStream(
+                Bpmn.convertToString(original).getBytes(StandardCharsets.UTF_8)));
+
+    // then
+    final ServiceTask task = modelInstance.getModelElementById("task");
+    final ZeebeTaskDefinition taskDefinition =
+        task.getSingleExtensionElement(ZeebeTaskDefinition.class);
+    assertThat(taskDefinition.getType()).isEqualTo("type");
+    assertThat(taskDefinition.getRetries()).isEqualTo("5");
+    assertThat(task.getDocumentations())
+        .extracting(Documentation::getTextContent)
+        .containsExactly("a < b & c");
+    assertThat(task.getOutgoing()).hasSize(1);
+    Bpmn.validateModel(modelInstance);
+  }
+
+  @Test
+  void shouldRejectNonBpmnDocument() {
+    // given
+    final InputStream stream =
+        new ByteArrayInputStream("<foo xmlns=\"urn:bar\"/>".getBytes(StandardCharsets.UTF_8));
+
+    // when - then
+    assertThatThrownBy(() -> Bpmn.readExecutableModelFromStream(stream))
+        .isInstanceOf(ModelParseException.class);
+  }
+
+  @Test
+  void shouldRejectMalformedDocument() {
+    // given
+    final InputStream stream =
+        new ByteArrayInputStream(
+            "<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\">"
+                .getBytes(StandardCharsets.UTF_8));
+
+    // when - then
+    assertThatThrownBy(() -> Bpmn.readExecutableModelFromStream(stream))
+        .isInstanceOf(ModelParseException.class);
+  }
+
+  private InputStream diagramResource() {
+    return BpmnDiTest.class.getResourceAsStream("BpmnDiTest.xml");
+  }
+
+  private static List<String> elementIds(final BpmnModelInstance modelInstance) {
+    return modelInstance.getModelElementsByType(BaseElement.class).stream()
+        .map(BaseElement::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+}
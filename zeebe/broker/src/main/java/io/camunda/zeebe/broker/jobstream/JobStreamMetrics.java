@@ -44,6 +44,29 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .labelNames("code")
           .register();
 
+  private static final Counter PUSH_THROTTLED_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("jobs_push_throttled_count")
+          .help(
+              "Total number of jobs which were not pushed because all matching streams were at"
+                  + " capacity")
+          .register();
+
+  private static final Gauge PUSH_CREDITS_IN_USE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("job_stream_credits_in_use")
+          .help("Number of pushed jobs which were not acknowledged yet, across all streams")
+          .register();
+
+  private static final Counter YIELD_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("jobs_yielded_count")
+          .help("Total number of jobs yielded back to the engine after a failed push")
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -68,4 +91,24 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  @Override
+  public void pushThrottled() {
+    PUSH_THROTTLED_COUNT.inc();
+  }
+
+  @Override
+  public void creditAcquired() {
+    PUSH_CREDITS_IN_USE.inc();
+  }
+
+  @Override
+  public void creditReleased() {
+    PUSH_CREDITS_IN_USE.dec();
+  }
+
+  /** Invoked when a job which could not be pushed is yielded back to the engine */
+  public void jobYielded() {
+    YIELD_COUNT.inc();
+  }
 }
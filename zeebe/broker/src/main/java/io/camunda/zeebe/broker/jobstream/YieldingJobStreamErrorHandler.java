@@ -17,10 +17,21 @@ public final class YieldingJobStreamErrorHandler implements JobStreamErrorHandle
 
   private static final Logger LOG = LoggerFactory.getLogger(YieldingJobStreamErrorHandler.class);
 
+  private final JobStreamMetrics metrics;
+
+  public YieldingJobStreamErrorHandler() {
+    this(new JobStreamMetrics());
+  }
+
+  public YieldingJobStreamErrorHandler(final JobStreamMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void handleError(
       final ActivatedJob job, final Throwable error, final TaskResultBuilder resultBuilder) {
     LOG.trace("Failed to push job {}. Yielding...", job.jobKey(), error);
     resultBuilder.appendCommandRecord(job.jobKey(), JobIntent.YIELD, job.jobRecord());
+    metrics.jobYielded();
   }
 }
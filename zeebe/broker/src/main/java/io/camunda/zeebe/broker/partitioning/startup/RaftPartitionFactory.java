@@ -8,9 +8,11 @@
 package io.camunda.zeebe.broker.partitioning.startup;
 
 import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.metrics.RaftFlushMetrics;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.storage.log.AsyncFlusher;
 import io.atomix.raft.storage.log.DelayedFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
@@ -73,7 +75,9 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            RaftPartition.name(partitionMetadata.id())));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
@@ -103,23 +107,35 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setSnapshotReplicationWindow(
+        brokerCfg.getExperimental().getRaft().getSnapshotReplicationWindow());
+    partitionConfig.setAdaptiveAppendWindow(
+        brokerCfg.getExperimental().getRaft().isAdaptiveAppendWindow());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config, final ExperimentalCfg experimental, final String partitionName) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO), false, partitionName);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, experimental.getRaft().isAsyncFlush(), partitionName);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final boolean asyncFlush, final String partitionName) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
+      if (asyncFlush) {
+        // the delay is the window in which flush requests are coalesced before flushing
+        return threadFactory ->
+            new AsyncFlusher(
+                threadFactory.createContext(), delayTime, new RaftFlushMetrics(partitionName));
+      }
+
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
       }
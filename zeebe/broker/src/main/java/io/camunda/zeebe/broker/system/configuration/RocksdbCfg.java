@@ -8,10 +8,19 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +37,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, ColumnFamilyTuningCfg> columnFamilyTunings = new HashMap<>();
+  private Map<String, Integer> countedColumnFamilies = new HashMap<>();
+  private DataSize readCacheSize = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_READ_CACHE_SIZE);
+  private List<String> readCachedColumnFamilies = new ArrayList<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -129,6 +144,46 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.accessMetrics = accessMetrics;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
+  public Map<String, ColumnFamilyTuningCfg> getColumnFamilyTunings() {
+    return columnFamilyTunings;
+  }
+
+  public void setColumnFamilyTunings(final Map<String, ColumnFamilyTuningCfg> columnFamilyTunings) {
+    this.columnFamilyTunings = columnFamilyTunings;
+  }
+
+  public Map<String, Integer> getCountedColumnFamilies() {
+    return countedColumnFamilies;
+  }
+
+  public void setCountedColumnFamilies(final Map<String, Integer> countedColumnFamilies) {
+    this.countedColumnFamilies = countedColumnFamilies;
+  }
+
+  public DataSize getReadCacheSize() {
+    return readCacheSize;
+  }
+
+  public void setReadCacheSize(final DataSize readCacheSize) {
+    this.readCacheSize = readCacheSize;
+  }
+
+  public List<String> getReadCachedColumnFamilies() {
+    return readCachedColumnFamilies;
+  }
+
+  public void setReadCachedColumnFamilies(final List<String> readCachedColumnFamilies) {
+    this.readCachedColumnFamilies = readCachedColumnFamilies;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
@@ -139,7 +194,50 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies)
+        .setColumnFamilyTunings(createColumnFamilyTunings())
+        .setCountedColumnFamilies(createCountedColumnFamilies())
+        .setReadCacheSize(readCacheSize.toBytes())
+        .setReadCachedColumnFamilies(createReadCachedColumnFamilies());
+  }
+
+  private Set<Integer> createReadCachedColumnFamilies() {
+    final var cached = new HashSet<Integer>();
+    readCachedColumnFamilies.forEach(name -> cached.add(toColumnFamily(name).getValue()));
+    return cached;
+  }
+
+  private Map<Integer, Integer> createCountedColumnFamilies() {
+    final var counted = new HashMap<Integer, Integer>();
+    countedColumnFamilies.forEach(
+        (name, prefixLength) -> counted.put(toColumnFamily(name).getValue(), prefixLength));
+    return counted;
+  }
+
+  private Map<Integer, ColumnFamilyTuning> createColumnFamilyTunings() {
+    final var tunings = new HashMap<Integer, ColumnFamilyTuning>();
+    columnFamilyTunings.forEach(
+        (name, tuning) ->
+            tunings.put(toColumnFamily(name).getValue(), tuning.createColumnFamilyTuning()));
+    return tunings;
+  }
+
+  /**
+   * Resolves the column family of the given name, ignoring its case. When provided as an
+   * environment variable, the name may contain dots instead of underscores, e.g. `job.activatable`
+   * for {@link ZbColumnFamilies#JOB_ACTIVATABLE}.
+   */
+  private static ZbColumnFamilies toColumnFamily(final String name) {
+    final var normalizedName =
+        RocksDBColumnFamilyOption.replaceAllDotCharsWithUnderscore(name.trim())
+            .toUpperCase(Locale.ROOT);
+    try {
+      return ZbColumnFamilies.valueOf(normalizedName);
+    } catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Expected a known column family, but got '%s'".formatted(name), e);
+    }
   }
 
   @Override
@@ -165,9 +263,67 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
+        + ", columnFamilyTunings="
+        + columnFamilyTunings
+        + ", countedColumnFamilies="
+        + countedColumnFamilies
+        + ", readCacheSize="
+        + readCacheSize
+        + ", readCachedColumnFamilies="
+        + readCachedColumnFamilies
         + '}';
   }
 
+  public static final class ColumnFamilyTuningCfg {
+
+    private double blockCacheShare = ColumnFamilyTuning.DEFAULT_BLOCK_CACHE_SHARE;
+    private int bloomFilterBitsPerKey = ColumnFamilyTuning.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+    private String compactionStyle = "level";
+
+    public double getBlockCacheShare() {
+      return blockCacheShare;
+    }
+
+    public void setBlockCacheShare(final double blockCacheShare) {
+      this.blockCacheShare = blockCacheShare;
+    }
+
+    public int getBloomFilterBitsPerKey() {
+      return bloomFilterBitsPerKey;
+    }
+
+    public void setBloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+      this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    }
+
+    public String getCompactionStyle() {
+      return compactionStyle;
+    }
+
+    public void setCompactionStyle(final String compactionStyle) {
+      this.compactionStyle = compactionStyle;
+    }
+
+    private ColumnFamilyTuning createColumnFamilyTuning() {
+      return ColumnFamilyTuning.of(blockCacheShare, bloomFilterBitsPerKey, compactionStyle);
+    }
+
+    @Override
+    public String toString() {
+      return "ColumnFamilyTuningCfg{"
+          + "blockCacheShare="
+          + blockCacheShare
+          + ", bloomFilterBitsPerKey="
+          + bloomFilterBitsPerKey
+          + ", compactionStyle='"
+          + compactionStyle
+          + '\''
+          + '}';
+    }
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
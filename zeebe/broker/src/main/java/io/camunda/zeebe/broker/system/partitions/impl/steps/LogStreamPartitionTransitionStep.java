@@ -83,6 +83,7 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withGroupCommit(context.getBrokerCfg().getExperimental().isEnableGroupCommit())
         .build();
   }
 
@@ -13,6 +13,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.storage.log.AsyncFlusher;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import java.time.Duration;
@@ -21,6 +23,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
 import org.springframework.util.unit.DataSize;
 
 public final class RaftPartitionFactoryTest {
@@ -207,6 +210,47 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(1000);
   }
 
+  @Test
+  void shouldSetSnapshotReplicationWindow() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotReplicationWindow(16);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotReplicationWindow()).isEqualTo(16);
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindow() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setAdaptiveAppendWindow(true);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isAdaptiveAppendWindow()).isTrue();
+  }
+
+  @Test
+  void shouldCreateAsyncFlusher() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setAsyncFlush(true);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var flusherFactory = partition.getPartitionConfig().getStorageConfig().flusherFactory();
+    assertThat(flusherFactory.createFlusher(() -> Mockito.mock(ThreadContext.class)))
+        .isInstanceOf(AsyncFlusher.class);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldSetSegmentFilesPreallocation(final boolean value) {
@@ -113,6 +113,75 @@ final class ExperimentalCfgTest {
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
 
+  @Test
+  void shouldSetSnapshotReplicationWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotReplicationWindow()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldSetSnapshotReplicationWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotReplicationWindow", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getSnapshotReplicationWindow()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindowFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isAdaptiveAppendWindow()).isTrue();
+  }
+
+  @Test
+  void shouldSetAdaptiveAppendWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.adaptiveAppendWindow", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isAdaptiveAppendWindow()).isFalse();
+  }
+
+  @Test
+  void shouldSetAsyncFlushFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isAsyncFlush()).isTrue();
+  }
+
+  @Test
+  void shouldSetAsyncFlushFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.asyncFlush", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.isAsyncFlush()).isFalse();
+  }
+
   @Test
   void shouldSetEnablePreconditionsFromConfig() {
     // when
@@ -181,4 +250,25 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldDisableGroupCommitByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableGroupCommit()).isFalse();
+  }
+
+  @Test
+  void shouldSetGroupCommitFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.enableGroupCommit", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().isEnableGroupCommit()).isTrue();
+  }
 }
@@ -8,7 +8,10 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyTuning;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -285,4 +288,77 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldDisableNativeColumnFamiliesPerDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableNativeColumnFamilies()).isFalse();
+    assertThat(rocksdb.createRocksDbConfiguration().getColumnFamilyTunings()).isEmpty();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyTuningsViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableNativeColumnFamilies", "true");
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilyTunings.variables.blockCacheShare", "0.25");
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilyTunings.jobs.compactionStyle", "universal");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isNativeColumnFamiliesEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getColumnFamilyTunings())
+        .containsEntry(
+            ZbColumnFamilies.VARIABLES.getValue(), ColumnFamilyTuning.of(0.25, 10, "level"))
+        .containsEntry(ZbColumnFamilies.JOBS.getValue(), ColumnFamilyTuning.of(0, 10, "universal"));
+  }
+
+  @Test
+  public void shouldSetCountedColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.countedColumnFamilies.banned.instance", "0");
+    environment.put("zeebe.broker.experimental.rocksdb.countedColumnFamilies.jobs", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCountedColumnFamilies())
+        .containsOnly(
+            entry(ZbColumnFamilies.BANNED_INSTANCE.getValue(), 0),
+            entry(ZbColumnFamilies.JOBS.getValue(), 8));
+  }
+
+  @Test
+  public void shouldSetReadCacheViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.readCacheSize", "64MB");
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.readCachedColumnFamilies",
+        "element_instance_key,VARIABLES");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.isReadCacheEnabled()).isTrue();
+    assertThat(rocksDbConfiguration.getReadCacheSize()).isEqualTo(64 * 1024 * 1024L);
+    assertThat(rocksDbConfiguration.getReadCachedColumnFamilies())
+        .containsExactlyInAnyOrder(
+            ZbColumnFamilies.ELEMENT_INSTANCE_KEY.getValue(),
+            ZbColumnFamilies.VARIABLES.getValue());
+  }
 }
@@ -107,6 +107,8 @@ public class Engine implements RecordProcessor {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
 
+      processingState.getVariableState().clearScopeChainCache();
+
       final var typedCommand = (TypedRecord<?>) record;
       try {
         currentProcessor =
@@ -140,6 +142,8 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      // the transaction in which the command was processed was rolled back
+      processingState.getVariableState().clearScopeChainCache();
 
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
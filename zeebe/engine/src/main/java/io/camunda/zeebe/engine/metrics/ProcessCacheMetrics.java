@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Histogram.Timer;
+
+public final class ProcessCacheMetrics {
+
+  private static final Histogram CACHE_MISS_LOAD_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("process_cache_miss_load_time_seconds")
+          .help(
+              "Time to load a deployed process which was not cached, either by reading its"
+                  + " persisted executable process or by reading and transforming its BPMN resource")
+          .buckets(.0001, .0005, .001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5, 10)
+          .labelNames("partition", "source")
+          .register();
+
+  private final Histogram.Child executableProcessLoadTime;
+  private final Histogram.Child resourceLoadTime;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final String partition = String.valueOf(partitionId);
+    executableProcessLoadTime = CACHE_MISS_LOAD_TIME.labels(partition, "executable_process");
+    resourceLoadTime = CACHE_MISS_LOAD_TIME.labels(partition, "resource");
+  }
+
+  /** Observes loading a process from its persisted executable process. */
+  public Timer observeExecutableProcessLoad() {
+    return executableProcessLoadTime.startTimer();
+  }
+
+  /**
+   * Observes loading a process from its BPMN resource, which is only necessary if the process has
+   * no persisted executable process, e.g. because it was deployed before it was introduced.
+   */
+  public Timer observeResourceLoad() {
+    return resourceLoadTime.startTimer();
+  }
+}
@@ -12,6 +12,7 @@ import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessReader;
 import io.camunda.zeebe.engine.processing.deployment.transform.BpmnValidator;
 import java.time.InstantSource;
 
@@ -21,6 +22,10 @@ public final class BpmnFactory {
     return new BpmnTransformer(createExpressionLanguage(new ZeebeFeelEngineClock(clock)));
   }
 
+  public static ExecutableProcessReader createExecutableProcessReader(final InstantSource clock) {
+    return new ExecutableProcessReader(createExpressionLanguage(new ZeebeFeelEngineClock(clock)));
+  }
+
   public static BpmnValidator createValidator(
       final InstantSource clock,
       final ExpressionProcessor expressionProcessor,
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.deployment.model.element;
 
+import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.model.bpmn.util.time.Timer;
@@ -27,6 +28,8 @@ public class ExecutableCatchEventElement extends ExecutableFlowNode
   private ExecutableSignal signal;
   private ExecutableCompensation compensation;
   private boolean interrupting;
+  private TimerType timerType;
+  private Expression timerExpression;
   private BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> timerFactory;
 
   private boolean isConnectedToEventBasedGateway;
@@ -88,8 +91,24 @@ public class ExecutableCatchEventElement extends ExecutableFlowNode
     return timerFactory;
   }
 
-  public void setTimerFactory(
+  public TimerType getTimerType() {
+    return timerType;
+  }
+
+  public Expression getTimerExpression() {
+    return timerExpression;
+  }
+
+  /**
+   * Sets the timer of this event, together with its definition from which the timer factory is
+   * created, as the definition is needed to persist the element.
+   */
+  public void setTimer(
+      final TimerType timerType,
+      final Expression timerExpression,
       final BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> timerFactory) {
+    this.timerType = timerType;
+    this.timerExpression = timerExpression;
     this.timerFactory = timerFactory;
   }
 
@@ -166,4 +185,11 @@ public class ExecutableCatchEventElement extends ExecutableFlowNode
   public void setCompensation(final ExecutableCompensation compensation) {
     this.compensation = compensation;
   }
+
+  /** The element of the timer event definition which defines the timer. */
+  public enum TimerType {
+    DURATION,
+    CYCLE,
+    DATE
+  }
 }
@@ -73,6 +73,10 @@ public class ExecutableFlowNode extends AbstractFlowElement {
     executionListeners.add(listener);
   }
 
+  public List<ExecutionListener> getExecutionListeners() {
+    return executionListeners;
+  }
+
   public List<ExecutionListener> getStartExecutionListeners() {
     return executionListeners.stream()
         .filter(el -> el.getEventType() == ZeebeExecutionListenerEventType.start)
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableBoundaryEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableBusinessRuleTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEventBasedGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableInclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableIntermediateThrowEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableReceiveTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableScriptTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableUserTask;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.function.Function;
+
+/**
+ * The binary format of an executable process, as written by {@link ExecutableProcessWriter} and
+ * read by {@link ExecutableProcessReader}.
+ *
+ * <p>A process is written as its format version, followed by its elements. Each element is written
+ * as its class, its id and then the properties of each of its classes, from {@link
+ * AbstractFlowElement} down to its own class, as MessagePack values in a fixed order. References to
+ * other elements of the process are written as the index of the referenced element. Expressions are
+ * written as their source, and parsed again when the process is read.
+ *
+ * <p><b>Note</b>: the format must be kept in sync with the executable elements. Whenever the
+ * properties or classes of the elements change, the {@link #VERSION} must be increased, so that
+ * processes written in an older format are read from their BPMN resource again.
+ */
+final class ExecutableProcessFormat {
+
+  static final int VERSION = 1;
+
+  private ExecutableProcessFormat() {}
+
+  /** The classes of the elements, which are written as their ordinal. */
+  enum ElementClass {
+    PROCESS(ExecutableProcess.class, ExecutableProcess::new),
+    FLOW_ELEMENT_CONTAINER(
+        ExecutableFlowElementContainer.class, ExecutableFlowElementContainer::new),
+    MULTI_INSTANCE_BODY(ExecutableMultiInstanceBody.class, null),
+    CALL_ACTIVITY(ExecutableCallActivity.class, ExecutableCallActivity::new),
+    BUSINESS_RULE_TASK(ExecutableBusinessRuleTask.class, ExecutableBusinessRuleTask::new),
+    SCRIPT_TASK(ExecutableScriptTask.class, ExecutableScriptTask::new),
+    USER_TASK(ExecutableUserTask.class, ExecutableUserTask::new),
+    JOB_WORKER_TASK(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+    RECEIVE_TASK(ExecutableReceiveTask.class, ExecutableReceiveTask::new),
+    ACTIVITY(ExecutableActivity.class, ExecutableActivity::new),
+    START_EVENT(ExecutableStartEvent.class, ExecutableStartEvent::new),
+    BOUNDARY_EVENT(ExecutableBoundaryEvent.class, ExecutableBoundaryEvent::new),
+    CATCH_EVENT(ExecutableCatchEventElement.class, ExecutableCatchEventElement::new),
+    INTERMEDIATE_THROW_EVENT(
+        ExecutableIntermediateThrowEvent.class, ExecutableIntermediateThrowEvent::new),
+    END_EVENT(ExecutableEndEvent.class, ExecutableEndEvent::new),
+    EXCLUSIVE_GATEWAY(ExecutableExclusiveGateway.class, ExecutableExclusiveGateway::new),
+    INCLUSIVE_GATEWAY(ExecutableInclusiveGateway.class, ExecutableInclusiveGateway::new),
+    EVENT_BASED_GATEWAY(ExecutableEventBasedGateway.class, ExecutableEventBasedGateway::new),
+    FLOW_NODE(ExecutableFlowNode.class, ExecutableFlowNode::new),
+    SEQUENCE_FLOW(ExecutableSequenceFlow.class, ExecutableSequenceFlow::new);
+
+    private static final ElementClass[] VALUES = values();
+
+    private final Class<? extends AbstractFlowElement> type;
+    private final Function<String, AbstractFlowElement> factory;
+
+    ElementClass(
+        final Class<? extends AbstractFlowElement> type,
+        final Function<String, AbstractFlowElement> factory) {
+      this.type = type;
+      this.factory = factory;
+    }
+
+    /**
+     * @return a new element of this class with the given id; not supported for multi-instance
+     *     bodies, which are created from their inner activity
+     */
+    AbstractFlowElement newElement(final String id) {
+      return factory.apply(id);
+    }
+
+    static ElementClass of(final AbstractFlowElement element) {
+      for (final ElementClass elementClass : VALUES) {
+        if (elementClass.type == element.getClass()) {
+          return elementClass;
+        }
+      }
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected element to be of a known class, but '%s' is of class '%s'",
+              BufferUtil.bufferAsString(element.getId()), element.getClass().getSimpleName()));
+    }
+
+    static ElementClass of(final int ordinal) {
+      return VALUES[ordinal];
+    }
+  }
+}
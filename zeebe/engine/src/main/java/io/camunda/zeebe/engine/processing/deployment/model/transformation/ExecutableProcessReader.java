@@ -0,0 +1,482 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCalledDecision;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement.TimerType;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCompensation;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableError;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEscalation;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEventBasedGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableInclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableIntermediateThrowEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLink;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMessage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableReceiveTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableScript;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSignal;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableUserTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutionListener;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.element.TaskListener;
+import io.camunda.zeebe.engine.processing.deployment.model.element.UserTaskProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessFormat.ElementClass;
+import io.camunda.zeebe.engine.processing.deployment.model.transformer.CatchEventTransformer;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeBindingType;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeExecutionListenerEventType;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeTaskListenerEventType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+
+/**
+ * Reads an {@link ExecutableProcess} which was written by {@link ExecutableProcessWriter}, as the
+ * counterpart of transforming the BPMN resource of the process with {@link BpmnTransformer}.
+ *
+ * <p>The elements are read in the order in which they were written, and the properties of each
+ * element in the same order as they are written. As an element may reference elements which are
+ * read after it, references are resolved once all elements are read.
+ *
+ * <p>The reader is not thread-safe.
+ */
+public final class ExecutableProcessReader {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final List<AbstractFlowElement> elements = new ArrayList<>();
+  private final List<Runnable> references = new ArrayList<>();
+  private final ExpressionLanguage expressionLanguage;
+
+  public ExecutableProcessReader(final ExpressionLanguage expressionLanguage) {
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * @param buffer the buffer to check
+   * @return {@code true} if the buffer contains a process written in the current format, or {@code
+   *     false} if it is empty or written in another format
+   */
+  public boolean canRead(final DirectBuffer buffer) {
+    if (buffer.capacity() == 0) {
+      return false;
+    }
+
+    reader.wrap(buffer, 0, buffer.capacity());
+    final MsgPackToken version = reader.readToken();
+    return version.getType() == MsgPackType.INTEGER
+        && version.getIntegerValue() == ExecutableProcessFormat.VERSION;
+  }
+
+  /**
+   * @param buffer the written process; must be written in the current format, see {@link
+   *     #canRead(DirectBuffer)}
+   * @return the read process, which does not reference the given buffer
+   */
+  public ExecutableProcess read(final DirectBuffer buffer) {
+    if (!canRead(buffer)) {
+      throw new IllegalArgumentException(
+          "Expected executable process to be written in format version "
+              + ExecutableProcessFormat.VERSION
+              + ", but it is empty or written in another format version");
+    }
+
+    try {
+      final int elementCount = reader.readArrayHeader();
+      for (int index = 0; index < elementCount; index++) {
+        readElement();
+      }
+      references.forEach(Runnable::run);
+
+      return (ExecutableProcess) elements.getFirst();
+    } finally {
+      elements.clear();
+      references.clear();
+    }
+  }
+
+  private void readElement() {
+    final ElementClass elementClass = ElementClass.of((int) reader.readInteger());
+    final String id = readString();
+    final AbstractFlowElement element;
+    if (elementClass == ElementClass.MULTI_INSTANCE_BODY) {
+      final ExecutableLoopCharacteristics loopCharacteristics = readLoopCharacteristics();
+      final ExecutableActivity innerActivity = element((int) reader.readInteger());
+      element = new ExecutableMultiInstanceBody(id, loopCharacteristics, innerActivity);
+    } else {
+      element = elementClass.newElement(id);
+    }
+    elements.add(element);
+
+    final boolean isFlowElementOfProcess = reader.readBoolean();
+    if (isFlowElementOfProcess) {
+      final ExecutableProcess process = element(0);
+      process.addFlowElement(element);
+    }
+    element.setElementType(readEnum(BpmnElementType.class));
+    element.setEventType(readEnum(BpmnEventType.class));
+    readReference(element::setFlowScope);
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      readFlowNode(flowNode);
+    }
+    if (element instanceof final ExecutableActivity activity) {
+      readActivity(activity);
+    }
+    if (element instanceof final ExecutableFlowElementContainer container) {
+      readReferences(container.getStartEvents());
+      readReferences(container::addChildElement);
+    }
+    if (element instanceof final ExecutableCallActivity callActivity) {
+      readCallActivity(callActivity);
+    }
+    if (element instanceof final ExecutableJobWorkerElement jobWorkerElement) {
+      jobWorkerElement.setJobWorkerProperties(readJobWorkerProperties());
+    }
+    if (element instanceof final ExecutableCalledDecision calledDecision) {
+      calledDecision.setDecisionId(readExpression());
+      calledDecision.setResultVariable(readString());
+      calledDecision.setBindingType(readEnum(ZeebeBindingType.class));
+      calledDecision.setVersionTag(readString());
+    }
+    if (element instanceof final ExecutableScript script) {
+      script.setExpression(readExpression());
+      script.setResultVariable(readString());
+    }
+    if (element instanceof final ExecutableUserTask userTask) {
+      readUserTask(userTask);
+    }
+    if (element instanceof final ExecutableReceiveTask receiveTask) {
+      receiveTask.setMessage(readMessage());
+    }
+    if (element instanceof final ExecutableExclusiveGateway exclusiveGateway) {
+      readReferences(exclusiveGateway.getOutgoingWithCondition());
+      readReference(exclusiveGateway::setDefaultFlow);
+    }
+    if (element instanceof final ExecutableInclusiveGateway inclusiveGateway) {
+      readReferences(inclusiveGateway.getOutgoingWithCondition());
+      readReference(inclusiveGateway::setDefaultFlow);
+    }
+    if (element instanceof final ExecutableEventBasedGateway eventBasedGateway) {
+      readEventBasedGateway(eventBasedGateway);
+    }
+    if (element instanceof final ExecutableCatchEventElement catchEvent) {
+      readCatchEvent(catchEvent);
+    }
+    if (element instanceof final ExecutableStartEvent startEvent) {
+      startEvent.setEventSubProcess(readBuffer());
+    }
+    if (element instanceof final ExecutableIntermediateThrowEvent throwEvent) {
+      throwEvent.setLink(readLink());
+      throwEvent.setEscalation(readEscalation());
+      throwEvent.setSignal(readSignal());
+      throwEvent.setCompensation(readCompensation());
+    }
+    if (element instanceof final ExecutableEndEvent endEvent) {
+      endEvent.setError(readError());
+      endEvent.setEscalation(readEscalation());
+      endEvent.setSignal(readSignal());
+      endEvent.setTerminateEndEvent(reader.readBoolean());
+      endEvent.setCompensation(readCompensation());
+    }
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      readReference(sequenceFlow::setSource);
+      readReference(sequenceFlow::setTarget);
+      sequenceFlow.setCondition(readExpression());
+    }
+  }
+
+  private void readFlowNode(final ExecutableFlowNode flowNode) {
+    readReferences(flowNode.getIncoming());
+    readReferences(flowNode.getOutgoing());
+    Optional.ofNullable(readExpression()).ifPresent(flowNode::setInputMappings);
+    Optional.ofNullable(readExpression()).ifPresent(flowNode::setOutputMappings);
+
+    final int executionListenerCount = reader.readArrayHeader();
+    for (int i = 0; i < executionListenerCount; i++) {
+      final ExecutionListener listener = new ExecutionListener();
+      listener.setEventType(readEnum(ZeebeExecutionListenerEventType.class));
+      listener.setJobWorkerProperties(readJobWorkerProperties());
+      flowNode.getExecutionListeners().add(listener);
+    }
+  }
+
+  private void readActivity(final ExecutableActivity activity) {
+    readReferences(activity.getBoundaryEvents());
+    readReferences(activity.getEventSubprocesses());
+    // a receive task adds itself to its events when it is created
+    activity.getEvents().clear();
+    readReferences(activity.getEvents());
+    readBuffers(activity.getInterruptingElementIds());
+    readBuffers(activity.getBoundaryElementIds());
+  }
+
+  private ExecutableLoopCharacteristics readLoopCharacteristics() {
+    final boolean isSequential = reader.readBoolean();
+    final Optional<Expression> completionCondition = Optional.ofNullable(readExpression());
+    final Expression inputCollection = readExpression();
+    final Optional<DirectBuffer> inputElement = Optional.ofNullable(readBuffer());
+    final Optional<DirectBuffer> outputCollection = Optional.ofNullable(readBuffer());
+    final Optional<Expression> outputElement = Optional.ofNullable(readExpression());
+    return new ExecutableLoopCharacteristics(
+        isSequential,
+        completionCondition,
+        inputCollection,
+        inputElement,
+        outputCollection,
+        outputElement);
+  }
+
+  private void readCallActivity(final ExecutableCallActivity callActivity) {
+    callActivity.setCalledElementProcessId(readExpression());
+    callActivity.setPropagateAllChildVariablesEnabled(reader.readBoolean());
+    callActivity.setPropagateAllParentVariablesEnabled(reader.readBoolean());
+    callActivity.setLexicographicIndex((int) reader.readInteger());
+    callActivity.setBindingType(readEnum(ZeebeBindingType.class));
+    callActivity.setVersionTag(readString());
+  }
+
+  private void readUserTask(final ExecutableUserTask userTask) {
+    if (reader.readBoolean()) {
+      final UserTaskProperties userTaskProperties = new UserTaskProperties();
+      readUserTaskProperties(userTaskProperties);
+      userTask.setUserTaskProperties(userTaskProperties);
+    }
+
+    final int taskListenerCount = reader.readArrayHeader();
+    final List<TaskListener> taskListeners = new ArrayList<>(taskListenerCount);
+    for (int i = 0; i < taskListenerCount; i++) {
+      final TaskListener listener = new TaskListener();
+      listener.setEventType(readEnum(ZeebeTaskListenerEventType.class));
+      listener.setJobWorkerProperties(readJobWorkerProperties());
+      taskListeners.add(listener);
+    }
+    if (!taskListeners.isEmpty()) {
+      userTask.setTaskListeners(taskListeners);
+    }
+  }
+
+  private void readEventBasedGateway(final ExecutableEventBasedGateway eventBasedGateway) {
+    final MsgPackToken token = reader.readToken();
+    if (token.getType() == MsgPackType.NIL) {
+      return;
+    }
+
+    final int eventCount = token.getSize();
+    final List<ExecutableCatchEvent> events = new ArrayList<>(eventCount);
+    for (int i = 0; i < eventCount; i++) {
+      final int index = (int) reader.readInteger();
+      references.add(() -> events.add(element(index)));
+    }
+    references.add(() -> eventBasedGateway.setEvents(events));
+  }
+
+  private void readCatchEvent(final ExecutableCatchEventElement catchEvent) {
+    catchEvent.setMessage(readMessage());
+    catchEvent.setError(readError());
+    catchEvent.setEscalation(readEscalation());
+    catchEvent.setSignal(readSignal());
+    catchEvent.setCompensation(readCompensation());
+    catchEvent.setInterrupting(reader.readBoolean());
+    final TimerType timerType = readEnum(TimerType.class);
+    final Expression timerExpression = readExpression();
+    if (timerType != null) {
+      CatchEventTransformer.setTimer(catchEvent, timerType, timerExpression);
+    }
+    catchEvent.setConnectedToEventBasedGateway(reader.readBoolean());
+    catchEvent.setLink(reader.readBoolean());
+    catchEvent.setCompensation(reader.readBoolean());
+  }
+
+  private JobWorkerProperties readJobWorkerProperties() {
+    if (!reader.readBoolean()) {
+      return null;
+    }
+
+    final JobWorkerProperties jobWorkerProperties = new JobWorkerProperties();
+    jobWorkerProperties.setType(readExpression());
+    jobWorkerProperties.setRetries(readExpression());
+    readUserTaskProperties(jobWorkerProperties);
+    return jobWorkerProperties;
+  }
+
+  private void readUserTaskProperties(final UserTaskProperties userTaskProperties) {
+    userTaskProperties.setAssignee(readExpression());
+    userTaskProperties.setCandidateGroups(readExpression());
+    userTaskProperties.setCandidateUsers(readExpression());
+    userTaskProperties.setDueDate(readExpression());
+    userTaskProperties.setExternalFormReference(readExpression());
+    userTaskProperties.setFollowUpDate(readExpression());
+    userTaskProperties.setFormId(readExpression());
+    userTaskProperties.setPriority(readExpression());
+    userTaskProperties.setFormBindingType(readEnum(ZeebeBindingType.class));
+    userTaskProperties.setFormVersionTag(readString());
+
+    final int headerCount = reader.readMapHeader();
+    if (headerCount > 0) {
+      final Map<String, String> taskHeaders = new HashMap<>(headerCount);
+      for (int i = 0; i < headerCount; i++) {
+        taskHeaders.put(readString(), readString());
+      }
+      userTaskProperties.setTaskHeaders(taskHeaders);
+    }
+  }
+
+  private ExecutableMessage readMessage() {
+    final ExecutableMessage message = readDefinition(ExecutableMessage::new);
+    if (message != null) {
+      message.setCorrelationKeyExpression(readExpression());
+      message.setMessageNameExpression(readExpression());
+      message.setMessageName(readString());
+    }
+    return message;
+  }
+
+  private ExecutableError readError() {
+    final ExecutableError error = readDefinition(ExecutableError::new);
+    if (error != null) {
+      final DirectBuffer errorCode = readBuffer();
+      if (errorCode != null) {
+        error.setErrorCode(errorCode);
+      }
+      error.setErrorCodeExpression(readExpression());
+    }
+    return error;
+  }
+
+  private ExecutableEscalation readEscalation() {
+    final ExecutableEscalation escalation = readDefinition(ExecutableEscalation::new);
+    if (escalation != null) {
+      final DirectBuffer escalationCode = readBuffer();
+      if (escalationCode != null) {
+        escalation.setEscalationCode(escalationCode);
+      }
+      escalation.setEscalationCodeExpression(readExpression());
+    }
+    return escalation;
+  }
+
+  private ExecutableSignal readSignal() {
+    final ExecutableSignal signal = readDefinition(ExecutableSignal::new);
+    if (signal != null) {
+      signal.setSignalNameExpression(readExpression());
+      signal.setSignalName(readString());
+    }
+    return signal;
+  }
+
+  private ExecutableLink readLink() {
+    final ExecutableLink link = readDefinition(ExecutableLink::new);
+    if (link != null) {
+      link.setName(readBuffer());
+      readReference(link::setCatchEvent);
+    }
+    return link;
+  }
+
+  private ExecutableCompensation readCompensation() {
+    final ExecutableCompensation compensation = readDefinition(ExecutableCompensation::new);
+    if (compensation != null) {
+      readReference(compensation::setCompensationHandler);
+      readReference(compensation::setReferenceCompensationActivity);
+    }
+    return compensation;
+  }
+
+  private <T extends AbstractFlowElement> T readDefinition(final Function<String, T> factory) {
+    if (!reader.readBoolean()) {
+      return null;
+    }
+
+    final T definition = factory.apply(readString());
+    definition.setElementType(readEnum(BpmnElementType.class));
+    definition.setEventType(readEnum(BpmnEventType.class));
+    return definition;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T element(final int index) {
+    return (T) elements.get(index);
+  }
+
+  private <T> void readReference(final Consumer<T> consumer) {
+    final MsgPackToken token = reader.readToken();
+    if (token.getType() != MsgPackType.NIL) {
+      final int index = (int) token.getIntegerValue();
+      references.add(() -> consumer.accept(element(index)));
+    }
+  }
+
+  private <T> void readReferences(final Collection<T> collection) {
+    readReferences((Consumer<T>) collection::add);
+  }
+
+  private <T> void readReferences(final Consumer<T> consumer) {
+    final int size = reader.readArrayHeader();
+    for (int i = 0; i < size; i++) {
+      final int index = (int) reader.readInteger();
+      references.add(() -> consumer.accept(element(index)));
+    }
+  }
+
+  private Expression readExpression() {
+    final String expression = readString();
+    return expression == null ? null : expressionLanguage.parseExpression(expression);
+  }
+
+  private void readBuffers(final Collection<DirectBuffer> buffers) {
+    final int size = reader.readArrayHeader();
+    for (int i = 0; i < size; i++) {
+      buffers.add(readBuffer());
+    }
+  }
+
+  private DirectBuffer readBuffer() {
+    final MsgPackToken token = reader.readToken();
+    return token.getType() == MsgPackType.NIL ? null : cloneBuffer(token.getValueBuffer());
+  }
+
+  private String readString() {
+    final MsgPackToken token = reader.readToken();
+    return token.getType() == MsgPackType.NIL ? null : bufferAsString(token.getValueBuffer());
+  }
+
+  private <E extends Enum<E>> E readEnum(final Class<E> type) {
+    final String name = readString();
+    return name == null ? null : Enum.valueOf(type, name);
+  }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCallActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCalledDecision;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCompensation;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableError;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEscalation;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEventBasedGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableInclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableIntermediateThrowEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLink;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMessage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableReceiveTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableScript;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSignal;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableUserTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutionListener;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.element.TaskListener;
+import io.camunda.zeebe.engine.processing.deployment.model.element.UserTaskProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessFormat.ElementClass;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Writes an {@link ExecutableProcess} in the binary {@link ExecutableProcessFormat format}, so that
+ * it can be persisted and restored by {@link ExecutableProcessReader} without reading and
+ * transforming its BPMN resource again.
+ *
+ * <p>The writer is not thread-safe, and reuses its buffer for each process it writes.
+ */
+public final class ExecutableProcessWriter {
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final Map<Object, Integer> elementIndexes = new IdentityHashMap<>();
+
+  /**
+   * @param process the process to write
+   * @return a view of the written process, which is only valid until the next process is written
+   * @throws IllegalArgumentException if the process contains an element of an unknown class, or
+   *     references an element which is not part of it
+   */
+  public DirectBuffer write(final ExecutableProcess process) {
+    final List<AbstractFlowElement> elements = collectElements(process);
+    elementIndexes.clear();
+    for (int index = 0; index < elements.size(); index++) {
+      elementIndexes.put(elements.get(index), index);
+    }
+
+    writer.wrap(buffer, 0);
+    writer.writeInteger(ExecutableProcessFormat.VERSION);
+    writer.writeArrayHeader(elements.size());
+    for (final AbstractFlowElement element : elements) {
+      writeElement(process, element);
+    }
+
+    elementIndexes.clear();
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /**
+   * Collects the elements of the process, starting with the process itself. The inner activity of a
+   * multi-instance body is not a flow element of the process, but it is written right before its
+   * body, as the body is created from it.
+   */
+  private static List<AbstractFlowElement> collectElements(final ExecutableProcess process) {
+    final List<AbstractFlowElement> elements = new ArrayList<>();
+    elements.add(process);
+    process.getFlowElements().stream()
+        .filter(element -> element != process)
+        .sorted(Comparator.comparing(element -> bufferAsString(element.getId())))
+        .forEach(
+            element -> {
+              if (element instanceof final ExecutableMultiInstanceBody multiInstanceBody) {
+                elements.add(multiInstanceBody.getInnerActivity());
+              }
+              elements.add(element);
+            });
+    return elements;
+  }
+
+  private void writeElement(final ExecutableProcess process, final AbstractFlowElement element) {
+    final ElementClass elementClass = ElementClass.of(element);
+    writer.writeInteger(elementClass.ordinal());
+    writeBuffer(element.getId());
+    if (element instanceof final ExecutableMultiInstanceBody multiInstanceBody) {
+      writeLoopCharacteristics(multiInstanceBody.getLoopCharacteristics());
+      writeReference(multiInstanceBody.getInnerActivity());
+    }
+
+    writer.writeBoolean(process.getElementById(element.getId()) == element);
+    writeEnum(element.getElementType());
+    writeEnum(element.getEventType());
+    writeReference(element.getFlowScope());
+
+    if (element instanceof final ExecutableFlowNode flowNode) {
+      writeFlowNode(flowNode);
+    }
+    if (element instanceof final ExecutableActivity activity) {
+      writeActivity(activity);
+    }
+    if (element instanceof final ExecutableFlowElementContainer container) {
+      writeReferences(container.getStartEvents());
+      writeReferences(container.getChildElements());
+    }
+    if (element instanceof final ExecutableCallActivity callActivity) {
+      writeCallActivity(callActivity);
+    }
+    if (element instanceof final ExecutableJobWorkerElement jobWorkerElement) {
+      writeJobWorkerProperties(jobWorkerElement.getJobWorkerProperties());
+    }
+    if (element instanceof final ExecutableCalledDecision calledDecision) {
+      writeExpression(calledDecision.getDecisionId());
+      writeString(calledDecision.getResultVariable());
+      writeEnum(calledDecision.getBindingType());
+      writeString(calledDecision.getVersionTag());
+    }
+    if (element instanceof final ExecutableScript script) {
+      writeExpression(script.getExpression());
+      writeString(script.getResultVariable());
+    }
+    if (element instanceof final ExecutableUserTask userTask) {
+      writeUserTask(userTask);
+    }
+    if (element instanceof final ExecutableReceiveTask receiveTask) {
+      writeMessage(receiveTask.getMessage());
+    }
+    if (element instanceof final ExecutableExclusiveGateway exclusiveGateway) {
+      writeReferences(exclusiveGateway.getOutgoingWithCondition());
+      writeReference(exclusiveGateway.getDefaultFlow());
+    }
+    if (element instanceof final ExecutableInclusiveGateway inclusiveGateway) {
+      writeReferences(inclusiveGateway.getOutgoingWithCondition());
+      writeReference(inclusiveGateway.getDefaultFlow());
+    }
+    if (element instanceof final ExecutableEventBasedGateway eventBasedGateway) {
+      writeNullableReferences(eventBasedGateway.getEvents());
+    }
+    if (element instanceof final ExecutableCatchEventElement catchEvent) {
+      writeCatchEvent(catchEvent);
+    }
+    if (element instanceof final ExecutableStartEvent startEvent) {
+      writeBuffer(startEvent.getEventSubProcess());
+    }
+    if (element instanceof final ExecutableIntermediateThrowEvent throwEvent) {
+      writeLink(throwEvent.getLink());
+      writeEscalation(throwEvent.getEscalation());
+      writeSignal(throwEvent.getSignal());
+      writeCompensation(throwEvent.getCompensation());
+    }
+    if (element instanceof final ExecutableEndEvent endEvent) {
+      writeError(endEvent.getError());
+      writeEscalation(endEvent.getEscalation());
+      writeSignal(endEvent.getSignal());
+      writer.writeBoolean(endEvent.isTerminateEndEvent());
+      writeCompensation(endEvent.getCompensation());
+    }
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      writeReference(sequenceFlow.getSource());
+      writeReference(sequenceFlow.getTarget());
+      writeExpression(sequenceFlow.getCondition());
+    }
+  }
+
+  private void writeFlowNode(final ExecutableFlowNode flowNode) {
+    writeReferences(flowNode.getIncoming());
+    writeReferences(flowNode.getOutgoing());
+    writeExpression(flowNode.getInputMappings().orElse(null));
+    writeExpression(flowNode.getOutputMappings().orElse(null));
+
+    final List<ExecutionListener> executionListeners = flowNode.getExecutionListeners();
+    writer.writeArrayHeader(executionListeners.size());
+    for (final ExecutionListener listener : executionListeners) {
+      writeEnum(listener.getEventType());
+      writeJobWorkerProperties(listener.getJobWorkerProperties());
+    }
+  }
+
+  private void writeActivity(final ExecutableActivity activity) {
+    writeReferences(activity.getBoundaryEvents());
+    writeReferences(activity.getEventSubprocesses());
+    writeReferences(activity.getEvents());
+    writeBuffers(activity.getInterruptingElementIds());
+    writeBuffers(activity.getBoundaryElementIds());
+  }
+
+  private void writeLoopCharacteristics(final ExecutableLoopCharacteristics loopCharacteristics) {
+    writer.writeBoolean(loopCharacteristics.isSequential());
+    writeExpression(loopCharacteristics.getCompletionCondition().orElse(null));
+    writeExpression(loopCharacteristics.getInputCollection());
+    writeBuffer(loopCharacteristics.getInputElement().orElse(null));
+    writeBuffer(loopCharacteristics.getOutputCollection().orElse(null));
+    writeExpression(loopCharacteristics.getOutputElement().orElse(null));
+  }
+
+  private void writeCallActivity(final ExecutableCallActivity callActivity) {
+    writeExpression(callActivity.getCalledElementProcessId());
+    writer.writeBoolean(callActivity.isPropagateAllChildVariablesEnabled());
+    writer.writeBoolean(callActivity.isPropagateAllParentVariablesEnabled());
+    writer.writeInteger(callActivity.getLexicographicIndex());
+    writeEnum(callActivity.getBindingType());
+    writeString(callActivity.getVersionTag());
+  }
+
+  private void writeUserTask(final ExecutableUserTask userTask) {
+    final UserTaskProperties userTaskProperties = userTask.getUserTaskProperties();
+    writer.writeBoolean(userTaskProperties != null);
+    if (userTaskProperties != null) {
+      writeUserTaskProperties(userTaskProperties);
+    }
+
+    final List<TaskListener> taskListeners = userTask.getTaskListeners();
+    writer.writeArrayHeader(taskListeners.size());
+    for (final TaskListener listener : taskListeners) {
+      writeEnum(listener.getEventType());
+      writeJobWorkerProperties(listener.getJobWorkerProperties());
+    }
+  }
+
+  private void writeCatchEvent(final ExecutableCatchEventElement catchEvent) {
+    writeMessage(catchEvent.getMessage());
+    writeError(catchEvent.getError());
+    writeEscalation(catchEvent.getEscalation());
+    writeSignal(catchEvent.getSignal());
+    writeCompensation(catchEvent.getCompensation());
+    writer.writeBoolean(catchEvent.interrupting());
+    writeEnum(catchEvent.getTimerType());
+    writeExpression(catchEvent.getTimerExpression());
+    writer.writeBoolean(catchEvent.isConnectedToEventBasedGateway());
+    writer.writeBoolean(catchEvent.isLink());
+    writer.writeBoolean(catchEvent.isCompensation());
+  }
+
+  private void writeJobWorkerProperties(final JobWorkerProperties jobWorkerProperties) {
+    writer.writeBoolean(jobWorkerProperties != null);
+    if (jobWorkerProperties == null) {
+      return;
+    }
+
+    writeExpression(jobWorkerProperties.getType());
+    writeExpression(jobWorkerProperties.getRetries());
+    writeUserTaskProperties(jobWorkerProperties);
+  }
+
+  private void writeUserTaskProperties(final UserTaskProperties userTaskProperties) {
+    writeExpression(userTaskProperties.getAssignee());
+    writeExpression(userTaskProperties.getCandidateGroups());
+    writeExpression(userTaskProperties.getCandidateUsers());
+    writeExpression(userTaskProperties.getDueDate());
+    writeExpression(userTaskProperties.getExternalFormReference());
+    writeExpression(userTaskProperties.getFollowUpDate());
+    writeExpression(userTaskProperties.getFormId());
+    writeExpression(userTaskProperties.getPriority());
+    writeEnum(userTaskProperties.getFormBindingType());
+    writeString(userTaskProperties.getFormVersionTag());
+
+    final Map<String, String> taskHeaders = userTaskProperties.getTaskHeaders();
+    writer.writeMapHeader(taskHeaders.size());
+    for (final Map.Entry<String, String> header : taskHeaders.entrySet()) {
+      writeString(header.getKey());
+      writeString(header.getValue());
+    }
+  }
+
+  private void writeMessage(final ExecutableMessage message) {
+    if (writeDefinition(message)) {
+      writeExpression(message.getCorrelationKeyExpression());
+      writeExpression(message.getMessageNameExpression());
+      writeString(message.getMessageName().orElse(null));
+    }
+  }
+
+  private void writeError(final ExecutableError error) {
+    if (writeDefinition(error)) {
+      writeBuffer(error.getErrorCode().orElse(null));
+      writeExpression(error.getErrorCodeExpression());
+    }
+  }
+
+  private void writeEscalation(final ExecutableEscalation escalation) {
+    if (writeDefinition(escalation)) {
+      writeBuffer(escalation.getEscalationCode().orElse(null));
+      writeExpression(escalation.getEscalationCodeExpression());
+    }
+  }
+
+  private void writeSignal(final ExecutableSignal signal) {
+    if (writeDefinition(signal)) {
+      writeExpression(signal.getSignalNameExpression());
+      writeString(signal.getSignalName().orElse(null));
+    }
+  }
+
+  private void writeLink(final ExecutableLink link) {
+    if (writeDefinition(link)) {
+      writeBuffer(link.getName());
+      writeReference(link.getCatchEventElement());
+    }
+  }
+
+  private void writeCompensation(final ExecutableCompensation compensation) {
+    if (writeDefinition(compensation)) {
+      writeReference(compensation.getCompensationHandler());
+      writeReference(compensation.getReferenceCompensationActivity());
+    }
+  }
+
+  /**
+   * Writes the common properties of a definition which is referenced by an element, e.g. a message.
+   * Definitions are not flow elements of the process, so they are written with each element which
+   * references them.
+   *
+   * @return {@code true} if the definition is present, and its own properties must be written
+   */
+  private boolean writeDefinition(final AbstractFlowElement definition) {
+    writer.writeBoolean(definition != null);
+    if (definition == null) {
+      return false;
+    }
+
+    writeBuffer(definition.getId());
+    writeEnum(definition.getElementType());
+    writeEnum(definition.getEventType());
+    return true;
+  }
+
+  private void writeReference(final Object element) {
+    if (element == null) {
+      writer.writeNil();
+      return;
+    }
+
+    final Integer index = elementIndexes.get(element);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected referenced element '%s' to be part of the process, but it is not",
+              bufferAsString(((AbstractFlowElement) element).getId())));
+    }
+    writer.writeInteger(index);
+  }
+
+  private void writeReferences(final Collection<?> elements) {
+    writer.writeArrayHeader(elements.size());
+    elements.forEach(this::writeReference);
+  }
+
+  private void writeNullableReferences(final Collection<?> elements) {
+    if (elements == null) {
+      writer.writeNil();
+    } else {
+      writeReferences(elements);
+    }
+  }
+
+  private void writeExpression(final Expression expression) {
+    if (expression == null) {
+      writer.writeNil();
+    } else if (expression.isStatic()) {
+      writeString(expression.getExpression());
+    } else {
+      // the source of a FEEL expression is prefixed, but the parsed expression omits the prefix
+      writeString("=" + expression.getExpression());
+    }
+  }
+
+  private void writeBuffers(final Collection<DirectBuffer> buffers) {
+    writer.writeArrayHeader(buffers.size());
+    buffers.forEach(this::writeBuffer);
+  }
+
+  private void writeBuffer(final DirectBuffer value) {
+    if (value == null) {
+      writer.writeNil();
+    } else {
+      writer.writeString(value);
+    }
+  }
+
+  private void writeString(final String value) {
+    writeBuffer(value == null ? null : wrapString(value));
+  }
+
+  private void writeEnum(final Enum<?> value) {
+    writeString(value == null ? null : value.name());
+  }
+}
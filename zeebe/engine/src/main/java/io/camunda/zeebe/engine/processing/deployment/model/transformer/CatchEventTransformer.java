@@ -9,9 +9,11 @@ package io.camunda.zeebe.engine.processing.deployment.model.transformer;
 
 import io.camunda.zeebe.el.Expression;
 import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement.TimerType;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCompensation;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableError;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEscalation;
@@ -36,6 +38,7 @@ import io.camunda.zeebe.model.bpmn.instance.SignalEventDefinition;
 import io.camunda.zeebe.model.bpmn.instance.TimerEventDefinition;
 import io.camunda.zeebe.model.bpmn.util.time.RepeatingInterval;
 import io.camunda.zeebe.model.bpmn.util.time.TimeDateTimer;
+import io.camunda.zeebe.model.bpmn.util.time.Timer;
 import io.camunda.zeebe.protocol.record.value.BpmnEventType;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
@@ -43,6 +46,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
 public final class CatchEventTransformer implements ModelElementTransformer<CatchEvent> {
 
@@ -111,20 +115,40 @@ public final class CatchEventTransformer implements ModelElementTransformer<Catc
 
     executableElement.setEventType(BpmnEventType.TIMER);
 
-    final Expression expression;
     if (timerEventDefinition.getTimeDuration() != null) {
       final String duration = timerEventDefinition.getTimeDuration().getTextContent();
-      expression = expressionLanguage.parseExpression(duration);
-      executableElement.setTimerFactory(
-          (expressionProcessor, scopeKey) ->
-              expressionProcessor
-                  .evaluateIntervalExpression(expression, scopeKey)
-                  .map(interval -> new RepeatingInterval(1, interval)));
+      setTimer(executableElement, TimerType.DURATION, expressionLanguage.parseExpression(duration));
 
     } else if (timerEventDefinition.getTimeCycle() != null) {
       final String cycle = timerEventDefinition.getTimeCycle().getTextContent();
-      expression = expressionLanguage.parseExpression(cycle);
-      executableElement.setTimerFactory(
+      setTimer(executableElement, TimerType.CYCLE, expressionLanguage.parseExpression(cycle));
+
+    } else if (timerEventDefinition.getTimeDate() != null) {
+      final String timeDate = timerEventDefinition.getTimeDate().getTextContent();
+      setTimer(executableElement, TimerType.DATE, expressionLanguage.parseExpression(timeDate));
+    }
+  }
+
+  /**
+   * Sets the timer of the catch event, as defined by the given type and expression. It is used to
+   * restore the timers of persisted executable processes as well.
+   */
+  public static void setTimer(
+      final ExecutableCatchEventElement executableElement,
+      final TimerType timerType,
+      final Expression expression) {
+    executableElement.setTimer(timerType, expression, createTimerFactory(timerType, expression));
+  }
+
+  private static BiFunction<ExpressionProcessor, Long, Either<Failure, Timer>> createTimerFactory(
+      final TimerType timerType, final Expression expression) {
+    return switch (timerType) {
+      case DURATION ->
+          (expressionProcessor, scopeKey) ->
+              expressionProcessor
+                  .evaluateIntervalExpression(expression, scopeKey)
+                  .map(interval -> new RepeatingInterval(1, interval));
+      case CYCLE ->
           (expressionProcessor, scopeKey) -> {
             try {
               return expressionProcessor
@@ -141,17 +165,13 @@ public final class CatchEventTransformer implements ModelElementTransformer<Catc
               return Either.left(
                   new Failure(e.getMessage(), ErrorType.EXTRACT_VALUE_ERROR, scopeKey));
             }
-          });
-
-    } else if (timerEventDefinition.getTimeDate() != null) {
-      final String timeDate = timerEventDefinition.getTimeDate().getTextContent();
-      expression = expressionLanguage.parseExpression(timeDate);
-      executableElement.setTimerFactory(
+          };
+      case DATE ->
           (expressionProcessor, scopeKey) ->
               expressionProcessor
                   .evaluateDateTimeExpression(expression, scopeKey)
-                  .map(TimeDateTimer::new));
-    }
+                  .map(TimeDateTimer::new);
+    };
   }
 
   private void transformErrorEventDefinition(
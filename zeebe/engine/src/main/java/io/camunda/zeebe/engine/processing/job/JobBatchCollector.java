@@ -116,7 +116,10 @@ final class JobBatchCollector {
             // if no jobs were activated, then the current job is simply too large, and we cannot
             // activate it
             if (activatedCount.value == 0) {
-              unwritableJob.set(new TooLargeJob(key, jobRecord, expectedEventLength));
+              // the record is only a view on the state, copy it before it escapes the callback
+              final var tooLargeJobRecord = new JobRecord();
+              tooLargeJobRecord.copyFrom(jobRecord);
+              unwritableJob.set(new TooLargeJob(key, tooLargeJobRecord, expectedEventLength));
             }
 
             value.setTruncated(true);
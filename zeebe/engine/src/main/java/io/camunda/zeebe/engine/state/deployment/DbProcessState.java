@@ -22,10 +22,14 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessReader;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessWriter;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -44,12 +48,16 @@ import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
+import org.slf4j.Logger;
 
 public final class DbProcessState implements MutableProcessState {
 
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableProcessWriter executableProcessWriter = new ExecutableProcessWriter();
+  private final ExecutableProcessReader executableProcessReader;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -108,13 +116,17 @@ public final class DbProcessState implements MutableProcessState {
       processDefinitionKeyByProcessIdAndVersionTagColumnFamily;
 
   private final VersionManager versionManager;
+  private final ProcessCacheMetrics cacheMetrics;
 
   public DbProcessState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
+      final int partitionId,
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    executableProcessReader = BpmnFactory.createExecutableProcessReader(clock);
+    cacheMetrics = new ProcessCacheMetrics(partitionId);
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -250,7 +262,27 @@ public final class DbProcessState implements MutableProcessState {
     final var process = processColumnFamily.get(tenantAwareProcessDefinitionKey);
     process.setState(state);
     processColumnFamily.update(tenantAwareProcessDefinitionKey, process);
-    updateInMemoryState(process);
+
+    // the executable process does not depend on the state, so there is no need to transform the
+    // resource again; a process which is not cached is loaded with its new state on next access
+    final var cachedProcess = getCachedProcess(process);
+    if (cachedProcess != null) {
+      addProcessToInMemoryState(
+          new DeployedProcess(cachedProcess.getProcess(), copyPersistedProcess(process)));
+    }
+  }
+
+  private DeployedProcess getCachedProcess(final PersistedProcess process) {
+    final var cachedProcess =
+        processByTenantAndKeyCache.getIfPresent(
+            new TenantIdAndProcessDefinitionKey(process.getTenantId(), process.getKey()));
+    if (cachedProcess != null) {
+      return cachedProcess;
+    }
+
+    return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
+        new TenantIdAndProcessIdAndVersion(
+            process.getTenantId(), process.getBpmnProcessId(), process.getVersion()));
   }
 
   @Override
@@ -310,6 +342,7 @@ public final class DbProcessState implements MutableProcessState {
   private void persistProcess(final long processDefinitionKey, final ProcessRecord processRecord) {
     tenantIdKey.wrapString(processRecord.getTenantId());
     persistedProcess.wrap(processRecord, processDefinitionKey);
+    writeExecutableProcess(processDefinitionKey, processRecord);
     this.processDefinitionKey.wrapLong(processDefinitionKey);
 
     processColumnFamily.upsert(tenantAwareProcessDefinitionKey, persistedProcess);
@@ -320,6 +353,29 @@ public final class DbProcessState implements MutableProcessState {
     processByIdAndVersionColumnFamily.upsert(tenantAwareProcessIdAndVersionKey, persistedProcess);
   }
 
+  /**
+   * Persists the process as transformed from its resource, so that a cache miss can read the
+   * executable process directly instead of transforming the resource again. If the process cannot
+   * be written, it is persisted without it and a cache miss transforms its resource instead.
+   */
+  private void writeExecutableProcess(
+      final long processDefinitionKey, final ProcessRecord processRecord) {
+    try {
+      final ExecutableProcess executableProcess =
+          transformProcess(
+              processDefinitionKey,
+              processRecord.getBpmnProcessIdBuffer(),
+              processRecord.getResourceBuffer());
+      persistedProcess.setExecutableProcess(executableProcessWriter.write(executableProcess));
+    } catch (final RuntimeException e) {
+      LOG.warn(
+          "Expected to persist the executable process with key '{}', but failed to write it; it"
+              + " will be transformed from its resource whenever it is not cached",
+          processDefinitionKey,
+          e);
+    }
+  }
+
   private void updateLatestVersion(final ProcessRecord processRecord) {
     processId.wrapBuffer(processRecord.getBpmnProcessIdBuffer());
     final var bpmnProcessId = processRecord.getBpmnProcessId();
@@ -329,42 +385,72 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    final ExecutableProcess executableProcess = loadExecutableProcess(persistedProcess);
 
     // we have to copy to store this in cache
-    final byte[] bytes = new byte[persistedProcess.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    persistedProcess.write(buffer, 0);
+    final PersistedProcess copiedProcess = copyPersistedProcess(persistedProcess);
+    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
-    final PersistedProcess copiedProcess = new PersistedProcess();
-    copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
+    addProcessToInMemoryState(deployedProcess);
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+    return deployedProcess;
+  }
 
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+  private ExecutableProcess loadExecutableProcess(final PersistedProcess persistedProcess) {
+    final DirectBuffer executableProcess = persistedProcess.getExecutableProcess();
+    if (executableProcessReader.canRead(executableProcess)) {
+      try (final var ignored = cacheMetrics.observeExecutableProcessLoad()) {
+        return executableProcessReader.read(executableProcess);
+      }
+    }
 
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
+    // the process was deployed before its executable process was persisted, or the executable
+    // process was written in another format version
+    try (final var ignored = cacheMetrics.observeResourceLoad()) {
+      return transformProcess(
+          persistedProcess.getKey(),
+          persistedProcess.getBpmnProcessId(),
+          persistedProcess.getResource());
+    }
+  }
 
-    addProcessToInMemoryState(deployedProcess);
+  private ExecutableProcess transformProcess(
+      final long processDefinitionKey,
+      final DirectBuffer bpmnProcessId,
+      final DirectBuffer resource) {
+    final BpmnModelInstance modelInstance = readModelInstanceFromBuffer(resource);
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
 
-    return deployedProcess;
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(bpmnProcessId, process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        processDefinitionKey)));
+  }
+
+  /**
+   * Copies the persisted process to keep it in the cache. The executable process is only needed to
+   * load the process, so it is removed from the given process before copying it.
+   */
+  private PersistedProcess copyPersistedProcess(final PersistedProcess persistedProcess) {
+    persistedProcess.resetExecutableProcess();
+    final byte[] bytes = new byte[persistedProcess.getLength()];
+    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+    persistedProcess.write(buffer, 0);
+
+    final PersistedProcess copiedProcess = new PersistedProcess();
+    copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
+    return copiedProcess;
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      return Bpmn.readExecutableModelFromStream(stream);
     }
   }
 
@@ -526,13 +612,9 @@ public final class DbProcessState implements MutableProcessState {
     tenantIdKey.wrapString(tenantId);
     processVersion.wrapLong(latestVersion);
 
-    final PersistedProcess processWithVersionAndId =
-        processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
-
-    if (processWithVersionAndId != null) {
-      return updateInMemoryState(processWithVersionAndId);
-    }
-    return null;
+    // the persisted process is copied when transforming it, so it can be read without copying
+    return processByIdAndVersionColumnFamily.getDirect(
+        tenantAwareProcessIdAndVersionKey, this::updateInMemoryState);
   }
 
   private DeployedProcess lookupPersistenceState(
@@ -541,12 +623,11 @@ public final class DbProcessState implements MutableProcessState {
     processId.wrapBuffer(processIdBuffer);
     processVersion.wrapLong(version);
 
-    final PersistedProcess processWithVersionAndId =
-        processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
-
-    if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
+    final DeployedProcess deployedProcess =
+        processByIdAndVersionColumnFamily.getDirect(
+            tenantAwareProcessIdAndVersionKey, this::updateInMemoryState);
 
+    if (deployedProcess != null) {
       final var tenantIdAndProcessIdAndVersion =
           new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
 
@@ -563,11 +644,9 @@ public final class DbProcessState implements MutableProcessState {
     tenantIdKey.wrapString(tenantId);
     this.processDefinitionKey.wrapLong(processDefinitionKey);
 
-    final PersistedProcess processWithKey =
-        processColumnFamily.get(tenantAwareProcessDefinitionKey);
-    if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
+    final DeployedProcess deployedProcess =
+        processColumnFamily.getDirect(tenantAwareProcessDefinitionKey, this::updateInMemoryState);
+    if (deployedProcess != null) {
       final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
       return processByTenantAndKeyCache.getIfPresent(key);
     }
@@ -19,6 +19,7 @@ import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class PersistedProcess extends UnpackedObject implements DbValue {
   private final IntegerProperty versionProp = new IntegerProperty("version", -1);
@@ -33,8 +34,15 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
   private final LongProperty deploymentKeyProp = new LongProperty("deploymentKey", -1L);
   private final StringProperty versionTagProp = new StringProperty("versionTag", "");
 
+  /**
+   * The process as transformed from its resource and written by {@code ExecutableProcessWriter}. It
+   * is empty for processes which were deployed before it was introduced.
+   */
+  private final BinaryProperty executableProcessProp =
+      new BinaryProperty("executableProcess", new UnsafeBuffer());
+
   public PersistedProcess() {
-    super(9);
+    super(10);
     declareProperty(versionProp)
         .declareProperty(keyProp)
         .declareProperty(bpmnProcessIdProp)
@@ -43,7 +51,8 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
         .declareProperty(stateProp)
         .declareProperty(tenantIdProp)
         .declareProperty(deploymentKeyProp)
-        .declareProperty(versionTagProp);
+        .declareProperty(versionTagProp)
+        .declareProperty(executableProcessProp);
   }
 
   public void wrap(final ProcessRecord processRecord, final long processDefinitionKey) {
@@ -56,6 +65,7 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     tenantIdProp.setValue(processRecord.getTenantId());
     deploymentKeyProp.setValue(processRecord.getDeploymentKey());
     versionTagProp.setValue(processRecord.getVersionTag());
+    executableProcessProp.reset();
   }
 
   public int getVersion() {
@@ -82,6 +92,20 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     return resourceProp.getValue();
   }
 
+  public DirectBuffer getExecutableProcess() {
+    return executableProcessProp.getValue();
+  }
+
+  public PersistedProcess setExecutableProcess(final DirectBuffer executableProcess) {
+    executableProcessProp.setValue(executableProcess);
+    return this;
+  }
+
+  public PersistedProcess resetExecutableProcess() {
+    executableProcessProp.reset();
+    return this;
+  }
+
   public PersistedProcessState getState() {
     return stateProp.getValue();
   }
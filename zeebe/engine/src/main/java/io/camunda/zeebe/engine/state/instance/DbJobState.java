@@ -24,6 +24,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -37,6 +38,11 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  // activatable jobs are looked up in batches which grow up to the maximum size, so that a small
+  // activation does not read more jobs than necessary
+  private static final int MIN_ACTIVATABLE_JOBS_BATCH_SIZE = 4;
+  private static final int MAX_ACTIVATABLE_JOBS_BATCH_SIZE = 64;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -73,6 +79,13 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  private final DbLong[] activatableJobKeys = new DbLong[MAX_ACTIVATABLE_JOBS_BATCH_SIZE];
+  private final List<DbLong> activatableJobKeysBatch =
+      new ArrayList<>(MAX_ACTIVATABLE_JOBS_BATCH_SIZE);
+  private int activatableJobsBatchSize;
+  private int activatableJobsFound;
+  private boolean continueVisitingActivatableJobs;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -108,6 +121,10 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    for (int i = 0; i < activatableJobKeys.length; i++) {
+      activatableJobKeys[i] = new DbLong();
+    }
   }
 
   @Override
@@ -408,6 +425,9 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeysBatch.clear();
+    activatableJobsBatchSize = MIN_ACTIVATABLE_JOBS_BATCH_SIZE;
+    continueVisitingActivatableJobs = true;
 
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
@@ -416,11 +436,54 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            final DbLong batchedJobKey = activatableJobKeys[activatableJobKeysBatch.size()];
+            batchedJobKey.wrapLong(jobKey.getValue());
+            activatableJobKeysBatch.add(batchedJobKey);
+
+            if (activatableJobKeysBatch.size() >= activatableJobsBatchSize) {
+              activatableJobsBatchSize =
+                  Math.min(activatableJobsBatchSize * 2, MAX_ACTIVATABLE_JOBS_BATCH_SIZE);
+              return visitActivatableJobsBatch(callback);
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (continueVisitingActivatableJobs) {
+      visitActivatableJobsBatch(callback);
+    }
+  }
+
+  /**
+   * Looks up all jobs of the current batch at once, and visits them in order of their keys until
+   * the callback returns false.
+   *
+   * @return true if the iteration over the activatable jobs should continue
+   */
+  private boolean visitActivatableJobsBatch(final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (activatableJobKeysBatch.isEmpty()) {
+      return continueVisitingActivatableJobs;
+    }
+
+    activatableJobsFound = 0;
+    jobsColumnFamily.multiGet(
+        activatableJobKeysBatch,
+        (key, job) -> {
+          activatableJobsFound++;
+          continueVisitingActivatableJobs = callback.apply(key.getValue(), job.getRecord());
+          return continueVisitingActivatableJobs;
+        });
+
+    if (continueVisitingActivatableJobs && activatableJobsFound < activatableJobKeysBatch.size()) {
+      LOG.warn(
+          "Expected to find {} activatable jobs, but only {} jobs were found",
+          activatableJobKeysBatch.size(),
+          activatableJobsFound);
+    }
+
+    activatableJobKeysBatch.clear();
+    return continueVisitingActivatableJobs;
   }
 
   @Override
@@ -61,4 +61,11 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Clears the cached scope hierarchies used to look up variables. Expected to be called before
+   * processing a command and after a transaction was rolled back, such that the cache never
+   * outlives the changes it was built from.
+   */
+  void clearScopeChainCache();
 }
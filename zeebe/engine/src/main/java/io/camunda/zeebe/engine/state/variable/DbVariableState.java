@@ -27,12 +27,16 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final int MAX_CACHED_SCOPE_CHAINS = 1024;
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -52,6 +56,10 @@ public class DbVariableState implements MutableVariableState {
   private final VariableInstance newVariable = new VariableInstance();
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
+  // (scope key) => (scope keys from the scope up to its root scope), see #getScopeChain
+  private final Long2ObjectHashMap<long[]> scopeChainCache = new Long2ObjectHashMap<>();
+  private final LongArrayList scopeChainBuilder = new LongArrayList();
+
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
@@ -117,6 +125,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    scopeChainCache.remove(childKey);
   }
 
   @Override
@@ -128,6 +137,14 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+
+    // the scope may be part of the cached chains of other scopes as well
+    clearScopeChainCache();
+  }
+
+  @Override
+  public void clearScopeChainCache() {
+    scopeChainCache.clear();
   }
 
   @Override
@@ -177,17 +194,14 @@ public class DbVariableState implements MutableVariableState {
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
 
-    long currentScopeKey = scopeKey;
-    do {
+    for (final long currentScopeKey : getScopeChain(scopeKey)) {
       final VariableInstance variable =
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
       if (variable != null) {
         return variable.getValue();
       }
-
-      currentScopeKey = getParentScopeKey(currentScopeKey);
-    } while (currentScopeKey >= 0);
+    }
 
     return null;
   }
@@ -316,6 +330,37 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Returns the keys of the given scope and all its ancestors, starting with the given scope. The
+   * chain is resolved once and then cached, such that lookups walking up the scope hierarchy, e.g.
+   * to evaluate expressions or apply output mappings, don't read the parent of every scope again.
+   *
+   * <p>The cache is cleared whenever a scope is removed, and before processing a command via {@link
+   * #clearScopeChainCache()}, which also covers scopes created in a transaction which was rolled
+   * back.
+   */
+  private long[] getScopeChain(final long scopeKey) {
+    final long[] cachedChain = scopeChainCache.get(scopeKey);
+    if (cachedChain != null) {
+      return cachedChain;
+    }
+
+    scopeChainBuilder.clear();
+    long currentScopeKey = scopeKey;
+    do {
+      scopeChainBuilder.addLong(currentScopeKey);
+      currentScopeKey = getParentScopeKey(currentScopeKey);
+    } while (currentScopeKey >= 0);
+
+    if (scopeChainCache.size() >= MAX_CACHED_SCOPE_CHAINS) {
+      scopeChainCache.clear();
+    }
+
+    final long[] chain = scopeChainBuilder.toLongArray();
+    scopeChainCache.put(scopeKey, chain);
+    return chain;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -325,15 +370,11 @@ public class DbVariableState implements MutableVariableState {
       final Predicate<DbString> filter,
       final BiConsumer<DbString, VariableInstance> variableConsumer,
       final BooleanSupplier completionCondition) {
-    long currentScope = scopeKey;
-
-    boolean completed;
-    do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
-
-      currentScope = getParentScopeKey(currentScope);
-
-    } while (!completed && currentScope >= 0);
+    for (final long currentScope : getScopeChain(scopeKey)) {
+      if (visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition)) {
+        return;
+      }
+    }
   }
 
   /**
@@ -363,6 +404,6 @@ public class DbVariableState implements MutableVariableState {
 
           return !completionCondition.getAsBoolean();
         });
-    return false;
+    return completionCondition.getAsBoolean();
   }
 }
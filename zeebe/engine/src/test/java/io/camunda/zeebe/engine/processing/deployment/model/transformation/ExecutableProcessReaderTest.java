@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEventElement.TimerType;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableUserTask;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeTaskListenerEventType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.InstantSource;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that processes which are written by {@link ExecutableProcessWriter} and read by {@link
+ * ExecutableProcessReader} are exactly like the processes transformed from their BPMN resource.
+ */
+final class ExecutableProcessReaderTest {
+
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer(InstantSource.system());
+  private final ExecutableProcessWriter writer = new ExecutableProcessWriter();
+  private final ExecutableProcessReader reader =
+      BpmnFactory.createExecutableProcessReader(InstantSource.system());
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/processes/callActivity.bpmn",
+        "/processes/collaboration.bpmn",
+        "/processes/collaboration-with-lanes.bpmn",
+        "/processes/event-based-gateway.bpmn",
+        "/processes/exclusive-gateway.bpmn",
+        "/processes/LinkEventTest.testValidEventLink.bpmn",
+        "/processes/LinkEventTest.testEventLinkMultipleSources.bpmn",
+        "/compensation/compensation-boundary-event.bpmn",
+        "/compensation/compensation-embedded-subprocess.bpmn",
+        "/compensation/compensation-end-event.bpmn",
+        "/compensation/compensation-multi-instance-activity-parallel.bpmn",
+        "/compensation/compensation-multi-subprocess.bpmn",
+        "/compensation/compensation-throw-event.bpmn"
+      })
+  void shouldReadProcessLikeTransformedResource(final String resource) throws IOException {
+    // given
+    final BpmnModelInstance model;
+    try (final InputStream stream = getClass().getResourceAsStream(resource)) {
+      model = Bpmn.readModelFromStream(stream);
+    }
+
+    // when/then
+    for (final ExecutableProcess expected : transformer.transformDefinitions(model)) {
+      assertSameProcess(writeAndRead(expected), expected);
+    }
+  }
+
+  @Test
+  void shouldReadElementsWithProperties() {
+    // given
+    final BpmnModelInstance model =
+        Bpmn.createExecutableProcess("process")
+            .eventSubProcess(
+                "event-sub-process",
+                sub ->
+                    sub.startEvent("message-start")
+                        .interrupting(false)
+                        .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"))
+                        .endEvent("escalation-end", e -> e.escalation("escalation")))
+            .startEvent("start")
+            .zeebeStartExecutionListener("start-listener")
+            .userTask(
+                "user-task",
+                t ->
+                    t.zeebeUserTask()
+                        .zeebeAssignee("=assignee")
+                        .zeebeCandidateGroups("a, b")
+                        .zeebeTaskHeader("key", "value")
+                        .zeebeTaskListener(
+                            l -> l.eventType(ZeebeTaskListenerEventType.complete).type("listener")))
+            .boundaryEvent("cycle", b -> b.cancelActivity(false).timerWithCycle("R3/PT1H"))
+            .endEvent("cycle-end")
+            .moveToActivity("user-task")
+            .serviceTask(
+                "multi-instance",
+                t ->
+                    t.zeebeJobType("type")
+                        .zeebeJobRetries("=retries")
+                        .zeebeInputExpression("x", "y")
+                        .multiInstance(
+                            m ->
+                                m.zeebeInputCollectionExpression("items")
+                                    .zeebeInputElement("item")
+                                    .zeebeOutputCollection("results")
+                                    .zeebeOutputElementExpression("result")
+                                    .completionCondition("=done")))
+            .boundaryEvent("error", b -> b.error("error-code"))
+            .endEvent("error-end")
+            .moveToActivity("multi-instance")
+            .inclusiveGateway("fork")
+            .defaultFlow()
+            .scriptTask("script", s -> s.zeebeExpression("1 + 1").zeebeResultVariable("two"))
+            .intermediateCatchEvent("date", c -> c.timerWithDate("=now()"))
+            .intermediateThrowEvent("signal", t -> t.signal("signal"))
+            .businessRuleTask(
+                "decision", t -> t.zeebeCalledDecisionId("decision").zeebeResultVariable("r"))
+            .receiveTask("receive")
+            .message(m -> m.name("received").zeebeCorrelationKeyExpression("key"))
+            .callActivity("call", c -> c.zeebeProcessId("child"))
+            .endEvent("end", e -> e.terminate())
+            .moveToNode("fork")
+            .conditionExpression("x > 1")
+            .intermediateCatchEvent("duration", c -> c.timerWithDuration("PT1M"))
+            .endEvent("duration-end")
+            .done();
+    final ExecutableProcess expected = transformer.transformDefinitions(model).getFirst();
+
+    // when
+    final ExecutableProcess actual = writeAndRead(expected);
+
+    // then
+    assertSameProcess(actual, expected);
+
+    final ExecutableMultiInstanceBody multiInstanceBody =
+        actual.getElementById("multi-instance", ExecutableMultiInstanceBody.class);
+    assertThat(multiInstanceBody.getInnerActivity().getFlowScope()).isSameAs(multiInstanceBody);
+    assertThat(actual.getElementById("cycle", ExecutableCatchEventElement.class).getTimerType())
+        .isEqualTo(TimerType.CYCLE);
+    assertThat(actual.getElementById("user-task", ExecutableUserTask.class).getTaskListeners())
+        .hasSize(1);
+  }
+
+  @Test
+  void shouldNotReadEmptyBuffer() {
+    assertThat(reader.canRead(new UnsafeBuffer())).isFalse();
+  }
+
+  @Test
+  void shouldNotReadOtherFormatVersion() {
+    // given
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    final MsgPackWriter versionWriter = new MsgPackWriter().wrap(buffer, 0);
+    versionWriter.writeInteger(ExecutableProcessFormat.VERSION + 1);
+    final DirectBuffer written = new UnsafeBuffer(buffer, 0, versionWriter.getOffset());
+
+    // when/then
+    assertThat(reader.canRead(written)).isFalse();
+    assertThatThrownBy(() -> reader.read(written))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("format version");
+  }
+
+  private ExecutableProcess writeAndRead(final ExecutableProcess process) {
+    final DirectBuffer written = BufferUtil.cloneBuffer(writer.write(process));
+    assertThat(reader.canRead(written)).isTrue();
+    return reader.read(written);
+  }
+
+  /**
+   * Compares the processes element by element, as the elements form a cyclic graph (e.g. a process
+   * contains itself as a flow element) which cannot be compared as a whole. For the same reason,
+   * the child elements of containers are compared by their ids.
+   */
+  private static void assertSameProcess(
+      final ExecutableProcess actual, final ExecutableProcess expected) {
+    assertThat(actual.getFlowElements())
+        .extracting(ExecutableProcessReaderTest::id)
+        .containsExactlyInAnyOrderElementsOf(
+            expected.getFlowElements().stream().map(ExecutableProcessReaderTest::id).toList());
+
+    for (final AbstractFlowElement expectedElement : expected.getFlowElements()) {
+      assertThat(actual.getElementById(expectedElement.getId()))
+          .describedAs("element '%s'", id(expectedElement))
+          .usingRecursiveComparison()
+          .ignoringFieldsMatchingRegexes(".*flowScope", "flowElements", ".*childElements")
+          .isEqualTo(expectedElement);
+
+      if (expectedElement instanceof final ExecutableFlowElementContainer expectedContainer) {
+        assertThat(
+                actual
+                    .getElementById(expectedElement.getId(), ExecutableFlowElementContainer.class)
+                    .getChildElements())
+            .describedAs("child elements of '%s'", id(expectedElement))
+            .extracting(ExecutableProcessReaderTest::id)
+            .containsExactlyInAnyOrderElementsOf(
+                expectedContainer.getChildElements().stream()
+                    .map(ExecutableProcessReaderTest::id)
+                    .toList());
+      }
+    }
+  }
+
+  private static String id(final ExecutableFlowElement element) {
+    return BufferUtil.bufferAsString(element.getId());
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.InstantSource;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Verifies that processes read with the streaming parser, which the process cache uses to load
+ * deployed processes, are transformed exactly like processes read with the validating parser.
+ */
+final class StreamedModelTransformationTest {
+
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer(InstantSource.system());
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "/processes/callActivity.bpmn",
+        "/processes/collaboration.bpmn",
+        "/processes/event-based-gateway.bpmn",
+        "/processes/exclusive-gateway.bpmn",
+        "/processes/LinkEventTest.testValidEventLink.bpmn",
+        "/compensation/compensation-boundary-event.bpmn",
+        "/compensation/compensation-embedded-subprocess.bpmn"
+      })
+  void shouldTransformResourceLikeValidatingParser(final String resource) throws IOException {
+    // given
+    final byte[] xml;
+    try (final InputStream stream = getClass().getResourceAsStream(resource)) {
+      xml = stream.readAllBytes();
+    }
+
+    // when
+    final List<ExecutableProcess> actual = transformStreamed(xml);
+
+    // then
+    assertThat(actual).isNotEmpty();
+    assertSameProcesses(
+        actual, transformer.transformDefinitions(Bpmn.readModelFromStream(stream(xml))));
+  }
+
+  @Test
+  void shouldResolveReferencesByIds() {
+    // given
+    final BpmnModelInstance model =
+        Bpmn.createExecutableProcess("process")
+            .startEvent("start")
+            .serviceTask("task", t -> t.zeebeJobType("type"))
+            .boundaryEvent("timer", b -> b.timerWithDuration("PT1H"))
+            .endEvent("timeout")
+            .moveToActivity("task")
+            .exclusiveGateway("gateway")
+            .defaultFlow()
+            .endEvent("default")
+            .moveToLastGateway()
+            .conditionExpression("x > 1")
+            .endEvent("conditional")
+            .done();
+    final byte[] xml = Bpmn.convertToString(model).getBytes(StandardCharsets.UTF_8);
+
+    // when
+    final List<ExecutableProcess> actual = transformStreamed(xml);
+
+    // then
+    assertSameProcesses(actual, transformer.transformDefinitions(model));
+
+    final ExecutableProcess process = actual.getFirst();
+    final ExecutableActivity task = process.getElementById("task", ExecutableActivity.class);
+    assertThat(task.getBoundaryEvents())
+        .extracting(event -> BufferUtil.bufferAsString(event.getId()))
+        .containsExactly("timer");
+    final ExecutableExclusiveGateway gateway =
+        process.getElementById("gateway", ExecutableExclusiveGateway.class);
+    assertThat(gateway.getDefaultFlow().getTarget().getId())
+        .isEqualTo(BufferUtil.wrapString("default"));
+  }
+
+  private List<ExecutableProcess> transformStreamed(final byte[] xml) {
+    return transformer.transformDefinitions(Bpmn.readExecutableModelFromStream(stream(xml)));
+  }
+
+  /**
+   * Compares the processes element by element, as the elements form a cyclic graph (e.g. a process
+   * contains itself as a flow element) which cannot be compared as a whole.
+   */
+  private static void assertSameProcesses(
+      final List<ExecutableProcess> actual, final List<ExecutableProcess> expected) {
+    assertThat(actual)
+        .extracting(StreamedModelTransformationTest::id)
+        .containsExactlyElementsOf(
+            expected.stream().map(StreamedModelTransformationTest::id).toList());
+
+    for (int i = 0; i < expected.size(); i++) {
+      final ExecutableProcess actualProcess = actual.get(i);
+      final ExecutableProcess expectedProcess = expected.get(i);
+      assertThat(actualProcess.getFlowElements())
+          .extracting(StreamedModelTransformationTest::id)
+          .containsExactlyInAnyOrderElementsOf(
+              expectedProcess.getFlowElements().stream()
+                  .map(StreamedModelTransformationTest::id)
+                  .toList());
+
+      for (final AbstractFlowElement expectedElement : expectedProcess.getFlowElements()) {
+        assertThat(actualProcess.getElementById(expectedElement.getId()))
+            .describedAs("element '%s'", id(expectedElement))
+            .usingRecursiveComparison()
+            .ignoringFieldsMatchingRegexes(".*flowScope", "flowElements")
+            .isEqualTo(expectedElement);
+      }
+    }
+  }
+
+  private static String id(final ExecutableFlowElement element) {
+    return BufferUtil.bufferAsString(element.getId());
+  }
+
+  private static InputStream stream(final byte[] xml) {
+    return new ByteArrayInputStream(xml);
+  }
+}
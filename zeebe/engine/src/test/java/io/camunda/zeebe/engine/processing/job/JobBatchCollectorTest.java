@@ -104,6 +104,26 @@ final class JobBatchCollectorTest {
     JobBatchRecordValueAssert.assertThat(batchRecord).hasNoJobKeys().hasNoJobs().isTruncated();
   }
 
+  @Test
+  void shouldReturnRecordOfLargeJobIfFirstJobCannotBeWritten() {
+    // given
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final Job firstJob = createJob(firstScopeKey);
+    createJob(secondScopeKey);
+
+    // when - set up the evaluator to accept no jobs
+    lengthEvaluator.canWriteEventOfLength = (length) -> false;
+    final Either<TooLargeJob, Map<JobKind, Integer>> result = collector.collectJobs(record);
+
+    // then
+    EitherAssert.assertThat(result).isLeft();
+    final TooLargeJob tooLargeJob = result.getLeft();
+    assertThat(tooLargeJob.key()).isEqualTo(firstJob.key);
+    assertThat(tooLargeJob.jobRecord().getElementInstanceKey()).isEqualTo(firstScopeKey);
+  }
+
   @Test
   void shouldCollectJobsWithVariables() {
     // given - multiple jobs to ensure variables are collected based on the scope
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessReader;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.prometheus.client.CollectorRegistry;
+import java.time.InstantSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class PersistedExecutableProcessTest {
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableProcessingState processingState;
+
+  private MutableProcessState processState;
+  private DbString tenantId;
+  private DbLong processDefinitionKey;
+  private DbTenantAwareKey<DbLong> tenantAwareProcessDefinitionKey;
+  private ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
+
+  @BeforeEach
+  void setUp() {
+    processState = processingState.getProcessState();
+    tenantId = new DbString();
+    processDefinitionKey = new DbLong();
+    tenantAwareProcessDefinitionKey =
+        new DbTenantAwareKey<>(tenantId, processDefinitionKey, PlacementType.PREFIX);
+    processColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_CACHE,
+            transactionContext,
+            tenantAwareProcessDefinitionKey,
+            new PersistedProcess());
+  }
+
+  @Test
+  void shouldPersistExecutableProcess() {
+    // given
+    final ProcessRecord processRecord = creatingProcessRecord(processingState);
+
+    // when
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // then
+    final ExecutableProcessReader reader =
+        BpmnFactory.createExecutableProcessReader(InstantSource.system());
+    final PersistedProcess persistedProcess = getPersistedProcess(processRecord);
+    assertThat(reader.canRead(persistedProcess.getExecutableProcess())).isTrue();
+
+    final ExecutableProcess executableProcess =
+        reader.read(persistedProcess.getExecutableProcess());
+    assertThat(executableProcess.getId()).isEqualTo(processRecord.getBpmnProcessIdBuffer());
+    assertThat(executableProcess.getElementById("test", ExecutableActivity.class)).isNotNull();
+  }
+
+  @Test
+  void shouldLoadProcessFromExecutableProcess() {
+    // given
+    final ProcessRecord processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+    final double loadsBefore = countCacheMissLoads("executable_process");
+
+    // when
+    final DeployedProcess deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), processRecord.getTenantId());
+
+    // then
+    assertThat(countCacheMissLoads("executable_process")).isGreaterThan(loadsBefore);
+    assertThat(deployedProcess.getProcess().getFlowElements())
+        .extracting(PersistedExecutableProcessTest::id)
+        .contains("processId", "startEvent", "test", "endEvent")
+        .hasSize(6);
+    assertThat(deployedProcess.getResource()).isEqualTo(processRecord.getResourceBuffer());
+  }
+
+  @Test
+  void shouldLoadProcessFromResourceWithoutExecutableProcess() {
+    // given a process which was deployed before its executable process was persisted
+    final ProcessRecord processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final PersistedProcess persistedProcess = getPersistedProcess(processRecord);
+    processColumnFamily.update(
+        tenantAwareProcessDefinitionKey, persistedProcess.resetExecutableProcess());
+    processState.clearCache();
+    final double loadsBefore = countCacheMissLoads("resource");
+
+    // when
+    final DeployedProcess deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), processRecord.getTenantId());
+
+    // then
+    assertThat(countCacheMissLoads("resource")).isGreaterThan(loadsBefore);
+    assertThat(getPersistedProcess(processRecord).getExecutableProcess().capacity()).isZero();
+    assertThat(deployedProcess.getProcess().getFlowElements())
+        .extracting(PersistedExecutableProcessTest::id)
+        .contains("processId", "startEvent", "test", "endEvent")
+        .hasSize(6);
+  }
+
+  private PersistedProcess getPersistedProcess(final ProcessRecord processRecord) {
+    tenantId.wrapString(processRecord.getTenantId());
+    processDefinitionKey.wrapLong(processRecord.getKey());
+    return processColumnFamily.get(tenantAwareProcessDefinitionKey);
+  }
+
+  private static double countCacheMissLoads(final String source) {
+    final Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_process_cache_miss_load_time_seconds_count",
+            new String[] {"partition", "source"},
+            new String[] {String.valueOf(Protocol.DEPLOYMENT_PARTITION), source});
+    return count == null ? 0 : count;
+  }
+
+  private static String id(final ExecutableFlowElement element) {
+    return BufferUtil.bufferAsString(element.getId());
+  }
+}
@@ -759,6 +759,32 @@ public final class ProcessStateTest {
     assertThat(updatedProcess.getState()).isEqualTo(PersistedProcessState.PENDING_DELETION);
   }
 
+  @Test
+  public void shouldNotTransformCachedProcessAgainOnStateUpdate() {
+    // given
+    final long processDefinitionKey = 100L;
+    final var processRecord = creatingProcessRecord(processingState).setKey(processDefinitionKey);
+    processState.putProcess(processDefinitionKey, processRecord);
+    final var initialProcess =
+        processState.getProcessByKeyAndTenant(processDefinitionKey, processRecord.getTenantId());
+
+    // when
+    processState.updateProcessState(processRecord, PersistedProcessState.PENDING_DELETION);
+
+    // then
+    final var updatedProcess =
+        processState.getProcessByKeyAndTenant(processDefinitionKey, processRecord.getTenantId());
+    assertThat(updatedProcess.getProcess()).isSameAs(initialProcess.getProcess());
+    assertThat(
+            processState
+                .getProcessByProcessIdAndVersion(
+                    updatedProcess.getBpmnProcessId(),
+                    updatedProcess.getVersion(),
+                    processRecord.getTenantId())
+                .getState())
+        .isEqualTo(PersistedProcessState.PENDING_DELETION);
+  }
+
   @Test
   public void shouldDeleteLatestProcess() {
     // given
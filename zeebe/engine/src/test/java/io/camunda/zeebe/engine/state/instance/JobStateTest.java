@@ -641,6 +641,56 @@ public final class JobStateTest {
     assertThat(jobKeys).containsExactly(256L, 65536L);
   }
 
+  @Test
+  public void shouldListActivatableJobsAcrossLookupBatches() {
+    // given - more jobs than are looked up at once
+    final DirectBuffer type = wrapString("test");
+    final List<Long> expectedKeys = new ArrayList<>();
+    for (long key = 1; key <= 200; key++) {
+      jobState.create(key, newJobRecord().setType(type).setRetries((int) key));
+      expectedKeys.add(key);
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    final List<Integer> retries = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobKeys.add(key);
+          retries.add(job.getRetries());
+          return true;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactlyElementsOf(expectedKeys);
+    assertThat(retries)
+        .containsExactlyElementsOf(expectedKeys.stream().map(Long::intValue).toList());
+  }
+
+  @Test
+  public void shouldStopListingActivatableJobsWithinLookupBatch() {
+    // given
+    final DirectBuffer type = wrapString("test");
+    for (long key = 1; key <= 20; key++) {
+      jobState.create(key, newJobRecord().setType(type));
+    }
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        type,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> {
+          jobKeys.add(key);
+          return jobKeys.size() < 6;
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+  }
+
   @Test
   public void shouldNotDoAnythingIfNoActivatableJobs() {
     // given
@@ -365,6 +365,40 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldNotGetVariableOfRemovedAncestorScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child, child2);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertThat(variableState.getVariable(child2, wrapString("a"))).isNotNull();
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(variableState.getVariable(child2, wrapString("a"))).isNull();
+  }
+
+  @Test
+  public void shouldGetVariableOfNewParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    declareScope(child2);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child2, wrapString("a"), asMsgPack("2"));
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    variableState.removeScope(child);
+    variableState.createScope(child, child2);
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+
+/**
+ * An expression which only compares a {@link VariableReference variable reference} with a literal,
+ * e.g. {@code order.total > 100} or {@code status = "done"}. Such expressions can be evaluated
+ * directly on the MessagePack encoded variable, see {@link VariableReferenceEvaluator}.
+ *
+ * <p>Numbers support all comparisons, while strings and booleans only support (in)equality. If the
+ * referenced value has another type than the literal, the comparison is left to the FEEL engine, as
+ * it reports such cases as warnings.
+ */
+final class Comparison {
+
+  private final VariableReference reference;
+  private final Operator operator;
+  private final BigDecimal number;
+  private final DirectBuffer string;
+  private final Boolean bool;
+
+  private Comparison(
+      final VariableReference reference,
+      final Operator operator,
+      final BigDecimal number,
+      final DirectBuffer string,
+      final Boolean bool) {
+    this.reference = reference;
+    this.operator = operator;
+    this.number = number;
+    this.string = string;
+    this.bool = bool;
+  }
+
+  /**
+   * @return the comparison, or {@code null} if the expression is not a plain comparison of a
+   *     variable reference with a literal
+   */
+  static Comparison of(final Exp expression) {
+    return switch (expression) {
+      // the FEEL engine parses 'x != y' as 'not(x = y)'
+      case final Not not when not.x() instanceof final Equal equal ->
+          of(equal.x(), equal.y(), Operator.NOT_EQUAL);
+      case final Equal equal -> of(equal.x(), equal.y(), Operator.EQUAL);
+      case final LessThan lessThan -> of(lessThan.x(), lessThan.y(), Operator.LESS_THAN);
+      case final LessOrEqual lessOrEqual ->
+          of(lessOrEqual.x(), lessOrEqual.y(), Operator.LESS_OR_EQUAL);
+      case final GreaterThan greaterThan ->
+          of(greaterThan.x(), greaterThan.y(), Operator.GREATER_THAN);
+      case final GreaterOrEqual greaterOrEqual ->
+          of(greaterOrEqual.x(), greaterOrEqual.y(), Operator.GREATER_OR_EQUAL);
+      default -> null;
+    };
+  }
+
+  private static Comparison of(final Exp left, final Exp right, final Operator operator) {
+    final var leftReference = VariableReference.of(left);
+    if (leftReference != null) {
+      return of(leftReference, operator, right);
+    }
+
+    final var rightReference = VariableReference.of(right);
+    if (rightReference != null) {
+      return of(rightReference, operator.reversed(), left);
+    }
+
+    return null;
+  }
+
+  private static Comparison of(
+      final VariableReference reference, final Operator operator, final Exp literal) {
+    return switch (literal) {
+      case final ConstNumber constNumber ->
+          new Comparison(reference, operator, constNumber.value().bigDecimal(), null, null);
+      case final ConstString constString when operator.isEquality() ->
+          new Comparison(
+              reference, operator, null, BufferUtil.wrapString(constString.value()), null);
+      case final ConstBool constBool when operator.isEquality() ->
+          new Comparison(reference, operator, null, null, constBool.value());
+      default -> null;
+    };
+  }
+
+  VariableReference reference() {
+    return reference;
+  }
+
+  /**
+   * @param value the referenced value
+   * @return the result of the comparison, or {@code null} if the value cannot be compared with the
+   *     literal, e.g. because it has another type
+   */
+  Boolean test(final MsgPackToken value) {
+    switch (value.getType()) {
+      case INTEGER -> {
+        return number == null
+            ? null
+            : operator.test(new BigDecimal(value.getIntegerValue()).compareTo(number));
+      }
+      case FLOAT -> {
+        return number == null || !Double.isFinite(value.getFloatValue())
+            ? null
+            : operator.test(BigDecimal.valueOf(value.getFloatValue()).compareTo(number));
+      }
+      case STRING -> {
+        return string == null
+            ? null
+            : operator.test(BufferUtil.equals(value.getValueBuffer(), string) ? 0 : 1);
+      }
+      case BOOLEAN -> {
+        return bool == null ? null : operator.test(value.getBooleanValue() == bool ? 0 : 1);
+      }
+      default -> {
+        return null;
+      }
+    }
+  }
+
+  private enum Operator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL;
+
+    private boolean isEquality() {
+      return this == EQUAL || this == NOT_EQUAL;
+    }
+
+    /** The operator to use if the operands are swapped, e.g. {@code 5 < x} is {@code x > 5}. */
+    private Operator reversed() {
+      return switch (this) {
+        case EQUAL, NOT_EQUAL -> this;
+        case LESS_THAN -> GREATER_THAN;
+        case LESS_OR_EQUAL -> GREATER_OR_EQUAL;
+        case GREATER_THAN -> LESS_THAN;
+        case GREATER_OR_EQUAL -> LESS_OR_EQUAL;
+      };
+    }
+
+    /**
+     * @param comparison the result of comparing the value with the literal, as returned by {@link
+     *     Comparable#compareTo(Object)}; only its sign is relevant
+     */
+    private boolean test(final int comparison) {
+      return switch (this) {
+        case EQUAL -> comparison == 0;
+        case NOT_EQUAL -> comparison != 0;
+        case LESS_THAN -> comparison < 0;
+        case LESS_OR_EQUAL -> comparison <= 0;
+        case GREATER_THAN -> comparison > 0;
+        case GREATER_OR_EQUAL -> comparison >= 0;
+      };
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.Expression;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed expressions, keyed by their text. Parsed expressions are immutable, so
+ * the same instance is returned for the same text, no matter how many processes or process versions
+ * contain it. If the cache is full, the least recently used expression is evicted.
+ *
+ * <p>This class is thread-safe. Expressions are parsed outside the lock; if the same text is parsed
+ * concurrently, the first result wins and is returned to all callers.
+ */
+final class ExpressionCache {
+
+  private final Map<String, Expression> expressions;
+  private final ExpressionCacheMetrics metrics;
+
+  ExpressionCache(final int capacity, final ExpressionCacheMetrics metrics) {
+    this.metrics = metrics;
+    expressions =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, Expression> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  Expression get(final String text, final Function<String, Expression> parser) {
+    synchronized (expressions) {
+      final var cached = expressions.get(text);
+      if (cached != null) {
+        metrics.hit();
+        return cached;
+      }
+    }
+
+    metrics.miss();
+    final var parsed = parser.apply(text);
+    synchronized (expressions) {
+      final var existing = expressions.putIfAbsent(text, parsed);
+      return existing != null ? existing : parsed;
+    }
+  }
+
+  int size() {
+    synchronized (expressions) {
+      return expressions.size();
+    }
+  }
+}
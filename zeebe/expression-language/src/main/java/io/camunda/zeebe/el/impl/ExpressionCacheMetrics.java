@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.prometheus.client.Counter;
+
+final class ExpressionCacheMetrics {
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("expression_cache_lookups_total")
+          .help(
+              "Number of expressions looked up in the cache of parsed expressions, by whether they"
+                  + " were found (hit) or had to be parsed (miss)")
+          .labelNames("result")
+          .register();
+
+  private static final Counter FAST_PATH_PARSED_EXPRESSIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("expression_fast_path_parsed_total")
+          .help(
+              "Number of expressions which were parsed without the FEEL engine, as they only"
+                  + " reference a variable or a path of a variable")
+          .register();
+
+  private final Counter.Child hits = CACHE_LOOKUPS.labels("hit");
+  private final Counter.Child misses = CACHE_LOOKUPS.labels("miss");
+
+  void hit() {
+    hits.inc();
+  }
+
+  void miss() {
+    misses.inc();
+  }
+
+  void fastPathParsed() {
+    FAST_PATH_PARSED_EXPRESSIONS.inc();
+  }
+}
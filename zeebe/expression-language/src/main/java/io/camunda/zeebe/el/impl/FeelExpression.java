@@ -17,9 +17,15 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final VariableReference variableReference;
+  private final Literal literal;
+  private final Comparison comparison;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    variableReference = VariableReference.of(expression.expression());
+    literal = Literal.of(expression.expression());
+    comparison = Comparison.of(expression.expression());
   }
 
   @Override
@@ -63,6 +69,28 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the variable reference, or {@code null} if the expression is not a plain reference
+   */
+  VariableReference getVariableReference() {
+    return variableReference;
+  }
+
+  /**
+   * @return the literal, or {@code null} if the expression is not a plain literal
+   */
+  Literal getLiteral() {
+    return literal;
+  }
+
+  /**
+   * @return the comparison, or {@code null} if the expression is not a plain comparison of a
+   *     variable reference with a literal
+   */
+  Comparison getComparison() {
+    return comparison;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -18,13 +18,17 @@ import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.FeelEngineClock;
 import org.camunda.feel.syntaxtree.ParsedExpression;
+import org.camunda.feel.syntaxtree.Ref;
 import org.camunda.feel.syntaxtree.Val;
+import scala.jdk.javaapi.CollectionConverters;
 import scala.util.Either;
 
 /**
@@ -38,8 +42,52 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  /**
+   * Matches expressions which only reference a variable, or a nested property of a variable, e.g.
+   * {@code orderId} or {@code order.customer.id}, using the most common subset of FEEL names.
+   */
+  private static final Pattern VARIABLE_REFERENCE_PATTERN =
+      Pattern.compile("\\s*([a-zA-Z_][a-zA-Z0-9_]*(?:\\.[a-zA-Z_][a-zA-Z0-9_]*)*)\\s*");
+
+  /** Names which FEEL reserves for literals and keywords, and which are no variable references. */
+  private static final Set<String> RESERVED_NAMES =
+      Set.of(
+          "null",
+          "true",
+          "false",
+          "function",
+          "external",
+          "if",
+          "then",
+          "else",
+          "for",
+          "in",
+          "return",
+          "some",
+          "every",
+          "satisfies",
+          "between",
+          "instance",
+          "of",
+          "not",
+          "and",
+          "or");
+
+  private static final int EXPRESSION_CACHE_CAPACITY = 10_000;
+
+  private static final ExpressionCacheMetrics CACHE_METRICS = new ExpressionCacheMetrics();
+
+  /**
+   * The parsed expressions are shared by all instances, as parsing does not depend on the
+   * configuration of the FEEL engine, e.g. its clock or functions, which only affect evaluation.
+   */
+  private static final ExpressionCache EXPRESSION_CACHE =
+      new ExpressionCache(EXPRESSION_CACHE_CAPACITY, CACHE_METRICS);
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final VariableReferenceEvaluator variableReferenceEvaluator =
+      new VariableReferenceEvaluator();
 
   private final FeelEngine feelEngine;
 
@@ -60,7 +108,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return EXPRESSION_CACHE.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -90,6 +138,12 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   }
 
   private Expression parseFeelExpression(final String expression) {
+    final var variableReference = parseVariableReference(expression);
+    if (variableReference != null) {
+      CACHE_METRICS.fastPathParsed();
+      return new FeelExpression(variableReference);
+    }
+
     final Either<Failure, ParsedExpression> parseResult = feelEngine.parseExpression(expression);
 
     if (parseResult.isLeft()) {
@@ -102,11 +156,55 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
     }
   }
 
+  /**
+   * Parses an expression which only references a variable, or a path of a variable, without the
+   * FEEL engine, as such expressions are by far the most common ones, e.g. in variable mappings.
+   * The result is the same as the FEEL engine's, i.e. a reference with the names of the path.
+   *
+   * @return the parsed expression, or {@code null} if it is not a plain variable reference
+   */
+  private static ParsedExpression parseVariableReference(final String expression) {
+    final var matcher = VARIABLE_REFERENCE_PATTERN.matcher(expression);
+    if (!matcher.matches()) {
+      return null;
+    }
+
+    final var names = Arrays.asList(matcher.group(1).split("\\."));
+    if (names.stream().anyMatch(RESERVED_NAMES::contains)) {
+      return null;
+    }
+
+    final var reference = new Ref(CollectionConverters.asScala(names).toList());
+    return new ParsedExpression(reference, expression);
+  }
+
   private EvaluationResult evaluateFeelExpression(
       final Expression expression,
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var variableReference = feelExpression.getVariableReference();
+    if (variableReference != null) {
+      final var result =
+          variableReferenceEvaluator.evaluate(expression, variableReference, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
+    final var literal = feelExpression.getLiteral();
+    if (literal != null) {
+      return literal.evaluate(expression);
+    }
+
+    final var comparison = feelExpression.getComparison();
+    if (comparison != null) {
+      final var result = variableReferenceEvaluator.evaluate(expression, comparison, context);
+      if (result != null) {
+        return result;
+      }
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
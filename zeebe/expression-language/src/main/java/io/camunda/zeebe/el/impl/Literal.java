@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Exp;
+
+/**
+ * An expression which only consists of a literal, e.g. {@code 42} or {@code "foo"}. As its result
+ * does not depend on any variable, it is encoded once, exactly like the FEEL engine's result, and
+ * the FEEL engine is not involved in its evaluation at all.
+ */
+final class Literal {
+
+  private final DirectBuffer value;
+  private final ResultType type;
+  private final Number number;
+
+  private Literal(final DirectBuffer value, final ResultType type, final Number number) {
+    this.value = value;
+    this.type = type;
+    this.number = number;
+  }
+
+  /**
+   * @return the literal, or {@code null} if the expression is not a plain literal
+   */
+  static Literal of(final Exp expression) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    final ResultType type;
+    Number number = null;
+    switch (expression) {
+      case final ConstNumber constNumber -> {
+        type = ResultType.NUMBER;
+        number = constNumber.value();
+        if (constNumber.value().isWhole()) {
+          writer.writeInteger(constNumber.value().longValue());
+        } else {
+          writer.writeFloat(constNumber.value().doubleValue());
+        }
+      }
+      case final ConstString constString -> {
+        type = ResultType.STRING;
+        writer.writeString(BufferUtil.wrapString(constString.value()));
+      }
+      case final ConstBool constBool -> {
+        type = ResultType.BOOLEAN;
+        writer.writeBoolean(constBool.value());
+      }
+      case final ConstNull$ ignored -> {
+        type = ResultType.NULL;
+        writer.writeNil();
+      }
+      default -> {
+        return null;
+      }
+    }
+
+    final var value = new UnsafeBuffer(new byte[writer.getOffset()]);
+    value.putBytes(0, buffer, 0, writer.getOffset());
+    return new Literal(value, type, number);
+  }
+
+  /** The encoded value is shared by all results, which never modify it. */
+  EvaluationResult evaluate(final Expression expression) {
+    return new MsgPackEvaluationResult(expression, value, type, number);
+  }
+}
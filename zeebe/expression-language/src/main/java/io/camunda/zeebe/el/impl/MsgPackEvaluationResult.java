@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.time.Duration;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * The result of an expression which was evaluated directly on MessagePack, without converting the
+ * value into FEEL values and back. The value is encoded the same way as the FEEL engine's result
+ * would be, see {@link VariableReferenceEvaluator}, such that both results are interchangeable.
+ */
+final class MsgPackEvaluationResult implements EvaluationResult {
+
+  private final Expression expression;
+  private final DirectBuffer value;
+  private final ResultType type;
+  private final Number number;
+
+  /**
+   * @param value the encoded value, which is owned by this result
+   * @param number the value if it is a number, in the same representation as the FEEL engine's
+   */
+  MsgPackEvaluationResult(
+      final Expression expression,
+      final DirectBuffer value,
+      final ResultType type,
+      final Number number) {
+    this.expression = expression;
+    this.value = value;
+    this.type = type;
+    this.number = number;
+  }
+
+  @Override
+  public String getExpression() {
+    return expression.getExpression();
+  }
+
+  @Override
+  public boolean isFailure() {
+    return false;
+  }
+
+  @Override
+  public String getFailureMessage() {
+    return null;
+  }
+
+  @Override
+  public List<EvaluationWarning> getWarnings() {
+    return Collections.emptyList();
+  }
+
+  @Override
+  public ResultType getType() {
+    return type;
+  }
+
+  @Override
+  public DirectBuffer toBuffer() {
+    return value;
+  }
+
+  @Override
+  public String getString() {
+    if (type == ResultType.STRING) {
+      return bufferAsString(newReader().readToken().getValueBuffer());
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Boolean getBoolean() {
+    if (type == ResultType.BOOLEAN) {
+      return newReader().readBoolean();
+    } else {
+      return null;
+    }
+  }
+
+  @Override
+  public Number getNumber() {
+    return number;
+  }
+
+  @Override
+  public Duration getDuration() {
+    return null;
+  }
+
+  @Override
+  public Period getPeriod() {
+    return null;
+  }
+
+  @Override
+  public ZonedDateTime getDateTime() {
+    return null;
+  }
+
+  @Override
+  public List<DirectBuffer> getList() {
+    if (type != ResultType.ARRAY) {
+      return null;
+    }
+
+    final var reader = newReader();
+    final int size = reader.readArrayHeader();
+    final var items = new ArrayList<DirectBuffer>(size);
+    for (int i = 0; i < size; i++) {
+      final int offset = reader.getOffset();
+      reader.skipValue();
+      items.add(cloneBuffer(value, offset, reader.getOffset() - offset));
+    }
+    return items;
+  }
+
+  @Override
+  public List<String> getListOfStrings() {
+    if (type != ResultType.ARRAY) {
+      return null;
+    }
+
+    final var reader = newReader();
+    final int size = reader.readArrayHeader();
+    final var items = new ArrayList<String>(size);
+    for (int i = 0; i < size; i++) {
+      final var token = reader.readToken();
+      if (token.getType() != MsgPackType.STRING) {
+        return null;
+      }
+      items.add(bufferAsString(token.getValueBuffer()));
+    }
+    return items;
+  }
+
+  private MsgPackReader newReader() {
+    return new MsgPackReader().wrap(value, 0, value.capacity());
+  }
+
+  @Override
+  public String toString() {
+    return "MsgPackEvaluationResult{"
+        + "expression="
+        + expression.getExpression()
+        + ", type="
+        + type
+        + '}';
+  }
+}
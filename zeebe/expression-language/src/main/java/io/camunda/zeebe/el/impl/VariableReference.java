@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.Ref;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * An expression which only references a variable, or a nested property of a variable, e.g. {@code
+ * order.customer.id}. Such expressions can be evaluated directly on the MessagePack encoded
+ * variable, see {@link VariableReferenceEvaluator}.
+ */
+final class VariableReference {
+
+  private final String variableName;
+  private final DirectBuffer[] propertyNames;
+
+  private VariableReference(final String variableName, final DirectBuffer[] propertyNames) {
+    this.variableName = variableName;
+    this.propertyNames = propertyNames;
+  }
+
+  /**
+   * @return the reference, or {@code null} if the expression is not a plain variable reference
+   */
+  static VariableReference of(final Exp expression) {
+    if (!(expression instanceof final Ref ref) || ref.names().isEmpty()) {
+      return null;
+    }
+
+    final var names = CollectionConverters.asJava(ref.names());
+    final var propertyNames = new DirectBuffer[names.size() - 1];
+    for (int i = 0; i < propertyNames.length; i++) {
+      propertyNames[i] = BufferUtil.wrapString(names.get(i + 1));
+    }
+
+    return new VariableReference(names.getFirst(), propertyNames);
+  }
+
+  String variableName() {
+    return variableName;
+  }
+
+  /**
+   * @return the UTF-8 encoded names of the nested properties, from the outermost to the innermost
+   */
+  DirectBuffer[] propertyNames() {
+    return propertyNames;
+  }
+}
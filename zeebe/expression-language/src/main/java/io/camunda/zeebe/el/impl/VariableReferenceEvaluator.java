@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackException;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Evaluates {@link VariableReference variable references}, and {@link Comparison comparisons} of
+ * them with literals, directly on the MessagePack encoded variables, instead of converting the
+ * variable into FEEL values and the result back into MessagePack. As most expressions only
+ * reference a variable or compare it with a literal, this avoids most of the evaluation overhead.
+ *
+ * <p>The evaluation only covers the case in which the variable and all referenced properties exist.
+ * Otherwise, e.g. if a variable is missing, the FEEL engine must evaluate the expression, as it
+ * reports such cases as warnings. The result is encoded exactly like the FEEL engine's result: maps
+ * are copied as they are, and all other values are written again, such that whole numbers become
+ * integers.
+ *
+ * <p>This class is not thread-safe.
+ */
+final class VariableReferenceEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+
+  private DirectBuffer document;
+  private int documentOffset;
+
+  /**
+   * @return the result of the evaluation, or {@code null} if the expression must be evaluated by
+   *     the FEEL engine instead
+   */
+  EvaluationResult evaluate(
+      final Expression expression,
+      final VariableReference reference,
+      final EvaluationContext context) {
+    try {
+      return readValue(reference, context) ? readResult(expression) : null;
+    } catch (final MsgpackException | IndexOutOfBoundsException e) {
+      // the FEEL engine fails in the same way for malformed values
+      return null;
+    } finally {
+      document = null;
+    }
+  }
+
+  /**
+   * @return the result of the evaluation, or {@code null} if the expression must be evaluated by
+   *     the FEEL engine instead
+   */
+  EvaluationResult evaluate(
+      final Expression expression, final Comparison comparison, final EvaluationContext context) {
+    try {
+      if (!readValue(comparison.reference(), context)) {
+        return null;
+      }
+
+      final Boolean result = comparison.test(reader.readToken());
+      if (result == null) {
+        return null;
+      }
+
+      writer.wrap(writeBuffer, 0);
+      writer.writeBoolean(result);
+      return new MsgPackEvaluationResult(expression, copyWritten(), ResultType.BOOLEAN, null);
+    } catch (final MsgpackException | IndexOutOfBoundsException e) {
+      // the FEEL engine fails in the same way for malformed values
+      return null;
+    } finally {
+      document = null;
+    }
+  }
+
+  /**
+   * Moves the reader to the referenced value.
+   *
+   * @return false if the variable or any referenced property does not exist
+   */
+  private boolean readValue(final VariableReference reference, final EvaluationContext context) {
+    final DirectBuffer variable = context.getVariable(reference.variableName());
+    if (variable == null || variable.capacity() == 0) {
+      return false;
+    }
+
+    wrap(variable, 0);
+    for (final DirectBuffer propertyName : reference.propertyNames()) {
+      if (!readProperty(propertyName)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Moves the reader to the value of the given property of the map at the current position. */
+  private boolean readProperty(final DirectBuffer propertyName) {
+    final var mapToken = reader.readToken();
+    if (mapToken.getType() != MsgPackType.MAP) {
+      return false;
+    }
+
+    // keys are not necessarily unique, and the FEEL engine uses the last value of a key
+    int valueOffset = -1;
+    final int size = mapToken.getSize();
+    for (int i = 0; i < size; i++) {
+      final var keyToken = reader.readToken();
+      if (keyToken.getType() != MsgPackType.STRING) {
+        return false;
+      }
+
+      final boolean isProperty = BufferUtil.equals(keyToken.getValueBuffer(), propertyName);
+      if (isProperty) {
+        valueOffset = reader.getOffset();
+      }
+      reader.skipValue();
+    }
+
+    if (valueOffset < 0) {
+      return false;
+    }
+
+    wrap(document, documentOffset + valueOffset);
+    return true;
+  }
+
+  private EvaluationResult readResult(final Expression expression) {
+    final int offset = reader.getOffset();
+    final var token = reader.readToken();
+
+    final ResultType type;
+    Number number = null;
+    switch (token.getType()) {
+      case NIL -> type = ResultType.NULL;
+      case BOOLEAN -> type = ResultType.BOOLEAN;
+      case STRING -> type = ResultType.STRING;
+      case ARRAY -> type = ResultType.ARRAY;
+      case MAP -> type = ResultType.OBJECT;
+      case INTEGER -> {
+        type = ResultType.NUMBER;
+        number = new scala.math.BigDecimal(new BigDecimal(token.getIntegerValue()));
+      }
+      case FLOAT -> {
+        if (!Double.isFinite(token.getFloatValue())) {
+          return null;
+        }
+        type = ResultType.NUMBER;
+        number = new scala.math.BigDecimal(BigDecimal.valueOf(token.getFloatValue()));
+      }
+      default -> {
+        return null;
+      }
+    }
+
+    writer.wrap(writeBuffer, 0);
+    if (!copyValue(token, offset)) {
+      return null;
+    }
+
+    return new MsgPackEvaluationResult(expression, copyWritten(), type, number);
+  }
+
+  private DirectBuffer copyWritten() {
+    final var value = new UnsafeBuffer(new byte[writer.getOffset()]);
+    value.putBytes(0, writeBuffer, 0, writer.getOffset());
+    return value;
+  }
+
+  /**
+   * Writes the value of the given token, which was read at the given offset, as the FEEL engine
+   * would write it.
+   *
+   * @return false if the value is not supported, e.g. binary data
+   */
+  private boolean copyValue(final MsgPackToken token, final int offset) {
+    switch (token.getType()) {
+      case NIL -> writer.writeNil();
+      case BOOLEAN -> writer.writeBoolean(token.getBooleanValue());
+      case INTEGER -> writer.writeInteger(token.getIntegerValue());
+      case FLOAT -> {
+        final double value = token.getFloatValue();
+        if (!Double.isFinite(value)) {
+          return false;
+        } else if (value == Math.floor(value)) {
+          writer.writeInteger(BigDecimal.valueOf(value).longValue());
+        } else {
+          writer.writeFloat(value);
+        }
+      }
+      case STRING -> writer.writeString(token.getValueBuffer());
+      case ARRAY -> {
+        final int size = token.getSize();
+        writer.writeArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          final int itemOffset = reader.getOffset();
+          if (!copyValue(reader.readToken(), itemOffset)) {
+            return false;
+          }
+        }
+      }
+      case MAP -> {
+        reader.skipValues(2L * token.getSize());
+        writer.writeRaw(reader.getBuffer(), offset, reader.getOffset() - offset);
+      }
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void wrap(final DirectBuffer buffer, final int offset) {
+    document = buffer;
+    documentOffset = offset;
+    reader.wrap(buffer, offset, buffer.capacity() - offset);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.Map;
+import org.camunda.feel.FeelEngine;
+import org.junit.Test;
+
+public class FeelExpressionParsingTest {
+
+  private final TestFeelEngineClock clock = new TestFeelEngineClock();
+  private final ExpressionLanguage expressionLanguage = new FeelExpressionLanguage(clock);
+
+  @Test
+  public void shouldReturnSameInstanceForSameExpression() {
+    // given
+    final var otherExpressionLanguage = new FeelExpressionLanguage(clock);
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+    final var sameExpression = expressionLanguage.parseExpression("=x + 1");
+    final var otherExpression = otherExpressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(sameExpression).isSameAs(expression);
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldReturnSameInstanceForSameInvalidExpression() {
+    // when
+    final var expression = expressionLanguage.parseExpression("=x +");
+    final var sameExpression = expressionLanguage.parseExpression("=x +");
+
+    // then
+    assertThat(expression.isValid()).isFalse();
+    assertThat(sameExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldParseVariableReferencesLikeFeelEngine() {
+    // given
+    final var feelEngine = new FeelEngine.Builder().build();
+
+    for (final var reference : new String[] {"x", "order.customer.id", " x ", "_x1"}) {
+      // when
+      final var expression = (FeelExpression) expressionLanguage.parseExpression("=" + reference);
+
+      // then
+      final var expected = feelEngine.parseExpression(reference).right().get();
+      assertThat(expression.getParsedExpression()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldNotParseReservedNamesAsVariableReferences() {
+    // when
+    final var expression = expressionLanguage.parseExpression("=null");
+
+    // then
+    final var result = expressionLanguage.evaluateExpression(expression, name -> null);
+    assertThat(result.getType()).isEqualTo(ResultType.NULL);
+    assertThat(expression.getVariableName()).isEmpty();
+  }
+
+  @Test
+  public void shouldEvaluateVariableReference() {
+    // given
+    final var context = Map.of("order", asMsgPack(Map.of("id", "o-1")));
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=order.id");
+    final var result = expressionLanguage.evaluateExpression(expression, context::get);
+
+    // then
+    assertThat(expression.getVariableName()).hasValue("order");
+    assertThat(result.getType()).isEqualTo(ResultType.STRING);
+    assertThat(result.getString()).isEqualTo("o-1");
+  }
+}
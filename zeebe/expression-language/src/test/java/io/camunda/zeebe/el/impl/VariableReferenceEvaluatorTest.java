@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.EvaluationWarning;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.Val;
+import org.junit.Test;
+
+public class VariableReferenceEvaluatorTest {
+
+  private final TestFeelEngineClock clock = new TestFeelEngineClock();
+  private final FeelExpressionLanguage expressionLanguage = new FeelExpressionLanguage(clock);
+  private final FeelEngine feelEngine =
+      new FeelEngine.Builder()
+          .customValueMapper(new MessagePackValueMapper())
+          .functionProvider(new FeelFunctionProvider())
+          .clock(clock)
+          .build();
+  private final FeelToMessagePackTransformer transformer = new FeelToMessagePackTransformer();
+
+  @Test
+  public void shouldEvaluateScalarVariables() {
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("\"foo\"")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("42")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("-1.5")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("true")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("null")));
+  }
+
+  @Test
+  public void shouldEvaluateWholeFloatAsInteger() {
+    final var result = assertEvaluatedDirectly("x", Map.of("x", asMsgPack("2.0")));
+
+    assertThat(result.toBuffer()).isEqualTo(asMsgPack("2"));
+  }
+
+  @Test
+  public void shouldEvaluateObjectVariable() {
+    assertEvaluatedDirectly(
+        "order", Map.of("order", asMsgPack("{\"id\": \"o-1\", \"items\": [1, 2.0, 3.5]}")));
+  }
+
+  @Test
+  public void shouldEvaluateListVariable() {
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("[\"a\", \"b\"]")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("[1, 2.0, {\"a\": 1.0}, [true, null]]")));
+    assertEvaluatedDirectly("x", Map.of("x", asMsgPack("[]")));
+  }
+
+  @Test
+  public void shouldEvaluatePropertyPath() {
+    final var order =
+        asMsgPack("{\"id\": \"o-1\", \"customer\": {\"id\": 7, \"tags\": [\"vip\"]}}");
+
+    assertEvaluatedDirectly("order.id", Map.of("order", order));
+    assertEvaluatedDirectly("order.customer", Map.of("order", order));
+    assertEvaluatedDirectly("order.customer.id", Map.of("order", order));
+    assertEvaluatedDirectly("order.customer.tags", Map.of("order", order));
+  }
+
+  @Test
+  public void shouldUseLastValueOfDuplicateProperty() {
+    final var order =
+        encodeMsgPack(
+            packer ->
+                packer.packMapHeader(2).packString("id").packInt(1).packString("id").packInt(2));
+
+    final var result = assertEvaluatedDirectly("order.id", Map.of("order", order));
+
+    assertThat(result.getNumber().intValue()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEvaluateLiterals() {
+    assertEvaluatedDirectly("42", Map.of());
+    assertEvaluatedDirectly("1.5", Map.of());
+    assertEvaluatedDirectly("\"foo\"", Map.of());
+    assertEvaluatedDirectly("true", Map.of());
+    assertEvaluatedDirectly("null", Map.of());
+  }
+
+  @Test
+  public void shouldEvaluateNumberComparisons() {
+    final var order = asMsgPack("{\"total\": 7, \"discount\": 0.5}");
+
+    assertEvaluatedDirectly("order.total > 5", Map.of("order", order));
+    assertEvaluatedDirectly("order.total >= 7", Map.of("order", order));
+    assertEvaluatedDirectly("order.total < 7", Map.of("order", order));
+    assertEvaluatedDirectly("order.total <= 6.5", Map.of("order", order));
+    assertEvaluatedDirectly("order.total = 7.0", Map.of("order", order));
+    assertEvaluatedDirectly("order.total != 7", Map.of("order", order));
+    assertEvaluatedDirectly("order.discount < 1", Map.of("order", order));
+    assertEvaluatedDirectly("5 < order.total", Map.of("order", order));
+  }
+
+  @Test
+  public void shouldEvaluateEqualityOfStringsAndBooleans() {
+    final var variables = Map.of("status", asMsgPack("\"done\""), "flag", asMsgPack("true"));
+
+    assertEvaluatedDirectly("status = \"done\"", variables);
+    assertEvaluatedDirectly("status != \"done\"", variables);
+    assertEvaluatedDirectly("\"open\" = status", variables);
+    assertEvaluatedDirectly("flag = true", variables);
+    assertEvaluatedDirectly("flag != true", variables);
+  }
+
+  @Test
+  public void shouldFallBackIfComparedValueHasOtherType() {
+    final var variables = Map.of("status", asMsgPack("\"done\""), "total", asMsgPack("7"));
+
+    assertEvaluatedByFeelEngine("status > 5", variables);
+    assertEvaluatedByFeelEngine("total = \"7\"", variables);
+    assertEvaluatedByFeelEngine("total = true", variables);
+  }
+
+  @Test
+  public void shouldFallBackIfComparedVariableIsMissing() {
+    assertEvaluatedByFeelEngine("x > 5", Map.of());
+    assertEvaluatedByFeelEngine("x = \"done\"", Map.of());
+  }
+
+  @Test
+  public void shouldFallBackIfVariableIsMissing() {
+    assertEvaluatedByFeelEngine("x", Map.of());
+  }
+
+  @Test
+  public void shouldFallBackIfPropertyIsMissing() {
+    final var order = asMsgPack("{\"id\": \"o-1\"}");
+
+    assertEvaluatedByFeelEngine("order.customer", Map.of("order", order));
+    assertEvaluatedByFeelEngine("order.id.value", Map.of("order", order));
+  }
+
+  @Test
+  public void shouldFallBackIfValueIsBinary() {
+    final var binary =
+        encodeMsgPack(packer -> packer.packBinaryHeader(1).writePayload(new byte[1]));
+
+    assertEvaluatedByFeelEngine("x", Map.of("x", binary));
+  }
+
+  private EvaluationResult assertEvaluatedDirectly(
+      final String expression, final Map<String, DirectBuffer> variables) {
+    final var result = evaluate(expression, variables);
+    final var feelResult = evaluateWithFeelEngine(expression, variables);
+
+    assertThat(result).isInstanceOf(MsgPackEvaluationResult.class);
+    assertThat(result.getWarnings()).isEmpty();
+    assertThat(feelResult.getWarnings()).isEmpty();
+    assertSameResult(result, feelResult);
+    return result;
+  }
+
+  private void assertEvaluatedByFeelEngine(
+      final String expression, final Map<String, DirectBuffer> variables) {
+    final var result = evaluate(expression, variables);
+
+    assertThat(result).isNotInstanceOf(MsgPackEvaluationResult.class);
+    assertSameResult(result, evaluateWithFeelEngine(expression, variables));
+  }
+
+  private EvaluationResult evaluate(
+      final String expression, final Map<String, DirectBuffer> variables) {
+    final var parsedExpression = expressionLanguage.parseExpression("=" + expression);
+    return expressionLanguage.evaluateExpression(parsedExpression, variables::get);
+  }
+
+  /** Evaluates the expression as it was evaluated before there was a direct evaluation. */
+  private EvaluationResult evaluateWithFeelEngine(
+      final String expression, final Map<String, DirectBuffer> variables) {
+    final var parsedExpression = feelEngine.parseExpression(expression).right().get();
+    final EvaluationContext context = variables::get;
+    final var result = feelEngine.evaluate(parsedExpression, new FeelVariableContext(context));
+
+    final List<EvaluationWarning> warnings = new ArrayList<>();
+    result
+        .suppressedFailures()
+        .foreach(
+            failure ->
+                warnings.add(
+                    new FeelEvaluationWarning(
+                        failure.failureType().toString(), failure.failureMessage())));
+    return new FeelEvaluationResult(
+        new FeelExpression(parsedExpression),
+        (Val) result.result(),
+        warnings,
+        transformer::toMessagePack);
+  }
+
+  private static void assertSameResult(
+      final EvaluationResult actual, final EvaluationResult expected) {
+    assertThat(actual.isFailure()).isEqualTo(expected.isFailure());
+    assertThat(actual.getType()).isEqualTo(expected.getType());
+    assertThat(cloneBuffer(actual.toBuffer())).isEqualTo(cloneBuffer(expected.toBuffer()));
+    assertThat(actual.getString()).isEqualTo(expected.getString());
+    assertThat(actual.getBoolean()).isEqualTo(expected.getBoolean());
+    assertThat(actual.getNumber()).isEqualTo(expected.getNumber());
+    assertThat(actual.getList()).isEqualTo(expected.getList());
+    assertThat(actual.getListOfStrings()).isEqualTo(expected.getListOfStrings());
+  }
+}
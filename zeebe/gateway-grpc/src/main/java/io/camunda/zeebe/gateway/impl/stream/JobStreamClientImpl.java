@@ -28,6 +28,12 @@ import java.util.Collection;
  * anymore, or not the only constraint.
  */
 public final class JobStreamClientImpl implements JobStreamClient {
+  /**
+   * How many pushed jobs may be unacknowledged per stream and broker; brokers will stop pushing to
+   * a gateway stream which reached it, and pick a less loaded gateway instead.
+   */
+  public static final int DEFAULT_STREAM_CAPACITY = 128;
+
   private final ActorSchedulingService schedulingService;
   private final ClientStreamService<JobActivationProperties> streamService;
 
@@ -37,10 +43,18 @@ public final class JobStreamClientImpl implements JobStreamClient {
   public JobStreamClientImpl(
       final ActorSchedulingService schedulingService,
       final ClusterCommunicationService clusterCommunicationService) {
+    this(schedulingService, clusterCommunicationService, DEFAULT_STREAM_CAPACITY);
+  }
+
+  public JobStreamClientImpl(
+      final ActorSchedulingService schedulingService,
+      final ClusterCommunicationService clusterCommunicationService,
+      final int streamCapacity) {
     this.schedulingService = schedulingService;
     streamService =
         new TransportFactory(schedulingService)
-            .createRemoteStreamClient(clusterCommunicationService, new JobClientStreamMetrics());
+            .createRemoteStreamClient(
+                clusterCommunicationService, new JobClientStreamMetrics(), streamCapacity);
   }
 
   @Override
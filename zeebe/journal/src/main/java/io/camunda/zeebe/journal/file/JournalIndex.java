@@ -31,6 +31,27 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Restores a previously indexed entry, e.g. from a persisted segment index. Unlike {@link
+   * #index(JournalRecord, int)}, the entry is not subject to the index density, as it is assumed it
+   * was already selected when it was first indexed.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the record within its segment
+   */
+  void restore(long index, long asqn, int position);
+
+  /**
+   * Visits all indexed entries whose index is between the given bounds (both inclusive), in
+   * ascending order of their index.
+   *
+   * @param fromIndex the lower bound (inclusive)
+   * @param toIndex the upper bound (inclusive)
+   * @param visitor the visitor called for each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryVisitor visitor);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +110,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryVisitor {
+
+    /**
+     * @param index the index of the record
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     * @param position the position of the record within its segment
+     */
+    void visit(long index, long asqn, int position);
+  }
 }
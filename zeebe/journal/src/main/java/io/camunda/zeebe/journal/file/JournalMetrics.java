@@ -71,6 +71,23 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge JOURNAL_INDEX_RESTORE_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_index_restore_time")
+          .help("Time taken to restore the journal index from the segment index files on open")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_INDEX_LOAD =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_index_load")
+          .help(
+              "Number of sealed segments whose index was loaded on open, by result (loaded, missing, invalid)")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
   private static final Histogram SEGMENT_ALLOCATION_TIME =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -118,6 +135,8 @@ final class JournalMetrics {
   private final Histogram.Child journalFlushTime;
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
+  private final Gauge.Child journalIndexRestoreTime;
+  private final String partitionId;
   private final Histogram.Child segmentAllocationTime;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
@@ -131,6 +150,8 @@ final class JournalMetrics {
     journalFlushTime = JOURNAL_FLUSH_TIME.labels(partitionId);
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
+    journalIndexRestoreTime = JOURNAL_INDEX_RESTORE_DURATION.labels(partitionId);
+    this.partitionId = partitionId;
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
@@ -158,6 +179,14 @@ final class JournalMetrics {
     return journalOpenTime.startTimer();
   }
 
+  Timer startJournalIndexRestoreTimer() {
+    return journalIndexRestoreTime.startTimer();
+  }
+
+  void observeSegmentIndexLoad(final SegmentIndexFile.LoadResult result) {
+    SEGMENT_INDEX_LOAD.labels(partitionId, result.name().toLowerCase()).inc();
+  }
+
   void incSegmentCount() {
     segmentCount.inc();
   }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SortedLongArrayMap.MISSING;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SortedLongArrayMap.EntryMapper;
+
+/**
+ * A sparse {@link JournalIndex} with the same semantics as {@link SparseJournalIndex}, but backed
+ * by sorted primitive arrays (see {@link SortedLongArrayMap}) instead of skip lists of boxed
+ * values. Indexing a new record does not allocate in the common case, and lookups are binary
+ * searches over contiguous memory.
+ *
+ * <p>Mutations are serialized, as records are indexed by the journal writer but also by readers
+ * while seeking through segments which were not indexed yet. Lookups never block.
+ */
+final class PrimitiveSparseJournalIndex implements JournalIndex {
+
+  private static final EntryMapper<IndexInfo> TO_INDEX_INFO =
+      (index, position) -> new IndexInfo(index, (int) position);
+  private static final EntryMapper<Long> TO_VALUE = (key, value) -> value;
+
+  private final int density;
+  private final SortedLongArrayMap indexToPosition = new SortedLongArrayMap();
+  private final SortedLongArrayMap asqnToIndex = new SortedLongArrayMap();
+
+  // the lowest index for which the reverse asqn lookup may return a result; asqnToIndex retains the
+  // asqn of the greatest compacted index to allow seeking to it, but the reverse lookup must not
+  private volatile long lowestAsqnIndex = Long.MIN_VALUE;
+
+  PrimitiveSparseJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density == 0) {
+      restore(index, indexedEntry.asqn(), position);
+    }
+  }
+
+  @Override
+  public synchronized void restore(final long index, final long asqn, final int position) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqnToIndex.put(asqn, index);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    indexToPosition.forEach(
+        fromIndex,
+        toIndex,
+        (index, position) -> {
+          final long asqn = asqnToIndex.keyOfValue(index);
+          visitor.visit(
+              index, asqn != MISSING ? asqn : SegmentedJournal.ASQN_IGNORE, (int) position);
+        });
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    return indexToPosition.floorEntry(index, TO_INDEX_INFO);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final Long index = asqnToIndex.floorEntry(asqn, TO_VALUE);
+    if (index == null || index <= indexUpperBound) {
+      return index;
+    }
+
+    final long boundedIndex = asqnToIndex.floorValue(indexUpperBound);
+    return boundedIndex != MISSING && boundedIndex >= lowestAsqnIndex ? boundedIndex : null;
+  }
+
+  @Override
+  public synchronized void deleteAfter(final long index) {
+    indexToPosition.removeKeysAfter(index);
+    asqnToIndex.removeValuesAfter(index);
+  }
+
+  @Override
+  public synchronized void deleteUntil(final long index) {
+    indexToPosition.removeKeysBefore(index);
+
+    final long floorAsqnIndex = asqnToIndex.floorValue(index);
+    if (floorAsqnIndex != MISSING) {
+      asqnToIndex.removeValuesBefore(floorAsqnIndex);
+      lowestAsqnIndex = Math.max(lowestAsqnIndex, index);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    indexToPosition.clear();
+    asqnToIndex.clear();
+    lowestAsqnIndex = Long.MIN_VALUE;
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+}
@@ -234,6 +234,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    // the index file is not used by readers, so there is no need to defer its deletion
+    SegmentIndexFile.delete(file);
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
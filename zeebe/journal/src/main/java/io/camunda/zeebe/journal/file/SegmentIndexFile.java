@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the {@link JournalIndex} entries of a sealed segment in a sidecar file next to the
+ * segment, such that the index can be restored when the journal is opened without reading every
+ * record of the segment.
+ *
+ * <p>The layout of the file is (all little endian):
+ *
+ * <pre>
+ * | version (int) | firstIndex (long) | lastIndex (long) | entryCount (int) |
+ * | index (long) | asqn (long) | position (int) | ... (entryCount times)      |
+ * | checksum (long)                                                          |
+ * </pre>
+ *
+ * <p>The checksum is a CRC32C over everything preceding it. The first and last index must match the
+ * segment the file is loaded for, otherwise the file is considered stale (e.g. the segment was
+ * truncated after the file was written) and is ignored. Since the index is an optimization only,
+ * any problem when writing or reading the file is never fatal: the journal falls back to building
+ * the index lazily while reading the segment.
+ */
+final class SegmentIndexFile {
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int HEADER_LENGTH = Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+
+  /**
+   * Writes the index entries of the given sealed segment to its sidecar index file, replacing any
+   * previous file.
+   *
+   * @param segment the sealed segment
+   * @param journalIndex the index containing the segment's entries
+   * @return true if the file was written, false otherwise
+   */
+  boolean write(final Segment segment, final JournalIndex journalIndex) {
+    final var firstIndex = segment.index();
+    final var lastIndex = segment.lastIndex();
+    final var indexFile = segment.file().indexFile();
+
+    final var entryCount = new int[1];
+    journalIndex.forEach(firstIndex, lastIndex, (index, asqn, position) -> entryCount[0]++);
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entryCount[0] * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer.putInt(VERSION).putLong(firstIndex).putLong(lastIndex).putInt(entryCount[0]);
+    journalIndex.forEach(
+        firstIndex,
+        lastIndex,
+        (index, asqn, position) -> buffer.putLong(index).putLong(asqn).putInt(position));
+    buffer.putLong(checksumGenerator.compute(buffer, 0, buffer.position()));
+    buffer.flip();
+
+    try (final var channel =
+        FileChannel.open(
+            indexFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to write index file {} of segment {}; the index will be rebuilt from the segment on restart",
+          indexFile,
+          segment,
+          e);
+      delete(indexFile);
+      return false;
+    }
+
+    LOG.trace("Wrote {} index entries of segment {} to {}", entryCount[0], segment, indexFile);
+    return true;
+  }
+
+  /**
+   * Restores the index entries of the given segment from its sidecar index file, if it exists and
+   * is valid for the segment. If it is invalid, the file is deleted.
+   *
+   * @param segment the loaded segment
+   * @param journalIndex the index to restore the entries into
+   * @return the outcome of the load
+   */
+  LoadResult load(final Segment segment, final JournalIndex journalIndex) {
+    final var indexFile = segment.file().indexFile();
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return LoadResult.MISSING;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {} of segment {}", indexFile, segment, e);
+      return LoadResult.INVALID;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOG.debug(
+          "Ignoring corrupted or stale index file {} of segment {}; deleting it",
+          indexFile,
+          segment);
+      delete(indexFile);
+      return LoadResult.INVALID;
+    }
+
+    final var entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < entryCount; i++) {
+      final var index = buffer.getLong();
+      final var asqn = buffer.getLong();
+      final var position = buffer.getInt();
+      journalIndex.restore(index, asqn, position);
+    }
+
+    LOG.trace("Restored {} index entries of segment {} from {}", entryCount, segment, indexFile);
+    return LoadResult.LOADED;
+  }
+
+  private boolean isValid(final ByteBuffer buffer, final Segment segment) {
+    final var length = buffer.capacity();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final var entryCount = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (entryCount < 0
+        || (long) HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH != length) {
+      return false;
+    }
+
+    final var checksumOffset = length - CHECKSUM_LENGTH;
+    if (checksumGenerator.compute(buffer, 0, checksumOffset) != buffer.getLong(checksumOffset)) {
+      return false;
+    }
+
+    return buffer.getInt(0) == VERSION
+        && buffer.getLong(Integer.BYTES) == segment.index()
+        && buffer.getLong(Integer.BYTES + Long.BYTES) == segment.lastIndex();
+  }
+
+  /** Deletes the index file of the given segment, if any. */
+  static void delete(final SegmentFile segmentFile) {
+    delete(segmentFile.indexFile());
+  }
+
+  private static void delete(final Path indexFile) {
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete segment index file {}", indexFile, e);
+    }
+  }
+
+  enum LoadResult {
+    /** The entries were restored from the index file. */
+    LOADED,
+    /** There was no index file for the segment. */
+    MISSING,
+    /** The index file was corrupted or did not match the segment, and was ignored. */
+    INVALID
+  }
+}
@@ -111,8 +111,10 @@ final class SegmentedJournalWriter {
     }
 
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
-    // the old truncated entry.
+    // the old truncated entry. Similarly, the persisted index of the segment (if it was sealed
+    // before) does not match its content anymore.
     currentSegment.resetLastEntryInDescriptor();
+    SegmentIndexFile.delete(currentSegment.file());
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
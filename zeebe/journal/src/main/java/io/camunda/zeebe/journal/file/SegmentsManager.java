@@ -55,6 +55,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final SegmentIndexFile segmentIndexFile = new SegmentIndexFile();
 
   private volatile Segment currentSegment;
 
@@ -119,6 +120,9 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is sealed from here on, so its index will not change anymore unless it
+    // is truncated, in which case the index file is deleted again
+    segmentIndexFile.write(currentSegment, journalIndex);
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -290,6 +294,7 @@ final class SegmentsManager implements AutoCloseable {
       segments.put(segment.descriptor().index(), segment);
       journalMetrics.incSegmentCount();
     }
+    restoreIndex();
 
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
@@ -316,6 +321,24 @@ final class SegmentsManager implements AutoCloseable {
     deleteDeferredFiles();
   }
 
+  /**
+   * Restores the journal index of all sealed segments from their index files. The last segment is
+   * skipped, as its index is built while resetting its writer. If the index of a segment cannot be
+   * restored, it will be built lazily when reading the segment.
+   */
+  private void restoreIndex() {
+    if (segments.size() < 2) {
+      return;
+    }
+
+    try (final var ignored = journalMetrics.startJournalIndexRestoreTimer()) {
+      for (final Segment segment : segments.headMap(segments.lastKey()).values()) {
+        final var result = segmentIndexFile.load(segment, journalIndex);
+        journalMetrics.observeSegmentIndexLoad(result);
+      }
+    }
+  }
+
   private void prepareNextSegment() {
     final var descriptor =
         SegmentDescriptor.builder()
@@ -443,6 +466,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        SegmentIndexFile.delete(new SegmentFile(file));
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -0,0 +1,422 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+/**
+ * A sorted map of primitive {@code long} keys to {@code long} values, backed by sorted arrays. It
+ * is tailored to the access pattern of the {@link JournalIndex}: keys are mostly appended in
+ * ascending order, removal only happens at the head or the tail, and lookups are floor searches.
+ *
+ * <p>Mutations must be serialized by the caller (i.e. there is a single writer at a time), but
+ * reads are lock-free and may happen concurrently with mutations. Appending a key greater than all
+ * existing keys writes into spare capacity of the backing arrays and then publishes the new size,
+ * so it does not allocate unless the arrays need to grow. Any other mutation that would overwrite a
+ * slot which readers may see copies the affected arrays instead.
+ *
+ * <p>Keys inserted out of order (e.g. when the index of an older segment is built lazily while
+ * reading it) are collected in a small, separate pending table, which is merged into the main table
+ * once it grows beyond the square root of the main table's size. This bounds the amortized cost of
+ * such inserts without affecting the common append path.
+ *
+ * <p>Values must be monotonically increasing with their keys, i.e. for two keys {@code k1 < k2} the
+ * values must satisfy {@code v1 < v2}. This allows searching by value as well.
+ */
+final class SortedLongArrayMap {
+
+  /** Returned when there is no matching key or value; not a valid key or value. */
+  static final long MISSING = Long.MIN_VALUE;
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int MIN_PENDING_MERGE_THRESHOLD = 64;
+
+  // readers must always read pending before main; see #mergePending
+  private volatile Table main = new Table(0);
+  private volatile Table pending = new Table(0);
+
+  /**
+   * Puts the given mapping into the map. If the key already exists, its value is left unchanged.
+   */
+  void put(final long key, final long value) {
+    final var table = main;
+    if (table.isEmpty() || key > table.lastKey()) {
+      appendToMain(table, key, value);
+    } else if (table.slotOf(key) < 0) {
+      insertIntoPending(key, value);
+    }
+  }
+
+  /**
+   * Returns the mapping with the greatest key less than or equal to the given key, or null if there
+   * is none.
+   *
+   * @param key the upper bound (inclusive) of the key to search for
+   * @param mapper maps the found key and value; use a non-capturing function to avoid allocations
+   * @return the mapped entry, or null if there is no such entry
+   */
+  <T> T floorEntry(final long key, final EntryMapper<T> mapper) {
+    final var pendingTable = pending;
+    final var mainTable = main;
+
+    final int mainSlot = mainTable.floorSlot(key);
+    final int pendingSlot = pendingTable.floorSlot(key);
+    if (pendingSlot >= 0
+        && (mainSlot < 0 || pendingTable.keys[pendingSlot] > mainTable.keys[mainSlot])) {
+      return mapper.map(pendingTable.keys[pendingSlot], pendingTable.values[pendingSlot]);
+    } else if (mainSlot >= 0) {
+      return mapper.map(mainTable.keys[mainSlot], mainTable.values[mainSlot]);
+    }
+
+    return null;
+  }
+
+  /**
+   * @return the greatest value less than or equal to the given value, or {@link #MISSING}
+   */
+  long floorValue(final long value) {
+    final var pendingTable = pending;
+    final var mainTable = main;
+
+    final int mainSlot = mainTable.floorValueSlot(value);
+    final int pendingSlot = pendingTable.floorValueSlot(value);
+    final long mainValue = mainSlot >= 0 ? mainTable.values[mainSlot] : MISSING;
+    final long pendingValue = pendingSlot >= 0 ? pendingTable.values[pendingSlot] : MISSING;
+    return Math.max(mainValue, pendingValue);
+  }
+
+  /**
+   * @return the key mapped to exactly the given value, or {@link #MISSING}
+   */
+  long keyOfValue(final long value) {
+    final var pendingTable = pending;
+    final var mainTable = main;
+
+    int slot = mainTable.floorValueSlot(value);
+    if (slot >= 0 && mainTable.values[slot] == value) {
+      return mainTable.keys[slot];
+    }
+
+    slot = pendingTable.floorValueSlot(value);
+    if (slot >= 0 && pendingTable.values[slot] == value) {
+      return pendingTable.keys[slot];
+    }
+
+    return MISSING;
+  }
+
+  /**
+   * Visits all entries with keys between the given bounds (both inclusive) in ascending key order.
+   */
+  void forEach(final long fromKey, final long toKey, final EntryVisitor visitor) {
+    final var pendingTable = pending;
+    final var mainTable = main;
+    final var mainEnd = mainTable.tail;
+    final var pendingEnd = pendingTable.tail;
+
+    int mainSlot = mainTable.ceilingSlot(fromKey);
+    int pendingSlot = pendingTable.ceilingSlot(fromKey);
+    while (true) {
+      final long mainKey = mainSlot < mainEnd ? mainTable.keys[mainSlot] : Long.MAX_VALUE;
+      final long pendingKey =
+          pendingSlot < pendingEnd ? pendingTable.keys[pendingSlot] : Long.MAX_VALUE;
+      final long key = Math.min(mainKey, pendingKey);
+      if (key > toKey || key == Long.MAX_VALUE) {
+        return;
+      }
+
+      if (key == mainKey) {
+        visitor.visit(key, mainTable.values[mainSlot]);
+        mainSlot++;
+        // the key may exist in both tables while merging, skip the duplicate
+        if (key == pendingKey) {
+          pendingSlot++;
+        }
+      } else {
+        visitor.visit(key, pendingTable.values[pendingSlot]);
+        pendingSlot++;
+      }
+    }
+  }
+
+  /** Removes all entries with a key greater than the given key. */
+  void removeKeysAfter(final long key) {
+    pending = pending.truncate(pending.higherSlot(key));
+    main = main.truncate(main.higherSlot(key));
+  }
+
+  /** Removes all entries with a value greater than the given value. */
+  void removeValuesAfter(final long value) {
+    pending = pending.truncate(pending.higherValueSlot(value));
+    main = main.truncate(main.higherValueSlot(value));
+  }
+
+  /** Removes all entries with a key less than the given key. */
+  void removeKeysBefore(final long key) {
+    pending = pending.dropHead(pending.ceilingSlot(key));
+    main.advanceHead(main.ceilingSlot(key));
+  }
+
+  /** Removes all entries with a value less than the given value. */
+  void removeValuesBefore(final long value) {
+    pending = pending.dropHead(pending.ceilingValueSlot(value));
+    main.advanceHead(main.ceilingValueSlot(value));
+  }
+
+  void clear() {
+    pending = new Table(0);
+    main = new Table(0);
+  }
+
+  boolean isEmpty() {
+    return pending.isEmpty() && main.isEmpty();
+  }
+
+  private void appendToMain(final Table table, final long key, final long value) {
+    if (table.tail < table.capacity()) {
+      table.append(key, value);
+      return;
+    }
+
+    final var grown = table.copy(Math.max(MIN_CAPACITY, table.size() * 2), -1);
+    grown.append(key, value);
+    main = grown;
+  }
+
+  private void insertIntoPending(final long key, final long value) {
+    final var table = pending;
+    if (table.slotOf(key) >= 0) {
+      return;
+    }
+
+    final var insertAt = table.ceilingSlot(key);
+    final var updated = table.copy(table.size() + 1, insertAt);
+    updated.set(insertAt - table.head, key, value);
+    pending = updated;
+
+    final var mergeThreshold = Math.max(MIN_PENDING_MERGE_THRESHOLD, (int) Math.sqrt(main.size()));
+    if (updated.size() >= mergeThreshold) {
+      mergePending();
+    }
+  }
+
+  private void mergePending() {
+    final var mainTable = main;
+    final var pendingTable = pending;
+    final var size = mainTable.size() + pendingTable.size();
+    final var merged = new Table(Math.max(MIN_CAPACITY, size * 2));
+
+    int mainSlot = mainTable.head;
+    int pendingSlot = pendingTable.head;
+    while (mainSlot < mainTable.tail || pendingSlot < pendingTable.tail) {
+      if (pendingSlot >= pendingTable.tail
+          || (mainSlot < mainTable.tail
+              && mainTable.keys[mainSlot] < pendingTable.keys[pendingSlot])) {
+        merged.append(mainTable.keys[mainSlot], mainTable.values[mainSlot]);
+        mainSlot++;
+      } else {
+        final long key = pendingTable.keys[pendingSlot];
+        if (merged.isEmpty() || merged.lastKey() != key) {
+          merged.append(key, pendingTable.values[pendingSlot]);
+        }
+        pendingSlot++;
+      }
+    }
+
+    // publish the merged table before clearing the pending one; since readers read pending before
+    // main, they will always see every entry in at least one of the tables
+    main = merged;
+    pending = new Table(0);
+  }
+
+  @FunctionalInterface
+  interface EntryMapper<T> {
+    T map(long key, long value);
+  }
+
+  @FunctionalInterface
+  interface EntryVisitor {
+    void visit(long key, long value);
+  }
+
+  /**
+   * A table of sorted keys and their values. The valid slots are {@code [head, tail)}; slots below
+   * {@code head} are never written to again, and slots at or above {@code tail} are only written
+   * before {@code tail} is advanced past them.
+   */
+  private static final class Table {
+    private final long[] keys;
+    private final long[] values;
+    private volatile int head;
+    private volatile int tail;
+
+    private Table(final int capacity) {
+      keys = new long[capacity];
+      values = new long[capacity];
+    }
+
+    private int capacity() {
+      return keys.length;
+    }
+
+    private int size() {
+      return tail - head;
+    }
+
+    private boolean isEmpty() {
+      return tail == head;
+    }
+
+    private long lastKey() {
+      return keys[tail - 1];
+    }
+
+    private void append(final long key, final long value) {
+      final int slot = tail;
+      keys[slot] = key;
+      values[slot] = value;
+      tail = slot + 1;
+    }
+
+    private void set(final int slot, final long key, final long value) {
+      keys[slot] = key;
+      values[slot] = value;
+    }
+
+    /**
+     * Copies the valid slots into a new table with the given capacity. If {@code gapAt} is not
+     * negative, a free slot is left at that (source) slot, shifting all following slots by one.
+     */
+    private Table copy(final int capacity, final int gapAt) {
+      final var copy = new Table(capacity);
+      final int size = size();
+      if (gapAt < 0) {
+        System.arraycopy(keys, head, copy.keys, 0, size);
+        System.arraycopy(values, head, copy.values, 0, size);
+        copy.tail = size;
+      } else {
+        final int before = gapAt - head;
+        System.arraycopy(keys, head, copy.keys, 0, before);
+        System.arraycopy(values, head, copy.values, 0, before);
+        System.arraycopy(keys, gapAt, copy.keys, before + 1, size - before);
+        System.arraycopy(values, gapAt, copy.values, before + 1, size - before);
+        copy.tail = size + 1;
+      }
+
+      return copy;
+    }
+
+    /** Returns a table with only the slots before the given one, copying if necessary. */
+    private Table truncate(final int newTail) {
+      if (newTail >= tail) {
+        return this;
+      }
+
+      final var truncated = new Table(Math.max(MIN_CAPACITY, keys.length));
+      final int size = Math.max(0, newTail - head);
+      System.arraycopy(keys, head, truncated.keys, 0, size);
+      System.arraycopy(values, head, truncated.values, 0, size);
+      truncated.tail = size;
+      return truncated;
+    }
+
+    /** Returns a table without the slots before the given one, copying if necessary. */
+    private Table dropHead(final int newHead) {
+      if (newHead <= head) {
+        return this;
+      }
+
+      return newHead >= tail ? new Table(0) : copyRange(newHead);
+    }
+
+    private Table copyRange(final int from) {
+      final int size = tail - from;
+      final var copy = new Table(size);
+      System.arraycopy(keys, from, copy.keys, 0, size);
+      System.arraycopy(values, from, copy.values, 0, size);
+      copy.tail = size;
+      return copy;
+    }
+
+    private void advanceHead(final int newHead) {
+      if (newHead > head) {
+        head = Math.min(newHead, tail);
+      }
+    }
+
+    /** Returns the slot of the given key, or a negative value if it does not exist. */
+    private int slotOf(final long key) {
+      final int slot = floorSlot(key);
+      return slot >= 0 && keys[slot] == key ? slot : -1;
+    }
+
+    /** Returns the slot of the greatest key less than or equal to the given key, or -1. */
+    private int floorSlot(final long key) {
+      return floorSlot(keys, key);
+    }
+
+    /** Returns the slot of the greatest value less than or equal to the given value, or -1. */
+    private int floorValueSlot(final long value) {
+      return floorSlot(values, value);
+    }
+
+    /** Returns the slot of the smallest key greater than or equal to the given key, or tail. */
+    private int ceilingSlot(final long key) {
+      return firstSlot(keys, key, true);
+    }
+
+    /** Returns the slot of the smallest key strictly greater than the given key, or tail. */
+    private int higherSlot(final long key) {
+      return firstSlot(keys, key, false);
+    }
+
+    /** Returns the slot of the smallest value greater than or equal to the given value, or tail. */
+    private int ceilingValueSlot(final long value) {
+      return firstSlot(values, value, true);
+    }
+
+    /** Returns the slot of the smallest value strictly greater than the given value, or tail. */
+    private int higherValueSlot(final long value) {
+      return firstSlot(values, value, false);
+    }
+
+    private int floorSlot(final long[] sorted, final long bound) {
+      final int start = head;
+      final int slot = firstSlot(sorted, start, tail, bound, false) - 1;
+      return slot >= start ? slot : -1;
+    }
+
+    private int firstSlot(final long[] sorted, final long bound, final boolean inclusive) {
+      return firstSlot(sorted, head, tail, bound, inclusive);
+    }
+
+    /**
+     * Binary search for the first slot in {@code [from, to)} whose element is greater than (or
+     * equal to, if inclusive) the given bound; returns {@code to} if there is none.
+     */
+    private static int firstSlot(
+        final long[] sorted,
+        final int from,
+        final int to,
+        final long bound,
+        final boolean inclusive) {
+      int low = from;
+      int high = to;
+
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        final long element = sorted[mid];
+        if (element > bound || (inclusive && element == bound)) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+
+      return low;
+    }
+  }
+}
@@ -38,12 +38,29 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
-      }
+      restore(index, indexedEntry.asqn(), position);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final long asqn, final int position) {
+    indexToPosition.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqnToIndex.put(asqn, index);
+      indexToAsqn.put(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    for (final var entry : indexToPosition.subMap(fromIndex, true, toIndex, true).entrySet()) {
+      final long index = entry.getKey();
+      final Long asqn = indexToAsqn.get(index);
+      visitor.visit(index, asqn != null ? asqn : SegmentedJournal.ASQN_IGNORE, entry.getValue());
     }
   }
 
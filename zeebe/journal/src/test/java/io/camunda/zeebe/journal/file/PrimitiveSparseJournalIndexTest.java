@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Runs the same tests as for the {@link SparseJournalIndex}, plus some specific ones. */
+final class PrimitiveSparseJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new PrimitiveSparseJournalIndex(density);
+  }
+
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - simulates indexing older segments after the newest one was indexed
+    final JournalIndex index = createIndex(1);
+    index.index(asJournalRecord(1000, 1000), 10);
+
+    // when
+    for (int i = 999; i > 0; i--) {
+      index.index(asJournalRecord(i, i), i * 10);
+    }
+
+    // then
+    for (int i = 1; i <= 1000; i++) {
+      assertThat(index.lookup(i)).isEqualTo(new IndexInfo(i, i == 1000 ? 10 : i * 10));
+      assertThat(index.lookupAsqn(i)).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void shouldCompactAndTruncateEntriesIndexedOutOfOrder() {
+    // given
+    final JournalIndex index = createIndex(1);
+    index.index(asJournalRecord(100, 100), 100);
+    for (int i = 1; i < 100; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // when
+    index.deleteUntil(10);
+    index.deleteAfter(50);
+
+    // then
+    assertThat(index.lookup(9)).isNull();
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 10));
+    assertThat(index.lookup(100)).isEqualTo(new IndexInfo(50, 50));
+    assertThat(index.lookupAsqn(100)).isEqualTo(50L);
+  }
+
+  @Test
+  void shouldVisitEntriesIndexedOutOfOrderInAscendingOrder() {
+    // given
+    final JournalIndex index = createIndex(1);
+    index.index(asJournalRecord(3, 3), 3);
+    index.index(asJournalRecord(1, 1), 1);
+    index.index(asJournalRecord(2, SegmentedJournal.ASQN_IGNORE), 2);
+    final var visited = new StringBuilder();
+
+    // when
+    index.forEach(
+        1, 3, (i, asqn, position) -> visited.append(i).append(':').append(asqn).append(' '));
+
+    // then
+    assertThat(visited.toString()).isEqualTo("1:1 2:-1 3:3 ");
+  }
+}
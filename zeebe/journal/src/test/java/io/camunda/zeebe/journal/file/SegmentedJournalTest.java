@@ -30,7 +30,9 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -410,7 +412,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -419,8 +421,9 @@ class SegmentedJournalTest {
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
 
-    // when
+    // when - the index files are removed, so the index of sealed segments cannot be restored
     journal.close();
+    Files.delete(journal.getFirstSegment().file().indexFile());
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +434,72 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstInfo = journal.getJournalIndex().lookup(firstIndex);
+    final var secondInfo = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstInfo);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondInfo);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFileAfterRestart() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    journal.close();
+
+    // when
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(indexFile, content);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    assertThat(indexFile).doesNotExist();
+    try (final var reader = journal.openReader()) {
+      assertThat(reader.seek(firstIndex)).isEqualTo(firstIndex);
+      assertThat(reader.next().asqn()).isOne();
+    }
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncatingSealedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var indexFile = journal.getFirstSegment().file().indexFile();
+    assertThat(indexFile).exists();
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -22,15 +22,21 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
 class SparseJournalIndexTest {
 
+  JournalIndex createIndex(final int density) {
+    return new SparseJournalIndex(density);
+  }
+
   @Test
   void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     final IndexInfo position = index.lookup(1);
@@ -46,7 +52,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -64,7 +70,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -86,7 +92,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -110,7 +116,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -138,7 +144,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -169,7 +175,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -194,7 +200,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -221,7 +227,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindAsqnWithInBound() {
     // given - every 2nd index is added
-    final JournalIndex index = new SparseJournalIndex(2);
+    final JournalIndex index = createIndex(2);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -244,7 +250,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsIndexedWhenWithInDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
@@ -257,7 +263,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsNotIndexedWhenOutsideDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
@@ -265,4 +271,33 @@ class SparseJournalIndexTest {
     assertThat(index.hasIndexed(11)).isFalse();
     assertThat(index.hasIndexed(100)).isFalse();
   }
+
+  @Test
+  void shouldVisitIndexedEntriesInRange() {
+    // given - every 5 index is added
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 4);
+    index.index(asJournalRecord(15, 3), 6);
+    final List<String> visited = new ArrayList<>();
+
+    // when
+    index.forEach(5, 10, (i, asqn, position) -> visited.add(i + ":" + asqn + ":" + position));
+
+    // then
+    assertThat(visited).containsExactly("5:1:2", "10:-1:4");
+  }
+
+  @Test
+  void shouldRestoreEntriesRegardlessOfDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = createIndex(5);
+
+    // when
+    index.restore(3, 7, 12);
+
+    // then
+    assertThat(index.lookup(4)).isEqualTo(new IndexInfo(3, 12));
+    assertThat(index.lookupAsqn(7)).isEqualTo(3L);
+  }
 }
@@ -19,12 +19,16 @@ import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
 import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,18 +36,42 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers never block each other. Each accepted write claims its positions by appending a {@link
+ * PendingBatch} to the tail of a linked hand-off queue with a single CAS; since the positions are
+ * derived from the previous tail, they are strictly increasing in queue order. The claimed batches
+ * are then handed off to the {@link LogStorage} in queue order by a single drainer: every writer
+ * registers a drain request after linking its batch, and only the writer which registers the first
+ * outstanding request becomes the drainer. Any other writer returns immediately, and the drainer
+ * makes one more pass for all requests registered in the meantime. Each pass only appends the
+ * batches claimed before it started, so that the drainer does not keep appending batches for as
+ * long as other writers keep arriving. This guarantees that {@link
+ * FlowControl#onAppend(InFlightEntry, long)} and {@link LogStorage#append} are always called by a
+ * single thread at a time, in position order.
+ *
+ * <p>If group commit is enabled, the drainer coalesces consecutive claimed batches into a single
+ * {@link LogStorage#append} (i.e. a single journal and Raft entry), as long as their combined
+ * length does not exceed the max fragment size. The drainer never waits for further batches, as it
+ * runs on the writer's thread, e.g. an actor thread: a group consists of the batches which were
+ * claimed while the previous group was appended. The more concurrent writers there are, the larger
+ * the groups, while a single writer's batches are appended right away. Every batch is still tracked
+ * separately by the {@link FlowControl}, as the write and commit of the coalesced entry are
+ * acknowledged for each of its batches.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
   private final int maxFragmentSize;
 
-  private volatile long position;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicReference<PendingBatch> tail;
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  // the last batch handed off to the log storage; only accessed by the current drainer
+  private PendingBatch head;
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
+  private final boolean isGroupCommitEnabled;
 
   Sequencer(
       final LogStorage logStorage,
@@ -52,14 +80,31 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final InstantSource clock,
       final SequencerMetrics sequencerMetrics,
       final FlowControl flowControl) {
+    this(logStorage, initialPosition, maxFragmentSize, clock, sequencerMetrics, flowControl, false);
+  }
+
+  /**
+   * @param isGroupCommitEnabled if false, every batch is appended separately; otherwise, batches
+   *     which are waiting to be appended are coalesced into a single append
+   */
+  Sequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final boolean isGroupCommitEnabled) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
-    position = initialPosition;
+    head = PendingBatch.sentinel(initialPosition - 1);
+    tail = new AtomicReference<>(head);
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+    this.isGroupCommitEnabled = isGroupCommitEnabled;
   }
 
   /** {@inheritDoc} */
@@ -107,22 +152,13 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
-    try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
-      return Either.right(highestPosition);
-    } finally {
-      lock.unlock();
-      sequencerMetrics.observeBatchLengthBytes(batchLength);
-      sequencerMetrics.observeBatchSize(batchSize);
-    }
+    final var batch = new PendingBatch(sourcePosition, appendEntries, batchLength, inFlightEntry);
+    final long highestPosition = claim(batch);
+    drain();
+
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(highestPosition);
   }
 
   /**
@@ -135,7 +171,204 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  /**
+   * Claims the positions for the given batch by appending it to the tail of the hand-off queue. The
+   * batch is only linked to its predecessor after the claim succeeded, so a drainer might not see
+   * it yet; this is fine, as the claiming writer will always try to drain afterwards.
+   *
+   * @return the highest position claimed by the batch
+   */
+  private long claim(final PendingBatch batch) {
+    PendingBatch previous;
+    do {
+      previous = tail.get();
+      batch.lowestPosition = previous.highestPosition + 1;
+      batch.highestPosition = previous.highestPosition + batch.entries.size();
+    } while (!tail.compareAndSet(previous, batch));
+
+    previous.next = batch;
+    return batch.highestPosition;
+  }
+
+  /**
+   * Hands off the linked batches to the log storage, in position order, unless another writer is
+   * currently doing so. In that case, the current drainer makes another pass after its current one,
+   * which includes the batch of this writer, as it was claimed and linked before the request.
+   */
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+
+    int requests = 1;
+    do {
+      try {
+        drainPass(tail.get());
+      } catch (final RuntimeException e) {
+        // let the next writer become the drainer, instead of leaving the requests outstanding
+        drainRequests.set(0);
+        throw e;
+      }
+      requests = drainRequests.addAndGet(-requests);
+    } while (requests != 0);
+  }
+
+  /**
+   * Appends the linked batches up to the given batch, which was the tail when the pass started.
+   * Stops early if a batch before it is not linked yet; its writer has yet to register its drain
+   * request, which leads to another pass.
+   */
+  private void drainPass(final PendingBatch last) {
+    PendingBatch next;
+    while (head != last && (next = head.next) != null) {
+      head = isGroupCommitEnabled ? appendGroup(next, last) : append(next);
+    }
+  }
+
+  private PendingBatch append(final PendingBatch batch) {
+    final var sequencedBatch = onAppend(batch, clock.millis());
+    logStorage.append(batch.lowestPosition, batch.highestPosition, sequencedBatch, flowControl);
+    return batch;
+  }
+
+  /**
+   * Appends the given batch together with as many of its already linked successors as fit into the
+   * max fragment size. The group never extends past the last batch of the current pass.
+   *
+   * @return the last batch of the group
+   */
+  private PendingBatch appendGroup(final PendingBatch first, final PendingBatch lastOfPass) {
+    var last = first;
+    var groupSize = 1;
+    var groupLength = first.batchLength;
+
+    while (last != lastOfPass) {
+      final var next = last.next;
+      if (next == null || groupLength + next.batchLength > maxFragmentSize) {
+        break;
+      }
+      last = next;
+      groupSize++;
+      groupLength += next.batchLength;
+    }
+
+    final var now = System.nanoTime();
+    sequencerMetrics.observeGroupCommit(groupSize, now - first.claimedAtNanos);
+    if (groupSize == 1) {
+      return append(first);
+    }
+
+    final var timestamp = clock.millis();
+    final var batches = new SequencedBatch[groupSize];
+    final var highestPositions = new long[groupSize];
+    var batch = first;
+    for (int i = 0; i < groupSize; i++) {
+      batches[i] = onAppend(batch, timestamp);
+      highestPositions[i] = batch.highestPosition;
+      batch = batch.next;
+    }
+
+    logStorage.append(
+        first.lowestPosition,
+        last.highestPosition,
+        new CoalescedBatch(batches, groupLength),
+        new CoalescedAppendListener(flowControl, highestPositions));
+    return last;
+  }
+
+  private SequencedBatch onAppend(final PendingBatch batch, final long timestamp) {
+    final var sequencedBatch =
+        new SequencedBatch(
+            timestamp,
+            batch.lowestPosition,
+            batch.sourcePosition,
+            batch.entries,
+            batch.batchLength);
+    final var inFlightEntry = batch.inFlightEntry;
+    // release the entries as early as possible, the head of the queue is retained until the next
+    // batch is appended
+    batch.entries = null;
+    batch.inFlightEntry = null;
+
+    flowControl.onAppend(inFlightEntry, batch.highestPosition);
+    return sequencedBatch;
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  /**
+   * A batch whose positions were claimed, but which was possibly not yet appended to the log
+   * storage. The positions are assigned before the batch is published via the tail CAS, and the
+   * batch is read by the drainer only after reading the volatile {@link #next} reference of its
+   * predecessor, which establishes the necessary happens-before relationship.
+   */
+  private static final class PendingBatch {
+    private final long sourcePosition;
+    private final int batchLength;
+    private final long claimedAtNanos = System.nanoTime();
+    private List<LogAppendEntry> entries;
+    private InFlightEntry inFlightEntry;
+    private long lowestPosition;
+    private long highestPosition;
+    private volatile PendingBatch next;
+
+    private PendingBatch(
+        final long sourcePosition,
+        final List<LogAppendEntry> entries,
+        final int batchLength,
+        final InFlightEntry inFlightEntry) {
+      this.sourcePosition = sourcePosition;
+      this.entries = entries;
+      this.batchLength = batchLength;
+      this.inFlightEntry = inFlightEntry;
+    }
+
+    private static PendingBatch sentinel(final long highestPosition) {
+      final var sentinel = new PendingBatch(-1, null, 0, null);
+      sentinel.highestPosition = highestPosition;
+      return sentinel;
+    }
+  }
+
+  /** Serializes multiple consecutive batches as a single block. */
+  private record CoalescedBatch(SequencedBatch[] batches, int length) implements BufferWriter {
+
+    @Override
+    public int getLength() {
+      return length;
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      int currentOffset = offset;
+      for (final var batch : batches) {
+        batch.write(buffer, currentOffset);
+        currentOffset += batch.length();
+      }
+    }
+  }
+
+  /**
+   * Acknowledges the write and commit of a coalesced append for each of its batches, so that the
+   * flow control can track them the same way as if they were appended separately.
+   */
+  private record CoalescedAppendListener(FlowControl flowControl, long[] highestPositions)
+      implements AppendListener {
+
+    @Override
+    public void onWrite(final long index, final long highestPosition) {
+      for (final var position : highestPositions) {
+        flowControl.onWrite(index, position);
+      }
+    }
+
+    @Override
+    public void onCommit(final long index, final long highestPosition) {
+      for (final var position : highestPositions) {
+        flowControl.onCommit(index, position);
+      }
+    }
+  }
 }
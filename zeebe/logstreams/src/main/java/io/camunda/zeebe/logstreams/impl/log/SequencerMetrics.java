@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.impl.log;
 
 import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 final class SequencerMetrics {
   private static final Histogram BATCH_SIZE =
@@ -28,13 +29,39 @@ final class SequencerMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram GROUP_COMMIT_BATCHES =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_group_commit_batches")
+          .help(
+              "Histogram over the number of batches coalesced into a single append when group"
+                  + " commit is enabled; its average is the coalescing ratio")
+          .buckets(1, 2, 3, 5, 10, 25, 50, 100)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram GROUP_COMMIT_DELAY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("sequencer_group_commit_delay")
+          .help(
+              "Histogram over the time, in seconds, between the first batch of a group being"
+                  + " claimed and the group being appended, when group commit is enabled")
+          .buckets(0.00001, 0.00005, 0.0001, 0.0005, 0.001, 0.005, 0.01)
+          .labelNames("partition")
+          .register();
+
   private final Histogram.Child batchSize;
   private final Histogram.Child batchLengthBytes;
+  private final Histogram.Child groupCommitBatches;
+  private final Histogram.Child groupCommitDelay;
 
   SequencerMetrics(final int partitionId) {
     final var partitionLabel = String.valueOf(partitionId);
     batchSize = BATCH_SIZE.labels(partitionLabel);
     batchLengthBytes = BATCH_LENGTH_BYTES.labels(partitionLabel);
+    groupCommitBatches = GROUP_COMMIT_BATCHES.labels(partitionLabel);
+    groupCommitDelay = GROUP_COMMIT_DELAY.labels(partitionLabel);
   }
 
   void observeBatchSize(final int size) {
@@ -45,4 +72,9 @@ final class SequencerMetrics {
     final int batchLengthKiloBytes = Math.floorDiv(lengthBytes, 1024);
     batchLengthBytes.observe(batchLengthKiloBytes);
   }
+
+  void observeGroupCommit(final int batches, final long delayNanos) {
+    groupCommitBatches.observe(batches);
+    groupCommitDelay.observe(delayNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
 }
@@ -56,6 +56,16 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Enables group commit: concurrent writes which are waiting to be appended are coalesced into a
+   * single append to the log storage, up to the max fragment size. Writers never wait for further
+   * writes.
+   *
+   * @param isGroupCommitEnabled true to enable group commit, false to disable it (the default)
+   * @return this builder
+   */
+  LogStreamBuilder withGroupCommit(boolean isGroupCommitEnabled);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
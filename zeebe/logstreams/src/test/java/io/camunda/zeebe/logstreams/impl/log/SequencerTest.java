@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.eq;
 
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
@@ -20,6 +21,7 @@ import io.camunda.zeebe.logstreams.util.TestEntry;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.LockSupport;
@@ -246,6 +248,160 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void appendsBatchWrittenWhileDrainingInNextPass() {
+    // given -- the first append writes another batch while the sequencer is draining
+    final var logStorage = new RecordingLogStorage();
+    final var entry = TestEntry.ofDefaults();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)));
+    final var appendsAfterNestedWrite = new ArrayList<Integer>();
+    logStorage.onFirstAppend =
+        () -> {
+          sequencer.tryWrite(WriteContext.internal(), entry);
+          appendsAfterNestedWrite.add(logStorage.appends.size());
+        };
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entry);
+
+    // then -- the nested write returned right away, and its batch was appended by the drainer
+    final var batchLength = SequencedBatchSerializer.calculateBatchLength(List.of(entry));
+    Assertions.assertThat(appendsAfterNestedWrite).containsExactly(1);
+    Assertions.assertThat(logStorage.appends)
+        .containsExactly(
+            new RecordedAppend(1, 1, batchLength), new RecordedAppend(2, 2, batchLength));
+  }
+
+  @Test
+  void coalescesWaitingBatchesWithGroupCommit() {
+    // given -- the first append writes two more batches while the sequencer is draining
+    final var logStorage = new RecordingLogStorage();
+    final var entry = TestEntry.ofDefaults();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)),
+            true);
+    logStorage.onFirstAppend =
+        () -> {
+          sequencer.tryWrite(WriteContext.internal(), entry);
+          sequencer.tryWrite(WriteContext.internal(), List.of(entry, entry));
+        };
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entry);
+
+    // then
+    final var batchLength = SequencedBatchSerializer.calculateBatchLength(List.of(entry));
+    Assertions.assertThat(logStorage.appends)
+        .containsExactly(
+            new RecordedAppend(1, 1, batchLength), new RecordedAppend(2, 4, 3 * batchLength));
+  }
+
+  @Test
+  void appendsBatchRightAwayWithGroupCommit() {
+    // given
+    final var logStorage = new RecordingLogStorage();
+    final var entry = TestEntry.ofDefaults();
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            4 * 1024 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)),
+            true);
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entry);
+    sequencer.tryWrite(WriteContext.internal(), entry);
+
+    // then -- without concurrent writers, no batch waits for another one
+    final var batchLength = SequencedBatchSerializer.calculateBatchLength(List.of(entry));
+    Assertions.assertThat(logStorage.appends)
+        .containsExactly(
+            new RecordedAppend(1, 1, batchLength), new RecordedAppend(2, 2, batchLength));
+  }
+
+  @Test
+  void doesNotCoalesceBatchesBeyondMaxFragmentSize() {
+    // given
+    final var logStorage = new RecordingLogStorage();
+    final var entry = TestEntry.ofDefaults();
+    final var batchLength = SequencedBatchSerializer.calculateBatchLength(List.of(entry));
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            2 * batchLength,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(new LogStreamMetrics(1)),
+            true);
+    logStorage.onFirstAppend =
+        () -> {
+          sequencer.tryWrite(WriteContext.internal(), entry);
+          sequencer.tryWrite(WriteContext.internal(), List.of(entry, entry));
+        };
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entry);
+
+    // then
+    Assertions.assertThat(logStorage.appends)
+        .containsExactly(
+            new RecordedAppend(1, 1, batchLength),
+            new RecordedAppend(2, 2, batchLength),
+            new RecordedAppend(3, 4, 2 * batchLength));
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndGroupCommit() throws InterruptedException {
+    // given
+    final var numberOfWriters = 8;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(1);
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16 * 1024,
+            InstantSource.system(),
+            new SequencerMetrics(1),
+            new FlowControl(logStreamMetrics),
+            true);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, 1, 10_000, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw
+    Assertions.assertThat(testFailures).isEmpty();
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
@@ -311,4 +467,38 @@ final class SequencerTest {
       throw new UnsupportedOperationException();
     }
   }
+
+  private record RecordedAppend(long lowestPosition, long highestPosition, int length) {}
+
+  private static final class RecordingLogStorage implements LogStorage {
+    private final List<RecordedAppend> appends = new ArrayList<>();
+    private Runnable onFirstAppend = () -> {};
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      appends.add(new RecordedAppend(lowestPosition, highestPosition, bufferWriter.getLength()));
+      if (appends.size() == 1) {
+        onFirstAppend.run();
+      }
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
@@ -67,6 +67,12 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withGroupCommit(final boolean isGroupCommitEnabled) {
+    delegate.withGroupCommit(isGroupCommitEnabled);
+    return this;
+  }
+
   @Override
   public TestLogStream build() {
     return new TestLogStream(delegate.build());
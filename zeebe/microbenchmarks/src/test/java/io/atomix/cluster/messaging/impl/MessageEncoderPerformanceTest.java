@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the CPU cost of preparing a large message, e.g. an append request carrying a batch of
+ * entries, to be written to the network. As the benchmark runs on a single thread, the inverse of
+ * its score is the CPU time per message, and the counted bytes give the CPU time per MB.
+ *
+ * <p>Each operation encodes the message and then prepares the encoded buffer for the socket like
+ * the epoll and NIO transports do: buffers which are not direct, e.g. a composite buffer wrapping
+ * the heap payload, are copied into a direct buffer before they are written. Without that step, an
+ * encoder which avoids copying the payload would look cheaper than it is, as it only defers the
+ * copy to the transport.
+ *
+ * <p>Unlike the other microbenchmarks, it lives in the package of the messaging service, as the
+ * encoders are package-private.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MessageEncoderPerformanceTest {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  @Param({"65536"})
+  public int payloadSize;
+
+  private EmbeddedChannel channel;
+  private ProtocolRequest request;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(new MessageEncoderV2(ADDRESS));
+    channel.config().setOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+
+    final var payload = new byte[payloadSize];
+    ThreadLocalRandom.current().nextBytes(payload);
+    request =
+        new ProtocolRequest(1, ADDRESS, "raft-partition-partition-1-append-versioned", payload);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @JMHTest("measureEncode")
+  void shouldEncode(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureEncode").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureEncode(final WrittenBytes writtenBytes) {
+    channel.writeOutbound(request);
+    final ByteBuf encoded = channel.readOutbound();
+    final ByteBuf written = toDirectBuffer(encoded);
+    try {
+      final int bytes = written.readableBytes();
+      writtenBytes.bytes += bytes;
+      return bytes;
+    } finally {
+      written.release();
+    }
+  }
+
+  /**
+   * Mirrors {@code AbstractNioChannel#newDirectBuffer}, which the transports use before writing.
+   */
+  private ByteBuf toDirectBuffer(final ByteBuf buffer) {
+    if (buffer.isDirect()) {
+      return buffer;
+    }
+
+    final ByteBuf directBuffer = channel.alloc().directBuffer(buffer.readableBytes());
+    directBuffer.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+    buffer.release();
+    return directBuffer;
+  }
+
+  /** Counts the written bytes, which divided by the operations gives the bytes per message. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class WrittenBytes {
+    public long bytes;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SparseJournalIndex} and the {@link PrimitiveSparseJournalIndex}. The index is
+ * pre-populated as it would be for a journal of {@code recordCount} records with the default
+ * density of 100, where every record has an ASQN.
+ *
+ * <p>Unlike the other microbenchmarks, it lives in the package of the journal, as the indexes are
+ * package-private.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+
+  @Param({"sparse", "primitive"})
+  public String indexType;
+
+  @Param({"1000000", "100000000"})
+  public long recordCount;
+
+  private JournalIndex index;
+  private long firstIndex;
+  private long nextIndex;
+
+  @Setup
+  public void setup() {
+    index =
+        switch (indexType) {
+          case "sparse" -> new SparseJournalIndex(DENSITY);
+          case "primitive" -> new PrimitiveSparseJournalIndex(DENSITY);
+          default -> throw new IllegalArgumentException("Unknown index type " + indexType);
+        };
+
+    firstIndex = 1;
+    for (nextIndex = 1; nextIndex <= recordCount; nextIndex++) {
+      indexRecord(nextIndex);
+    }
+  }
+
+  @JMHTest(value = "measureLookup")
+  void shouldLookupWithPrimitiveIndex(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("indexType", "primitive").param("recordCount", "1000000"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureLookup").verify(assertResult);
+  }
+
+  /** Measures appending to the index; the oldest entries are compacted to keep its size stable. */
+  @Benchmark
+  public long measureIndex() {
+    indexRecord(nextIndex);
+    nextIndex++;
+
+    if ((nextIndex - firstIndex) > 2 * recordCount) {
+      firstIndex += recordCount;
+      index.deleteUntil(firstIndex);
+    }
+
+    return nextIndex;
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(randomIndex());
+  }
+
+  @Benchmark
+  public Long measureLookupAsqn() {
+    final long index = randomIndex();
+    return this.index.lookupAsqn(index, index);
+  }
+
+  /**
+   * Measures compacting the index by one entry at a time, as a journal does when it is compacted
+   * segment by segment; a new entry is indexed for every compacted one to keep the size stable.
+   */
+  @Benchmark
+  public long measureDeleteUntil() {
+    firstIndex += DENSITY;
+    index.deleteUntil(firstIndex);
+
+    for (int i = 0; i < DENSITY; i++) {
+      indexRecord(nextIndex);
+      nextIndex++;
+    }
+
+    return firstIndex;
+  }
+
+  private long randomIndex() {
+    return ThreadLocalRandom.current().nextLong(firstIndex, nextIndex);
+  }
+
+  private void indexRecord(final long index) {
+    if (index % DENSITY == 0) {
+      this.index.index(new IndexedRecord(index, index), (int) (index % 1024));
+    }
+  }
+
+  private record IndexedRecord(long index, long asqn) implements JournalRecord {
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+
+    @Override
+    public DirectBuffer serializedRecord() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks;
+
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * The reference score of a benchmark, as measured on the reference machine and stored in {@code
+ * baselines.properties}. Baselines are keyed by the simple name of the benchmark class and the name
+ * of the benchmark method, e.g. {@code SegmentedJournalPerformanceTest.measureAppend}, and may
+ * specify the maximum allowed deviation under the same key with the {@code .maxDeviation} suffix.
+ *
+ * <p>A benchmark without a recorded baseline fails, so that no benchmark runs unverified. To record
+ * baselines, run the benchmarks on the reference machine with the environment variable {@code
+ * ZEEBE_PERFORMANCE_TEST_BASELINES_FILE} set; the measured scores are then appended to that file in
+ * the format of {@code baselines.properties} instead of being verified.
+ *
+ * <p>When a benchmark gets faster or slower on purpose, record its baseline again in the same
+ * change.
+ *
+ * @param benchmark the key of the benchmark
+ * @param score the reference score, in operations per second, or {@link Double#NaN} if none was
+ *     recorded
+ * @param maxDeviation the maximum deviation from the reference score, as a float from 0 to 1
+ */
+public record Baseline(String benchmark, double score, double maxDeviation) {
+
+  private static final String BASELINES_RESOURCE = "/baselines.properties";
+  private static final String MAX_DEVIATION_SUFFIX = ".maxDeviation";
+  private static final double DEFAULT_MAX_DEVIATION = 0.25;
+  private static final String RECORD_FILE = System.getenv("ZEEBE_PERFORMANCE_TEST_BASELINES_FILE");
+  private static final Properties BASELINES = loadBaselines();
+
+  /**
+   * Returns the baseline of the given benchmark.
+   *
+   * @param benchmarkClass the class containing the benchmark
+   * @param benchmark the name of the benchmark method
+   */
+  public static Baseline of(final Class<?> benchmarkClass, final String benchmark) {
+    final var key = benchmarkClass.getSimpleName() + "." + benchmark;
+    final var score = BASELINES.getProperty(key);
+    final var maxDeviation = BASELINES.getProperty(key + MAX_DEVIATION_SUFFIX);
+    return new Baseline(
+        key,
+        score == null ? Double.NaN : Double.parseDouble(score),
+        maxDeviation == null ? DEFAULT_MAX_DEVIATION : Double.parseDouble(maxDeviation));
+  }
+
+  /**
+   * Asserts that the benchmark result did not regress below this baseline, or records the result if
+   * baselines are being recorded. Fails if no baseline was recorded for the benchmark.
+   */
+  public void verify(final JMHAssert result) {
+    if (RECORD_FILE != null) {
+      record(result.score());
+      return;
+    }
+
+    if (Double.isNaN(score)) {
+      Assertions.fail(
+          "Expected a baseline for benchmark '%s' in %s, but none was recorded; measured %.0f ops/s"
+              .formatted(benchmark, BASELINES_RESOURCE, result.score()));
+    }
+    result.isAtLeast(score, maxDeviation);
+  }
+
+  private void record(final double measuredScore) {
+    final var line = "%s=%d%n".formatted(benchmark, Math.round(measuredScore));
+    try {
+      Files.writeString(
+          Path.of(RECORD_FILE), line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Properties loadBaselines() {
+    final var properties = new Properties();
+    try (final var input = Baseline.class.getResourceAsStream(BASELINES_RESOURCE)) {
+      if (input == null) {
+        throw new IllegalStateException(
+            "Expected to find %s on the classpath, but it is missing"
+                .formatted(BASELINES_RESOURCE));
+      }
+
+      properties.load(input);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return properties;
+  }
+}
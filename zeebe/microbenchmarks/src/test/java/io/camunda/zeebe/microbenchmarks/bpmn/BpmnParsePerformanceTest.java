@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.bpmn;
+
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many BPMN resources per second can be read, over a corpus of real-world processes of
+ * different sizes, with the validating parser used on deployment and with the streaming parser used
+ * by the engine to load already deployed processes.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BpmnParsePerformanceTest {
+
+  private static final String LARGEST_RESOURCE = "bankCustomerComplaintDisputeHandling.bpmn";
+
+  @Param({"refundingProcess.bpmn", "typical_process.bpmn", "cecm_sample.bpmn", LARGEST_RESOURCE})
+  public String resource;
+
+  private byte[] resourceBytes;
+
+  @Setup
+  public void setup() {
+    try (final InputStream stream =
+        BpmnParsePerformanceTest.class.getResourceAsStream("/bpmn/" + resource)) {
+      if (stream == null) {
+        throw new IllegalArgumentException("No such BPMN resource: " + resource);
+      }
+
+      resourceBytes = stream.readAllBytes();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @JMHTest("measureReadModel")
+  void shouldReadModel(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("resource", LARGEST_RESOURCE));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureReadModel").verify(assertResult);
+  }
+
+  @JMHTest("measureReadExecutableModel")
+  void shouldReadExecutableModel(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("resource", LARGEST_RESOURCE));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureReadExecutableModel").verify(assertResult);
+  }
+
+  @Benchmark
+  public BpmnModelInstance measureReadModel() {
+    return Bpmn.readModelFromStream(new ByteArrayInputStream(resourceBytes));
+  }
+
+  @Benchmark
+  public BpmnModelInstance measureReadExecutableModel() {
+    return Bpmn.readExecutableModelFromStream(new ByteArrayInputStream(resourceBytes));
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.db;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point reads, writes and iteration of a column family, outside of an explicit
+ * transaction, i.e. every operation runs in its own transaction as it would for the broker's state
+ * when accessed outside of processing.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TransactionalColumnFamilyPerformanceTest {
+
+  private static final int KEY_COUNT = 100_000;
+  private static final int ITERATED_KEY_COUNT = 100;
+  private static final String VALUE = "x".repeat(256);
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+  private final MutableInteger visitedKeys = new MutableInteger();
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("column-family");
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+
+    value.wrapString(VALUE);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      key.wrapLong(i);
+      columnFamily.insert(key, value);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @JMHTest("measureGet")
+  void shouldGet(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureGet").verify(assertResult);
+  }
+
+  @JMHTest("measureUpsert")
+  void shouldUpsert(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureUpsert").verify(assertResult);
+  }
+
+  @JMHTest("measureIterate")
+  void shouldIterate(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureIterate").verify(assertResult);
+  }
+
+  @Benchmark
+  public DbString measureGet() {
+    key.wrapLong(randomKey());
+    return columnFamily.get(key);
+  }
+
+  @Benchmark
+  public void measureUpsert() {
+    key.wrapLong(randomKey());
+    value.wrapString(VALUE);
+    columnFamily.upsert(key, value);
+  }
+
+  @Benchmark
+  public int measureIterate() {
+    visitedKeys.set(0);
+    key.wrapLong(randomKey());
+    columnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          visitedKeys.increment();
+          return visitedKeys.get() < ITERATED_KEY_COUNT;
+        });
+    return visitedKeys.get();
+  }
+
+  private static long randomKey() {
+    return ThreadLocalRandom.current().nextLong(KEY_COUNT);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.el;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.context.CustomContext;
+import org.camunda.feel.context.VariableProvider;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+import org.camunda.feel.syntaxtree.Val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import scala.Option;
+import scala.collection.Iterable;
+import scala.collection.immutable.List$;
+
+/**
+ * Measures the evaluation of expressions which only reference a variable or a property of a
+ * variable, e.g. the input mappings of a task, by the expression language compared to evaluating
+ * the same expression with the FEEL engine and transforming its result into MessagePack.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ExpressionEvaluationPerformanceTest {
+
+  private static final int ITEMS = 16;
+
+  @Param({
+    "order",
+    "order.customer.id",
+    "order.items",
+    "order.customer.id > 10",
+    "order.id = \"order-1\""
+  })
+  public String expression;
+
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new ZeebeFeelEngineClock(InstantSource.system()));
+  private final FeelEngine feelEngine =
+      new FeelEngine.Builder()
+          .customValueMapper(new MessagePackValueMapper())
+          .functionProvider(new FeelFunctionProvider())
+          .build();
+  private final FeelToMessagePackTransformer transformer = new FeelToMessagePackTransformer();
+
+  private FeelExpression parsedExpression;
+  private EvaluationContext context;
+  private CustomContext feelContext;
+
+  @Setup
+  public void setup() {
+    final DirectBuffer order = encodeOrder();
+    context = name -> "order".equals(name) ? order : null;
+    feelContext = new EvaluationContextWrapper(context);
+    parsedExpression = (FeelExpression) expressionLanguage.parseExpression("=" + expression);
+
+    final var expected = BufferUtil.cloneBuffer(measureEvaluateWithFeelEngine());
+    if (!expected.equals(measureEvaluateDirectly())) {
+      throw new IllegalStateException(
+          "Expected the expression '%s' to evaluate to the same value as the FEEL engine"
+              .formatted(expression));
+    }
+  }
+
+  @JMHTest("measureEvaluateDirectly")
+  void shouldEvaluateVariableReference(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("expression", "order.customer.id"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureEvaluateDirectly").verify(assertResult);
+  }
+
+  @JMHTest("measureEvaluateWithFeelEngine")
+  void shouldEvaluateVariableReferenceWithFeelEngine(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("expression", "order.customer.id"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureEvaluateWithFeelEngine").verify(assertResult);
+  }
+
+  @Benchmark
+  public DirectBuffer measureEvaluateDirectly() {
+    return expressionLanguage.evaluateExpression(parsedExpression, context).toBuffer();
+  }
+
+  @Benchmark
+  public DirectBuffer measureEvaluateWithFeelEngine() {
+    final ParsedExpression feelExpression = parsedExpression.getParsedExpression();
+    final var result = feelEngine.evaluate(feelExpression, feelContext);
+    return transformer.toMessagePack((Val) result.result());
+  }
+
+  private static DirectBuffer encodeOrder() {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+
+    writer.writeMapHeader(3);
+    writer.writeString(BufferUtil.wrapString("id"));
+    writer.writeString(BufferUtil.wrapString("order-1"));
+    writer.writeString(BufferUtil.wrapString("customer"));
+    writer.writeMapHeader(2);
+    writer.writeString(BufferUtil.wrapString("id"));
+    writer.writeInteger(42);
+    writer.writeString(BufferUtil.wrapString("name"));
+    writer.writeString(BufferUtil.wrapString("a typical customer name"));
+    writer.writeString(BufferUtil.wrapString("items"));
+    writer.writeArrayHeader(ITEMS);
+    for (int i = 0; i < ITEMS; i++) {
+      writer.writeMapHeader(2);
+      writer.writeString(BufferUtil.wrapString("sku"));
+      writer.writeString(BufferUtil.wrapString("sku-" + i));
+      writer.writeString(BufferUtil.wrapString("price"));
+      writer.writeFloat(i + 0.99);
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /** Provides the variables to the FEEL engine, like the expression language does. */
+  private static final class EvaluationContextWrapper extends CustomContext {
+
+    private final EvaluationContext context;
+
+    private EvaluationContextWrapper(final EvaluationContext context) {
+      this.context = context;
+    }
+
+    @Override
+    public VariableProvider variableProvider() {
+      return new VariableProvider() {
+        @Override
+        public Option<Object> getVariable(final String name) {
+          return Option.apply(context.getVariable(name));
+        }
+
+        @Override
+        public Iterable<String> keys() {
+          return List$.MODULE$.empty();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.instance.DbJobState;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many job activation batches per second can be collected from the job state, i.e. how
+ * fast activatable jobs of a type are iterated and their records looked up. Only the state access
+ * is measured, not the processing of the activation command.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobActivationPerformanceTest {
+
+  private static final int JOB_COUNT = 10_000;
+  private static final List<String> TENANT_IDS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  @Param({"1", "32", "1000"})
+  public int maxJobsToActivate;
+
+  private final MutableInteger activatedJobs = new MutableInteger();
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbJobState jobState;
+  private DirectBuffer jobType;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("job-activation");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    jobState = new DbJobState(zeebeDb, zeebeDb.createContext());
+
+    final var jobRecord =
+        new JobRecord()
+            .setType("task")
+            .setRetries(3)
+            .setWorker("worker")
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    jobType = jobRecord.getTypeBuffer();
+    for (int key = 1; key <= JOB_COUNT; key++) {
+      jobState.create(key, jobRecord);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @JMHTest(value = "measureActivation")
+  void shouldActivateLargeBatches(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("maxJobsToActivate", "1000"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureActivation").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureActivation() {
+    activatedJobs.set(0);
+    jobState.forEachActivatableJobs(
+        jobType,
+        TENANT_IDS,
+        (key, job) -> {
+          activatedJobs.increment();
+          return activatedJobs.get() < maxJobsToActivate;
+        });
+    return activatedJobs.get();
+  }
+}
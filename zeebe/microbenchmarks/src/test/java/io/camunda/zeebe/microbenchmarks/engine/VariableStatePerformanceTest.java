@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.engine;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures variable lookups as done while processing a single command, e.g. to evaluate the
+ * expressions of an element or to collect the variables of a job, from the innermost scope of a
+ * hierarchy of nested scopes, e.g. embedded sub-processes or multi-instance bodies.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class VariableStatePerformanceTest {
+
+  private static final int LOOKUPS_PER_COMMAND = 8;
+
+  /** The number of nested scopes, including the root scope. */
+  @Param({"1", "8", "32"})
+  public int depth;
+
+  /** The number of variables in each scope. */
+  @Param({"4", "128"})
+  public int width;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbVariableState variableState;
+  private long innermostScopeKey;
+  private DirectBuffer[] rootVariableNames;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("variable-state");
+    zeebeDb =
+        new ZeebeRocksDbFactory<ZbColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(false, false),
+                new AccessMetricsConfiguration(Kind.NONE, 1))
+            .createDb(directory.toFile());
+    variableState = new DbVariableState(zeebeDb, zeebeDb.createContext());
+
+    final DirectBuffer value = encodeValue("a typical variable value");
+    long variableKey = 1_000_000;
+    long parentScopeKey = -1;
+    for (long scopeKey = 1; scopeKey <= depth; scopeKey++) {
+      variableState.createScope(scopeKey, parentScopeKey);
+      for (int i = 0; i < width; i++) {
+        final var name = BufferUtil.wrapString("scope" + scopeKey + "_var" + i);
+        variableState.setVariableLocal(variableKey++, scopeKey, 1, name, value);
+      }
+      parentScopeKey = scopeKey;
+    }
+    innermostScopeKey = depth;
+
+    // the variables of the root scope are the most expensive to look up, as every scope is visited
+    rootVariableNames = new DirectBuffer[LOOKUPS_PER_COMMAND];
+    for (int i = 0; i < LOOKUPS_PER_COMMAND; i++) {
+      rootVariableNames[i] = BufferUtil.wrapString("scope1_var" + (i % width));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @JMHTest("measureGetVariables")
+  void shouldGetVariablesOfDeeplyNestedScope(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("depth", "32").param("width", "4"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureGetVariables").verify(assertResult);
+  }
+
+  @JMHTest("measureCollectVariables")
+  void shouldCollectVariablesOfWideScopes(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("depth", "8").param("width", "128"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureCollectVariables").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureGetVariables() {
+    variableState.clearScopeChainCache();
+
+    int length = 0;
+    for (final DirectBuffer name : rootVariableNames) {
+      length += variableState.getVariable(innermostScopeKey, name).capacity();
+    }
+    return length;
+  }
+
+  @Benchmark
+  public DirectBuffer measureCollectVariables() {
+    variableState.clearScopeChainCache();
+    return variableState.getVariablesAsDocument(innermostScopeKey);
+  }
+
+  private static DirectBuffer encodeValue(final String value) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    writer.writeString(BufferUtil.wrapString(value));
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.journal;
+
+import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.file.SegmentedJournal;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records per second can be appended to and read from a {@link SegmentedJournal}.
+ * Records are not flushed, so this measures the journal itself and not the underlying disk.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SegmentedJournalPerformanceTest {
+
+  private static final int RECORD_SIZE = 512;
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final int READ_RECORD_COUNT = 100_000;
+  // compact regularly to bound the disk space used by the append benchmark
+  private static final int COMPACTION_INTERVAL = 500_000;
+
+  private final DirectBufferWriter recordWriter = new DirectBufferWriter();
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal");
+    journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.toFile())
+            .withMaxSegmentSize(SEGMENT_SIZE)
+            .withMetaStore(new JournalMetaStore.InMemory())
+            .build();
+
+    final var data = new byte[RECORD_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    recordWriter.wrap(new UnsafeBuffer(data));
+
+    for (int i = 0; i < READ_RECORD_COUNT; i++) {
+      journal.append(recordWriter);
+    }
+    reader = journal.openReader();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    reader.close();
+    journal.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @JMHTest("measureAppend")
+  void shouldAppend(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureAppend").verify(assertResult);
+  }
+
+  @JMHTest("measureRead")
+  void shouldRead(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureRead").verify(assertResult);
+  }
+
+  @Benchmark
+  public long measureAppend() {
+    final var record = journal.append(recordWriter);
+    if (record.index() % COMPACTION_INTERVAL == 0) {
+      journal.deleteUntil(record.index());
+    }
+
+    return record.index();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    if (!reader.hasNext()) {
+      reader.seekToFirst();
+    }
+
+    return reader.next().checksum();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.logstreams;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many batches per second can be written through the sequencer of a {@link LogStream},
+ * i.e. the cost of flow control, sequencing and serializing the batch. Appended batches are
+ * serialized into a reused buffer and then discarded, so the storage is not measured.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+
+  @Param({"1", "10"})
+  public int batchSize;
+
+  private final List<LogAppendEntry> batch = new ArrayList<>();
+  private LogStream logStream;
+  private LogStreamWriter writer;
+
+  @Setup
+  public void setup() {
+    logStream =
+        LogStream.builder()
+            .withPartitionId(1)
+            .withLogName("benchmark")
+            .withLogStorage(new DiscardingLogStorage())
+            .withClock(InstantSource.system())
+            .build();
+    writer = logStream.newLogStreamWriter();
+
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(
+          LogAppendEntry.of(
+              new RecordMetadata().intent(Intent.UNKNOWN), new UnifiedRecordValue(10)));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    logStream.close();
+  }
+
+  @JMHTest("measureTryWrite")
+  void shouldWriteSingleEntries(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("batchSize", "1"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureTryWrite").verify(assertResult);
+  }
+
+  @Benchmark
+  public long measureTryWrite() {
+    final var result = writer.tryWrite(WriteContext.internal(), batch);
+    if (result.isLeft()) {
+      throw new IllegalStateException("Failed to write batch: " + result.getLeft());
+    }
+
+    // the batch is processed right away, such that flow control never rejects the next one
+    final long position = result.get();
+    logStream.getFlowControl().onProcessed(position);
+    return position;
+  }
+
+  private static final class DiscardingLogStorage implements LogStorage {
+    private final ExpandableArrayBuffer blockBuffer = new ExpandableArrayBuffer();
+    private long index;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyLogStorageReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      bufferWriter.write(blockBuffer, 0);
+      index++;
+      listener.onWrite(index, highestPosition);
+      listener.onCommit(index, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyLogStorageReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
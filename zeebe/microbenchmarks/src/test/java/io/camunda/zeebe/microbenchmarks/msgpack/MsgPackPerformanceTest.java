@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many documents per second can be written and read with the low level {@link
+ * MsgPackWriter} and {@link MsgPackReader}. A document is a map of string keys to alternating
+ * integer and string values, similar to a small set of variables.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MsgPackPerformanceTest {
+
+  private static final int ENTRY_COUNT = 20;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[16 * 1024]);
+  private final DirectBuffer[] keys = new DirectBuffer[ENTRY_COUNT];
+  private final DirectBuffer stringValue = new UnsafeBuffer("some-string-value".getBytes());
+  private final UnsafeBuffer document = new UnsafeBuffer(0, 0);
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      keys[i] = new UnsafeBuffer(("key" + i).getBytes());
+    }
+
+    final int length = writeDocument();
+    final var documentBytes = new byte[length];
+    writeBuffer.getBytes(0, documentBytes);
+    document.wrap(documentBytes);
+  }
+
+  @JMHTest("measureWrite")
+  void shouldWrite(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureWrite").verify(assertResult);
+  }
+
+  @JMHTest("measureRead")
+  void shouldRead(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureRead").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public long measureRead() {
+    reader.wrap(document, 0, document.capacity());
+
+    long checksum = 0;
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      checksum += reader.readStringLength();
+      reader.skipBytes(keys[i].capacity());
+
+      if (i % 2 == 0) {
+        checksum += reader.readInteger();
+      } else {
+        checksum += reader.readStringLength();
+        reader.skipBytes(stringValue.capacity());
+      }
+    }
+
+    return checksum;
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(ENTRY_COUNT);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      writer.writeString(keys[i]);
+      if (i % 2 == 0) {
+        writer.writeInteger(i * 1_000_000L);
+      } else {
+        writer.writeString(stringValue);
+      }
+    }
+
+    return writer.getOffset();
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many engine records per second can be deserialized, e.g. on replay or processing,
+ * and how many job batches can be copied, e.g. when a record is only passed on, with and without
+ * lazy decoding.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordValuePerformanceTest {
+
+  private static final int JOB_BATCH_SIZE = 32;
+
+  @Param({"false", "true"})
+  public boolean lazyDecoding;
+
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+  private final JobRecord jobRecord = new JobRecord();
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord();
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+  private DirectBuffer serializedProcessInstance;
+  private DirectBuffer serializedJob;
+  private DirectBuffer serializedJobBatch;
+
+  @Setup
+  public void setup() {
+    serializedProcessInstance =
+        serialize(
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("benchmark-process")
+                .setVersion(1)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("service-task")
+                .setFlowScopeKey(2251799813685251L)
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK));
+
+    final var job = newJobRecord();
+    serializedJob = serialize(job);
+
+    final var jobBatch = new JobBatchRecord().setType("benchmark").setWorker("worker");
+    jobBatch.setMaxJobsToActivate(JOB_BATCH_SIZE).setTimeout(300_000);
+    for (int i = 0; i < JOB_BATCH_SIZE; i++) {
+      jobBatch.jobKeys().add().setValue(2251799813685300L + i);
+      jobBatch.jobs().add().wrap(serializedJob);
+    }
+    serializedJobBatch = serialize(jobBatch);
+
+    jobBatchRecord.setLazyDecoding(lazyDecoding);
+  }
+
+  @JMHTest("measureReadProcessInstance")
+  void shouldReadProcessInstance(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("lazyDecoding", "false"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureReadProcessInstance").verify(assertResult);
+  }
+
+  @JMHTest("measureReadJob")
+  void shouldReadJob(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("lazyDecoding", "false"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureReadJob").verify(assertResult);
+  }
+
+  @JMHTest("measureCopyJobBatch")
+  void shouldCopyJobBatchLazily(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("lazyDecoding", "true"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureCopyJobBatch").verify(assertResult);
+  }
+
+  @Benchmark
+  public long measureReadProcessInstance() {
+    processInstanceRecord.wrap(serializedProcessInstance);
+    return processInstanceRecord.getFlowScopeKey();
+  }
+
+  @Benchmark
+  public long measureReadJob() {
+    jobRecord.wrap(serializedJob);
+    return jobRecord.getDeadline();
+  }
+
+  @Benchmark
+  public int measureCopyJobBatch() {
+    jobBatchRecord.wrap(serializedJobBatch);
+    final var length = jobBatchRecord.getLength();
+    jobBatchRecord.write(writeBuffer, 0);
+    return length;
+  }
+
+  private static JobRecord newJobRecord() {
+    final var job = new JobRecord();
+    job.setType("benchmark")
+        .setWorker("worker")
+        .setRetries(3)
+        .setDeadline(System.currentTimeMillis())
+        .setBpmnProcessId("benchmark-process")
+        .setProcessDefinitionVersion(1)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("service-task")
+        .setElementInstanceKey(2251799813685253L);
+    return job;
+  }
+
+  private static DirectBuffer serialize(final BufferWriter writer) {
+    final var buffer = new UnsafeBuffer(new byte[writer.getLength()]);
+    writer.write(buffer, 0);
+    return buffer;
+  }
+}
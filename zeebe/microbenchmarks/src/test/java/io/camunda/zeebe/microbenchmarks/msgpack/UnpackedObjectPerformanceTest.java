@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.msgpack;
+
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many objects per second can be serialized and deserialized as {@link
+ * UnpackedObject}. The object resembles a job record, i.e. a handful of scalar properties and a
+ * small variables document.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class UnpackedObjectPerformanceTest {
+
+  private final BenchmarkObject writtenObject = new BenchmarkObject();
+  private final BenchmarkObject readObject = new BenchmarkObject();
+  private final UnsafeBuffer writeBuffer = new UnsafeBuffer(new byte[16 * 1024]);
+  private final UnsafeBuffer serializedObject = new UnsafeBuffer(0, 0);
+
+  @Setup
+  public void setup() {
+    final var variablesBuffer = new UnsafeBuffer(new byte[1024]);
+    final var variablesWriter = new MsgPackWriter().wrap(variablesBuffer, 0);
+    variablesWriter.writeMapHeader(5);
+    for (int i = 0; i < 5; i++) {
+      variablesWriter.writeString(new UnsafeBuffer(("var" + i).getBytes()));
+      variablesWriter.writeInteger(i);
+    }
+
+    writtenObject.type.setValue("benchmark-job-type");
+    writtenObject.worker.setValue("benchmark-worker");
+    writtenObject.bpmnProcessId.setValue("benchmark-process");
+    writtenObject.elementId.setValue("service-task");
+    writtenObject.retries.setValue(3);
+    writtenObject.deadline.setValue(System.currentTimeMillis());
+    writtenObject.processInstanceKey.setValue(2251799813685249L);
+    writtenObject.elementInstanceKey.setValue(2251799813685251L);
+    writtenObject.variables.setValue(variablesBuffer, 0, variablesWriter.getOffset());
+
+    final var length = writtenObject.getLength();
+    final var bytes = new byte[length];
+    writtenObject.write(new UnsafeBuffer(bytes), 0);
+    serializedObject.wrap(bytes);
+  }
+
+  @JMHTest("measureWrite")
+  void shouldWrite(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureWrite").verify(assertResult);
+  }
+
+  @JMHTest("measureRead")
+  void shouldRead(final JMHTestCase testCase) {
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureRead").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureWrite() {
+    final var length = writtenObject.getLength();
+    writtenObject.write(writeBuffer, 0);
+    return length;
+  }
+
+  @Benchmark
+  public long measureRead() {
+    readObject.wrap(serializedObject);
+    return readObject.processInstanceKey.getValue() + readObject.retries.getValue();
+  }
+
+  private static final class BenchmarkObject extends UnpackedObject {
+    private final StringProperty type = new StringProperty("type");
+    private final StringProperty worker = new StringProperty("worker", "");
+    private final StringProperty bpmnProcessId = new StringProperty("bpmnProcessId", "");
+    private final StringProperty elementId = new StringProperty("elementId", "");
+    private final IntegerProperty retries = new IntegerProperty("retries", -1);
+    private final LongProperty deadline = new LongProperty("deadline", -1);
+    private final LongProperty processInstanceKey = new LongProperty("processInstanceKey", -1L);
+    private final LongProperty elementInstanceKey = new LongProperty("elementInstanceKey", -1L);
+    private final DocumentProperty variables = new DocumentProperty("variables");
+
+    private BenchmarkObject() {
+      super(9);
+      declareProperty(type)
+          .declareProperty(worker)
+          .declareProperty(bpmnProcessId)
+          .declareProperty(elementId)
+          .declareProperty(retries)
+          .declareProperty(deadline)
+          .declareProperty(processInstanceKey)
+          .declareProperty(elementInstanceKey)
+          .declareProperty(variables);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.microbenchmarks.raft;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.RaftProtocolSBESerializer;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.microbenchmarks.Baseline;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many append requests per second can be encoded and decoded, i.e. the CPU cost of
+ * replicating a batch of entries to a single follower, with SBE and with the Kryo based namespace.
+ * The encoded bytes are counted as well, such that the bytes per append can be compared.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RaftProtocolSerializationPerformanceTest {
+
+  private static final int ENTRY_COUNT = 16;
+  private static final int ENTRY_SIZE = 512;
+
+  @Param({"sbe", "kryo"})
+  public String format;
+
+  private Function<VersionedAppendRequest, byte[]> encoder;
+  private Function<byte[], VersionedAppendRequest> decoder;
+  private VersionedAppendRequest request;
+  private byte[] encodedRequest;
+
+  @Setup
+  public void setup() {
+    if ("sbe".equals(format)) {
+      final var serializer = new RaftProtocolSBESerializer();
+      encoder = serializer::encodeAppendRequest;
+      decoder = serializer::decodeAppendRequest;
+    } else {
+      final var serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+      encoder = serializer::encode;
+      decoder = serializer::decode;
+    }
+
+    final var entries = new ArrayList<ReplicatableJournalRecord>(ENTRY_COUNT);
+    for (int i = 0; i < ENTRY_COUNT; i++) {
+      final var data = new byte[ENTRY_SIZE];
+      ThreadLocalRandom.current().nextBytes(data);
+      entries.add(new ReplicatableJournalRecord(3, 100 + i, data.hashCode(), data));
+    }
+
+    request =
+        VersionedAppendRequest.builder()
+            .withTerm(3)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(99)
+            .withPrevLogTerm(3)
+            .withEntries(entries)
+            .withCommitIndex(98)
+            .build();
+    encodedRequest = encoder.apply(request);
+  }
+
+  @JMHTest("measureEncodeAppendRequest")
+  void shouldEncodeAppendRequest(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("format", "sbe"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureEncodeAppendRequest").verify(assertResult);
+  }
+
+  @JMHTest("measureDecodeAppendRequest")
+  void shouldDecodeAppendRequest(final JMHTestCase testCase) {
+    // given
+    testCase.withOptions(b -> b.param("format", "sbe"));
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    Baseline.of(getClass(), "measureDecodeAppendRequest").verify(assertResult);
+  }
+
+  @Benchmark
+  public int measureEncodeAppendRequest(final EncodedBytes encodedBytes) {
+    final var bytes = encoder.apply(request);
+    encodedBytes.bytes += bytes.length;
+    return bytes.length;
+  }
+
+  @Benchmark
+  public int measureDecodeAppendRequest() {
+    return decoder.apply(encodedRequest).entries().size();
+  }
+
+  /** Counts the encoded bytes, which divided by the operations gives the bytes per append. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class EncodedBytes {
+    public long bytes;
+  }
+}
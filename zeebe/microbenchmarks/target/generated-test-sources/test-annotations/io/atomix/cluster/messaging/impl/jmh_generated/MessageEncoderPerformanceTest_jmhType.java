@@ -0,0 +1,4 @@
+package io.atomix.cluster.messaging.impl.jmh_generated;
+public class MessageEncoderPerformanceTest_jmhType extends MessageEncoderPerformanceTest_jmhType_B3 {
+}
+
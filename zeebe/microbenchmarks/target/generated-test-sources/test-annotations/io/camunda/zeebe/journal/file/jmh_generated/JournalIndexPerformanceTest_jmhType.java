@@ -0,0 +1,4 @@
+package io.camunda.zeebe.journal.file.jmh_generated;
+public class JournalIndexPerformanceTest_jmhType extends JournalIndexPerformanceTest_jmhType_B3 {
+}
+
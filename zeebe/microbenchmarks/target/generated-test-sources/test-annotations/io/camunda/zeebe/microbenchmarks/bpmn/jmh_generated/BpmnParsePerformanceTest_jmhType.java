@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.bpmn.jmh_generated;
+public class BpmnParsePerformanceTest_jmhType extends BpmnParsePerformanceTest_jmhType_B3 {
+}
+
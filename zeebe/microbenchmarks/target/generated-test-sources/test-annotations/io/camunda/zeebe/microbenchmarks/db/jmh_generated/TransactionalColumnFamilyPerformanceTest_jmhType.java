@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.db.jmh_generated;
+public class TransactionalColumnFamilyPerformanceTest_jmhType extends TransactionalColumnFamilyPerformanceTest_jmhType_B3 {
+}
+
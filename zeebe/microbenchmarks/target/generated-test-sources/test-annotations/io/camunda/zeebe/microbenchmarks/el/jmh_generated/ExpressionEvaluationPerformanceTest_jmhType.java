@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.el.jmh_generated;
+public class ExpressionEvaluationPerformanceTest_jmhType extends ExpressionEvaluationPerformanceTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.engine.jmh_generated;
+public class JobActivationPerformanceTest_jmhType extends JobActivationPerformanceTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.engine.jmh_generated;
+public class VariableStatePerformanceTest_jmhType extends VariableStatePerformanceTest_jmhType_B3 {
+}
+
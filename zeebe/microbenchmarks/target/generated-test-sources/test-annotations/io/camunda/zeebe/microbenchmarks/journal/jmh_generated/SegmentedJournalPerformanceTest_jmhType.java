@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.journal.jmh_generated;
+public class SegmentedJournalPerformanceTest_jmhType extends SegmentedJournalPerformanceTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.logstreams.jmh_generated;
+public class SequencerPerformanceTest_jmhType extends SequencerPerformanceTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.msgpack.jmh_generated;
+public class MsgPackPerformanceTest_jmhType extends MsgPackPerformanceTest_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.msgpack.jmh_generated;
+public class RecordValuePerformanceTest_jmhType extends RecordValuePerformanceTest_jmhType_B3 {
+}
+
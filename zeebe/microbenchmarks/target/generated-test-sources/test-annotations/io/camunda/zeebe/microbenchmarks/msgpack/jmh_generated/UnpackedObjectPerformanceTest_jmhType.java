@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.msgpack.jmh_generated;
+public class UnpackedObjectPerformanceTest_jmhType extends UnpackedObjectPerformanceTest_jmhType_B3 {
+}
+
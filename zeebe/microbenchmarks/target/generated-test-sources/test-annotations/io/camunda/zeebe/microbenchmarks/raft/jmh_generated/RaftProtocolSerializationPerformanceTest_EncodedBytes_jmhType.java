@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.raft.jmh_generated;
+public class RaftProtocolSerializationPerformanceTest_EncodedBytes_jmhType extends RaftProtocolSerializationPerformanceTest_EncodedBytes_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.raft.jmh_generated;
+public class RaftProtocolSerializationPerformanceTest_jmhType extends RaftProtocolSerializationPerformanceTest_jmhType_B3 {
+}
+
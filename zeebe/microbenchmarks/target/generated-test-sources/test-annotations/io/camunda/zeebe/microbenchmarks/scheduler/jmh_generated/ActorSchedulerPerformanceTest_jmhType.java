@@ -0,0 +1,4 @@
+package io.camunda.zeebe.microbenchmarks.scheduler.jmh_generated;
+public class ActorSchedulerPerformanceTest_jmhType extends ActorSchedulerPerformanceTest_jmhType_B3 {
+}
+
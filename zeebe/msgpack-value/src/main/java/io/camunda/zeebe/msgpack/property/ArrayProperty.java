@@ -29,6 +29,11 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
     isSet = true;
   }
 
+  @Override
+  public boolean supportsLazyDecoding() {
+    return true;
+  }
+
   @Override
   public Iterator<T> iterator() {
     return resolveValue().iterator();
@@ -36,6 +41,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decodeIfPending();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -45,6 +51,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add(final int index) {
+    decodeIfPending();
     try {
       return value.add(index);
     } catch (final Exception e) {
@@ -60,6 +67,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeIfPending();
     return value.isEmpty();
   }
 }
@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +22,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value of a lazily read property, which is only decoded on first access
+  private final UnsafeBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private boolean isDecodePending;
+  private MsgPackReader lazyReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -45,6 +51,8 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   @Override
   public void reset() {
     isSet = false;
+    isDecodePending = false;
+    encodedValue.wrap(0, 0);
     value.reset();
   }
 
@@ -57,6 +65,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeIfPending();
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,15 +77,72 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isDecodePending) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
+
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
   public void read(final MsgPackReader reader) {
+    isDecodePending = false;
     value.read(reader);
     set();
   }
 
+  /**
+   * Returns true if this property benefits from {@link #readLazily(MsgPackReader)}, i.e. decoding
+   * its value is considerably more expensive than skipping it, and its value can only be accessed
+   * through the property itself. Scalar values are cheaper to decode right away than to remember
+   * where they are encoded.
+   */
+  public boolean supportsLazyDecoding() {
+    return false;
+  }
+
+  /**
+   * Skips over the encoded value and only remembers where it is, such that it is decoded on first
+   * access instead. Writing a property which was not accessed copies the encoded value as is.
+   *
+   * <p>As with {@link #read(MsgPackReader)}, the underlying buffer must not be modified as long as
+   * this property is in use.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    final var buffer = reader.getBuffer();
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    value.reset();
+    encodedValue.wrap(buffer, offset, reader.getOffset() - offset);
+    isDecodePending = true;
+    set();
+  }
+
+  /**
+   * Decodes the value if it was read lazily and not accessed yet. Must be called by sub classes
+   * before accessing {@link #value} directly, unless the value is replaced completely.
+   */
+  protected void decodeIfPending() {
+    if (!isDecodePending) {
+      return;
+    }
+
+    if (lazyReader == null) {
+      lazyReader = new MsgPackReader();
+    }
+
+    isDecodePending = false;
+    lazyReader.wrap(encodedValue, 0, encodedValue.capacity());
+    value.read(lazyReader);
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isDecodePending) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +169,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeIfPending();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +190,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeIfPending();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
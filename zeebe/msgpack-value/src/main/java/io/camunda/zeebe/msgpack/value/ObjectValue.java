@@ -12,16 +12,26 @@ import io.camunda.zeebe.msgpack.property.UndeclaredProperty;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
+  private static final int EMPTY_SLOT = -1;
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>(0);
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the declared properties by key, built on first read; each slot
+  // holds the index of a declared property, or EMPTY_SLOT
+  private int[] propertyIndex;
+  private boolean isLazyDecodingEnabled;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +44,21 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndex = null;
+    return this;
+  }
+
+  /**
+   * Enables or disables lazy decoding. If enabled, properties which {@link
+   * BaseProperty#supportsLazyDecoding() support it} are only decoded when accessed for the first
+   * time, and are copied as is when written without being accessed. Useful when only some
+   * properties of an object are read, e.g. when a record is only passed on.
+   *
+   * @param isLazyDecodingEnabled true to decode supported properties lazily
+   * @return itself for chaining
+   */
+  public ObjectValue setLazyDecoding(final boolean isLazyDecodingEnabled) {
+    this.isLazyDecodingEnabled = isLazyDecodingEnabled;
     return this;
   }
 
@@ -100,24 +125,17 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(decodedKey, i);
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (isLazyDecodingEnabled && prop.supportsLazyDecoding()) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -133,6 +151,67 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Returns the declared property with the given key, or null if there is none. As properties are
+   * written in the order they are declared, the property at the given position is tried first,
+   * before looking it up by the hash of the key.
+   */
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(
+      final StringValue key, final int expectedPosition) {
+    if (expectedPosition < declaredProperties.size()) {
+      final var expectedProperty = declaredProperties.get(expectedPosition);
+      if (expectedProperty.getKey().equals(key)) {
+        return expectedProperty;
+      }
+    }
+
+    if (propertyIndex == null) {
+      propertyIndex = buildPropertyIndex();
+    }
+
+    final int mask = propertyIndex.length - 1;
+    int slot = hashKey(key) & mask;
+    while (propertyIndex[slot] != EMPTY_SLOT) {
+      final var declaredProperty = declaredProperties.get(propertyIndex[slot]);
+      if (declaredProperty.getKey().equals(key)) {
+        return declaredProperty;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return null;
+  }
+
+  private int[] buildPropertyIndex() {
+    // keep the load factor at or below 0.5 to keep the probe sequences short
+    final int capacity = BitUtil.findNextPositivePowerOfTwo(declaredProperties.size() * 2 + 1);
+    final var index = new int[capacity];
+    Arrays.fill(index, EMPTY_SLOT);
+
+    final int mask = index.length - 1;
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      int slot = hashKey(declaredProperties.get(i).getKey()) & mask;
+      while (index[slot] != EMPTY_SLOT) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = i;
+    }
+
+    return index;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
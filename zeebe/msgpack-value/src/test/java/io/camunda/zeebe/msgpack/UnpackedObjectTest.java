@@ -12,6 +12,7 @@ import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
@@ -127,4 +128,129 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class PropertyLookup {
+
+    @Test
+    void shouldReadPropertiesInAnyOrder() {
+      // given
+      final var object = new UnpackedObject(20);
+      final var properties = new LongProperty[20];
+      for (int i = 0; i < properties.length; i++) {
+        properties[i] = new LongProperty("property" + i, -1L);
+        object.declareProperty(properties[i]);
+      }
+
+      final var buffer =
+          MsgPackUtil.encodeMsgPack(
+              writer -> {
+                writer.writeMapHeader(properties.length);
+                for (int i = properties.length - 1; i >= 0; i--) {
+                  writer.writeString(BufferUtil.wrapString("property" + i));
+                  writer.writeInteger(i);
+                }
+              });
+
+      // when
+      object.wrap(buffer);
+
+      // then
+      for (int i = 0; i < properties.length; i++) {
+        assertThat(properties[i].getValue()).isEqualTo(i);
+      }
+    }
+
+    @Test
+    void shouldReadPropertyDeclaredAfterFirstRead() {
+      // given
+      final var object = new UnpackedObject(2);
+      final var firstProperty = new LongProperty("first", -1L);
+      final var secondProperty = new LongProperty("second", -1L);
+      object.declareProperty(firstProperty);
+
+      final var buffer =
+          MsgPackUtil.encodeMsgPack(
+              writer -> {
+                writer.writeMapHeader(2);
+                writer.writeString(BufferUtil.wrapString("second"));
+                writer.writeInteger(2);
+                writer.writeString(BufferUtil.wrapString("first"));
+                writer.writeInteger(1);
+              });
+      object.wrap(buffer);
+
+      // when
+      object.declareProperty(secondProperty);
+      object.wrap(buffer);
+
+      // then
+      assertThat(firstProperty.getValue()).isEqualTo(1);
+      assertThat(secondProperty.getValue()).isEqualTo(2);
+      assertThat(object.getLength()).isEqualTo(buffer.capacity());
+    }
+  }
+
+  @Nested
+  class LazyDecoding {
+    private final POJOArray writtenObject = new POJOArray();
+    private final POJOArray lazyObject = new POJOArray();
+    private final MutableDirectBuffer serializedObject = new UnsafeBuffer(ByteBuffer.allocate(100));
+
+    {
+      writtenObject.simpleArray().add().setLongProp(1);
+      writtenObject.simpleArray().add().setLongProp(2);
+      writtenObject.write(serializedObject, 0);
+      lazyObject.setLazyDecoding(true);
+    }
+
+    @Test
+    void shouldDecodeArrayOnAccess() {
+      // when
+      lazyObject.wrap(serializedObject);
+
+      // then
+      assertThat(lazyObject.simpleArray().stream().map(MinimalPOJO::getLongProp))
+          .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldWriteArrayWithoutAccess() {
+      // given
+      lazyObject.wrap(serializedObject);
+      final var buffer = new UnsafeBuffer(ByteBuffer.allocate(100));
+
+      // when
+      lazyObject.write(buffer, 0);
+
+      // then
+      assertThat(lazyObject.getLength()).isEqualTo(writtenObject.getLength());
+      assertThat(buffer).isEqualTo(serializedObject);
+    }
+
+    @Test
+    void shouldKeepDecodedEntriesWhenAdding() {
+      // given
+      lazyObject.wrap(serializedObject);
+
+      // when
+      lazyObject.simpleArray().add().setLongProp(3);
+
+      // then
+      assertThat(lazyObject.simpleArray().stream().map(MinimalPOJO::getLongProp))
+          .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void shouldNotDecodeArrayAfterReset() {
+      // given
+      lazyObject.wrap(serializedObject);
+
+      // when
+      lazyObject.reset();
+
+      // then
+      assertThat(lazyObject.simpleArray().stream()).isEmpty();
+    }
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * How much of a backup was downloaded and how long it took, which is the main part of the time
+ * needed to restore a broker.
+ *
+ * @param files number of downloaded files
+ * @param bytes total size of the downloaded files
+ * @param duration time from requesting the backup until all files were downloaded
+ */
+public record DownloadStatistics(long files, long bytes, Duration duration) {
+
+  static DownloadStatistics of(final Backup backup, final Duration duration) {
+    long files = 0;
+    long bytes = 0;
+    for (final NamedFileSet fileSet : new NamedFileSet[] {backup.snapshot(), backup.segments()}) {
+      for (final Path file : fileSet.files()) {
+        files++;
+        bytes += size(file);
+      }
+    }
+    return new DownloadStatistics(files, bytes, duration);
+  }
+
+  /** Combines the statistics of downloads which ran concurrently over the given wall clock time. */
+  static DownloadStatistics combine(
+      final Collection<DownloadStatistics> statistics, final Duration duration) {
+    return new DownloadStatistics(
+        statistics.stream().mapToLong(DownloadStatistics::files).sum(),
+        statistics.stream().mapToLong(DownloadStatistics::bytes).sum(),
+        duration);
+  }
+
+  /**
+   * @return the average download bandwidth in bytes per second
+   */
+  public double bytesPerSecond() {
+    final var seconds = duration.toNanos() / 1e9;
+    return seconds > 0 ? bytes / seconds : 0;
+  }
+
+  @Override
+  public String toString() {
+    return "%d files, %.1f MiB in %s (%.1f MiB/s)"
+        .formatted(files, bytes / (1024.0 * 1024), duration, bytesPerSecond() / (1024 * 1024));
+  }
+
+  private static long size(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
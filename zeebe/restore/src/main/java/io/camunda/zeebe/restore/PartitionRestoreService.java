@@ -27,6 +27,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -44,18 +45,29 @@ public class PartitionRestoreService {
   private final RaftPartition partition;
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
+  private final RestoreMetrics metrics;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
       final RaftPartition partition,
       final int brokerId,
       final CRC32CChecksumProvider checksumProvider) {
+    this(backupStore, partition, brokerId, checksumProvider, new RestoreMetrics());
+  }
+
+  public PartitionRestoreService(
+      final BackupStore backupStore,
+      final RaftPartition partition,
+      final int brokerId,
+      final CRC32CChecksumProvider checksumProvider,
+      final RestoreMetrics metrics) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
     this.partition = partition;
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    this.metrics = Objects.requireNonNull(metrics);
   }
 
   /**
@@ -83,6 +95,38 @@ public class PartitionRestoreService {
     // - Verify journal.lastEntry.asqn == checkpointPosition
   }
 
+  /**
+   * Downloads the backup to the given directory without restoring it, to measure how long a restore
+   * would take. The partition's data directory is not touched, and the downloaded files are deleted
+   * afterwards.
+   *
+   * @param backupId id of the backup to download
+   * @param targetDirectory a directory to download to, ideally on the same disk as the data
+   *     directory
+   * @return how much was downloaded and how long it took
+   */
+  public CompletableFuture<DownloadStatistics> measureDownload(
+      final long backupId, final BackupValidator validator, final Path targetDirectory) {
+    try {
+      FileUtil.ensureDirectoryExists(targetDirectory);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return findValidBackup(backupId, validator)
+        .thenCompose(backup -> timedDownload(backup, targetDirectory))
+        .whenComplete((statistics, error) -> deleteDownloadedFiles(targetDirectory))
+        .toCompletableFuture();
+  }
+
+  private void deleteDownloadedFiles(final Path targetDirectory) {
+    try {
+      FileUtil.deleteFolderIfExists(targetDirectory);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete downloaded backup in {}", targetDirectory, e);
+    }
+  }
+
   private CompletionStage<Path> getTargetDirectory(final long backupId) {
     try {
       if (!FileUtil.isEmpty(rootDirectory)) {
@@ -213,10 +257,41 @@ public class PartitionRestoreService {
         .thenCompose(
             backup -> {
               LOG.info("Downloading backup {} to {}", backup, tempRestoringDirectory);
-              return backupStore.restore(backup, tempRestoringDirectory);
+              final var startTime = System.nanoTime();
+              return backupStore
+                  .restore(backup, tempRestoringDirectory)
+                  .thenApply(
+                      restored -> {
+                        recordDownload(
+                            backup, DownloadStatistics.of(restored, elapsedSince(startTime)));
+                        return restored;
+                      });
             });
   }
 
+  private CompletionStage<DownloadStatistics> timedDownload(
+      final BackupIdentifier backup, final Path targetDirectory) {
+    LOG.info("Downloading backup {} to {} to measure the download", backup, targetDirectory);
+    final var startTime = System.nanoTime();
+    return backupStore
+        .restore(backup, targetDirectory)
+        .thenApply(
+            restored -> {
+              final var statistics = DownloadStatistics.of(restored, elapsedSince(startTime));
+              recordDownload(backup, statistics);
+              return statistics;
+            });
+  }
+
+  private void recordDownload(final BackupIdentifier backup, final DownloadStatistics statistics) {
+    metrics.observeDownload(partitionId, statistics);
+    LOG.info("Downloaded backup {}: {}", backup, statistics);
+  }
+
+  private static Duration elapsedSince(final long startNanos) {
+    return Duration.ofNanos(System.nanoTime() - startNanos);
+  }
+
   private CompletionStage<BackupIdentifier> findValidBackup(
       final long checkpointId, final BackupValidator validator) {
     LOG.info("Searching for a completed backup with id {}", checkpointId);
@@ -21,21 +21,44 @@ import io.camunda.zeebe.restore.PartitionRestoreService.BackupValidator;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Restores all partitions of the local broker from a backup. Partitions are restored concurrently,
+ * but at most {@code maxConcurrentPartitions} at a time, as each partition restore downloads
+ * several files concurrently already and a broker can have many partitions.
+ */
 public class RestoreManager {
+  public static final int DEFAULT_MAX_CONCURRENT_PARTITIONS = 4;
   private static final Logger LOG = LoggerFactory.getLogger(RestoreManager.class);
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
+  private final int maxConcurrentPartitions;
+  private final RestoreMetrics metrics = new RestoreMetrics();
 
   public RestoreManager(final BrokerCfg configuration, final BackupStore backupStore) {
+    this(configuration, backupStore, DEFAULT_MAX_CONCURRENT_PARTITIONS);
+  }
+
+  public RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final int maxConcurrentPartitions) {
     this.configuration = configuration;
     this.backupStore = backupStore;
+    this.maxConcurrentPartitions = Math.max(1, maxConcurrentPartitions);
   }
 
   public CompletableFuture<Void> restore(final long backupId, final boolean validateConfig) {
@@ -57,13 +80,96 @@ public class RestoreManager {
     final var partitionIds = partitionToRestore.stream().map(p -> p.id().id()).toList();
     LOG.info("Restoring partitions {}", partitionIds);
 
-    return CompletableFuture.allOf(
-            partitionToRestore.stream()
-                .map(partition -> restorePartition(partition, backupId, validateConfig))
-                .toArray(CompletableFuture[]::new))
+    return forEachPartition(
+            partitionToRestore, partition -> restorePartition(partition, backupId, validateConfig))
         .exceptionallyComposeAsync(error -> logFailureAndDeleteDataDirectory(dataDirectory, error));
   }
 
+  /**
+   * Downloads the backup of all partitions without restoring them, to measure the achievable
+   * restore bandwidth. The backup is downloaded into a temporary directory of the system, which is
+   * deleted afterwards, so the data directory is never touched and does not need to be empty.
+   *
+   * @return the combined statistics of all downloads
+   */
+  public CompletableFuture<DownloadStatistics> dryRun(
+      final long backupId, final boolean validateConfig) {
+    final Path dryRunDirectory;
+    try {
+      dryRunDirectory = Files.createTempDirectory("zeebe-restore-dry-run-");
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    final var partitionsToRestore = collectPartitions();
+    final var statistics = new ConcurrentLinkedQueue<DownloadStatistics>();
+    final var startTime = System.nanoTime();
+    LOG.info(
+        "Measuring download of backup {} for partitions {} to {}",
+        backupId,
+        partitionsToRestore.stream().map(p -> p.id().id()).toList(),
+        dryRunDirectory);
+
+    return forEachPartition(
+            partitionsToRestore,
+            partition ->
+                newRestoreService(partition)
+                    .measureDownload(
+                        backupId,
+                        validator(validateConfig),
+                        dryRunDirectory.resolve(String.valueOf(partition.id().id())))
+                    .thenAccept(statistics::add))
+        .thenApply(
+            ignored ->
+                DownloadStatistics.combine(
+                    statistics, Duration.ofNanos(System.nanoTime() - startTime)))
+        .whenComplete(
+            (result, error) -> {
+              try {
+                FileUtil.deleteFolderIfExists(dryRunDirectory);
+              } catch (final IOException e) {
+                LOG.warn("Failed to delete dry run directory {}", dryRunDirectory, e);
+              }
+            });
+  }
+
+  /**
+   * Runs the given task for all partitions, at most {@link #maxConcurrentPartitions} at a time.
+   * Once a task fails, no further tasks are started, and the returned future fails after the
+   * running tasks are done.
+   */
+  private CompletableFuture<Void> forEachPartition(
+      final Collection<RaftPartition> partitions,
+      final Function<RaftPartition, CompletableFuture<Void>> task) {
+    final var pending = new ConcurrentLinkedQueue<>(partitions);
+    metrics.setPendingPartitions(partitions.size());
+
+    return CompletableFuture.allOf(
+        IntStream.range(0, Math.min(maxConcurrentPartitions, partitions.size()))
+            .mapToObj(ignored -> runNext(pending, task))
+            .toArray(CompletableFuture[]::new));
+  }
+
+  private CompletableFuture<Void> runNext(
+      final Queue<RaftPartition> pending,
+      final Function<RaftPartition, CompletableFuture<Void>> task) {
+    final var partition = pending.poll();
+    if (partition == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    metrics.startRestoringPartition();
+    return task.apply(partition)
+        .whenComplete(
+            (ignored, error) -> {
+              metrics.completeRestoringPartition(error);
+              if (error != null) {
+                pending.clear();
+              }
+            })
+        .thenCompose(ignored -> runNext(pending, task));
+  }
+
   private CompletableFuture<Void> logFailureAndDeleteDataDirectory(
       final Path dataDirectory, final Throwable error) {
     LOG.error("Failed to restore broker. Deleting data directory {}", dataDirectory, error);
@@ -87,20 +193,27 @@ public class RestoreManager {
 
   private CompletableFuture<Void> restorePartition(
       final RaftPartition partition, final long backupId, final boolean validateConfig) {
-    final BackupValidator validator;
+    return newRestoreService(partition)
+        .restore(backupId, validator(validateConfig))
+        .thenAccept(backup -> logSuccessfulRestore(backup, partition.id().id(), backupId));
+  }
+
+  private PartitionRestoreService newRestoreService(final RaftPartition partition) {
+    return new PartitionRestoreService(
+        backupStore,
+        partition,
+        configuration.getCluster().getNodeId(),
+        new ChecksumProviderRocksDBImpl(),
+        metrics);
+  }
+
+  private BackupValidator validator(final boolean validateConfig) {
     if (validateConfig) {
-      validator = new ValidatePartitionCount(configuration.getCluster().getPartitionsCount());
-    } else {
-      LOG.warn("Restoring without validating backup");
-      validator = BackupValidator.none();
+      return new ValidatePartitionCount(configuration.getCluster().getPartitionsCount());
     }
-    return new PartitionRestoreService(
-            backupStore,
-            partition,
-            configuration.getCluster().getNodeId(),
-            new ChecksumProviderRocksDBImpl())
-        .restore(backupId, validator)
-        .thenAccept(backup -> logSuccessfulRestore(backup, partition.id().id(), backupId));
+
+    LOG.warn("Restoring without validating backup");
+    return BackupValidator.none();
   }
 
   private Set<RaftPartition> collectPartitions() {
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/** Tracks the progress of restoring a broker from a backup. */
+public final class RestoreMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_PARTITION = "partition";
+  private static final String LABEL_NAME_RESULT = "result";
+
+  private static final String FAILED = "failed";
+  private static final String COMPLETED = "completed";
+
+  private static final Gauge PARTITIONS_PENDING =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("restore_partitions_pending")
+          .help("Number of partitions which are not restored yet")
+          .register();
+
+  private static final Gauge PARTITIONS_IN_PROGRESS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("restore_partitions_in_progress")
+          .help("Number of partitions which are restored right now")
+          .register();
+
+  private static final Counter RESTORED_PARTITIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("restore_partitions_total")
+          .help("Total number of restored partitions")
+          .labelNames(LABEL_NAME_RESULT)
+          .register();
+
+  private static final Counter DOWNLOADED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("restore_downloaded_bytes_total")
+          .help("Total number of bytes downloaded from the backup store")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram DOWNLOAD_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("restore_download_latency_seconds")
+          .help("Time to download the backup of a partition from the backup store")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(1, 10, 60, 5 * 60, 15 * 60, 60 * 60)
+          .register();
+
+  public void setPendingPartitions(final int count) {
+    PARTITIONS_PENDING.set(count);
+  }
+
+  public void startRestoringPartition() {
+    PARTITIONS_IN_PROGRESS.inc();
+  }
+
+  public void completeRestoringPartition(final Throwable error) {
+    PARTITIONS_IN_PROGRESS.dec();
+    PARTITIONS_PENDING.dec();
+    RESTORED_PARTITIONS.labels(error == null ? COMPLETED : FAILED).inc();
+  }
+
+  public void observeDownload(final int partitionId, final DownloadStatistics statistics) {
+    final var partition = String.valueOf(partitionId);
+    DOWNLOADED_BYTES.labels(partition).inc(statistics.bytes());
+    DOWNLOAD_LATENCY.labels(partition).observe(statistics.duration().toNanos() / 1e9);
+  }
+}
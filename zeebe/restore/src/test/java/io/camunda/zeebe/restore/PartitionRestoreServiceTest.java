@@ -161,6 +161,31 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldMeasureDownloadWithoutRestoring(@TempDir final Path dryRunDirectory) {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(3, "checkpoint");
+
+    takeSnapshot(1, 2);
+
+    final long backupId = 3;
+    final var backup = takeBackup(backupId, 3);
+    final var targetDirectory = dryRunDirectory.resolve("partition");
+
+    // when
+    final var statistics =
+        restoreService.measureDownload(backupId, BackupValidator.none(), targetDirectory).join();
+
+    // then
+    assertThat(statistics.files())
+        .isEqualTo(backup.segments().names().size() + backup.snapshot().names().size());
+    assertThat(statistics.bytes()).isPositive();
+    assertThat(targetDirectory).doesNotExist();
+    assertThat(dataDirectoryToRestore).isEmptyDirectory();
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
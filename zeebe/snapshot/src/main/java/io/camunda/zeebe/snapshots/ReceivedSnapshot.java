@@ -30,4 +30,19 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns true if all chunks of the snapshot were applied, such that it can be persisted. Chunks
+   * may be applied out of order, e.g. when they are replicated concurrently, so receiving the last
+   * chunk does not imply that the snapshot is complete.
+   *
+   * <p>Must only be called after the future returned by the last {@link #apply(SnapshotChunk)} has
+   * been completed. Implementations which cannot tell must return true, in which case persisting
+   * validates the snapshot.
+   *
+   * @return true if all chunks were applied
+   */
+  default boolean isComplete() {
+    return true;
+  }
 }
@@ -41,4 +41,15 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * A file reference carries no content. Instead, it tells the receiver that the file with this
+   * chunk's name is the same as the one in the receiver's latest snapshot, and can be reused from
+   * there. The checksum is then the checksum of the whole file.
+   *
+   * @return true if this chunk refers to a file the receiver already has
+   */
+  default boolean isFileReference() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files the receiver already has, e.g. as part of its latest snapshot, by name and
+   * checksum. Files not read yet which have the same name and checksum are then returned as a
+   * single {@link SnapshotChunk#isFileReference() file reference} instead of their content.
+   *
+   * @param fileChecksums the checksums of the files the receiver has, by file name
+   */
+  default void setReusableFiles(final Map<String, Long> fileChecksums) {}
 }
@@ -18,10 +18,17 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,8 +45,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
-  private long writtenMetadataBytes;
-  private SfvChecksumImpl checksumCollection;
+
+  // chunks can be received out of order or more than once when they are replicated concurrently,
+  // so we keep track of which parts of each file were received
+  private final Map<String, ReceivedFile> receivedFiles = new HashMap<>();
+  private int completeFileCount;
+  private volatile boolean isComplete;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -51,7 +62,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     this.directory = directory;
     this.actor = actor;
     expectedTotalCount = Integer.MIN_VALUE;
-    writtenMetadataBytes = 0;
   }
 
   @Override
@@ -85,8 +95,26 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (snapshotChunk.isFileReference()) {
+      reuseFile(snapshotChunk);
+      return;
+    }
+
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
+    final var receivedFile =
+        receivedFiles.computeIfAbsent(
+            chunkName, name -> new ReceivedFile(snapshotChunk.getTotalFileSize()));
+    // a complete file may be linked to the latest snapshot, so it must never be written again
+    if (receivedFile.isComplete()
+        || receivedFile.hasChunkAt(snapshotChunk.getFileBlockPosition())) {
+      LOGGER.trace(
+          "Ignore snapshot chunk {} at position {}, because it was already received",
+          chunkName,
+          snapshotChunk.getFileBlockPosition());
+      return;
+    }
+
     final var tmpSnapshotDirectory = directory;
     try {
       FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
@@ -100,30 +128,87 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
+    final boolean wasFileComplete = receivedFile.isComplete();
+    receivedFile.onChunkReceived(snapshotChunk.getFileBlockPosition(), snapshotChunk.getContent());
+    if (!wasFileComplete && receivedFile.isComplete()) {
+      completeFileCount++;
+      isComplete = completeFileCount == expectedTotalCount;
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
-        collectMetadata(snapshotChunk);
+        collectMetadata(snapshotChunk, receivedFile.isComplete());
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  /**
+   * Reuses a file of the latest snapshot instead of receiving it again. Snapshot files are never
+   * modified once persisted, so the file is hard linked into this snapshot if possible, which costs
+   * no additional disk space, and copied otherwise.
+   */
+  private void reuseFile(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
+    final String chunkName = snapshotChunk.getChunkName();
+    final var receivedFile =
+        receivedFiles.computeIfAbsent(
+            chunkName, name -> new ReceivedFile(snapshotChunk.getTotalFileSize()));
+    if (receivedFile.isComplete()) {
+      LOGGER.trace("Ignore reference to file {}, because it was already received", chunkName);
+      return;
+    }
+
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    final var existingChecksum =
+        latestSnapshot.map(snapshot -> snapshot.getChecksums().getChecksums().get(chunkName));
+    if (existingChecksum.isEmpty() || existingChecksum.get() != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file %s with checksum %d from the latest snapshot %s, but it has checksum %s",
+              chunkName,
+              snapshotChunk.getChecksum(),
+              latestSnapshot.map(PersistedSnapshot::getId).orElse(null),
+              existingChecksum.orElse(null)));
+    }
+
+    final var source = latestSnapshot.get().getPath().resolve(chunkName);
+    final var target = directory.resolve(chunkName);
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+      Files.deleteIfExists(target);
+      try {
+        Files.createLink(target, source);
+      } catch (final UnsupportedOperationException | IOException e) {
+        LOGGER.debug("Failed to hard link {} to {}, copying it instead", source, target, e);
+        Files.copy(source, target);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse file %s of the latest snapshot", source), e);
+    }
+
+    LOGGER.trace("Reused file {} of the latest snapshot for snapshot {}", source, snapshotId);
+    receivedFile.onFileReused(snapshotChunk.getChecksum());
+    completeFileCount++;
+    isComplete = completeFileCount == expectedTotalCount;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return isComplete || snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString());
+  }
+
+  private void collectMetadata(final SnapshotChunk chunk, final boolean isFileComplete)
+      throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
     metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
 
-    if (writtenMetadataBytes == chunk.getTotalFileSize()) {
+    // chunks may overlap, so rely on the received file instead of counting the written bytes
+    if (isFileComplete) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
     }
   }
@@ -262,6 +347,14 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    final SfvChecksumImpl checksumCollection;
+    try {
+      checksumCollection = collectChecksums();
+    } catch (final IOException e) {
+      future.completeExceptionally(e);
+      return;
+    }
+
     try {
       if (metadata == null) {
         // backward compatibility
@@ -282,6 +375,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  private SfvChecksumImpl collectChecksums() throws IOException {
+    final var checksumCollection = new SfvChecksumImpl();
+    for (final var entry : receivedFiles.entrySet()) {
+      final var receivedFile = entry.getValue();
+      if (receivedFile.wasReceivedInOrder()) {
+        checksumCollection.updateFromChecksum(
+            directory.resolve(entry.getKey()), receivedFile.checksum());
+      } else {
+        // the running checksum is only valid if the chunks were received in order
+        checksumCollection.updateFromFile(directory.resolve(entry.getKey()));
+      }
+    }
+
+    return checksumCollection;
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -291,4 +400,81 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /**
+   * Tracks which chunks of a single file were received. As long as chunks are received in order,
+   * the checksum of the file is computed while receiving it, so the file does not have to be read
+   * again when persisting the snapshot.
+   */
+  private static final class ReceivedFile {
+    private final long totalSize;
+    private final Set<Long> chunkPositions = new HashSet<>();
+    // chunks which are not yet connected to the contiguous prefix, by position, with their length
+    private final TreeMap<Long, Integer> detachedChunks = new TreeMap<>();
+    private final CRC32C checksum = new CRC32C();
+    // length of the prefix of the file which is covered by the received chunks
+    private long contiguousLength;
+    private long nextInOrderPosition;
+    private boolean receivedInOrder = true;
+    private boolean isReused;
+    private long reusedChecksum;
+
+    private ReceivedFile(final long totalSize) {
+      this.totalSize = totalSize;
+    }
+
+    private boolean hasChunkAt(final long position) {
+      return chunkPositions.contains(position);
+    }
+
+    private void onChunkReceived(final long position, final byte[] content) {
+      chunkPositions.add(position);
+      extendContiguousLength(position, content.length);
+
+      if (receivedInOrder && position == nextInOrderPosition) {
+        checksum.update(content);
+        nextInOrderPosition += content.length;
+      } else {
+        receivedInOrder = false;
+      }
+    }
+
+    private void onFileReused(final long fileChecksum) {
+      isReused = true;
+      reusedChecksum = fileChecksum;
+    }
+
+    private boolean isComplete() {
+      return isReused || contiguousLength >= totalSize;
+    }
+
+    /**
+     * Extends the contiguous prefix by the given chunk, and by all detached chunks it connects to.
+     * Chunks may overlap if the chunk size changed while replicating, so a chunk connects to the
+     * prefix as soon as it starts within it.
+     */
+    private void extendContiguousLength(final long position, final int length) {
+      if (position > contiguousLength) {
+        detachedChunks.merge(position, length, Math::max);
+        return;
+      }
+
+      contiguousLength = Math.max(contiguousLength, position + length);
+      var detachedChunk = detachedChunks.firstEntry();
+      while (detachedChunk != null && detachedChunk.getKey() <= contiguousLength) {
+        contiguousLength =
+            Math.max(contiguousLength, detachedChunk.getKey() + detachedChunk.getValue());
+        detachedChunks.pollFirstEntry();
+        detachedChunk = detachedChunks.firstEntry();
+      }
+    }
+
+    private boolean wasReceivedInOrder() {
+      return isReused || (receivedInOrder && nextInOrderPosition == totalSize);
+    }
+
+    private long checksum() {
+      return isReused ? reusedChecksum : checksum.getValue();
+    }
+  }
 }
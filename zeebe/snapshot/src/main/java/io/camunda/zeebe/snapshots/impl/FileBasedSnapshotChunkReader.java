@@ -15,17 +15,25 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If the checksums of the files are known, files which the receiver already has with the same
+ * checksum are read as a single file reference instead of their content. RocksDB checkpoints share
+ * most SST files between consecutive snapshots, so this avoids sending them again.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileChecksums;
+  private Map<String, Long> reusableFiles = Map.of();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,12 +42,24 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, Map.of());
+  }
+
+  public FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> fileChecksums)
+      throws IOException {
+    this(directory, fileChecksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, Map.of(), maximumChunkSize);
+  }
+
+  private FileBasedSnapshotChunkReader(
+      final Path directory, final Map<String, Long> fileChecksums, final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,6 +109,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReusableFiles(final Map<String, Long> fileChecksums) {
+    reusableFiles = Objects.requireNonNull(fileChecksums);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -103,6 +128,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
+    if (offset == 0 && isReusable(fileName)) {
+      return nextFileReference(fileName);
+    }
+
     final var filePath = directory.resolve(fileName).toString();
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
@@ -125,4 +154,26 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private boolean isReusable(final String fileName) {
+    // the metadata differs between snapshots and is decoded by the receiver, so it is always sent
+    if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+      return false;
+    }
+
+    final var checksum = fileChecksums.get(fileName);
+    return checksum != null && checksum.equals(reusableFiles.get(fileName));
+  }
+
+  private SnapshotChunk nextFileReference(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+
+      return SnapshotChunkUtil.createFileReferenceChunk(
+          snapshotID, totalCount, fileName, fileChecksums.get(fileName), fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -35,7 +35,24 @@ final class SnapshotChunkUtil {
 
     final long checksum = createChecksum(fileData);
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
+        snapshotId,
+        totalCount,
+        fileName,
+        checksum,
+        fileData,
+        fileBlockPosition,
+        totalFileSize,
+        false);
+  }
+
+  static SnapshotChunk createFileReferenceChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, fileName, fileChecksum, new byte[0], 0, totalFileSize, true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -46,6 +63,7 @@ final class SnapshotChunkUtil {
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private final boolean fileReference;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -54,7 +72,8 @@ final class SnapshotChunkUtil {
         final long checksum,
         final byte[] content,
         final long fileBlockPosition,
-        final long totalFileSize) {
+        final long totalFileSize,
+        final boolean fileReference) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
@@ -62,6 +81,7 @@ final class SnapshotChunkUtil {
       this.content = content;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
+      this.fileReference = fileReference;
     }
 
     @Override
@@ -98,5 +118,10 @@ final class SnapshotChunkUtil {
     public long getTotalFileSize() {
       return totalFileSize;
     }
+
+    @Override
+    public boolean isFileReference() {
+      return fileReference;
+    }
   }
 }
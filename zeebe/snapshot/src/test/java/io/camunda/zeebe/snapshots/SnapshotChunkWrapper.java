@@ -67,6 +67,11 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return totalCount;
   }
 
+  @Override
+  public boolean isFileReference() {
+    return wrappedChunk.isFileReference();
+  }
+
   @Override
   public String getChunkName() {
     return wrappedChunk.getChunkName();
@@ -26,6 +26,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +351,160 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReceiveSnapshotCorrectlyWhenChunksAreOutOfOrder() throws IOException {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 2);
+    Collections.reverse(chunks);
+
+    // when
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    final var receivedChecksums = receivedPersistedSnapshot.getChecksums();
+    assertThat(receivedChecksums.sameChecksums(persistedSnapshot.getChecksums()))
+        .as("the received snapshot has the same checksums as the sent one")
+        .isTrue();
+    for (final var fileName : SNAPSHOT_FILE_CONTENTS.keySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(fileName))
+          .hasSameBinaryContentAs(persistedSnapshot.getPath().resolve(fileName));
+    }
+  }
+
+  @Test
+  public void shouldIgnoreDuplicateChunks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 4);
+
+    // when
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    receivedSnapshot.apply(chunks.get(0)).join();
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    final var receivedChecksums = receivedPersistedSnapshot.getChecksums();
+    assertThat(receivedChecksums.sameChecksums(persistedSnapshot.getChecksums()))
+        .as("the duplicate chunk did not change the received snapshot")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldOnlyBeCompleteWhenAllChunksWereReceived() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = readChunks(persistedSnapshot, 2);
+    final var missingChunk = chunks.remove(1);
+
+    // when
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+
+    // then
+    assertThat(receivedSnapshot.isComplete()).isFalse();
+    receivedSnapshot.apply(missingChunk).join();
+    assertThat(receivedSnapshot.isComplete()).isTrue();
+  }
+
+  @Test
+  public void shouldBeCompleteWhenOverlappingChunksCoverAllFiles() {
+    // given - the chunk size changed while replicating
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var smallChunks = readChunks(persistedSnapshot, 2);
+    Collections.reverse(smallChunks);
+    final var firstLargeChunks =
+        readChunks(persistedSnapshot, 4).stream()
+            .filter(chunk -> chunk.getFileBlockPosition() == 0)
+            .toList();
+
+    // when
+    smallChunks.stream()
+        .filter(chunk -> chunk.getFileBlockPosition() != 0)
+        .forEach(chunk -> receivedSnapshot.apply(chunk).join());
+
+    // then
+    assertThat(receivedSnapshot.isComplete()).isFalse();
+    firstLargeChunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+    assertThat(receivedSnapshot.isComplete()).isTrue();
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(firstSnapshot.getChecksums().getChecksums());
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+    chunks.forEach(chunk -> receivedSnapshot.apply(chunk).join());
+
+    // then
+    assertThat(chunks)
+        .filteredOn(SnapshotChunk::isFileReference)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactlyInAnyOrderElementsOf(SNAPSHOT_FILE_CONTENTS.keySet());
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("file1"),
+                firstSnapshot.getPath().resolve("file1")))
+        .as("the file is reused from the latest snapshot")
+        .isTrue();
+
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+    final var receivedChecksums = receivedPersistedSnapshot.getChecksums();
+    assertThat(receivedChecksums.sameChecksums(secondSnapshot.getChecksums())).isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+    final var fileChecksum = firstSnapshot.getChecksums().getChecksums().get("file1");
+
+    // when
+    final SnapshotChunk fileReference;
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(Map.of("file1", fileChecksum));
+      fileReference = snapshotChunkReader.next();
+    }
+    final var corruptedReference = SnapshotChunkWrapper.withChecksum(fileReference, 0xCAFEL);
+
+    // then
+    assertThat(fileReference.isFileReference()).isTrue();
+    assertThatThrownBy(() -> receivedSnapshot.apply(corruptedReference).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  private List<SnapshotChunk> readChunks(
+      final PersistedSnapshot persistedSnapshot, final int maximumChunkSize) {
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(maximumChunkSize);
+      while (snapshotChunkReader.hasNext()) {
+        chunks.add(snapshotChunkReader.next());
+      }
+    }
+    return chunks;
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -332,6 +332,41 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReadReusableFilesAsFileReferences() throws IOException {
+    // given
+    newReader();
+    final var fileChecksums = new HashMap<String, Long>();
+    SNAPSHOT_CHUNK.forEach(
+        (name, content) ->
+            fileChecksums.put(
+                name, SnapshotChunkUtil.createChecksum(content.getBytes(StandardCharsets.UTF_8))));
+    final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(snapshotDirectory, fileChecksums);
+
+    // when
+    snapshotChunkReader.setMaximumChunkSize(1);
+    snapshotChunkReader.setReusableFiles(
+        Map.of("file2", fileChecksums.get("file2"), "file3", fileChecksums.get("file3") + 1));
+    final var chunks = getAllChunks(snapshotChunkReader);
+
+    // then - only the file with the same checksum is not read
+    final var fileReferences = chunks.stream().filter(SnapshotChunk::isFileReference).toList();
+    assertThat(fileReferences)
+        .singleElement()
+        .satisfies(
+            chunk -> {
+              assertThat(chunk.getChunkName()).isEqualTo("file2");
+              assertThat(chunk.getContent()).isEmpty();
+              assertThat(chunk.getChecksum()).isEqualTo(fileChecksums.get("file2"));
+              assertThat(chunk.getTotalFileSize()).isEqualTo("is".length());
+            });
+    assertThat(chunks)
+        .filteredOn(chunk -> !chunk.isFileReference())
+        .extracting(SnapshotChunk::getChunkName)
+        .containsOnly("file1", "file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
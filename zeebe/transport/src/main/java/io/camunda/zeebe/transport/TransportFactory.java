@@ -69,4 +69,11 @@ public final class TransportFactory {
       final ClientStreamMetrics metrics) {
     return new ClientStreamServiceImpl<>(clusterCommunicationService, metrics);
   }
+
+  public <M extends BufferWriter> ClientStreamService<M> createRemoteStreamClient(
+      final ClusterCommunicationService clusterCommunicationService,
+      final ClientStreamMetrics metrics,
+      final int streamCapacity) {
+    return new ClientStreamServiceImpl<>(clusterCommunicationService, metrics, streamCapacity);
+  }
 }
@@ -30,6 +30,18 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when no payload could be pushed for a stream type, because all matching consumers were
+   * at capacity
+   */
+  default void pushThrottled() {}
+
+  /** Invoked when a credit is acquired to push a payload to a consumer */
+  default void creditAcquired() {}
+
+  /** Invoked when a credit is released, after a push was acknowledged or failed */
+  default void creditReleased() {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
@@ -11,7 +11,9 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
@@ -31,6 +33,47 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     streamConsumers.remove(consumer);
   }
 
+  /**
+   * Returns the sum of the available credits of all consumers, saturating at {@link
+   * Integer#MAX_VALUE}. Iterates over the consumers without copying them, so it can be called for
+   * every pushed payload.
+   */
+  int availableCredits() {
+    long available = 0;
+    for (final var consumer : streamConsumers) {
+      available += Math.max(0, consumer.credits().available());
+    }
+
+    return (int) Math.min(Integer.MAX_VALUE, available);
+  }
+
+  /**
+   * Returns the consumer with the most available credits, picking randomly between equally loaded
+   * consumers, or null if all consumers are at capacity or there are none.
+   */
+  StreamConsumer<M> leastLoadedConsumer() {
+    StreamConsumer<M> target = null;
+    int targetCredits = 0;
+    int ties = 0;
+
+    for (final var consumer : streamConsumers) {
+      final int credits = consumer.credits().available();
+      if (credits <= 0 || credits < targetCredits) {
+        continue;
+      }
+
+      if (credits > targetCredits) {
+        target = consumer;
+        targetCredits = credits;
+        ties = 1;
+      } else if (ThreadLocalRandom.current().nextInt(++ties) == 0) {
+        target = consumer;
+      }
+    }
+
+    return target;
+  }
+
   @Override
   public Collection<RemoteStreamId> consumers() {
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
@@ -47,13 +90,39 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   }
 
   /**
-   * A stream consumer uniquely identified by the id, with its properties and streamType.
+   * A stream consumer uniquely identified by the id, with its properties and streamType. The
+   * credits are mutable state and not part of its identity.
    *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits the credits the consumer advertised, i.e. how many payloads can be in flight
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId, StreamCredits credits) {
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, StreamCredits.unlimited());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
@@ -61,11 +61,24 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
 
   private final ClusterCommunicationService communicationService;
   private final ConcurrencyControl executor;
+  private final int streamCapacity;
 
   ClientStreamRequestManager(
       final ClusterCommunicationService communicationService, final ConcurrencyControl executor) {
+    this(communicationService, executor, AddStreamRequest.UNLIMITED_CAPACITY);
+  }
+
+  /**
+   * @param streamCapacity the capacity advertised to servers for each stream, i.e. how many pushed
+   *     payloads may be unacknowledged at any time; unlimited if not positive
+   */
+  ClientStreamRequestManager(
+      final ClusterCommunicationService communicationService,
+      final ConcurrencyControl executor,
+      final int streamCapacity) {
     this.communicationService = communicationService;
     this.executor = executor;
+    this.streamCapacity = streamCapacity;
   }
 
   /**
@@ -178,7 +191,8 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         new AddStreamRequest()
             .streamId(registration.streamId())
             .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
+            .metadata(registration.logicalId().metadata())
+            .capacity(streamCapacity);
 
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
@@ -18,6 +18,7 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -42,6 +43,17 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
 
   public ClientStreamServiceImpl(
       final ClusterCommunicationService communicationService, final ClientStreamMetrics metrics) {
+    this(communicationService, metrics, AddStreamRequest.UNLIMITED_CAPACITY);
+  }
+
+  /**
+   * @param streamCapacity how many pushed payloads may be unacknowledged per stream and server;
+   *     servers will stop pushing to a stream which reached its capacity. Unlimited if not positive
+   */
+  public ClientStreamServiceImpl(
+      final ClusterCommunicationService communicationService,
+      final ClientStreamMetrics metrics,
+      final int streamCapacity) {
     this.communicationService = communicationService;
     registry = new ClientStreamRegistry<>(metrics);
 
@@ -49,7 +61,9 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     // ClientStream objects.
     clientStreamManager =
         new ClientStreamManager<>(
-            registry, new ClientStreamRequestManager<>(communicationService, actor), metrics);
+            registry,
+            new ClientStreamRequestManager<>(communicationService, actor, streamCapacity),
+            metrics);
     apiHandler = new ClientStreamApiHandler(clientStreamManager, actor);
   }
 
@@ -14,8 +14,8 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
-import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,36 +42,32 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
   @Override
   public void push(final P payload) {
-    final var initialConsumer = pickInitialConsumer();
+    final var initialConsumer = acquireInitialConsumer();
     if (initialConsumer == null) {
       errorHandler.handleError(
           new StreamExhaustedException(
-              "Failed to push to stream %s, all consumers were removed since it was picked"
+              ("Failed to push to stream %s, all consumers were removed or reached their capacity"
+                      + " since it was picked")
                   .formatted(stream.logicalId())),
           payload);
       return;
     }
 
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    streamer.pushAsync(payload, retryHandler, initialConsumer.id(), initialConsumer.credits());
   }
 
-  private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+  private StreamConsumer<M> acquireInitialConsumer() {
+    // other producers may acquire the last credits of the least loaded consumer concurrently, so we
+    // loop until we acquire a credit or all consumers are at capacity
+    var consumer = stream.leastLoadedConsumer();
+    while (consumer != null) {
+      if (consumer.credits().tryAcquire()) {
+        return consumer;
       }
+
+      LOGGER.trace("Stream consumer {} reached its capacity while picking it; retrying", consumer);
+      consumer = stream.leastLoadedConsumer();
     }
 
     return null;
@@ -98,6 +94,8 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
       consumers.remove(initialConsumer);
       Collections.shuffle(consumers);
+      consumers.sort(
+          Comparator.comparingInt((StreamConsumer<M> c) -> c.credits().available()).reversed());
       final var iterator = consumers.iterator();
       retry(error, data, iterator);
     }
@@ -111,9 +109,16 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       final var client = iterator.next();
+      if (!client.credits().tryAcquire()) {
+        LOGGER.trace("Skipping stream {} on retry, as it reached its capacity", client.id());
+        retry(throwable, payload, iterator);
+        return;
+      }
+
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      streamer.pushAsync(
+          payload, (error, data) -> retry(error, data, iterator), client.id(), client.credits());
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
@@ -51,13 +51,30 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    final var credits = StreamCredits.unlimited();
+    credits.tryAcquire();
+    pushAsync(payload, errorHandler, streamId, credits);
+  }
+
+  /**
+   * Pushes the payload asynchronously to the given stream. The given credit must have been acquired
+   * by the caller, and is released once the push is acknowledged or failed, before the error
+   * handler is called.
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () ->
+              push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId, credits));
     } catch (final Exception e) {
+      credits.release();
       errorHandler.handleError(e, payload);
     }
   }
@@ -104,15 +121,20 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   }
 
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final StreamCredits credits) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> onPush(payload, errorHandler, credits, response, error),
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      credits.release();
       errorHandler.handleError(e, payload);
     }
   }
@@ -120,8 +142,10 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   private void onPush(
       final P payload,
       final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamCredits credits,
       final byte[] responseBuffer,
       final Throwable error) {
+    credits.release();
     if (error != null) {
       errorHandler.handleError(error, payload);
       return;
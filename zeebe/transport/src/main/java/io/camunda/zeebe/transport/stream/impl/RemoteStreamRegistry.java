@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,6 +50,18 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
     this.metrics = metrics;
   }
 
+  /**
+   * Adds a stream receiver with unlimited capacity. See {@link #add(UnsafeBuffer, UUID, MemberId,
+   * Object, int)}.
+   */
+  public void add(
+      final UnsafeBuffer streamType,
+      final UUID streamId,
+      final MemberId receiver,
+      final M properties) {
+    add(streamType, streamId, receiver, properties, AddStreamRequest.UNLIMITED_CAPACITY);
+  }
+
   /**
    * Adds a stream receiver that can receive data from the stream with the given streamType.
    *
@@ -57,12 +70,15 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
    *     stream.
    * @param receiver The id of the node that receives data from the stream
    * @param properties properties used by the producer to generate data to be pushed to the stream
+   * @param capacity maximum number of unacknowledged payloads which can be pushed to the receiver;
+   *     unlimited if not positive
    */
   public void add(
       final UnsafeBuffer streamType,
       final UUID streamId,
       final MemberId receiver,
-      final M properties) {
+      final M properties,
+      final int capacity) {
 
     final StreamId uniqueId = new StreamId(streamId, receiver);
     if (idToConsumer.containsKey(uniqueId)) {
@@ -83,7 +99,8 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
           return aggregatedStream;
         });
 
-    final var streamConsumer = new StreamConsumer<>(uniqueId, logicalId);
+    final var streamConsumer =
+        new StreamConsumer<>(uniqueId, logicalId, new StreamCredits(capacity, metrics));
     logicalIdToConsumers.get(logicalId).addConsumer(streamConsumer);
 
     idToConsumer.put(uniqueId, streamConsumer);
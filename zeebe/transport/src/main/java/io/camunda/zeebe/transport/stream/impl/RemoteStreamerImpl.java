@@ -19,15 +19,12 @@ import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -37,6 +34,10 @@ import org.agrona.concurrent.UnsafeBuffer;
  * <p>NOTE: any payload pushed is sent via the stream from {@link #streamFor(DirectBuffer)} will be
  * asynchronous, so the payload should be immutable, and the errors reported to the given {@link
  * RemoteStreamErrorHandler} may be reported on different threads.
+ *
+ * <p>Streams are picked by load: the stream whose consumers have the most available credits is
+ * picked, and no stream is returned if all matching consumers are at capacity. This lets slow
+ * consumers apply back pressure, instead of being pushed to until pushes fail.
  */
 public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     implements RemoteStreamer<M, P> {
@@ -46,6 +47,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
@@ -55,6 +57,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
 
     remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
   }
@@ -63,30 +66,42 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   public Optional<RemoteStream<M, P>> streamFor(
       final DirectBuffer streamType, final Predicate<M> filter) {
     final UnsafeBuffer streamTypeBuffer = new UnsafeBuffer(streamType);
-    final var consumers =
-        registry.get(streamTypeBuffer).stream()
-            .filter(s -> filter.test(s.metadata()))
-            .collect(Collectors.toSet());
-    if (consumers.isEmpty()) {
-      return Optional.empty();
-    }
+    AggregatedRemoteStream<M> target = null;
+    int targetCredits = 0;
+    int ties = 0;
+    boolean isThrottled = false;
 
-    return pickStream(consumers)
-        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
-  }
+    // picks the stream with the most available credits in a single pass, without copying the
+    // registered streams, choosing uniformly between equally loaded streams (reservoir sampling)
+    for (final var candidate : registry.get(streamTypeBuffer)) {
+      if (candidate.streamConsumers().isEmpty() || !filter.test(candidate.metadata())) {
+        continue;
+      }
 
-  private Optional<AggregatedRemoteStream<M>> pickStream(
-      final Set<AggregatedRemoteStream<M>> consumers) {
-    final var targets = new ArrayList<>(consumers);
-    Collections.shuffle(targets);
+      final int credits = candidate.availableCredits();
+      if (credits <= 0) {
+        isThrottled = true;
+        continue;
+      }
 
-    for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+      if (credits > targetCredits) {
+        target = candidate;
+        targetCredits = credits;
+        ties = 1;
+      } else if (credits == targetCredits && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+        target = candidate;
       }
     }
 
-    return Optional.empty();
+    if (target == null) {
+      if (isThrottled) {
+        metrics.pushThrottled();
+      }
+
+      return Optional.empty();
+    }
+
+    return Optional.of(new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
   private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
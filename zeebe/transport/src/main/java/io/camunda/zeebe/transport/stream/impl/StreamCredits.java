@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how many payloads were pushed to a single stream consumer without being acknowledged yet,
+ * bounded by the capacity the consumer advertised when it was added. A credit is acquired before
+ * pushing a payload, and released once the push is acknowledged or failed.
+ *
+ * <p>A capacity which is not positive means the consumer accepts any number of payloads; in flight
+ * payloads are still tracked so consumers can be compared by their load.
+ *
+ * <p>This class is thread-safe, as credits are acquired by the producers and released by the
+ * pushing actor.
+ */
+final class StreamCredits {
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final int capacity;
+  private final RemoteStreamMetrics metrics;
+
+  StreamCredits(final int capacity, final RemoteStreamMetrics metrics) {
+    this.capacity = capacity;
+    this.metrics = metrics;
+  }
+
+  static StreamCredits unlimited() {
+    return new StreamCredits(0, RemoteStreamMetrics.noop());
+  }
+
+  /**
+   * @return true if a credit was acquired, false if the consumer is already at capacity
+   */
+  boolean tryAcquire() {
+    if (isUnlimited()) {
+      inFlight.incrementAndGet();
+      metrics.creditAcquired();
+      return true;
+    }
+
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= capacity) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+
+    metrics.creditAcquired();
+    return true;
+  }
+
+  /** Releases a credit previously acquired via {@link #tryAcquire()}. */
+  void release() {
+    int current;
+    do {
+      current = inFlight.get();
+      if (current <= 0) {
+        return;
+      }
+    } while (!inFlight.compareAndSet(current, current - 1));
+
+    metrics.creditReleased();
+  }
+
+  /**
+   * @return how many more payloads can be pushed before the consumer is at capacity, which for
+   *     unlimited consumers still decreases with the number of in flight payloads
+   */
+  int available() {
+    final int limit = isUnlimited() ? Integer.MAX_VALUE : capacity;
+    return limit - inFlight.get();
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  private boolean isUnlimited() {
+    return capacity <= 0;
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{" + "capacity=" + capacity + ", inFlight=" + inFlight.get() + '}';
+  }
+}
@@ -18,6 +18,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class AddStreamRequest implements BufferReader, BufferWriter {
+  /** A capacity which is not positive means the stream accepts any number of pushed payloads. */
+  public static final int UNLIMITED_CAPACITY = 0;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
@@ -27,6 +30,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int capacity = UNLIMITED_CAPACITY;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +41,13 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    // older clients do not send a capacity, in which case the decoder returns the null value
+    final int decodedCapacity = messageDecoder.capacity();
+    capacity =
+        decodedCapacity == AddStreamRequestDecoder.capacityNullValue()
+            ? UNLIMITED_CAPACITY
+            : decodedCapacity;
   }
 
   @Override
@@ -53,6 +64,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   public void write(final MutableDirectBuffer buffer, final int offset) {
     messageEncoder
         .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .capacity(capacity)
         .putStreamType(streamType, 0, streamType.capacity());
 
     SbeUtil.writeNested(
@@ -103,9 +115,18 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  public int capacity() {
+    return capacity;
+  }
+
+  public AddStreamRequest capacity(final int capacity) {
+    this.capacity = capacity;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, capacity);
   }
 
   @Override
@@ -121,7 +142,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && capacity == that.capacity;
   }
 
   @Override
@@ -133,6 +155,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", capacity="
+        + capacity
         + '}';
   }
 }
@@ -83,6 +83,42 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).hasSize(2);
   }
 
+  @Test
+  void shouldReleaseCreditsAfterPush() {
+    // given
+    transport.succeedAfterAttempts(1);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(aggregatedStream.streamConsumers())
+        .allSatisfy(c -> assertThat(c.credits().available()).isEqualTo(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void shouldNotPushToConsumersAtCapacity() {
+    // given
+    final var logicalId = aggregatedStream.logicalId();
+    final var busyConsumer =
+        new StreamConsumer<>(
+            new StreamId(UUID.randomUUID(), MemberId.anonymous()),
+            logicalId,
+            new StreamCredits(1, RemoteStreamMetrics.noop()));
+    busyConsumer.credits().tryAcquire();
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(busyConsumer);
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+  }
+
   @Test
   void shouldFailIfNoConsumersOnPush() {
     // given
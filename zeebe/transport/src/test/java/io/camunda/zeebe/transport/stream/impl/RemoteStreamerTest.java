@@ -123,6 +123,38 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldNotReturnStreamIfAllConsumersAreAtCapacity() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1), 1);
+    final var consumer = registry.get(type).iterator().next().streamConsumers().get(0);
+    consumer.credits().tryAcquire();
+
+    // when
+    final var stream = streamer.streamFor(type);
+
+    // then
+    assertThat(stream).isEmpty();
+  }
+
+  @Test
+  void shouldPickStreamWithMostAvailableCredits() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var busyMetadata = new TestMetadata(1);
+    final var idleMetadata = new TestMetadata(2);
+    registry.add(type, UUID.randomUUID(), MemberId.from("a"), busyMetadata, 1);
+    registry.add(type, UUID.randomUUID(), MemberId.from("b"), idleMetadata, 10);
+
+    // when
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // then
+    assertThat(stream.metadata()).isSameAs(idleMetadata);
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
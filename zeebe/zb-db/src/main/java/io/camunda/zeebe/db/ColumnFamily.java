@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Represents an column family, where it is possible to store keys of type {@link KeyType} and
@@ -44,6 +46,36 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Reads the value of the given key like {@link #get(DbKey)}, but without copying it to the heap:
+   * the value is read into a native buffer owned by this column family instance, and the DbValue
+   * passed to the reader wraps that buffer directly. This avoids allocating and copying large
+   * values which are only read once, e.g. to be transformed into another representation.
+   *
+   * <p>The DbValue, and any view into it, is only valid while the reader is called, as the buffer
+   * is reused by the next read. The reader must copy everything it needs to keep, and must not read
+   * from this column family instance.
+   *
+   * @param key the key
+   * @param reader the reader which is called with the value, if the key was found
+   * @return the result of the reader, or null if the key was not found
+   */
+  <T> T getDirect(KeyType key, Function<ValueType, T> reader);
+
+  /**
+   * Looks up the values of all given keys with a single batched read, which is cheaper than calling
+   * {@link #get(DbKey)} for each key. Uncommitted writes of the current transaction are visible, as
+   * with {@link #get(DbKey)}.
+   *
+   * <p>The given visitor is called for each key which exists in the column family, in the order of
+   * the given keys, until it returns false. Be aware that the given DbValue wraps the stored value
+   * and changes with each call, so it should not be stored.
+   *
+   * @param keys the keys to look up; each key must be a separate instance
+   * @param visitor the visitor which visits each found key and its value
+   */
+  void multiGet(Collection<KeyType> keys, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -167,7 +199,10 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
 
   /**
    * Count the number of entries in the column family by iterating over all its entries. This is an
-   * expensive operation and should be used with care.
+   * expensive operation and should be used with care, unless the column family is counted (see
+   * {@link io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration#setCountedColumnFamilies}), in
+   * which case the number of entries is maintained on every insert and delete, and read in constant
+   * time.
    *
    * @return the number of entries in the column family
    */
@@ -175,7 +210,9 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
 
   /**
    * Count the number of entries in the column family which have the same common prefix by iterating
-   * over all its entries. This is an expensive operation and should be used with care.
+   * over all its entries. This is an expensive operation and should be used with care, unless the
+   * column family counts its entries per prefix of the same length as the given prefix, in which
+   * case it is read in constant time.
    *
    * @param prefix the prefix which should have the keys in common
    * @return the number of entries in the column family which have the same common prefix
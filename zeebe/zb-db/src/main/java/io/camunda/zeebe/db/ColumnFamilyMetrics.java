@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   Timer measureDeleteLatency();
 
   Timer measureIterateLatency();
+
+  /** Counts a read which was served by the read cache, without accessing the database. */
+  void countReadCacheHit();
+
+  /** Counts a read of a cached column family which was not served by the read cache. */
+  void countReadCacheMiss();
 }
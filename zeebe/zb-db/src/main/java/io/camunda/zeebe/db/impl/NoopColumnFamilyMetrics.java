@@ -31,4 +31,10 @@ public class NoopColumnFamilyMetrics implements ColumnFamilyMetrics {
   public Timer measureIterateLatency() {
     return null;
   }
+
+  @Override
+  public void countReadCacheHit() {}
+
+  @Override
+  public void countReadCacheMiss() {}
 }
@@ -11,9 +11,14 @@ import io.camunda.zeebe.snapshots.CRC32CChecksumProvider;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.LiveFileMetaData;
+import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -21,10 +26,25 @@ public class ChecksumProviderRocksDBImpl implements CRC32CChecksumProvider {
 
   @Override
   public Map<String, Long> getSnapshotChecksums(final Path snapshotPath) {
-    try (final var db = RocksDB.openReadOnly(snapshotPath.toString())) {
-      return db.getLiveFilesMetaData().stream()
-          .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
-          .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+    final var path = snapshotPath.toString();
+    final var cfHandles = new ArrayList<ColumnFamilyHandle>();
+    // all column families must be opened, otherwise the files of the native column families are
+    // not part of the live files
+    try (final var options = new Options();
+        final var cfOptions = new ColumnFamilyOptions()) {
+      final var cfDescriptors =
+          RocksDB.listColumnFamilies(options, path).stream()
+              .map(name -> new ColumnFamilyDescriptor(name, cfOptions))
+              .toList();
+      try (final var db = RocksDB.openReadOnly(path, cfDescriptors, cfHandles)) {
+        try {
+          return db.getLiveFilesMetaData().stream()
+              .filter(fileMetaData -> fileMetaData.fileChecksum().length != 0)
+              .collect(Collectors.toMap(this::getMetadataName, this::rocksDBChecksumAsLong));
+        } finally {
+          cfHandles.forEach(ColumnFamilyHandle::close);
+        }
+      }
     } catch (final RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.Locale;
+import java.util.Objects;
+import org.rocksdb.CompactionStyle;
+
+/**
+ * Tuning of a single logical column family, applied when it is mapped to its own native RocksDB
+ * column family (see {@link RocksDbConfiguration#isNativeColumnFamiliesEnabled()}).
+ *
+ * <p>Data is never expired: TTL based compaction is not used, and FIFO compaction is not allowed as
+ * it drops the oldest files once a size limit is reached.
+ *
+ * @param blockCacheShare the share of the block cache memory reserved for this column family,
+ *     between 0 and 1; if 0, the column family uses the block cache shared by all others
+ * @param bloomFilterBitsPerKey the bits per key of the bloom filter; 0 disables the filter
+ * @param compactionStyle the compaction style, either level or universal compaction
+ */
+public record ColumnFamilyTuning(
+    double blockCacheShare, int bloomFilterBitsPerKey, CompactionStyle compactionStyle) {
+
+  public static final double DEFAULT_BLOCK_CACHE_SHARE = 0;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+
+  public ColumnFamilyTuning {
+    Objects.requireNonNull(compactionStyle, "must specify a compaction style");
+    if (blockCacheShare < 0 || blockCacheShare > 1) {
+      throw new IllegalArgumentException(
+          "Expected block cache share to be between 0 and 1, but was %s"
+              .formatted(blockCacheShare));
+    }
+    if (bloomFilterBitsPerKey < 0) {
+      throw new IllegalArgumentException(
+          "Expected bloom filter bits per key to be positive or 0, but was %d"
+              .formatted(bloomFilterBitsPerKey));
+    }
+    if (compactionStyle != CompactionStyle.LEVEL && compactionStyle != CompactionStyle.UNIVERSAL) {
+      throw new IllegalArgumentException(
+          "Expected compaction style to be LEVEL or UNIVERSAL, but was %s"
+              .formatted(compactionStyle));
+    }
+  }
+
+  /**
+   * @param compactionStyle the name of the compaction style, case-insensitive; e.g. "level"
+   */
+  public static ColumnFamilyTuning of(
+      final double blockCacheShare, final int bloomFilterBitsPerKey, final String compactionStyle) {
+    Objects.requireNonNull(compactionStyle, "must specify a compaction style");
+    return new ColumnFamilyTuning(
+        blockCacheShare,
+        bloomFilterBitsPerKey,
+        CompactionStyle.valueOf(compactionStyle.trim().toUpperCase(Locale.ROOT)));
+  }
+
+  public static ColumnFamilyTuning defaults() {
+    return new ColumnFamilyTuning(
+        DEFAULT_BLOCK_CACHE_SHARE, DEFAULT_BLOOM_FILTER_BITS_PER_KEY, DEFAULT_COMPACTION_STYLE);
+  }
+}
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +45,19 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * By default, all logical column families are stored in the default RocksDB column family, and
+   * are distinguished by a key prefix. When enabled, each logical column family is stored in its
+   * own native column family, such that it has its own memtables, SST files, compaction and
+   * filters, which can be tuned separately via {@link #setColumnFamilyTunings(Map)}.
+   *
+   * <p>Keys keep their prefix in both layouts, and an existing database is migrated to the
+   * configured layout when it is opened.
+   */
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
+
+  public static final long DEFAULT_READ_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +66,26 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+
+  /** Tunings of native column families, by the value of their logical column family. */
+  private Map<Integer, ColumnFamilyTuning> columnFamilyTunings = Map.of();
+
+  /**
+   * Column families whose keys are counted on every insert and delete, by the value of their
+   * logical column family. The value is the length of the key prefix (excluding the column family)
+   * for which keys are additionally counted per distinct prefix, or 0.
+   */
+  private Map<Integer, Integer> countedColumnFamilies = Map.of();
+
+  /**
+   * The maximum size in bytes of the cache of committed values of the read cached column families;
+   * the cache is disabled if the size is 0 or no column family is cached.
+   */
+  private long readCacheSize = DEFAULT_READ_CACHE_SIZE;
+
+  /** Column families whose values are cached, by the value of their logical column family. */
+  private Set<Integer> readCachedColumnFamilies = Set.of();
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +190,106 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<Integer, ColumnFamilyTuning> getColumnFamilyTunings() {
+    return columnFamilyTunings;
+  }
+
+  public RocksDbConfiguration setColumnFamilyTunings(
+      final Map<Integer, ColumnFamilyTuning> columnFamilyTunings) {
+    final var totalBlockCacheShare =
+        columnFamilyTunings.values().stream()
+            .mapToDouble(ColumnFamilyTuning::blockCacheShare)
+            .sum();
+    if (totalBlockCacheShare >= 1) {
+      throw new IllegalArgumentException(
+          "Expected the block cache shares of all column families to be less than 1, but was %s"
+              .formatted(totalBlockCacheShare));
+    }
+
+    this.columnFamilyTunings = Map.copyOf(columnFamilyTunings);
+    return this;
+  }
+
+  public Map<Integer, Integer> getCountedColumnFamilies() {
+    return countedColumnFamilies;
+  }
+
+  /**
+   * Maintains the number of keys of the given column families transactionally, such that {@link
+   * io.camunda.zeebe.db.ColumnFamily#count()} does not have to iterate over them. Counting also the
+   * keys per distinct key prefix of a fixed length makes {@link
+   * io.camunda.zeebe.db.ColumnFamily#countEqualPrefix(io.camunda.zeebe.db.DbKey)} constant-time for
+   * prefixes of exactly that length.
+   *
+   * <p>Counting costs an additional read and write per counter on every insert and delete.
+   *
+   * @param countedColumnFamilies the length of the counted key prefixes (or 0 to count only all
+   *     keys) by the value of the counted logical column families
+   */
+  public RocksDbConfiguration setCountedColumnFamilies(
+      final Map<Integer, Integer> countedColumnFamilies) {
+    countedColumnFamilies.forEach(
+        (columnFamily, prefixLength) -> {
+          if (prefixLength < 0) {
+            throw new IllegalArgumentException(
+                "Expected counted prefix length of column family %d to be positive or 0, but was %d"
+                    .formatted(columnFamily, prefixLength));
+          }
+        });
+
+    this.countedColumnFamilies = Map.copyOf(countedColumnFamilies);
+    return this;
+  }
+
+  public long getReadCacheSize() {
+    return readCacheSize;
+  }
+
+  /**
+   * Caches the committed values of the {@link #setReadCachedColumnFamilies(Set) read cached column
+   * families} in memory, up to the given total size of keys and values, such that repeated reads of
+   * the same keys do not have to access RocksDB. This memory is not part of the {@link
+   * #setMemoryLimit(long) memory limit} of RocksDB.
+   *
+   * @param readCacheSize the maximum size of the cache in bytes, or 0 to disable the cache
+   */
+  public RocksDbConfiguration setReadCacheSize(final long readCacheSize) {
+    if (readCacheSize < 0) {
+      throw new IllegalArgumentException(
+          "Expected read cache size to be positive or 0, but was %d".formatted(readCacheSize));
+    }
+
+    this.readCacheSize = readCacheSize;
+    return this;
+  }
+
+  public Set<Integer> getReadCachedColumnFamilies() {
+    return readCachedColumnFamilies;
+  }
+
+  /**
+   * @param readCachedColumnFamilies the values of the logical column families whose values are
+   *     cached, if the {@link #setReadCacheSize(long) read cache} is enabled
+   */
+  public RocksDbConfiguration setReadCachedColumnFamilies(
+      final Set<Integer> readCachedColumnFamilies) {
+    this.readCachedColumnFamilies = Set.copyOf(readCachedColumnFamilies);
+    return this;
+  }
+
+  /** Returns true if the read cache is enabled for at least one column family. */
+  public boolean isReadCacheEnabled() {
+    return readCacheSize > 0 && !readCachedColumnFamilies.isEmpty();
+  }
 }
@@ -13,13 +13,17 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -81,12 +85,32 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
         managedResources);
   }
 
+  /**
+   * Opens the database at the given path read-only, including all of its column families. If only
+   * the default column family was opened, a checkpoint would not contain the files of the native
+   * column families, see {@link RocksDbConfiguration#isNativeColumnFamiliesEnabled()}.
+   */
   static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
       ZeebeDb<ColumnFamilyType> openDb(
-          final Options options, final String path, final List<AutoCloseable> managedResources)
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final List<byte[]> columnFamilies;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      columnFamilies = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    for (final var columnFamily : columnFamilies) {
+      cfDescriptors.add(new ColumnFamilyDescriptor(columnFamily, options.cfOptions()));
+    }
+
+    final var cfHandles = new ArrayList<ColumnFamilyHandle>();
+    final RocksDB db = RocksDB.openReadOnly(options.dbOptions(), path, cfDescriptors, cfHandles);
     managedResources.add(db);
+    // resources are closed in reverse order, so the handles are closed before the database
+    managedResources.addAll(cfHandles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
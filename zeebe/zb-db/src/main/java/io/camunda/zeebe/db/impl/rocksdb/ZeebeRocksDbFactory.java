@@ -18,12 +18,15 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -32,7 +35,6 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -40,6 +42,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -83,17 +86,15 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -102,15 +103,22 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    // the block cache is shared by all column families which are not tuned separately; it is
+    // null if the user provided their own column family options
+    final var sharedBlockCache =
+        hasUserColumnFamilyOptions() ? null : createSharedBlockCache(managedResources);
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, sharedBlockCache);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var tunedColumnFamilyOptions =
+        createTunedColumnFamilyOptions(managedResources, sharedBlockCache);
+    final var dbOptions = createDefaultDbOptions(managedResources, sharedBlockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, tunedColumnFamilyOptions);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final Cache sharedBlockCache) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -123,7 +131,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // native column families are created explicitly when needed
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -143,6 +151,22 @@ public final class ZeebeRocksDbFactory<
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      // with multiple column families, the memtables of all of them have to be flushed together to
+      // keep checkpoints consistent across column families when the WAL is disabled
+      dbOptions.setAtomicFlush(true);
+
+      // every column family has its own memtables; limit their total memory to the same budget as
+      // with a single column family, by charging it to the shared block cache which is sized
+      // accordingly
+      if (sharedBlockCache != null) {
+        final var writeBufferManager =
+            new WriteBufferManager(getTotalMemtableMemory(), sharedBlockCache);
+        closeables.add(writeBufferManager);
+        dbOptions.setWriteBufferManager(writeBufferManager);
+      }
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -162,14 +186,61 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
-    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
-    final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
+    return createColumnFamilyOptions(
+        closeables, hasUserColumnFamilyOptions() ? null : createSharedBlockCache(closeables));
+  }
 
-    if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache sharedBlockCache) {
+    if (hasUserColumnFamilyOptions()) {
+      return createFromUserOptions(rocksDbConfiguration.getColumnFamilyOptions());
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    final var defaults = ColumnFamilyTuning.defaults();
+    return createDefaultColumnFamilyOptions(
+        closeables, sharedBlockCache, defaults.bloomFilterBitsPerKey(), defaults.compactionStyle());
+  }
+
+  /**
+   * Creates the options of all separately tuned native column families. Tunings are ignored if
+   * native column families are disabled, or if the user provided their own column family options,
+   * which then apply to all column families.
+   *
+   * @return the options by the value of the logical column family
+   */
+  Map<Integer, ColumnFamilyOptions> createTunedColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache sharedBlockCache) {
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled() || hasUserColumnFamilyOptions()) {
+      return Map.of();
+    }
+
+    final var tunedOptions = new HashMap<Integer, ColumnFamilyOptions>();
+    rocksDbConfiguration
+        .getColumnFamilyTunings()
+        .forEach(
+            (columnFamily, tuning) -> {
+              final Cache blockCache;
+              if (tuning.blockCacheShare() > 0) {
+                blockCache =
+                    createBlockCache(
+                        closeables, Math.round(getBlockCacheMemory() * tuning.blockCacheShare()));
+              } else {
+                blockCache = sharedBlockCache;
+              }
+              final var options =
+                  createDefaultColumnFamilyOptions(
+                      closeables,
+                      blockCache,
+                      tuning.bloomFilterBitsPerKey(),
+                      tuning.compactionStyle());
+              closeables.add(options);
+              tunedOptions.put(columnFamily, options);
+            });
+    return tunedOptions;
+  }
+
+  private boolean hasUserColumnFamilyOptions() {
+    return !rocksDbConfiguration.getColumnFamilyOptions().isEmpty();
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,13 +260,14 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables,
+      final Cache blockCache,
+      final int bloomFilterBitsPerKey,
+      final CompactionStyle compactionStyle) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -213,7 +285,7 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig = createTableFormatConfig(closeables, blockCache, bloomFilterBitsPerKey);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
@@ -235,7 +307,7 @@ public final class ZeebeRocksDbFactory<
         // compaction
         .setLevelCompactionDynamicLevelBytes(true)
         .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst)
-        .setCompactionStyle(CompactionStyle.LEVEL)
+        .setCompactionStyle(compactionStyle)
         // L-0 means immediately flushed memtables
         .setLevel0FileNumCompactionTrigger(maxConcurrentMemtableCount)
         .setLevel0SlowdownWritesTrigger(
@@ -269,41 +341,82 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  /**
+   * @return the memory of the block cache used by all column families together
+   */
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private long getTotalMemtableMemory() {
+    return rocksDbConfiguration.getMemoryLimit() - getBlockCacheMemory();
+  }
+
+  /**
+   * Creates the block cache shared by all column families which do not reserve their own share of
+   * the block cache. If native column families are enabled, the memtable memory is charged to it as
+   * well, see {@link #createDefaultDbOptions(List, Cache)}.
+   */
+  private Cache createSharedBlockCache(final List<AutoCloseable> closeables) {
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      return createBlockCache(closeables, getBlockCacheMemory());
+    }
+
+    final var reservedShare =
+        rocksDbConfiguration.getColumnFamilyTunings().values().stream()
+            .mapToDouble(ColumnFamilyTuning::blockCacheShare)
+            .sum();
+    final var sharedBlockCacheMemory = Math.round(getBlockCacheMemory() * (1 - reservedShare));
+    return createBlockCache(closeables, sharedBlockCacheMemory + getTotalMemtableMemory());
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables, final long capacity) {
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
+
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables,
+      final Cache blockCache,
+      final int bloomFilterBitsPerKey) {
+    final var tableConfig =
+        new BlockBasedTableConfig()
+            .setBlockCache(blockCache)
+            // increasing block size means reducing memory usage, but increasing read iops
+            .setBlockSize(32 * 1024L)
+            // full and partitioned filters use a more efficient bloom filter implementation when
+            // using format 5
+            .setFormatVersion(5)
+            // caching and pinning indexes and filters is important to keep reads/seeks fast when we
+            // have many memtables, and pinning them ensures they are never evicted from the block
+            // cache
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinL0FilterAndIndexBlocksInCache(true)
+            .setCacheIndexAndFilterBlocksWithHighPriority(true)
+            // default is binary search, but all of our scans are prefix based which is a good use
+            // case for efficient hashing
+            .setIndexType(IndexType.kHashSearch)
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+            // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
+            // start with the middle and optimize later from there
+            .setDataBlockHashTableUtilRatio(0.75)
+            // while we mostly care about the prefixes, these are covered below by the
+            // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes, so
+            // keeping the whole keys in the prefixes is still useful for efficient gets. think of
+            // it as a two-tiered index
+            .setWholeKeyFiltering(true);
+
+    if (bloomFilterBitsPerKey > 0) {
+      final var filter = new BloomFilter(bloomFilterBitsPerKey, false);
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter);
+    }
 
-    final var filter = new BloomFilter(10, false);
-    closeables.add(filter);
-
-    return new BlockBasedTableConfig()
-        .setBlockCache(cache)
-        // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
-        // full and partitioned filters use a more efficient bloom filter implementation when
-        // using format 5
-        .setFormatVersion(5)
-        .setFilterPolicy(filter)
-        // caching and pinning indexes and filters is important to keep reads/seeks fast when we
-        // have many memtables, and pinning them ensures they are never evicted from the block
-        // cache
-        .setCacheIndexAndFilterBlocks(true)
-        .setPinL0FilterAndIndexBlocksInCache(true)
-        .setCacheIndexAndFilterBlocksWithHighPriority(true)
-        // default is binary search, but all of our scans are prefix based which is a good use
-        // case for efficient hashing
-        .setIndexType(IndexType.kHashSearch)
-        .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
-        // RocksDB dev benchmarks show improvements when this is between 0.5 and 1, so let's
-        // start with the middle and optimize later from there
-        .setDataBlockHashTableUtilRatio(0.75)
-        // while we mostly care about the prefixes, these are covered below by the
-        // setMemtablePrefixBloomSizeRatio which will create a separate index for prefixes, so
-        // keeping the whole keys in the prefixes is still useful for efficient gets. think of
-        // it as a two-tiered index
-        .setWholeKeyFiltering(true);
+    return tableConfig;
   }
 }
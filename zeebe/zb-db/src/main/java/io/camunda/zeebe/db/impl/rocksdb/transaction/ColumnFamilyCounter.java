@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCounters.COUNT_OFFSET;
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCounters.PREFIX_COUNT_LENGTH;
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCounters.PREFIX_LENGTH_OFFSET;
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCounters.TOTAL_COUNTER_KEY_LENGTH;
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCounters.TOTAL_COUNT_LENGTH;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Maintains the number of keys of a single logical column family within a {@link ZeebeTransaction},
+ * and optionally the number of keys per distinct key prefix of a fixed length. The counters are
+ * regular keys of the database (see {@link ColumnFamilyCounters} for the layout), so they are
+ * written, committed and rolled back together with the keys they count, and are part of every
+ * snapshot.
+ *
+ * <p>The caller must only report keys which were actually added or removed, i.e. it must check
+ * whether a key exists before inserting or deleting it.
+ */
+final class ColumnFamilyCounter {
+
+  private final long countersHandle;
+  private final long readOptionsHandle;
+  private final int prefixLength;
+
+  private final ExpandableArrayBuffer counterKey = new ExpandableArrayBuffer();
+  private final UnsafeBuffer counterValue = new UnsafeBuffer(new byte[TOTAL_COUNT_LENGTH]);
+  private final UnsafeBuffer counterValueView = new UnsafeBuffer(0, 0);
+
+  /**
+   * @param columnFamily the value of the logical column family
+   * @param prefixLength the length of the key prefix (excluding the column family prefix) for which
+   *     keys are counted separately, or 0 if only the total number of keys is counted
+   * @param countersHandle the native handle of the column family which stores the counters
+   * @param readOptionsHandle the native handle of the read options used to read the counters
+   */
+  ColumnFamilyCounter(
+      final long columnFamily,
+      final int prefixLength,
+      final long countersHandle,
+      final long readOptionsHandle) {
+    this.prefixLength = prefixLength;
+    this.countersHandle = countersHandle;
+    this.readOptionsHandle = readOptionsHandle;
+    ColumnFamilyCounters.writeCounterKey(counterKey, columnFamily);
+  }
+
+  /** Counts the given key, which did not exist before; the key includes the column family. */
+  void onAdded(final ZeebeTransaction transaction, final byte[] key, final int keyLength)
+      throws Exception {
+    adjust(transaction, key, keyLength, 1);
+  }
+
+  /** Stops counting the given key, which existed before; the key includes the column family. */
+  void onRemoved(final ZeebeTransaction transaction, final byte[] key, final int keyLength)
+      throws Exception {
+    adjust(transaction, key, keyLength, -1);
+  }
+
+  /** Returns the number of keys of the column family. */
+  long count(final ZeebeTransaction transaction) throws Exception {
+    return readCount(transaction, TOTAL_COUNTER_KEY_LENGTH);
+  }
+
+  /**
+   * @param prefixKeyLength the length of a key prefix, including the column family
+   * @return true if keys with a prefix of this length are counted, see {@link #countPrefix}
+   */
+  boolean isCountingPrefix(final int prefixKeyLength) {
+    return prefixLength > 0 && prefixKeyLength == Long.BYTES + prefixLength;
+  }
+
+  /**
+   * Returns the number of keys which start with the given prefix. Must only be called if {@link
+   * #isCountingPrefix(int)} is true for the prefix.
+   *
+   * @param prefixKey the key prefix, including the column family
+   * @param prefixKeyLength the length of the key prefix
+   */
+  long countPrefix(
+      final ZeebeTransaction transaction, final byte[] prefixKey, final int prefixKeyLength)
+      throws Exception {
+    return readCount(transaction, writePrefixCounterKey(prefixKey, prefixKeyLength));
+  }
+
+  private void adjust(
+      final ZeebeTransaction transaction, final byte[] key, final int keyLength, final int delta)
+      throws Exception {
+    final var total = readCount(transaction, TOTAL_COUNTER_KEY_LENGTH) + delta;
+    counterValue.putLong(COUNT_OFFSET, total, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    counterValue.putInt(PREFIX_LENGTH_OFFSET, prefixLength, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    transaction.put(
+        countersHandle,
+        counterKey.byteArray(),
+        TOTAL_COUNTER_KEY_LENGTH,
+        counterValue.byteArray(),
+        TOTAL_COUNT_LENGTH);
+
+    if (prefixLength == 0) {
+      return;
+    }
+
+    final var prefixKeyLength = Math.min(keyLength, Long.BYTES + prefixLength);
+    final var counterKeyLength = writePrefixCounterKey(key, prefixKeyLength);
+    final var prefixCount = readCount(transaction, counterKeyLength) + delta;
+    if (prefixCount > 0) {
+      counterValue.putLong(COUNT_OFFSET, prefixCount, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+      transaction.put(
+          countersHandle,
+          counterKey.byteArray(),
+          counterKeyLength,
+          counterValue.byteArray(),
+          PREFIX_COUNT_LENGTH);
+    } else {
+      // prefix counters are removed once empty, as there can be arbitrarily many prefixes
+      transaction.delete(countersHandle, counterKey.byteArray(), counterKeyLength);
+    }
+  }
+
+  private int writePrefixCounterKey(final byte[] prefixKey, final int prefixKeyLength) {
+    // the prefix key starts with the column family, which is already part of the counter key
+    final var prefixOnlyLength = prefixKeyLength - Long.BYTES;
+    counterKey.putBytes(TOTAL_COUNTER_KEY_LENGTH, prefixKey, Long.BYTES, prefixOnlyLength);
+    return TOTAL_COUNTER_KEY_LENGTH + prefixOnlyLength;
+  }
+
+  private long readCount(final ZeebeTransaction transaction, final int counterKeyLength)
+      throws Exception {
+    final var value =
+        transaction.get(
+            countersHandle, readOptionsHandle, counterKey.byteArray(), counterKeyLength);
+    if (value == null) {
+      return 0;
+    }
+
+    counterValueView.wrap(value);
+    return counterValueView.getLong(COUNT_OFFSET, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Persists the counters of {@link ColumnFamilyCounter}, and initializes them when the database is
+ * opened.
+ *
+ * <p>Counters are stored in the default column family, under the reserved column family prefix
+ * {@link #COUNTERS_PREFIX} which sorts after all logical column families:
+ *
+ * <pre>
+ * total key:    | COUNTERS_PREFIX (long) | column family (long) |
+ * total value:  | count (long) | prefix length (int) |
+ * prefix key:   | COUNTERS_PREFIX (long) | column family (long) | key prefix bytes |
+ * prefix value: | count (long) |
+ * </pre>
+ *
+ * <p>The total counter of a column family always exists once the column family is counted, and
+ * records the length of the counted key prefixes. Counters of column families which are no longer
+ * counted, or whose prefix length changed, are removed when the database is opened; counters of
+ * newly counted column families are then initialized by iterating over the column family once.
+ */
+final class ColumnFamilyCounters {
+
+  static final long COUNTERS_PREFIX = -1L;
+  static final int TOTAL_COUNTER_KEY_LENGTH = 2 * Long.BYTES;
+  static final int COUNT_OFFSET = 0;
+  static final int PREFIX_LENGTH_OFFSET = Long.BYTES;
+  static final int TOTAL_COUNT_LENGTH = Long.BYTES + Integer.BYTES;
+  static final int PREFIX_COUNT_LENGTH = Long.BYTES;
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle countersHandle;
+
+  ColumnFamilyCounters(final RocksDB db, final ColumnFamilyHandle countersHandle) {
+    this.db = db;
+    this.countersHandle = countersHandle;
+  }
+
+  /**
+   * Removes stale counters and initializes the counters of newly counted column families.
+   *
+   * @param countedColumnFamilies the length of the counted key prefixes (or 0) by the value of the
+   *     counted logical column families
+   * @param handles resolves the column family which stores a logical column family
+   */
+  void initialize(
+      final Map<Integer, Integer> countedColumnFamilies,
+      final IntFunction<ColumnFamilyHandle> handles)
+      throws RocksDBException {
+    final var existingCounters = readExistingCounters();
+    for (final var existing : existingCounters.entrySet()) {
+      final var columnFamily = existing.getKey();
+      if (!existing.getValue().equals(countedColumnFamilies.get(columnFamily))) {
+        removeCounters(columnFamily);
+      }
+    }
+
+    for (final var counted : countedColumnFamilies.entrySet()) {
+      final var columnFamily = counted.getKey();
+      if (!counted.getValue().equals(existingCounters.get(columnFamily))) {
+        initializeCounters(columnFamily, counted.getValue(), handles.apply(columnFamily));
+      }
+    }
+  }
+
+  /** Returns the prefix lengths of all counted column families, by their value. */
+  private Map<Integer, Integer> readExistingCounters() {
+    final var counters = new HashMap<Integer, Integer>();
+    final var seekKey = new UnsafeBuffer(new byte[Long.BYTES]);
+    seekKey.putLong(0, COUNTERS_PREFIX, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = db.newIterator(countersHandle, readOptions)) {
+      for (iterator.seek(seekKey.byteArray()); iterator.isValid(); iterator.next()) {
+        final var key = new UnsafeBuffer(iterator.key());
+        if (key.capacity() < Long.BYTES
+            || key.getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER) != COUNTERS_PREFIX) {
+          break;
+        }
+
+        if (key.capacity() == TOTAL_COUNTER_KEY_LENGTH) {
+          final var columnFamily = (int) key.getLong(Long.BYTES, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+          final var value = new UnsafeBuffer(iterator.value());
+          counters.put(
+              columnFamily, value.getInt(PREFIX_LENGTH_OFFSET, ZeebeDbConstants.ZB_DB_BYTE_ORDER));
+        }
+      }
+    }
+
+    return counters;
+  }
+
+  private void removeCounters(final int columnFamily) throws RocksDBException {
+    final var from = new UnsafeBuffer(new byte[TOTAL_COUNTER_KEY_LENGTH]);
+    final var to = new UnsafeBuffer(new byte[TOTAL_COUNTER_KEY_LENGTH]);
+    writeCounterKey(from, columnFamily);
+    writeCounterKey(to, columnFamily + 1L);
+    db.deleteRange(countersHandle, from.byteArray(), to.byteArray());
+    LOG.debug("Removed stale counters of column family {}", columnFamily);
+  }
+
+  private void initializeCounters(
+      final int columnFamily, final int prefixLength, final ColumnFamilyHandle handle)
+      throws RocksDBException {
+    final var columnFamilyPrefix = new byte[Long.BYTES];
+    new UnsafeBuffer(columnFamilyPrefix)
+        .putLong(0, columnFamily, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    long total = 0;
+    final var prefixCounts = new HashMap<ByteBuffer, Long>();
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var iterator = db.newIterator(handle, readOptions)) {
+      for (iterator.seek(columnFamilyPrefix); iterator.isValid(); iterator.next()) {
+        final var key = iterator.key();
+        if (!BufferUtil.startsWith(columnFamilyPrefix, 0, Long.BYTES, key, 0, key.length)) {
+          break;
+        }
+
+        total++;
+        if (prefixLength > 0) {
+          final var prefix =
+              Arrays.copyOfRange(key, Long.BYTES, Math.min(key.length, Long.BYTES + prefixLength));
+          prefixCounts.merge(ByteBuffer.wrap(prefix), 1L, Long::sum);
+        }
+      }
+      iterator.status();
+    }
+
+    writeCounters(columnFamily, prefixLength, total, prefixCounts);
+    LOG.info(
+        "Initialized counters of column family {} with {} keys and {} distinct key prefixes",
+        columnFamily,
+        total,
+        prefixCounts.size());
+  }
+
+  private void writeCounters(
+      final int columnFamily,
+      final int prefixLength,
+      final long total,
+      final Map<ByteBuffer, Long> prefixCounts)
+      throws RocksDBException {
+    final var counterKey = new UnsafeBuffer(new byte[TOTAL_COUNTER_KEY_LENGTH + prefixLength]);
+    writeCounterKey(counterKey, columnFamily);
+    final var counterValue = new UnsafeBuffer(new byte[TOTAL_COUNT_LENGTH]);
+
+    try (final var writeOptions = new WriteOptions();
+        final var batch = new WriteBatch()) {
+      for (final var prefixCount : prefixCounts.entrySet()) {
+        final var prefix = prefixCount.getKey();
+        counterKey.putBytes(TOTAL_COUNTER_KEY_LENGTH, prefix, 0, prefix.capacity());
+        counterValue.putLong(
+            COUNT_OFFSET, prefixCount.getValue(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+        batch.put(
+            countersHandle,
+            Arrays.copyOf(counterKey.byteArray(), TOTAL_COUNTER_KEY_LENGTH + prefix.capacity()),
+            Arrays.copyOf(counterValue.byteArray(), PREFIX_COUNT_LENGTH));
+
+        if (batch.count() >= BATCH_SIZE) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+
+      // the total counter is written last, as it marks the counters as initialized
+      counterValue.putLong(COUNT_OFFSET, total, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+      counterValue.putInt(PREFIX_LENGTH_OFFSET, prefixLength, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+      batch.put(
+          countersHandle,
+          Arrays.copyOf(counterKey.byteArray(), TOTAL_COUNTER_KEY_LENGTH),
+          counterValue.byteArray());
+      db.write(writeOptions, batch);
+    }
+  }
+
+  /** Writes the key of the total counter of the given column family to the buffer. */
+  static void writeCounterKey(final MutableDirectBuffer buffer, final long columnFamily) {
+    buffer.putLong(0, COUNTERS_PREFIX, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    buffer.putLong(Long.BYTES, columnFamily, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+
+  /** Returns true if the given key is a counter key, rather than a key of a column family. */
+  static boolean isCounterKey(final byte[] key) {
+    return key.length >= Long.BYTES
+        && new UnsafeBuffer(key).getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER) == COUNTERS_PREFIX;
+  }
+}
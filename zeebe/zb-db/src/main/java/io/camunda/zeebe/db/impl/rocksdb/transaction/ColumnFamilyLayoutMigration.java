@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Migrates the data of a database between the prefixed layout, where all logical column families
+ * are stored in the default RocksDB column family, and the native layout, where each logical column
+ * family is stored in its own native column family. Keys are prefixed with their logical column
+ * family in both layouts, so migrating only moves keys between column families.
+ *
+ * <p>The migration runs when the database is opened (e.g. when recovering from a snapshot), before
+ * any transaction is started. Keys are moved in batches, each of which is written atomically, so an
+ * interrupted migration is simply resumed the next time the database is opened.
+ */
+final class ColumnFamilyLayoutMigration {
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int BATCH_SIZE = 10_000;
+
+  private final RocksDB db;
+  private final ColumnFamilyHandle defaultHandle;
+
+  ColumnFamilyLayoutMigration(final RocksDB db, final ColumnFamilyHandle defaultHandle) {
+    this.db = db;
+    this.defaultHandle = defaultHandle;
+  }
+
+  /**
+   * Moves all keys of the default column family into the native column family of their logical
+   * column family.
+   *
+   * @param nativeHandles resolves (and creates, if necessary) the native column family of a logical
+   *     column family
+   */
+  void migrateToNativeColumnFamilies(final IntFunction<ColumnFamilyHandle> nativeHandles)
+      throws RocksDBException {
+    long migratedKeys = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions();
+        final var iterator = db.newIterator(defaultHandle, readOptions)) {
+      int currentColumnFamily = -1;
+      ColumnFamilyHandle currentHandle = null;
+
+      iterator.seekToFirst();
+      while (iterator.isValid()) {
+        try (final var batch = new WriteBatch()) {
+          while (iterator.isValid() && batch.count() < BATCH_SIZE) {
+            final var key = iterator.key();
+            if (ColumnFamilyCounters.isCounterKey(key)) {
+              // counters are always stored in the default column family
+              iterator.next();
+              continue;
+            }
+
+            final var columnFamily = readColumnFamily(key);
+            if (columnFamily != currentColumnFamily) {
+              currentColumnFamily = columnFamily;
+              currentHandle = nativeHandles.apply(columnFamily);
+            }
+
+            batch.put(currentHandle, key, iterator.value());
+            batch.delete(defaultHandle, key);
+            migratedKeys++;
+            iterator.next();
+          }
+          iterator.status();
+          db.write(writeOptions, batch);
+        }
+      }
+    }
+
+    if (migratedKeys > 0) {
+      flush(List.of(defaultHandle));
+      db.compactRange(defaultHandle);
+      LOG.info(
+          "Migrated {} keys from the default column family to native column families",
+          migratedKeys);
+    }
+  }
+
+  /**
+   * Moves all keys of the given native column families into the default column family, and drops
+   * the native column families afterwards.
+   */
+  void migrateToDefaultColumnFamily(final Collection<ColumnFamilyHandle> nativeHandles)
+      throws RocksDBException {
+    if (nativeHandles.isEmpty()) {
+      return;
+    }
+
+    long migratedKeys = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions()) {
+      for (final var handle : nativeHandles) {
+        try (final var iterator = db.newIterator(handle, readOptions)) {
+          migratedKeys += copyToDefaultColumnFamily(iterator, writeOptions);
+        }
+      }
+    }
+
+    // the native column families are dropped only once the copied keys are durable
+    flush(List.of(defaultHandle));
+    for (final var handle : nativeHandles) {
+      db.dropColumnFamily(handle);
+    }
+    LOG.info(
+        "Migrated {} keys from {} native column families to the default column family",
+        migratedKeys,
+        nativeHandles.size());
+  }
+
+  private long copyToDefaultColumnFamily(
+      final RocksIterator iterator, final WriteOptions writeOptions) throws RocksDBException {
+    long copiedKeys = 0;
+    iterator.seekToFirst();
+    while (iterator.isValid()) {
+      try (final var batch = new WriteBatch()) {
+        while (iterator.isValid() && batch.count() < BATCH_SIZE) {
+          batch.put(defaultHandle, iterator.key(), iterator.value());
+          copiedKeys++;
+          iterator.next();
+        }
+        iterator.status();
+        db.write(writeOptions, batch);
+      }
+    }
+    return copiedKeys;
+  }
+
+  private void flush(final List<ColumnFamilyHandle> handles) throws RocksDBException {
+    try (final var flushOptions = new FlushOptions().setWaitForFlush(true)) {
+      db.flush(flushOptions, handles);
+    }
+  }
+
+  private static int readColumnFamily(final byte[] key) {
+    if (key.length < Long.BYTES) {
+      throw new IllegalStateException(
+          "Expected key to be prefixed with its column family, but it has only %d bytes"
+              .formatted(key.length));
+    }
+
+    return (int) new UnsafeBuffer(key).getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+}
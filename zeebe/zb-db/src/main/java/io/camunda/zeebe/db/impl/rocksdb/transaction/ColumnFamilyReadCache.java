@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A size-bounded cache of the committed values of selected logical column families, shared by all
+ * transactions of a database. Entries are keyed by the full key, including the column family
+ * prefix, and evicted in least recently used order once the total size of all keys and values
+ * exceeds the capacity.
+ *
+ * <p>The cache only ever contains committed values: writes of a transaction are kept by the
+ * transaction itself (see {@link ZeebeTransaction#getPendingCacheWrite(DirectBuffer)}) and are only
+ * applied to the cache once the transaction is committed, such that rolling back a transaction does
+ * not have to touch the cache at all.
+ *
+ * <p>Values read from the database may only be added if no transaction was committed in the
+ * meantime, see {@link #generation()}, as the value could otherwise be outdated already.
+ *
+ * <p>Cached values must never be modified, as they are handed out without copying.
+ */
+final class ColumnFamilyReadCache {
+
+  /** Marks a key which was deleted by a transaction. */
+  static final byte[] DELETED = new byte[0];
+
+  // rough per-entry overhead of the map entry, the key buffer and the arrays
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long capacity;
+  private final Set<Integer> columnFamilies;
+  private final LinkedHashMap<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private long generation;
+
+  /**
+   * @param capacity the maximum total size of all cached keys and values in bytes
+   * @param columnFamilies the values of the cached logical column families
+   */
+  ColumnFamilyReadCache(final long capacity, final Set<Integer> columnFamilies) {
+    this.capacity = capacity;
+    this.columnFamilies = Set.copyOf(columnFamilies);
+  }
+
+  /** Returns true if values of the given logical column family are cached. */
+  boolean isCached(final int columnFamily) {
+    return columnFamilies.contains(columnFamily);
+  }
+
+  /** Returns the cached value of the given key, or null if it is not cached. */
+  synchronized byte[] get(final DirectBuffer key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Returns the current generation of the cache, which changes whenever committed writes are
+   * applied. Must be called before reading a value from the database which may be added to the
+   * cache afterwards.
+   */
+  synchronized long generation() {
+    return generation;
+  }
+
+  /**
+   * Adds a value which was read from the database, unless writes were committed since the given
+   * generation was obtained.
+   *
+   * @param key the key of the value, which is copied if the value is added
+   */
+  synchronized void addIfUnchanged(
+      final long expectedGeneration, final DirectBuffer key, final byte[] value) {
+    if (expectedGeneration != generation) {
+      return;
+    }
+
+    final var keyCopy = new UnsafeBuffer(new byte[key.capacity()]);
+    keyCopy.putBytes(0, key, 0, key.capacity());
+    remove(keyCopy);
+    put(keyCopy, value);
+  }
+
+  /**
+   * Applies the writes of a committed transaction. Values which are {@link #DELETED} are removed
+   * from the cache.
+   */
+  synchronized void applyCommitted(final Map<DirectBuffer, byte[]> writes) {
+    generation++;
+    for (final var write : writes.entrySet()) {
+      final var key = write.getKey();
+      final var value = write.getValue();
+      remove(key);
+      if (value != DELETED) {
+        put(key, value);
+      }
+    }
+  }
+
+  /**
+   * Removes all cached values, e.g. after a transaction was committed whose writes were too many to
+   * be applied one by one.
+   */
+  synchronized void invalidate() {
+    generation++;
+    entries.clear();
+    size = 0;
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final var entrySize = entrySize(key, value);
+    if (entrySize > capacity) {
+      return;
+    }
+
+    entries.put(key, value);
+    size += entrySize;
+
+    final var iterator = entries.entrySet().iterator();
+    while (size > capacity && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      size -= entrySize(eldest.getKey(), eldest.getValue());
+      iterator.remove();
+    }
+  }
+
+  private void remove(final DirectBuffer key) {
+    final var removed = entries.remove(key);
+    if (removed != null) {
+      size -= entrySize(key, removed);
+    }
+  }
+
+  private static long entrySize(final DirectBuffer key, final byte[] value) {
+    return (long) key.capacity() + value.length + ENTRY_OVERHEAD;
+  }
+}
@@ -17,6 +17,7 @@ import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 
 /**
  * Similar to {@link TransactionalColumnFamily} but supports lookups on arbitrary column families.
@@ -54,11 +55,15 @@ public final class ForeignKeyChecker {
     keyBuffer.putLong(0, columnFamilyValue, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
     foreignKey.write(keyBuffer, Long.BYTES);
     final var keyBufferLength = Long.BYTES + foreignKey.getLength();
+    final var columnFamily = transactionDb.getColumnFamilyHandle(columnFamilyValue);
 
     switch (foreignKey.match()) {
-      case Full -> assertKeyExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+      case Full ->
+          assertKeyExists(
+              transaction, foreignKey, columnFamily, keyBuffer.byteArray(), keyBufferLength);
       case Prefix ->
-          assertPrefixExists(transaction, foreignKey, keyBuffer.byteArray(), keyBufferLength);
+          assertPrefixExists(
+              transaction, foreignKey, columnFamily, keyBuffer.byteArray(), keyBufferLength);
       default ->
           throw new IllegalStateException("Unknown foreign key match type: " + foreignKey.match());
     }
@@ -67,12 +72,13 @@ public final class ForeignKeyChecker {
   private void assertKeyExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final ColumnFamilyHandle columnFamily,
       final byte[] key,
       final int keyLength)
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                ZeebeTransactionDb.getNativeHandle(columnFamily),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -86,11 +92,11 @@ public final class ForeignKeyChecker {
   private void assertPrefixExists(
       final ZeebeTransaction transaction,
       final DbForeignKey<? extends DbKey> foreignKey,
+      final ColumnFamilyHandle columnFamily,
       final byte[] prefix,
       final int prefixLength) {
     try (final var iterator =
-        transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+        transaction.newIterator(transactionDb.getPrefixReadOptions(), columnFamily)) {
 
       final ByteBuffer bufferView = ByteBuffer.wrap(prefix, 0, prefixLength);
       iterator.seek(bufferView);
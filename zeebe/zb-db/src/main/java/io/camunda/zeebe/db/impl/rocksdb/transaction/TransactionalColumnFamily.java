@@ -17,14 +17,24 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -47,6 +57,8 @@ class TransactionalColumnFamily<
         ValueType extends DbValue>
     implements ColumnFamily<KeyType, ValueType> {
 
+  private static final int INITIAL_DIRECT_VALUE_CAPACITY = 4 * 1024;
+
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
@@ -56,6 +68,17 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle columnFamilyHandle;
+  private final long columnFamilyNativeHandle;
+  // null if the column family is not counted
+  private final ColumnFamilyCounter counter;
+  // null if the values of the column family are not cached
+  private final ColumnFamilyReadCache readCache;
+  private final UnsafeBuffer cacheKeyView = new UnsafeBuffer(0, 0);
+  // native buffers of direct reads, allocated and grown on demand
+  private ByteBuffer directKeyBuffer;
+  private ByteBuffer directValueBuffer;
+  private final UnsafeBuffer directValueView = new UnsafeBuffer(0, 0);
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -73,6 +96,10 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    columnFamilyHandle = transactionDb.getColumnFamilyHandle(columnFamily.getValue());
+    columnFamilyNativeHandle = ZeebeTransactionDb.getNativeHandle(columnFamilyHandle);
+    counter = transactionDb.newColumnFamilyCounter(columnFamily.getValue());
+    readCache = transactionDb.getReadCache(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -86,12 +113,14 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
+            countAddedKey(transaction);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -106,11 +135,12 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -123,12 +153,14 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
+            countAddedKey(transaction);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -139,13 +171,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(readValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +182,67 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public <T> T getDirect(final KeyType key, final Function<ValueType, T> reader) {
+    if (readCache != null) {
+      // cached values are read without accessing the database at all
+      final var value = get(key);
+      return value == null ? null : reader.apply(value);
+    }
+
+    final var valueLength = new MutableInteger(-1);
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            columnFamilyContext.writeKey(key);
+            valueLength.set(readValueDirect(transaction));
+          });
+    }
+
+    if (valueLength.get() < 0) {
+      return null;
+    }
+
+    directValueView.wrap(directValueBuffer, 0, valueLength.get());
+    valueInstance.wrap(directValueView, 0, valueLength.get());
+    return reader.apply(valueInstance);
+  }
+
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final var keyBytes = new ArrayList<byte[]>(keys.size());
+            for (final var key : keys) {
+              columnFamilyContext.writeKey(key);
+              keyBytes.add(
+                  Arrays.copyOf(
+                      columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+            }
+
+            final var values =
+                transaction.multiGet(transactionDb.getReadOptions(), columnFamilyHandle, keyBytes);
+            final var valueIterator = values.iterator();
+            for (final var key : keys) {
+              columnFamilyContext.wrapValueView(valueIterator.next());
+              final var valueBuffer = columnFamilyContext.getValueView();
+              if (valueBuffer != null) {
+                valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+                if (!visitor.visit(key, valueInstance)) {
+                  return;
+                }
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +312,12 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
+            countRemovedKey(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDeletedValue(transaction);
           });
     }
   }
@@ -239,10 +328,12 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
+            countRemovedKey(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                columnFamilyNativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDeletedValue(transaction);
           });
     }
   }
@@ -253,13 +344,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(readValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -282,14 +367,177 @@ class TransactionalColumnFamily<
 
   @Override
   public long count() {
+    if (counter != null) {
+      final var count = new AtomicLong();
+      ensureInOpenTransaction(transaction -> count.set(counter.count(transaction)));
+      return count.get();
+    }
+
     return countEachInPrefix(new DbNullKey());
   }
 
   @Override
   public long countEqualPrefix(final DbKey prefix) {
+    if (counter != null) {
+      final var count = new AtomicLong(-1);
+      ensureInOpenTransaction(
+          transaction ->
+              columnFamilyContext.withPrefixKey(
+                  prefix,
+                  (prefixKey, prefixLength) -> {
+                    if (counter.isCountingPrefix(prefixLength)) {
+                      count.set(countPrefix(transaction, prefixKey, prefixLength));
+                    }
+                  }));
+      if (count.get() >= 0) {
+        return count.get();
+      }
+    }
+
     return countEachInPrefix(prefix);
   }
 
+  private long countPrefix(
+      final ZeebeTransaction transaction, final byte[] prefixKey, final int prefixLength) {
+    try {
+      return counter.countPrefix(transaction, prefixKey, prefixLength);
+    } catch (final Exception e) {
+      throw new ZeebeDbException("Failed to read the number of keys with a common prefix", e);
+    }
+  }
+
+  /**
+   * Counts the key in the column family context, if the column family is counted and the key does
+   * not exist yet. Must be called before the key is written.
+   */
+  private void countAddedKey(final ZeebeTransaction transaction) throws Exception {
+    if (counter != null && !keyExists(transaction)) {
+      counter.onAdded(
+          transaction, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
+  /**
+   * Stops counting the key in the column family context, if the column family is counted and the
+   * key exists. Must be called before the key is deleted.
+   */
+  private void countRemovedKey(final ZeebeTransaction transaction) throws Exception {
+    if (counter != null && keyExists(transaction)) {
+      counter.onRemoved(
+          transaction, columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
+  /**
+   * Reads the value of the key in the column family context, from the read cache if the column
+   * family is cached.
+   */
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    if (readCache == null || transaction.isReadCacheBypassed()) {
+      return readValueFromDb(transaction);
+    }
+
+    cacheKeyView.wrap(
+        columnFamilyContext.getKeyBufferArray(), 0, columnFamilyContext.getKeyLength());
+    final var pendingValue = transaction.getPendingCacheWrite(cacheKeyView);
+    if (pendingValue != null) {
+      metrics.countReadCacheHit();
+      return pendingValue == ColumnFamilyReadCache.DELETED ? null : pendingValue;
+    }
+
+    final var cachedValue = readCache.get(cacheKeyView);
+    if (cachedValue != null) {
+      metrics.countReadCacheHit();
+      return cachedValue;
+    }
+
+    metrics.countReadCacheMiss();
+    final var generation = readCache.generation();
+    final var value = readValueFromDb(transaction);
+    if (value != null) {
+      readCache.addIfUnchanged(generation, cacheKeyView, value);
+    }
+    return value;
+  }
+
+  /**
+   * Reads the value of the key in the column family context into the direct value buffer, growing
+   * it if the value does not fit.
+   *
+   * @return the length of the value, or -1 if the key does not exist
+   */
+  private int readValueDirect(final ZeebeTransaction transaction) throws Exception {
+    final var keyLength = columnFamilyContext.getKeyLength();
+    if (directKeyBuffer == null || directKeyBuffer.capacity() < keyLength) {
+      directKeyBuffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(keyLength));
+    }
+    if (directValueBuffer == null) {
+      directValueBuffer = ByteBuffer.allocateDirect(INITIAL_DIRECT_VALUE_CAPACITY);
+    }
+
+    while (true) {
+      directKeyBuffer.clear();
+      directKeyBuffer.put(columnFamilyContext.getKeyBufferArray(), 0, keyLength).flip();
+      directValueBuffer.clear();
+
+      final var valueLength =
+          transaction.getDirect(
+              transactionDb.getReadOptions(),
+              columnFamilyHandle,
+              directKeyBuffer,
+              directValueBuffer);
+      if (valueLength <= directValueBuffer.capacity()) {
+        return valueLength;
+      }
+
+      directValueBuffer =
+          ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(valueLength));
+    }
+  }
+
+  private byte[] readValueFromDb(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        columnFamilyNativeHandle,
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  /**
+   * Records the value in the column family context as written by the transaction, if the column
+   * family is cached. Must be called after the value was written.
+   */
+  private void cacheWrittenValue(final ZeebeTransaction transaction, final int valueLength) {
+    if (readCache != null) {
+      transaction.addPendingCacheWrite(
+          copyKey(), Arrays.copyOf(columnFamilyContext.getValueBufferArray(), valueLength));
+    }
+  }
+
+  /**
+   * Records the key in the column family context as deleted by the transaction, if the column
+   * family is cached. Must be called after the key was deleted.
+   */
+  private void cacheDeletedValue(final ZeebeTransaction transaction) {
+    if (readCache != null) {
+      transaction.addPendingCacheWrite(copyKey(), ColumnFamilyReadCache.DELETED);
+    }
+  }
+
+  private DirectBuffer copyKey() {
+    return new UnsafeBuffer(
+        Arrays.copyOf(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength()));
+  }
+
+  private boolean keyExists(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+            columnFamilyNativeHandle,
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength())
+        != null;
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -308,7 +556,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +572,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            columnFamilyNativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -346,7 +594,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, columnFamilyHandle);
   }
 
   /**
@@ -12,25 +12,53 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  /**
+   * The maximum number of writes to cached column families which are staged per transaction. A
+   * transaction which writes more keys bypasses the read cache and invalidates it on commit
+   * instead, such that large transactions do not keep copies of all their writes in memory.
+   */
+  static final int MAX_PENDING_CACHE_WRITES = 10_000;
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // null if no column family is cached
+  private final ColumnFamilyReadCache readCache;
+  // uncommitted writes to cached column families, applied to the read cache on commit
+  private final Map<DirectBuffer, byte[]> pendingCacheWrites = new HashMap<>();
+  // true if this transaction wrote too many keys of cached column families to stage them
+  private boolean readCacheBypassed;
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, null);
+  }
+
+  ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final ColumnFamilyReadCache readCache) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    this.readCache = readCache;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -90,11 +118,78 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Reads the value of the given key into the given direct buffer, without copying it to the heap.
+   * Uncommitted writes of this transaction are visible.
+   *
+   * @param key a direct buffer containing the key between its position and limit
+   * @param value a direct buffer to read the value into, starting at its position
+   * @return the length of the value, which was only read completely if it fits into the remaining
+   *     space of the value buffer, or -1 if the key does not exist
+   */
+  public int getDirect(
+      final ReadOptions options,
+      final ColumnFamilyHandle handle,
+      final ByteBuffer key,
+      final ByteBuffer value)
+      throws RocksDBException {
+    final var result = transaction.get(options, handle, key, value);
+    return result.status.getCode() == Code.NotFound ? -1 : result.requiredSize;
+  }
+
+  /**
+   * Reads the values of all given keys of a single column family with one batched read, including
+   * the uncommitted writes of this transaction.
+   *
+   * @return the values in the order of the given keys; null for keys which do not exist
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions options, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(options, Collections.nCopies(keys.size(), handle), keys);
+  }
+
+  /**
+   * Returns the value written to a key of a cached column family in this transaction, {@link
+   * ColumnFamilyReadCache#DELETED} if the key was deleted, or null if the key was not written.
+   */
+  byte[] getPendingCacheWrite(final DirectBuffer key) {
+    return pendingCacheWrites.isEmpty() ? null : pendingCacheWrites.get(key);
+  }
+
+  /**
+   * Records a write to a key of a cached column family, which is applied to the read cache once
+   * this transaction is committed. Both key and value must not be modified afterwards.
+   */
+  void addPendingCacheWrite(final DirectBuffer key, final byte[] value) {
+    if (readCacheBypassed) {
+      return;
+    }
+
+    pendingCacheWrites.put(key, value);
+    if (pendingCacheWrites.size() > MAX_PENDING_CACHE_WRITES) {
+      readCacheBypassed = true;
+      pendingCacheWrites.clear();
+    }
+  }
+
+  /**
+   * Returns true if this transaction wrote more than {@link #MAX_PENDING_CACHE_WRITES} keys of
+   * cached column families. Such a transaction must read directly from the database, as neither its
+   * writes are staged nor is the read cache up to date with them, and must not add values it read
+   * to the cache, as they may be uncommitted.
+   */
+  boolean isReadCacheBypassed() {
+    return readCacheBypassed;
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
   void resetTransaction() {
+    pendingCacheWrites.clear();
+    readCacheBypassed = false;
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
   }
@@ -145,10 +240,19 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    if (readCacheBypassed) {
+      readCache.invalidate();
+      readCacheBypassed = false;
+    } else if (!pendingCacheWrites.isEmpty()) {
+      readCache.applyCommitted(pendingCacheWrites);
+      pendingCacheWrites.clear();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    pendingCacheWrites.clear();
+    readCacheBypassed = false;
     transaction.rollback();
   }
 
@@ -22,15 +22,20 @@ import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -43,6 +48,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final String NATIVE_COLUMN_FAMILY_PREFIX = "zb-";
+  private static final Set<String> SUMMABLE_PROPERTIES =
+      Set.of(
+          "rocksdb.cur-size-all-mem-tables",
+          "rocksdb.cur-size-active-mem-table",
+          "rocksdb.size-all-mem-tables",
+          "rocksdb.estimate-table-readers-mem",
+          "rocksdb.total-sst-files-size",
+          "rocksdb.live-sst-files-size",
+          "rocksdb.num-entries-imm-mem-tables",
+          "rocksdb.estimate-num-keys",
+          "rocksdb.estimate-live-data-size",
+          "rocksdb.mem-table-flush-pending");
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
   private final OptimisticTransactionDB optimisticTransactionDB;
@@ -54,11 +72,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final RocksDbOptions options;
+  private final boolean nativeColumnFamiliesEnabled;
+  private final Map<Integer, Integer> countedColumnFamilies;
+  // null if the read cache is disabled
+  private final ColumnFamilyReadCache readCache;
+  // native column families by the value of their logical column family; only used if enabled
+  private final Map<Integer, ColumnFamilyHandle> nativeHandles = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
+      final RocksDbOptions options,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
@@ -66,8 +92,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     defaultNativeHandle = getNativeHandle(defaultHandle);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    this.options = options;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    nativeColumnFamiliesEnabled = rocksDbConfiguration.isNativeColumnFamiliesEnabled();
+    countedColumnFamilies = rocksDbConfiguration.getCountedColumnFamilies();
+    readCache =
+        rocksDbConfiguration.isReadCacheEnabled()
+            ? new ColumnFamilyReadCache(
+                rocksDbConfiguration.getReadCacheSize(),
+                rocksDbConfiguration.getReadCachedColumnFamilies())
+            : null;
 
     prefixReadOptions =
         new ReadOptions()
@@ -93,30 +128,97 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final var nativeColumnFamilies = listNativeColumnFamilies(options, path);
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var columnFamily : nativeColumnFamilies) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              nativeColumnFamilyName(columnFamily), options.cfOptions(columnFamily)));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
     closables.add(defaultColumnFamilyHandle);
 
-    return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
-        optimisticTransactionDB,
-        closables,
-        rocksDbConfiguration,
-        consistencyChecksSettings,
-        metrics);
+    final var db =
+        new ZeebeTransactionDb<ColumnFamilyNames>(
+            defaultColumnFamilyHandle,
+            optimisticTransactionDB,
+            closables,
+            options,
+            rocksDbConfiguration,
+            consistencyChecksSettings,
+            metrics);
+    final var existingNativeHandles = cfHandles.subList(1, cfHandles.size());
+    final var migration =
+        new ColumnFamilyLayoutMigration(optimisticTransactionDB, defaultColumnFamilyHandle);
+    if (db.nativeColumnFamiliesEnabled) {
+      for (int i = 0; i < nativeColumnFamilies.size(); i++) {
+        final var handle = existingNativeHandles.get(i);
+        closables.add(handle);
+        db.nativeHandles.put(nativeColumnFamilies.get(i), handle);
+      }
+      migration.migrateToNativeColumnFamilies(db::getOrCreateNativeHandle);
+    } else {
+      closables.addAll(existingNativeHandles);
+      migration.migrateToDefaultColumnFamily(existingNativeHandles);
+    }
+
+    new ColumnFamilyCounters(optimisticTransactionDB, defaultColumnFamilyHandle)
+        .initialize(db.countedColumnFamilies, db::getColumnFamilyHandle);
+
+    return db;
+  }
+
+  /**
+   * @return the logical column families of all native column families of the database at the given
+   *     path, or an empty list if there is no database yet
+   */
+  private static List<Integer> listNativeColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    final List<byte[]> names;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      names = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    final var columnFamilies = new ArrayList<Integer>();
+    for (final var name : names) {
+      if (!Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)) {
+        columnFamilies.add(logicalColumnFamily(name));
+      }
+    }
+    return columnFamilies;
+  }
+
+  private static byte[] nativeColumnFamilyName(final int columnFamily) {
+    return (NATIVE_COLUMN_FAMILY_PREFIX + columnFamily).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int logicalColumnFamily(final byte[] nativeColumnFamilyName) {
+    final var name = new String(nativeColumnFamilyName, StandardCharsets.UTF_8);
+    if (!name.startsWith(NATIVE_COLUMN_FAMILY_PREFIX)) {
+      throw new IllegalStateException(
+          "Expected native column family name to start with '%s', but was '%s'"
+              .formatted(NATIVE_COLUMN_FAMILY_PREFIX, name));
+    }
+
+    return Integer.parseInt(name.substring(NATIVE_COLUMN_FAMILY_PREFIX.length()));
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -136,6 +238,18 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  /**
+   * @return the handle of the RocksDB column family which stores the given logical column family;
+   *     this is the default column family, unless native column families are enabled
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final int columnFamily) {
+    return nativeColumnFamiliesEnabled ? getOrCreateNativeHandle(columnFamily) : defaultHandle;
+  }
+
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -168,6 +282,50 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  /**
+   * @return a new counter for the given logical column family, or null if it is not counted
+   */
+  ColumnFamilyCounter newColumnFamilyCounter(final int columnFamily) {
+    final var prefixLength = countedColumnFamilies.get(columnFamily);
+    if (prefixLength == null) {
+      return null;
+    }
+
+    return new ColumnFamilyCounter(
+        columnFamily, prefixLength, defaultNativeHandle, getReadOptionsNativeHandle());
+  }
+
+  /**
+   * @return the read cache if values of the given logical column family are cached, otherwise null
+   */
+  ColumnFamilyReadCache getReadCache(final int columnFamily) {
+    return readCache != null && readCache.isCached(columnFamily) ? readCache : null;
+  }
+
+  private ColumnFamilyHandle getOrCreateNativeHandle(final int columnFamily) {
+    return nativeHandles.computeIfAbsent(columnFamily, this::createNativeColumnFamily);
+  }
+
+  private ColumnFamilyHandle createNativeColumnFamily(final int columnFamily) {
+    try {
+      final var handle =
+          optimisticTransactionDB.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  nativeColumnFamilyName(columnFamily), options.cfOptions(columnFamily)));
+      // column families may be created lazily by concurrent readers
+      synchronized (closables) {
+        closables.add(handle);
+      }
+      LOG.debug("Created native column family for logical column family {}", columnFamily);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          "Failed to create native column family for logical column family %d"
+              .formatted(columnFamily),
+          e);
+    }
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
@@ -182,6 +340,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    if (nativeColumnFamiliesEnabled && !nativeHandles.isEmpty()) {
+      return getAggregatedProperty(propertyName);
+    }
+
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
@@ -191,10 +353,38 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return Optional.ofNullable(propertyValue);
   }
 
+  /**
+   * Aggregates a numeric property over all column families. Properties of a single column family
+   * (e.g. memtable or SST file sizes) are summed up; properties of shared resources (e.g. the block
+   * cache) or of the whole database (e.g. running compactions) are reported for every column
+   * family, so the maximum is used instead.
+   */
+  private Optional<String> getAggregatedProperty(final String propertyName) {
+    final var isSummable = SUMMABLE_PROPERTIES.contains(propertyName);
+    final var handles = new ArrayList<ColumnFamilyHandle>(nativeHandles.size() + 1);
+    handles.add(defaultHandle);
+    handles.addAll(nativeHandles.values());
+
+    Long aggregate = null;
+    for (final var handle : handles) {
+      try {
+        final var value = Long.parseLong(optimisticTransactionDB.getProperty(handle, propertyName));
+        if (aggregate == null) {
+          aggregate = value;
+        } else {
+          aggregate = isSummable ? aggregate + value : Math.max(aggregate, value);
+        }
+      } catch (final RocksDBException | NumberFormatException e) {
+        LOG.debug("Failed to read property {} of column family", propertyName, e);
+      }
+    }
+    return Optional.ofNullable(aggregate).map(String::valueOf);
+  }
+
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this, readCache);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -466,6 +466,119 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  @Test
+  public void shouldMultiGetExistingValuesInKeyOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    upsertKeyValuePair(4, 40);
+    final List<DbLong> keys = List.of(dbLong(1), dbLong(2), dbLong(3), dbLong(4));
+
+    // when
+    final List<Long> foundKeys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (foundKey, foundValue) -> {
+          foundKeys.add(foundKey.getValue());
+          values.add(foundValue.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(foundKeys).containsExactly(1L, 3L, 4L);
+    assertThat(values).containsExactly(10L, 30L, 40L);
+  }
+
+  @Test
+  public void shouldStopMultiGetWhenVisitorReturnsFalse() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final List<DbLong> keys = List.of(dbLong(1), dbLong(2), dbLong(3));
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (foundKey, foundValue) -> {
+          values.add(foundValue.getValue());
+          return foundKey.getValue() < 2;
+        });
+
+    // then
+    assertThat(values).containsExactly(10L, 20L);
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedValues() throws Exception {
+    // given
+    final var context = zeebeDb.createContext();
+    final var transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    upsertKeyValuePair(1, 10);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(2);
+          value.wrapLong(20);
+          transactionalColumnFamily.insert(key, value);
+          key.wrapLong(1);
+          transactionalColumnFamily.deleteExisting(key);
+
+          transactionalColumnFamily.multiGet(
+              List.of(dbLong(1), dbLong(2)),
+              (foundKey, foundValue) -> values.add(foundValue.getValue()));
+        });
+
+    // then
+    assertThat(values).containsExactly(20L);
+  }
+
+  @Test
+  public void shouldMultiGetNothingForNoKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    columnFamily.multiGet(List.of(), (foundKey, foundValue) -> values.add(foundValue.getValue()));
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldGetDirectUncommittedValue() throws Exception {
+    // given
+    final var context = zeebeDb.createContext();
+    final var transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    final List<Long> values = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(10);
+          transactionalColumnFamily.insert(key, value);
+
+          values.add(transactionalColumnFamily.getDirect(key, DbLong::getValue));
+        });
+
+    // then
+    assertThat(values).containsExactly(10L);
+  }
+
+  private static DbLong dbLong(final long value) {
+    final var dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CountedColumnFamilyTest {
+
+  private final DbLong firstKey = new DbLong();
+  private final DbLong secondKey = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> compositeKey =
+      new DbCompositeKey<>(firstKey, secondKey);
+  private final DbString value = new DbString();
+
+  private @TempDir File path;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbString> columnFamily;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (zeebeDb != null) {
+      zeebeDb.close();
+    }
+  }
+
+  @Test
+  void shouldCountInsertedAndDeletedKeys() {
+    // given
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), 0));
+
+    // when
+    insert(1, 1);
+    insert(1, 2);
+    insert(2, 1);
+    upsert(2, 1);
+    upsert(2, 2);
+    delete(1, 1);
+    deleteIfExists(1, 1);
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCountKeysWithEqualPrefix() {
+    // given
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), Long.BYTES));
+    insert(1, 1);
+    insert(1, 2);
+    insert(1, 3);
+    insert(2, 1);
+
+    // when
+    delete(1, 2);
+
+    // then
+    firstKey.wrapLong(1);
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(2);
+    firstKey.wrapLong(2);
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(1);
+    firstKey.wrapLong(3);
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isZero();
+    assertThat(columnFamily.count()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCountKeysWithPrefixOfOtherLengthByIterating() {
+    // given
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), Long.BYTES));
+    insert(1, 1);
+    insert(1, 2);
+
+    // when
+    firstKey.wrapLong(1);
+    secondKey.wrapLong(2);
+    final var count = columnFamily.countEqualPrefix(compositeKey);
+
+    // then
+    assertThat(count).isOne();
+  }
+
+  @Test
+  void shouldNotCountRolledBackKeys() throws Exception {
+    // given
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), 0));
+    insert(1, 1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          insert(1, 2);
+          insert(1, 3);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(columnFamily.count()).isOne();
+  }
+
+  @Test
+  void shouldInitializeCountersOfExistingKeys() throws Exception {
+    // given
+    open(Map.of());
+    insert(1, 1);
+    insert(1, 2);
+    insert(2, 1);
+    zeebeDb.close();
+
+    // when
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), Long.BYTES));
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(3);
+    firstKey.wrapLong(1);
+    assertThat(columnFamily.countEqualPrefix(firstKey)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReinitializeCountersAfterCountingWasDisabled() throws Exception {
+    // given
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), 0));
+    insert(1, 1);
+    zeebeDb.close();
+    open(Map.of());
+    insert(1, 2);
+    zeebeDb.close();
+
+    // when
+    open(Map.of(DefaultColumnFamily.DEFAULT.getValue(), 0));
+
+    // then
+    assertThat(columnFamily.count()).isEqualTo(2);
+  }
+
+  private void open(final Map<Integer, Integer> countedColumnFamilies) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setCountedColumnFamilies(countedColumnFamilies),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(path);
+    context = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, compositeKey, value);
+  }
+
+  private void insert(final long first, final long second) {
+    wrap(first, second);
+    columnFamily.insert(compositeKey, value);
+  }
+
+  private void upsert(final long first, final long second) {
+    wrap(first, second);
+    columnFamily.upsert(compositeKey, value);
+  }
+
+  private void delete(final long first, final long second) {
+    wrap(first, second);
+    columnFamily.deleteExisting(compositeKey);
+  }
+
+  private void deleteIfExists(final long first, final long second) {
+    wrap(first, second);
+    columnFamily.deleteIfExists(compositeKey);
+  }
+
+  private void wrap(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    value.wrapString(first + "-" + second);
+  }
+}
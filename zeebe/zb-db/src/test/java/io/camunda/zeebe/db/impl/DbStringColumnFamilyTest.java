@@ -252,6 +252,50 @@ public final class DbStringColumnFamilyTest {
             "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
   }
 
+  @Test
+  public void shouldGetDirectValue() {
+    // given
+    upsertKeyValuePair("foo", "baring");
+
+    // when
+    key.wrapString("foo");
+    final String storedValue = columnFamily.getDirect(key, DbString::toString);
+
+    // then
+    assertThat(storedValue).isEqualTo("baring");
+  }
+
+  @Test
+  public void shouldGetDirectValueLargerThanBuffer() {
+    // given
+    final var largeValue = "a".repeat(64 * 1024);
+    upsertKeyValuePair("small", "value");
+    upsertKeyValuePair("large", largeValue);
+
+    // when
+    key.wrapString("small");
+    final String smallValue = columnFamily.getDirect(key, DbString::toString);
+    key.wrapString("large");
+    final String storedValue = columnFamily.getDirect(key, DbString::toString);
+
+    // then
+    assertThat(smallValue).isEqualTo("value");
+    assertThat(storedValue).isEqualTo(largeValue);
+  }
+
+  @Test
+  public void shouldNotGetDirectMissingValue() {
+    // given
+    upsertKeyValuePair("foo", "baring");
+
+    // when
+    key.wrapString("bar");
+    final String storedValue = columnFamily.getDirect(key, DbString::toString);
+
+    // then
+    assertThat(storedValue).isNull();
+  }
+
   private void upsertKeyValuePair(final String key, final String value) {
     this.key.wrapString(key);
     this.value.wrapString(value);
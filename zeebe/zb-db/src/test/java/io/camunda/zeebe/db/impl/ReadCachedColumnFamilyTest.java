@@ -0,0 +1,232 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ReadCachedColumnFamilyTest {
+
+  private static final int PARTITION_ID = 1001;
+  // exceeds the number of writes a transaction stages for the read cache
+  private static final int LARGE_TRANSACTION_WRITES = 10_001;
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  private @TempDir File path;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+
+  @BeforeEach
+  void setup() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setReadCacheSize(1024 * 1024)
+                .setReadCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.getValue())),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, PARTITION_ID));
+    zeebeDb = factory.createDb(path);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadCommittedValueFromCache() {
+    // given
+    upsert(1, "a");
+    final var hits = cacheRequests("hit");
+
+    // when
+    final var firstRead = get(1);
+    final var secondRead = get(1);
+
+    // then
+    assertThat(firstRead).isEqualTo("a");
+    assertThat(secondRead).isEqualTo("a");
+    assertThat(cacheRequests("hit")).isEqualTo(hits + 2);
+  }
+
+  @Test
+  void shouldCountMissForValueNotInCache() {
+    // given
+    final var misses = cacheRequests("miss");
+
+    // when
+    final var read = get(1);
+
+    // then
+    assertThat(read).isNull();
+    assertThat(cacheRequests("miss")).isEqualTo(misses + 1);
+  }
+
+  @Test
+  void shouldReadUncommittedWritesOfTransaction() throws Exception {
+    // given
+    upsert(1, "a");
+    upsert(2, "b");
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(1, "c");
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo("c");
+    assertThat(get(2)).isNull();
+    transaction.commit();
+  }
+
+  @Test
+  void shouldNotCacheRolledBackWrites() throws Exception {
+    // given
+    upsert(1, "a");
+    get(1);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, "b");
+          upsert(2, "c");
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo("a");
+    assertThat(get(2)).isNull();
+  }
+
+  @Test
+  void shouldSeeCommittedWritesInOtherContext() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbString();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    upsert(1, "a");
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey).toString()).isEqualTo("a");
+
+    // when
+    upsert(1, "b");
+    key.wrapLong(2);
+    value.wrapString("c");
+    columnFamily.insert(key, value);
+    key.wrapLong(2);
+    columnFamily.deleteExisting(key);
+
+    // then
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey).toString()).isEqualTo("b");
+    otherKey.wrapLong(2);
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+  }
+
+  @Test
+  void shouldInvalidateCacheAfterLargeTransaction() throws Exception {
+    // given
+    upsert(1, "a");
+    upsert(2, "b");
+    get(1);
+    get(2);
+    final var transaction = context.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          upsert(1, "c");
+          for (long i = 0; i < LARGE_TRANSACTION_WRITES; i++) {
+            upsert(100 + i, "d");
+          }
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo("c");
+    assertThat(get(2)).isEqualTo("b");
+    transaction.commit();
+
+    final var misses = cacheRequests("miss");
+    assertThat(get(1)).isEqualTo("c");
+    assertThat(get(2)).isEqualTo("b");
+    assertThat(get(100)).isEqualTo("d");
+    assertThat(cacheRequests("miss")).isEqualTo(misses + 3);
+  }
+
+  @Test
+  void shouldKeepCacheAfterRolledBackLargeTransaction() throws Exception {
+    // given
+    upsert(1, "a");
+    get(1);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          for (long i = 0; i < LARGE_TRANSACTION_WRITES; i++) {
+            upsert(1 + i, "b");
+          }
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    final var hits = cacheRequests("hit");
+    assertThat(get(1)).isEqualTo("a");
+    assertThat(cacheRequests("hit")).isEqualTo(hits + 1);
+  }
+
+  private void upsert(final long key, final String value) {
+    this.key.wrapLong(key);
+    this.value.wrapString(value);
+    columnFamily.upsert(this.key, this.value);
+  }
+
+  private String get(final long key) {
+    this.key.wrapLong(key);
+    final var storedValue = columnFamily.get(this.key);
+    return storedValue == null ? null : storedValue.toString();
+  }
+
+  private double cacheRequests(final String result) {
+    final var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_read_cache_requests_total",
+            new String[] {"partition", "columnFamily", "result"},
+            new String[] {
+              String.valueOf(PARTITION_ID), DefaultColumnFamily.DEFAULT.name(), result
+            });
+    return value == null ? 0 : value;
+  }
+}
@@ -25,7 +25,11 @@ import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -36,6 +40,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 
 final class ZeebeRocksDbFactoryTest {
 
@@ -202,6 +210,159 @@ final class ZeebeRocksDbFactoryTest {
     }
   }
 
+  @Test
+  void shouldMigrateToNativeColumnFamilies(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    final var defaultFactory = DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory();
+    try (final var db = defaultFactory.createDb(path)) {
+      db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+          .insert(key, value);
+    }
+
+    // when
+    final var nativeFactory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    final String migratedValue;
+    try (final var db = nativeFactory.createDb(path)) {
+      migratedValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+
+    // then
+    assertThat(migratedValue).isEqualTo("bar");
+    assertThat(listColumnFamilies(path)).containsExactlyInAnyOrder("default", "zb-0");
+  }
+
+  @Test
+  void shouldMigrateBackToDefaultColumnFamily(final @TempDir File path) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    final var nativeFactory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = nativeFactory.createDb(path)) {
+      db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+          .insert(key, value);
+    }
+
+    // when
+    final String migratedValue;
+    final var defaultFactory = DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory();
+    try (final var db = defaultFactory.createDb(path)) {
+      migratedValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+
+    // then
+    assertThat(migratedValue).isEqualTo("bar");
+    assertThat(listColumnFamilies(path)).containsExactly("default");
+  }
+
+  @Test
+  void shouldSnapshotNativeColumnFamiliesOfSnapshotOnlyDb(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+    final var factory =
+        createFactory(new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true));
+    try (final var db = factory.createDb(path)) {
+      db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+          .insert(key, value);
+    }
+
+    // when -- as when recovering from a snapshot
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+    final var checksums =
+        new ChecksumProviderRocksDBImpl().getSnapshotChecksums(snapshotPath.toPath());
+
+    // then
+    final var sstFiles =
+        Stream.of(Objects.requireNonNull(snapshotPath.list()))
+            .filter(name -> name.endsWith(".sst"))
+            .toList();
+    assertThat(sstFiles).isNotEmpty();
+    assertThat(checksums.keySet()).containsExactlyInAnyOrderElementsOf(sstFiles);
+    assertThat(listColumnFamilies(snapshotPath)).containsExactlyInAnyOrder("default", "zb-0");
+
+    final String recoveredValue;
+    try (final var db = factory.createDb(snapshotPath)) {
+      recoveredValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+    assertThat(recoveredValue).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldApplyColumnFamilyTunings() {
+    // given
+    final var factory =
+        createFactory(
+            new RocksDbConfiguration()
+                .setNativeColumnFamiliesEnabled(true)
+                .setColumnFamilyTunings(
+                    Map.of(
+                        DefaultColumnFamily.DEFAULT.getValue(),
+                        new ColumnFamilyTuning(0.1, 0, CompactionStyle.UNIVERSAL))));
+
+    // when
+    final var options = factory.createColumnFamilyOptions(new ArrayList<>());
+    final var tunedOptions =
+        factory
+            .createTunedColumnFamilyOptions(new ArrayList<>(), null)
+            .get(DefaultColumnFamily.DEFAULT.getValue());
+
+    // then
+    assertThat(options.compactionStyle()).isEqualTo(CompactionStyle.LEVEL);
+    assertThat(tunedOptions.compactionStyle()).isEqualTo(CompactionStyle.UNIVERSAL);
+  }
+
+  @Test
+  void shouldRejectFifoCompaction() {
+    // expect
+    assertThatThrownBy(() -> new ColumnFamilyTuning(0, 10, CompactionStyle.FIFO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ZeebeRocksDbFactory<DefaultColumnFamily> createFactory(
+      final RocksDbConfiguration configuration) {
+    return new ZeebeRocksDbFactory<>(
+        configuration,
+        new ConsistencyChecksSettings(),
+        new AccessMetricsConfiguration(Kind.NONE, 1));
+  }
+
+  private static List<String> listColumnFamilies(final File path) throws RocksDBException {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, path.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .toList();
+    }
+  }
+
   private static Stream<Named<ThrowingConsumer<ZeebeDb<DefaultColumnFamily>>>>
       provideSnapshotOnlyOperation() {
     return Stream.of(